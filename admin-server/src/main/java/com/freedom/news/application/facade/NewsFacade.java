@@ -11,6 +11,7 @@ import com.freedom.news.infra.client.OpenAiNewsSummaryClient;
 import com.freedom.news.infra.client.PolicyNewsClient;
 import com.freedom.news.infra.client.response.ClassifiedSummaryResponse;
 import com.freedom.news.infra.client.response.NewsItem;
+import com.freedom.news.infra.repository.NewsFeedVersionRepository;
 import com.freedom.quiz.domain.service.FindQuizService;
 import com.freedom.quiz.domain.service.QuizCommandService;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,7 @@ public class NewsFacade {
     private final OpenAiNewsSummaryClient openAiNewsSummaryClient;
     private final NewsPersistenceService newsPersistenceService;
     private final QuizCommandService quizCommandService;
+    private final NewsFeedVersionRepository newsFeedVersionRepository;
 
     @Transactional
     public void newsCollection() {
@@ -53,6 +55,9 @@ public class NewsFacade {
         if (!summarizedUpdated.isEmpty()) {
             newsPersistenceService.updateArticles(summarizedUpdated);
         }
+        if (!summarizedNew.isEmpty() || !summarizedUpdated.isEmpty()) {
+            newsFeedVersionRepository.bump(); // main-server 주간 피드 캐시 무효화
+        }
     }
 
     private void tryGenerateQuizzes(List<NewsArticle> savedArticles) {
@@ -0,0 +1,30 @@
+package com.freedom.news.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 피드 버전 (단일 행)
+ * - admin-server 가 뉴스 수집/삭제 후 version 을 올리고, main-server 는 주기적으로 조회해 피드 캐시를 다시 만든다
+ */
+@Entity
+@Table(name = "news_feed_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NewsFeedVersion {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
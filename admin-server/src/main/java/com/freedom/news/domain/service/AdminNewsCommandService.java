@@ -2,6 +2,7 @@ package com.freedom.news.domain.service;
 
 import com.freedom.news.domain.entity.NewsArticle;
 import com.freedom.news.infra.repository.AdminNewsRepository;
+import com.freedom.news.infra.repository.NewsFeedVersionRepository;
 import com.freedom.common.exception.custom.NewsNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,11 +14,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminNewsCommandService {
 
     private final AdminNewsRepository adminNewsRepository;
+    private final NewsFeedVersionRepository newsFeedVersionRepository;
 
     public void deleteNews(Long newsId) {
         NewsArticle newsArticle = adminNewsRepository.findById(newsId)
             .orElseThrow(() -> new NewsNotFoundException("뉴스를 찾을 수 없습니다. ID: " + newsId));
         
         adminNewsRepository.delete(newsArticle);
+        newsFeedVersionRepository.bump(); // main-server 주간 피드 캐시 무효화
     }
 }
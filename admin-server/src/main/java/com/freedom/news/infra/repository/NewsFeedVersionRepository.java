@@ -0,0 +1,17 @@
+package com.freedom.news.infra.repository;
+
+import com.freedom.news.domain.entity.NewsFeedVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NewsFeedVersionRepository extends JpaRepository<NewsFeedVersion, Long> {
+
+    // main-server 뉴스 피드 캐시 무효화 신호 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO news_feed_version (id, version, updated_at) VALUES (1, 1, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE version = version + 1, updated_at = NOW()", nativeQuery = true)
+    int bump();
+}
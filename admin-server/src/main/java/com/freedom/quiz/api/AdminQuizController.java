@@ -2,6 +2,7 @@ package com.freedom.quiz.api;
 
 import com.freedom.quiz.api.request.CreateQuizRequest;
 import com.freedom.quiz.api.response.AdminQuizDetailResponse;
+import com.freedom.quiz.api.response.AdminQuizDifficultyResponse;
 import com.freedom.quiz.api.response.AdminQuizResponse;
 import com.freedom.quiz.api.response.ImportResultResponse;
 import com.freedom.quiz.application.AdminQuizService;
@@ -35,6 +36,19 @@ public class AdminQuizController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/difficulty")
+    @Loggable("AdminQuizController : 실측 난이도별 퀴즈 목록 조회")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PageResponse<AdminQuizDifficultyResponse>> getQuizDifficultyList(
+            @RequestParam(defaultValue = "20") long minAttempts,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        PageResponse<AdminQuizDifficultyResponse> response =
+                adminQuizService.getQuizDifficultyList(minAttempts, PageRequest.of(page, size));
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{quizId}")
     @Loggable("AdminQuizController : 관리자 퀴즈 상세 조회")
     @PreAuthorize("hasRole('ADMIN')")
@@ -0,0 +1,40 @@
+package com.freedom.quiz.api.response;
+
+import com.freedom.quiz.application.dto.QuizDifficultyStatDto;
+import com.freedom.quiz.domain.entity.QuizDifficulty;
+import com.freedom.quiz.domain.entity.QuizType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AdminQuizDifficultyResponse {
+    private Long id;
+    private QuizType type;
+    private String category;
+    private String question;
+    private QuizDifficulty difficulty;           // 관리자가 지정한 난이도
+    private QuizDifficulty empiricalDifficulty;  // 정답률 기반 실측 난이도
+    private double firstTryCorrectRate;
+    private long attempts;
+    private long firstAttempts;
+    private List<Long> mcqOptionCounts;          // MCQ 1~4번 선택 수 (OX 는 0)
+
+    public static AdminQuizDifficultyResponse from(QuizDifficultyStatDto dto) {
+        return AdminQuizDifficultyResponse.builder()
+                .id(dto.quizId())
+                .type(dto.type())
+                .category(dto.category())
+                .question(dto.question())
+                .difficulty(dto.difficulty())
+                .empiricalDifficulty(dto.empiricalDifficulty())
+                .firstTryCorrectRate(dto.firstTryCorrectRate())
+                .attempts(dto.attempts())
+                .firstAttempts(dto.firstAttempts())
+                .mcqOptionCounts(List.of(dto.mcqOption1Count(), dto.mcqOption2Count(),
+                        dto.mcqOption3Count(), dto.mcqOption4Count()))
+                .build();
+    }
+}
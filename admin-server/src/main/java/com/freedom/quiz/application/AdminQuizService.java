@@ -3,6 +3,7 @@ package com.freedom.quiz.application;
 import com.freedom.common.dto.PageResponse;
 import com.freedom.quiz.api.request.CreateQuizRequest;
 import com.freedom.quiz.api.response.AdminQuizDetailResponse;
+import com.freedom.quiz.api.response.AdminQuizDifficultyResponse;
 import com.freedom.quiz.api.response.AdminQuizResponse;
 import com.freedom.quiz.application.dto.CreateQuizCommand;
 import com.freedom.quiz.application.dto.QuizDomainDto;
@@ -35,6 +36,11 @@ public class AdminQuizService {
         return PageResponse.of(responsePage);
     }
 
+    public PageResponse<AdminQuizDifficultyResponse> getQuizDifficultyList(long minAttempts, Pageable pageable) {
+        return PageResponse.of(quizService.findDifficultyStats(minAttempts, pageable)
+                .map(AdminQuizDifficultyResponse::from));
+    }
+
     public AdminQuizDetailResponse getQuizDetail(Long quizId) {
         return AdminQuizDetailResponse.from(quizService.findQuizById(quizId));
     }
@@ -0,0 +1,38 @@
+package com.freedom.quiz.application.dto;
+
+import com.freedom.quiz.domain.entity.QuizDifficulty;
+import com.freedom.quiz.domain.entity.QuizType;
+
+/**
+ * 퀴즈별 실측 난이도 (quiz_stats 최초 제출 정답률 기준)
+ */
+public record QuizDifficultyStatDto(
+        Long quizId,
+        QuizType type,
+        String category,
+        String question,
+        QuizDifficulty difficulty,
+        long attempts,
+        long firstAttempts,
+        long firstTryCorrect,
+        long mcqOption1Count,
+        long mcqOption2Count,
+        long mcqOption3Count,
+        long mcqOption4Count
+) {
+    private static final double EASY_THRESHOLD = 0.7;
+    private static final double MEDIUM_THRESHOLD = 0.4;
+
+    public double firstTryCorrectRate() {
+        return firstAttempts == 0 ? 0.0 : (double) firstTryCorrect / firstAttempts;
+    }
+
+    // 정답률 70% 이상 EASY, 40% 이상 MEDIUM, 그 외 HARD
+    public QuizDifficulty empiricalDifficulty() {
+        double rate = firstTryCorrectRate();
+        if (rate >= EASY_THRESHOLD) {
+            return QuizDifficulty.EASY;
+        }
+        return rate >= MEDIUM_THRESHOLD ? QuizDifficulty.MEDIUM : QuizDifficulty.HARD;
+    }
+}
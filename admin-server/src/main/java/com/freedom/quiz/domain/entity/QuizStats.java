@@ -0,0 +1,39 @@
+package com.freedom.quiz.domain.entity;
+
+import com.freedom.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 퀴즈별 누적 풀이 통계 (main-server 가 주기적으로 upsert, 관리자 서버는 조회만)
+ */
+@Entity
+@Table(name = "quiz_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizStats extends BaseEntity {
+
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    @Column(name = "attempts", nullable = false)
+    private long attempts;
+
+    @Column(name = "first_attempts", nullable = false)
+    private long firstAttempts;
+
+    @Column(name = "first_try_correct", nullable = false)
+    private long firstTryCorrect;
+
+    @Column(name = "mcq_option1_count", nullable = false)
+    private long mcqOption1Count;
+    @Column(name = "mcq_option2_count", nullable = false)
+    private long mcqOption2Count;
+    @Column(name = "mcq_option3_count", nullable = false)
+    private long mcqOption3Count;
+    @Column(name = "mcq_option4_count", nullable = false)
+    private long mcqOption4Count;
+}
@@ -1,9 +1,11 @@
 package com.freedom.quiz.domain.service;
 
 import com.freedom.common.exception.custom.QuizNotFoundException;
+import com.freedom.quiz.application.dto.QuizDifficultyStatDto;
 import com.freedom.quiz.application.dto.QuizDomainDto;
 import com.freedom.quiz.domain.entity.Quiz;
 import com.freedom.quiz.infra.QuizRepository;
+import com.freedom.quiz.infra.QuizStatsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class FindQuizService {
 
     private final QuizRepository quizRepository;
+    private final QuizStatsRepository quizStatsRepository;
 
     @Transactional(readOnly = true)
     public Page<QuizDomainDto> findQuizList(Pageable pageable) {
@@ -28,4 +31,9 @@ public class FindQuizService {
                 .orElseThrow(() -> new QuizNotFoundException(quizId));
         return QuizDomainDto.from(quiz);
     }
+
+    @Transactional(readOnly = true)
+    public Page<QuizDifficultyStatDto> findDifficultyStats(long minAttempts, Pageable pageable) {
+        return quizStatsRepository.findDifficultyStats(minAttempts, pageable);
+    }
 }
@@ -0,0 +1,25 @@
+package com.freedom.quiz.infra;
+
+import com.freedom.quiz.application.dto.QuizDifficultyStatDto;
+import com.freedom.quiz.domain.entity.QuizStats;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QuizStatsRepository extends JpaRepository<QuizStats, Long> {
+
+    // 최초 제출 정답률 오름차순 (어려운 퀴즈 먼저)
+    @Query(value = "SELECT new com.freedom.quiz.application.dto.QuizDifficultyStatDto(" +
+                   "q.id, q.type, q.category, q.question, q.difficulty, s.attempts, s.firstAttempts, s.firstTryCorrect, " +
+                   "s.mcqOption1Count, s.mcqOption2Count, s.mcqOption3Count, s.mcqOption4Count) " +
+                   "FROM QuizStats s JOIN Quiz q ON q.id = s.quizId " +
+                   "WHERE s.firstAttempts >= :minAttempts " +
+                   "ORDER BY (s.firstTryCorrect * 1.0 / s.firstAttempts) ASC, q.id DESC",
+           countQuery = "SELECT COUNT(s) FROM QuizStats s JOIN Quiz q ON q.id = s.quizId " +
+                        "WHERE s.firstAttempts >= :minAttempts")
+    Page<QuizDifficultyStatDto> findDifficultyStats(@Param("minAttempts") long minAttempts, Pageable pageable);
+}
@@ -9,7 +9,12 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @Entity
-@Table(name = "user_achievement")
+@Table(
+        name = "user_achievement",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_achievement_user_achievement", columnNames = {"user_id", "achievement_id"})
+        }
+)
 public class UserAchievement extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
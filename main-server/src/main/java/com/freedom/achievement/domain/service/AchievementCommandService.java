@@ -5,11 +5,12 @@ import com.freedom.achievement.domain.entity.Achievement;
 import com.freedom.achievement.domain.entity.UserAchievement;
 import com.freedom.achievement.infra.AchievementRepository;
 import com.freedom.achievement.infra.UserAchievementRepository;
-import com.freedom.common.exception.custom.UserWalletNotFoundException;
-import com.freedom.wallet.domain.UserWallet;
-import com.freedom.wallet.infra.UserWalletJpaRepository;
+import com.freedom.common.util.DataIntegrityUtil;
+import com.freedom.wallet.application.RewardCreditService;
+import com.freedom.wallet.domain.TransactionReasonCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,8 +23,11 @@ public class AchievementCommandService {
 
     private final AchievementRepository achievementRepository;
     private final UserAchievementRepository userAchievementRepository;
-    private final UserWalletJpaRepository userWalletRepository;
+    private final RewardCreditService rewardCreditService;
 
+    /**
+     * 업적 부여 (멱등) - 이미 보유했거나 동시 요청이 먼저 부여한 경우 null
+     */
     public AchievementDto grantAchievement(Long userId, Achievement.AchievementType achievementType) {
         if(userAchievementRepository.existsByUserIdAndAchievement_Type(userId, achievementType)){
             log.warn("이미 해당 업적을 보유하고 있습니다. userId: {}, achievementType: {}", userId, achievementType);
@@ -31,28 +35,39 @@ public class AchievementCommandService {
         }
         Achievement achievement = achievementRepository.findByType(achievementType).orElseThrow(() -> new IllegalArgumentException("해당 업적이 존재하지 않습니다. achievementType: " + achievementType));
         UserAchievement userAchievement = UserAchievement.create(userId, achievement);
-        Achievement saveAchievement = userAchievementRepository.save(userAchievement).getAchievement();
-        return AchievementDto.toDto(saveAchievement);
+        try {
+            Achievement saveAchievement = userAchievementRepository.save(userAchievement).getAchievement();
+            return AchievementDto.toDto(saveAchievement);
+        } catch (DataIntegrityViolationException e) {
+            // 보유 확인 이후 동시 요청이 먼저 부여 (uk_user_achievement_user_achievement)
+            if (DataIntegrityUtil.isDuplicateKey(e)) {
+                log.warn("이미 해당 업적을 보유하고 있습니다. userId: {}, achievementType: {}", userId, achievementType);
+                return null;
+            }
+            throw e;
+        }
     }
 
+    /**
+     * 업적 확인 - 조건부 UPDATE 가 정확히 1행을 갱신한 요청만 보상 적립
+     */
     @Transactional
     public AchievementDto claimAchievement(Long userId, Long achievementId) {
+        boolean claimedNow = userAchievementRepository.claimIfUnclaimed(userId, achievementId) == 1;
+
         UserAchievement userAchievement = userAchievementRepository.findByUserIdAndAchievement_Id(userId, achievementId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 업적을 보유하고 있지 않습니다."));
-
-        if(userAchievement.getAchievement().getType() == Achievement.AchievementType.BEGINNERS_LUCK) {
-            UserWallet userWallet = userWalletRepository.findByUserIdForUpdate(userId).orElseThrow(() -> new UserWalletNotFoundException(userId));
-            userWallet.deposit(BigDecimal.valueOf(300000));
-            userWalletRepository.save(userWallet);
+        if (!claimedNow) {
+            throw new IllegalArgumentException("이미 확인한 업적입니다.");
         }
 
-        if (userAchievement.isClaimed()) {
-            throw new IllegalArgumentException("이미 확인한 업적입니다.");
+        // 보상은 적립만 기록하고 잔액 반영은 RewardCreditService 가 수행
+        if(userAchievement.getAchievement().getType() == Achievement.AchievementType.BEGINNERS_LUCK) {
+            rewardCreditService.appendReward(userId, "ACHIEVEMENT_REWARD_" + userAchievement.getId(),
+                    TransactionReasonCode.ACHIEVEMENT_REWARD, BigDecimal.valueOf(300000), "업적 보상",
+                    "USER_ACHIEVEMENT", userAchievement.getId());
         }
         
-        userAchievement.claim();
-        userAchievementRepository.save(userAchievement);
-        
         return AchievementDto.from(userAchievement);
     }
 }
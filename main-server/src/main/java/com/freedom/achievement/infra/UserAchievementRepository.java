@@ -3,6 +3,9 @@ package com.freedom.achievement.infra;
 import com.freedom.achievement.domain.entity.Achievement;
 import com.freedom.achievement.domain.entity.UserAchievement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +18,12 @@ public interface UserAchievementRepository extends JpaRepository<UserAchievement
     List<UserAchievement> findByUserId(Long userId);
     
     Optional<UserAchievement> findByUserIdAndAchievement_Id(Long userId, Long achievementId);
+
+    /**
+     * 업적 확인 조건부 UPDATE - 보유 + 미확인일 때만 1행 갱신 (동시 요청 시 한 요청만 성공)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserAchievement ua SET ua.claimed = true WHERE ua.userId = :userId " +
+           "AND ua.achievement.id = :achievementId AND ua.claimed = false")
+    int claimIfUnclaimed(@Param("userId") Long userId, @Param("achievementId") Long achievementId);
 }
@@ -2,6 +2,7 @@ package com.freedom.attendance.api;
 
 import com.freedom.attendance.application.AttendanceAppService;
 import com.freedom.common.security.CustomUserPrincipal;
+import com.freedom.attendance.api.response.AttendanceHeatmapResponse;
 import com.freedom.attendance.api.response.AttendanceResponse;
 import com.freedom.attendance.api.response.CalendarResponse;
 import com.freedom.common.exception.custom.InvalidAttendanceParameterException;
@@ -32,10 +33,23 @@ public class AttendanceController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/heatmap")
+    public ResponseEntity<AttendanceHeatmapResponse> getAttendanceHeatmap(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                                                          @RequestParam(value = "year", required = true) int year) {
+        validateYear(year);
+
+        AttendanceHeatmapResponse response = attendanceAppService.getHeatmap(principal.getId(), year);
+        return ResponseEntity.ok(response);
+    }
+    
     private void validateCalendarParameters(int year, int month) {
         if (month < 1 || month > 12) {
             throw new InvalidAttendanceParameterException("월은 1~12 사이의 값이어야 합니다.");
         }
+        validateYear(year);
+    }
+
+    private void validateYear(int year) {
         if (year < 2000 || year > 2100) {
             throw new InvalidAttendanceParameterException("년도는 2000 ~ 2100 사이의 값이어야 합니다.");
         }
@@ -0,0 +1,35 @@
+package com.freedom.attendance.api.response;
+
+import com.freedom.attendance.domain.AttendanceBitmap;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class AttendanceHeatmapResponse {
+    private int year;
+    private int totalDays;
+    private boolean[] attendanceMap;   // 1월 1일부터 일자순
+    private int[] monthlyCounts;       // 1~12월 출석 일수
+    private int attendanceCount;
+    private int startDayOfWeek;
+
+    public static AttendanceHeatmapResponse from(AttendanceBitmap bitmap) {
+        boolean[] attendanceMap = bitmap.toYearMap();
+        int[] monthlyCounts = new int[12];
+        for (int month = 1; month <= 12; month++) {
+            monthlyCounts[month - 1] = Integer.bitCount(bitmap.monthMask(month));
+        }
+
+        return AttendanceHeatmapResponse.builder()
+                .year(bitmap.getYear())
+                .totalDays(attendanceMap.length)
+                .attendanceMap(attendanceMap)
+                .monthlyCounts(monthlyCounts)
+                .attendanceCount(bitmap.count())
+                .startDayOfWeek(LocalDate.of(bitmap.getYear(), 1, 1).getDayOfWeek().getValue())
+                .build();
+    }
+}
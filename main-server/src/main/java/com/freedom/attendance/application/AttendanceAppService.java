@@ -3,7 +3,9 @@ package com.freedom.attendance.application;
 import com.freedom.achievement.application.dto.AchievementDto;
 import com.freedom.achievement.domain.entity.Achievement;
 import com.freedom.achievement.domain.service.AchievementCommandService;
+import com.freedom.attendance.api.response.AttendanceHeatmapResponse;
 import com.freedom.attendance.api.response.CalendarResponse;
+import com.freedom.attendance.domain.AttendanceBitmap;
 import com.freedom.attendance.domain.service.AttendanceCommandService;
 import com.freedom.attendance.api.response.AttendanceResponse;
 import com.freedom.attendance.domain.service.AttendanceReadService;
@@ -43,4 +45,9 @@ public class AttendanceAppService {
         boolean[] attendanceMap = attendanceReadService.getAttendanceMapOfMonth(userId, year, month);
         return CalendarResponse.of(year, month, attendanceMap);
     }
+
+    public AttendanceHeatmapResponse getHeatmap(Long userId, int year) {
+        AttendanceBitmap bitmap = attendanceReadService.getAttendanceBitmapOfYear(userId, year);
+        return AttendanceHeatmapResponse.from(bitmap);
+    }
 }
@@ -0,0 +1,117 @@
+package com.freedom.attendance.domain;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Collection;
+
+/**
+ * 연간 출석 비트셋 (bit i = 그 해의 i+1 번째 날 출석 여부)
+ * - 366 비트를 long[6] 으로 보관, DB 에는 BitSet.valueOf 와 같은 little-endian BINARY(46) 로 저장
+ * - 연속 출석은 하루씩 조회하지 않고 워드 단위 선행 1 비트 개수로 계산
+ */
+public final class AttendanceBitmap {
+
+    public static final int BYTES = 46;
+    private static final int WORDS = 6;
+
+    private final int year;
+    private final long[] words;
+
+    private AttendanceBitmap(int year, long[] words) {
+        this.year = year;
+        this.words = words;
+    }
+
+    public static AttendanceBitmap empty(int year) {
+        return new AttendanceBitmap(year, new long[WORDS]);
+    }
+
+    public static AttendanceBitmap fromBytes(int year, byte[] bytes) {
+        long[] words = new long[WORDS];
+        int length = bytes == null ? 0 : Math.min(bytes.length, BYTES);
+        for (int i = 0; i < length; i++) {
+            words[i >>> 3] |= (bytes[i] & 0xFFL) << ((i & 7) << 3);
+        }
+        return new AttendanceBitmap(year, words);
+    }
+
+    public static AttendanceBitmap of(int year, Collection<LocalDate> dates) {
+        long[] words = new long[WORDS];
+        for (LocalDate date : dates) {
+            if (date.getYear() == year) {
+                int index = date.getDayOfYear() - 1;
+                words[index >>> 6] |= 1L << index;
+            }
+        }
+        return new AttendanceBitmap(year, words);
+    }
+
+    /**
+     * 하루만 켜진 마스크 (UPSERT 의 days | mask 용)
+     */
+    public static byte[] maskOf(LocalDate date) {
+        int index = date.getDayOfYear() - 1;
+        byte[] mask = new byte[BYTES];
+        mask[index >>> 3] = (byte) (1 << (index & 7));
+        return mask;
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BYTES];
+        for (int i = 0; i < BYTES; i++) {
+            bytes[i] = (byte) (words[i >>> 3] >>> ((i & 7) << 3));
+        }
+        return bytes;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public boolean isAttended(LocalDate date) {
+        if (date.getYear() != year) return false;
+        int index = date.getDayOfYear() - 1;
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * 월 단위 32비트 마스크 (bit d-1 = d일 출석)
+     */
+    public int monthMask(int month) {
+        YearMonth ym = YearMonth.of(year, month);
+        int start = ym.atDay(1).getDayOfYear() - 1;
+        int length = ym.lengthOfMonth();
+        int offset = start & 63;
+        long bits = words[start >>> 6] >>> offset;
+        if (offset + length > 64) {
+            bits |= words[(start >>> 6) + 1] << (64 - offset);
+        }
+        return (int) (bits & ((1L << length) - 1));
+    }
+
+    public boolean[] toMonthMap(int month) {
+        int mask = monthMask(month);
+        boolean[] map = new boolean[YearMonth.of(year, month).lengthOfMonth()];
+        for (int day = 0; day < map.length; day++) {
+            map[day] = (mask & (1 << day)) != 0;
+        }
+        return map;
+    }
+
+    public boolean[] toYearMap() {
+        boolean[] map = new boolean[Year.of(year).length()];
+        for (int index = 0; index < map.length; index++) {
+            map[index] = (words[index >>> 6] & (1L << index)) != 0;
+        }
+        return map;
+    }
+
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,40 @@
+package com.freedom.attendance.domain;
+
+import com.freedom.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 연간 출석 비트셋 (조회 전용 요약, 원본 감사 기록은 attendance 테이블)
+ * - 출석 시 UPSERT 로 해당 일자 비트만 OR, 행 최초 생성 시 attendance 기록으로 채움
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "attendance_year",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_attendance_year_user_year", columnNames = {"user_id", "attendance_year"})
+        }
+)
+public class AttendanceYear extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "attendance_year", nullable = false)
+    private int attendanceYear;
+
+    @Column(name = "days", nullable = false, columnDefinition = "BINARY(46)")
+    private byte[] days;
+
+    public AttendanceBitmap toBitmap() {
+        return AttendanceBitmap.fromBytes(attendanceYear, days);
+    }
+}
@@ -0,0 +1,9 @@
+package com.freedom.attendance.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * 신규 출석 기록 이벤트 (하루 1회, 출석 INSERT 시에만 발행)
+ */
+public record AttendanceMarkedEvent(Long userId, LocalDate checkDate) {
+}
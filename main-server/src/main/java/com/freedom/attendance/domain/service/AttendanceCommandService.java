@@ -1,15 +1,20 @@
 package com.freedom.attendance.domain.service;
 
 import com.freedom.attendance.domain.Attendance;
+import com.freedom.attendance.domain.AttendanceBitmap;
+import com.freedom.attendance.domain.event.AttendanceMarkedEvent;
 import com.freedom.attendance.infra.AttendanceRepository;
-import com.freedom.auth.domain.User;
+import com.freedom.attendance.infra.AttendanceYearRepository;
 import com.freedom.auth.infra.UserJpaRepository;
 import com.freedom.common.exception.custom.UserNotFoundException;
+import com.freedom.common.time.TimeProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -17,22 +22,40 @@ public class AttendanceCommandService {
 
     private final UserJpaRepository userJpaRepository;
     private final AttendanceRepository attendanceRepository;
+    private final AttendanceYearRepository attendanceYearRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimeProvider timeProvider;
 
+    /**
+     * 출석 처리 - uk_attendance_user_date 멱등 INSERT 가 성공한 요청만 후속 처리 (사용자 행 선조회/락 없음)
+     * @return 신규 출석이면 true, 오늘 이미 출석했으면 false
+     */
     @Transactional
     public boolean markAttendance(Long userId) {
-        User user = userJpaRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
-        
-        if (user.getAttendance()) return false;
+        LocalDate today = timeProvider.today();
+        if (attendanceRepository.insertIgnore(userId, today) == 0) {
+            return false;
+        }
+        if (userJpaRepository.updateLastAttendanceDate(userId, today) == 0) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다."); // 롤백으로 출석 기록도 취소
+        }
 
-        user.completeAttendance();
-        Attendance attendance = Attendance.builder().userId(userId).checkDate(LocalDate.now()).build();
-        attendanceRepository.save(attendance);
-        return userJpaRepository.save(user).getAttendance();
+        recordBitmap(userId, today);
+        eventPublisher.publishEvent(new AttendanceMarkedEvent(userId, today));
+        return true;
     }
 
-    @Transactional
-    public void resetAllAttendanceStatus() {
-        userJpaRepository.resetAllAttendanceStatus();
+    /**
+     * 연간 비트셋에 출석일 비트 OR - 해당 연도 행이 새로 만들어졌으면 감사 기록으로 지난 출석을 채움 (OR 이므로 재실행 안전)
+     */
+    private void recordBitmap(Long userId, LocalDate checkDate) {
+        int year = checkDate.getYear();
+        if (attendanceYearRepository.orDays(userId, year, AttendanceBitmap.maskOf(checkDate)) == 1) {
+            List<LocalDate> history = attendanceRepository.findAllByUserIdAndCheckDateBetween(
+                            userId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)).stream()
+                    .map(Attendance::getCheckDate)
+                    .toList();
+            attendanceYearRepository.orDays(userId, year, AttendanceBitmap.of(year, history).toBytes());
+        }
     }
 }
@@ -1,16 +1,19 @@
 package com.freedom.attendance.domain.service;
 
+import com.freedom.attendance.domain.Attendance;
+import com.freedom.attendance.domain.AttendanceBitmap;
+import com.freedom.attendance.domain.AttendanceYear;
 import com.freedom.attendance.infra.AttendanceRepository;
+import com.freedom.attendance.infra.AttendanceYearRepository;
 import com.freedom.auth.domain.User;
 import com.freedom.auth.infra.UserJpaRepository;
 import com.freedom.common.exception.custom.UserNotFoundException;
+import com.freedom.common.time.TimeProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.YearMonth;
-import java.time.DayOfWeek;
 
 @Service
 @RequiredArgsConstructor
@@ -18,66 +21,46 @@ public class AttendanceReadService {
 
     private final UserJpaRepository userJpaRepository;
     private final AttendanceRepository attendanceRepository;
+    private final AttendanceYearRepository attendanceYearRepository;
+    private final TimeProvider timeProvider;
 
     @Transactional(readOnly = true)
     public boolean isAttendanceCompleted(Long userId) {
         User user = userJpaRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
-        return user.getAttendance();
+        return user.hasAttendedOn(timeProvider.today());
     }
 
     @Transactional(readOnly = true)
     public boolean[] getAttendanceMapOfMonth(Long userId, int year, int month) {
-        YearMonth ym = YearMonth.of(year, month);
-        int dim = ym.lengthOfMonth();
-        boolean[] map = new boolean[dim];
-        LocalDate start = ym.atDay(1);
-        LocalDate end   = ym.atEndOfMonth();
-        attendanceRepository.findAllByUserIdAndCheckDateBetween(userId, start, end)
-                .forEach(a -> map[a.getCheckDate().getDayOfMonth() - 1] = true);
-        return map;
+        return loadBitmap(userId, year).toMonthMap(month);
     }
 
     @Transactional(readOnly = true)
-    public int getWeeklyConsecutiveAttendanceDays(Long userId) {
-        LocalDate today = LocalDate.now();
-        LocalDate startOfWeek = today.with(DayOfWeek.MONDAY);
-        
-        int consecutiveDays = 0;
-        LocalDate checkDate = today;
-        
-        while (!checkDate.isBefore(startOfWeek)) {
-            if (attendanceRepository.existsByUserIdAndCheckDate(userId, checkDate)) {
-                consecutiveDays++;
-                checkDate = checkDate.minusDays(1);
-            } else {
-                if (checkDate.equals(today)) {
-                    checkDate = checkDate.minusDays(1);
-                    continue;
-                }
-                break;
-            }
-        }
-        return consecutiveDays;
+    public AttendanceBitmap getAttendanceBitmapOfYear(Long userId, int year) {
+        return loadBitmap(userId, year);
     }
 
     @Transactional(readOnly = true)
     public int getCurrentMonthConsecutiveAttendanceDays(Long userId) {
-        LocalDate today = LocalDate.now();
-        LocalDate startOfMonth = today.withDayOfMonth(1);
-
-        int consecutiveDays = 0;
-        LocalDate checkDate = today;
+        LocalDate today = timeProvider.today();
+        AttendanceBitmap bitmap = loadBitmap(userId, today.getYear());
+        int mask = bitmap.monthMask(today.getMonthValue());
+        // 오늘 비트를 최상위로 올려 반전 → 선행 0 의 개수가 오늘부터 이어진 출석 일수
+        return Integer.numberOfLeadingZeros(~(mask << (32 - today.getDayOfMonth())));
+    }
 
-        while (!checkDate.isBefore(startOfMonth)) {
-            if (attendanceRepository.existsByUserIdAndCheckDate(userId, checkDate)) {
-                consecutiveDays++;
-                checkDate = checkDate.minusDays(1);
-            } else {
-                break;
-            }
-        }
-        return consecutiveDays;
+    /**
+     * 연간 비트셋 1행 조회, 아직 행이 없는 해는 감사 기록(attendance)으로 구성
+     */
+    private AttendanceBitmap loadBitmap(Long userId, int year) {
+        return attendanceYearRepository.findByUserIdAndAttendanceYear(userId, year)
+                .map(AttendanceYear::toBitmap)
+                .orElseGet(() -> AttendanceBitmap.of(year,
+                        attendanceRepository.findAllByUserIdAndCheckDateBetween(userId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                                .stream()
+                                .map(Attendance::getCheckDate)
+                                .toList()));
     }
 }
@@ -2,6 +2,9 @@ package com.freedom.attendance.infra;
 
 import com.freedom.attendance.domain.Attendance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -12,4 +15,13 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     List<Attendance> findAllByUserIdAndCheckDateBetween(Long userId, LocalDate start, LocalDate end);
 
     boolean existsByUserIdAndCheckDate(Long userId, LocalDate checkDate);
+
+    /**
+     * uk_attendance_user_date 기반 멱등 INSERT
+     * @return 1: 신규 출석, 0: 이미 출석
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO attendance (user_id, check_date, created_at, updated_at) " +
+            "VALUES (:userId, :checkDate, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("checkDate") LocalDate checkDate);
 }
@@ -0,0 +1,27 @@
+package com.freedom.attendance.infra;
+
+import com.freedom.attendance.domain.AttendanceYear;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AttendanceYearRepository extends JpaRepository<AttendanceYear, Long> {
+
+    Optional<AttendanceYear> findByUserIdAndAttendanceYear(Long userId, int attendanceYear);
+
+    /**
+     * 비트 OR UPSERT (MySQL 8 의 binary string 비트 연산)
+     * @return 1: 신규 행 생성, 2: 기존 행 갱신
+     */
+    @Modifying
+    @Query(value = "INSERT INTO attendance_year (user_id, attendance_year, days, created_at, updated_at) " +
+            "VALUES (:userId, :year, :mask, NOW(), NOW()) AS new " +
+            "ON DUPLICATE KEY UPDATE days = days | new.days, updated_at = NOW()",
+            nativeQuery = true)
+    int orDays(@Param("userId") Long userId, @Param("year") int year, @Param("mask") byte[] mask);
+}
@@ -39,8 +39,9 @@ public class User extends BaseEntity {
     @Column(name = "character_created", nullable = false)
     private Boolean characterCreated;
 
-    @Column(name = "attendance", nullable = false)
-    private Boolean attendance;
+    // 마지막 출석일 (오늘 날짜와 비교해 출석 여부 판단, 자정 초기화 불필요)
+    @Column(name = "last_attendance_date")
+    private LocalDate lastAttendanceDate;
 
     @Column(name = "last_auto_payment_date")
     private LocalDate lastAutoPaymentDate;
@@ -52,7 +53,6 @@ public class User extends BaseEntity {
         this.role = role != null ? role : UserRole.USER;
         this.status = status != null ? status : UserStatus.ACTIVE;
         this.characterName = characterName;
-        this.attendance = false;
         this.characterCreated = false;
     }
     
@@ -72,8 +72,8 @@ public class User extends BaseEntity {
         return UserStatus.SUSPENDED.equals(this.status);
     }
 
-    public void completeAttendance() {
-        this.attendance = true;
+    public boolean hasAttendedOn(LocalDate date) {
+        return date.equals(this.lastAttendanceDate);
     }
 
     public boolean hasCharacterCreated() {
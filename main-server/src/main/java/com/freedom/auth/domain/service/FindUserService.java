@@ -7,6 +7,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,4 +27,13 @@ public class FindUserService {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("email: " + email));
     }
+
+    public Map<Long, String> findCharacterNames(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(ids).stream()
+                .filter(user -> user.getCharacterName() != null)
+                .collect(Collectors.toMap(User::getId, User::getCharacterName));
+    }
 }
@@ -1,11 +1,16 @@
 package com.freedom.auth.infra;
 
 import com.freedom.auth.domain.User;
+import com.freedom.auth.domain.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,7 +22,14 @@ public interface UserJpaRepository extends JpaRepository<User, Long> {
     
     boolean existsByCharacterName(String characterName);
     
+    // 마지막 출석일 갱신 (사용자가 없으면 0 반환)
     @Modifying
-    @Query("UPDATE User u SET u.attendance = false WHERE u.attendance = true")
-    void resetAllAttendanceStatus();
+    @Query("UPDATE User u SET u.lastAttendanceDate = :date WHERE u.id = :userId")
+    int updateLastAttendanceDate(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    // 상태별 사용자 ID (PK 키셋 청크 조회)
+    @Query("SELECT u.id FROM User u WHERE u.status = :status AND u.id > :afterUserId ORDER BY u.id")
+    List<Long> findIdsByStatusAfter(@Param("status") UserStatus status,
+                                    @Param("afterUserId") Long afterUserId,
+                                    Pageable pageable);
 }
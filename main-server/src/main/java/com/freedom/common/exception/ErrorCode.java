@@ -76,6 +76,7 @@ public enum ErrorCode {
 
     // 지갑 에러
     INSUFFICIENT_BALANCE("WALLET001", "잔액이 부족합니다.", HttpStatus.BAD_REQUEST),
+    DUPLICATE_WALLET_REQUEST("WALLET002", "이미 처리된 요청입니다.", HttpStatus.CONFLICT),
 
     // 스크랩 에러
     SCRAP_ALREADY_EXISTS("SCRAP001", "이미 스크랩한 뉴스입니다.", HttpStatus.CONFLICT),
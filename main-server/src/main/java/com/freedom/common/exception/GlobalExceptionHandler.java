@@ -45,6 +45,12 @@ public class GlobalExceptionHandler {
         return createErrorResponse(ErrorCode.INSUFFICIENT_BALANCE);
     }
 
+    @ExceptionHandler(DuplicateWalletRequestException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateWalletRequestException(DuplicateWalletRequestException e) {
+        log.warn("중복 지갑 요청: requestId={}", e.getRequestId());
+        return createErrorResponse(ErrorCode.DUPLICATE_WALLET_REQUEST);
+    }
+
     @ExceptionHandler(QuestAlreadyCompletedException.class)
     public ResponseEntity<ErrorResponse> handleQuestAlreadyCompletedException(QuestAlreadyCompletedException e) {
         return createErrorResponse(ErrorCode.QUEST_ALREADY_COMPLETED);
@@ -0,0 +1,18 @@
+package com.freedom.common.exception.custom;
+
+/**
+ * 이미 처리된 지갑 요청(request_id 중복) 예외
+ */
+public class DuplicateWalletRequestException extends RuntimeException {
+
+    private final String requestId;
+
+    public DuplicateWalletRequestException(String requestId) {
+        super("이미 처리된 요청입니다. requestId: " + requestId);
+        this.requestId = requestId;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.freedom.common.util;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+/**
+ * 무결성 위반 예외 구분
+ * - 유니크 키 중복만 골라내고 FK/NOT NULL 위반 등은 호출 측에서 그대로 다시 던지도록 함
+ */
+public final class DataIntegrityUtil {
+
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final String SQL_STATE_UNIQUE_VIOLATION = "23505";
+
+    private DataIntegrityUtil() {}
+
+    public static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        if (cause instanceof SQLException sqlException) {
+            return sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY
+                    || SQL_STATE_UNIQUE_VIOLATION.equals(sqlException.getSQLState());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,59 @@
+package com.freedom.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 한국어 검색용 문자열 처리
+ * - 정규화: 공백 제거 + 영문 소문자 (띄어쓰기 차이 무시)
+ * - 초성: 한글 음절을 호환 자모 초성(ㄱ~ㅎ)으로 치환
+ */
+public final class KoreanTextUtil {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int CHOSEONG_PERIOD = 21 * 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private KoreanTextUtil() {}
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절을 초성으로 치환 (그 외 문자는 그대로)
+     */
+    public static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(c >= HANGUL_BASE && c <= HANGUL_LAST ? CHOSEONG[(c - HANGUL_BASE) / CHOSEONG_PERIOD] : c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성(ㄱ~ㅎ) 자모가 하나라도 있는지 (초성 질의 판별)
+     */
+    public static boolean containsChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Arrays.binarySearch(CHOSEONG, text.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
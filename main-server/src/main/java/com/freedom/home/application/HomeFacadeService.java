@@ -40,7 +40,7 @@ public class HomeFacadeService {
         
         CompletableFuture<BigDecimal> balanceFuture = CompletableFuture
             .supplyAsync(() -> {
-                return walletService.getWalletByUserId(userId).getBalance();
+                return walletService.getBalance(userId);
             });
         
         CompletableFuture<Integer> quizCountFuture = CompletableFuture
@@ -77,7 +77,7 @@ public class HomeFacadeService {
     private HomeResponse getMainHomeDataSync(Long userId) {
         String characterName = characterNameService.getCharacterName(userId);
         boolean attendance = attendanceService.isAttendanceCompleted(userId);
-        BigDecimal balance = walletService.getWalletByUserId(userId).getBalance();
+        BigDecimal balance = walletService.getBalance(userId);
         long correctCount = findUserQuizService.findDailyQuizzes(userId, LocalDate.now()).stream()
                 .filter(q -> Boolean.TRUE.equals(q.getIsCorrect()))
                 .count();
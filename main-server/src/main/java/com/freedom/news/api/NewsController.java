@@ -3,7 +3,10 @@ package com.freedom.news.api;
 import com.freedom.common.security.CustomUserPrincipal;
 import com.freedom.news.api.response.NewsDetailResponse;
 import com.freedom.news.api.response.NewsResponse;
+import com.freedom.news.api.response.NewsSearchSliceResponse;
 import com.freedom.news.application.NewsQueryAppService;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -19,11 +22,21 @@ public class NewsController {
 
     @GetMapping
     public ResponseEntity<Page<NewsResponse>> getNewsList(@RequestParam(defaultValue = "0") int page,
-                                                          @RequestParam(defaultValue = "10") int size) {
-        Page<NewsResponse> newsList = newsQueryFacade.getRecentNewsList(page, size);
+                                                          @RequestParam(defaultValue = "10") int size,
+                                                          @AuthenticationPrincipal CustomUserPrincipal principal) {
+        Page<NewsResponse> newsList = newsQueryFacade.getRecentNewsList(principal.getId(), page, size);
         return ResponseEntity.ok(newsList);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<NewsSearchSliceResponse> searchNews(@RequestParam("q") @NotBlank @Size(max = 100) String query,
+                                                              @RequestParam(value = "cursorScore", required = false) Double cursorScore,
+                                                              @RequestParam(value = "cursorId", required = false) Long cursorId,
+                                                              @RequestParam(defaultValue = "20") int size,
+                                                              @AuthenticationPrincipal CustomUserPrincipal principal) {
+        return ResponseEntity.ok(newsQueryFacade.searchNews(principal.getId(), query, cursorScore, cursorId, size));
+    }
+
     @GetMapping("/{newsId}")
     public ResponseEntity<NewsDetailResponse> getNewsDetail(@PathVariable Long newsId,
                                                             @AuthenticationPrincipal CustomUserPrincipal principal) {
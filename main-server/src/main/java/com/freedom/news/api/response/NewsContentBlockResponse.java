@@ -1,10 +1,13 @@
 package com.freedom.news.api.response;
 
 import com.freedom.news.application.dto.NewsContentBlockDto;
+import com.freedom.term.api.dto.TermSpanResponseDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @Builder
 @AllArgsConstructor
@@ -16,6 +19,7 @@ public class NewsContentBlockResponse {
     private String url;
     private String altText;
     private Integer blockOrder;
+    private List<TermSpanResponseDto> termSpans;
     
     public static NewsContentBlockResponse from(NewsContentBlockDto dto) {
         return NewsContentBlockResponse.builder()
@@ -25,6 +29,10 @@ public class NewsContentBlockResponse {
                 .url(dto.getUrl())
                 .altText(dto.getAltText())
                 .blockOrder(dto.getBlockOrder())
+                .termSpans(dto.getTermSpans()
+                        .stream()
+                        .map(TermSpanResponseDto::from)
+                        .toList())
                 .build();
     }
 }
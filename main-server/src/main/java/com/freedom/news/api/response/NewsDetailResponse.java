@@ -2,7 +2,6 @@ package com.freedom.news.api.response;
 
 import com.freedom.achievement.application.dto.AchievementDto;
 import com.freedom.news.application.dto.NewsDetailDto;
-import com.freedom.scrap.application.dto.NewsScrapDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,14 +29,14 @@ public class NewsDetailResponse {
     private String achievementType;
     private boolean achievementCreated;
     
-    public static NewsDetailResponse of(NewsDetailDto newsDetailDto, NewsScrapDto newsScrapDto, AchievementDto achievementDto) {
+    public static NewsDetailResponse of(NewsDetailDto newsDetailDto, boolean isScraped, AchievementDto achievementDto) {
         return NewsDetailResponse.builder()
                 .id(newsDetailDto.getId())
                 .newsItemId(newsDetailDto.getNewsItemId())
                 .title(newsDetailDto.getTitle())
                 .approveDate(newsDetailDto.getApproveDate())
                 .modifyDate(newsDetailDto.getModifyDate())
-                .isScraped(newsScrapDto != null)
+                .isScraped(isScraped)
                 .originalImgUrl(newsDetailDto.getOriginalImgUrl())
                 .thumbnailUrl(newsDetailDto.getThumbnailUrl())
                 .aiSummary(newsDetailDto.getAiSummary())
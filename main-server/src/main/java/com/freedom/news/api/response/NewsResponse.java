@@ -23,10 +23,11 @@ public class NewsResponse {
     private String originalImgUrl;
     private String thumbnailUrl;
     private String aiSummary;
-    private String plainTextContent;
     private String ministerCode;
+    private String excerpt;
+    private boolean isScraped;
     
-    public static NewsResponse from(NewsDto newsDto) {
+    public static NewsResponse of(NewsDto newsDto, boolean isScraped) {
         return NewsResponse.builder()
                 .id(newsDto.getId())
                 .newsItemId(newsDto.getNewsItemId())
@@ -39,8 +40,9 @@ public class NewsResponse {
                 .originalImgUrl(newsDto.getOriginalImgUrl())
                 .thumbnailUrl(newsDto.getThumbnailUrl())
                 .aiSummary(newsDto.getAiSummary())
-                .plainTextContent(newsDto.getPlainTextContent())
                 .ministerCode(newsDto.getMinisterCode())
+                .excerpt(newsDto.getExcerpt())
+                .isScraped(isScraped)
                 .build();
     }
 }
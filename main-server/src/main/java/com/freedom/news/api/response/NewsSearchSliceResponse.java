@@ -0,0 +1,16 @@
+package com.freedom.news.api.response;
+
+import java.util.List;
+
+/**
+ * 뉴스 검색 키셋 페이지 응답 (BM25 점수 내림차순)
+ * - 다음 페이지 요청 시 nextCursorScore, nextCursorId 를 그대로 전달
+ */
+public record NewsSearchSliceResponse(
+        List<NewsResponse> content,
+        int size,
+        boolean hasNext,
+        Double nextCursorScore,
+        Long nextCursorId
+) {
+}
@@ -5,13 +5,15 @@ import com.freedom.achievement.domain.entity.Achievement;
 import com.freedom.achievement.domain.service.AchievementCommandService;
 import com.freedom.news.api.response.NewsDetailResponse;
 import com.freedom.news.api.response.NewsResponse;
+import com.freedom.news.api.response.NewsSearchSliceResponse;
 import com.freedom.news.application.dto.NewsDetailDto;
 import com.freedom.news.application.dto.NewsDto;
+import com.freedom.news.domain.model.NewsReadResult;
+import com.freedom.news.domain.model.NewsSearchHit;
 import com.freedom.news.domain.service.FindNewsService;
-import com.freedom.news.domain.service.NewsHistoryReadService;
 import com.freedom.news.domain.service.NewsHistorySaveService;
-import com.freedom.scrap.application.dto.NewsScrapDto;
-import com.freedom.scrap.domain.service.FindNewsScrapService;
+import com.freedom.news.domain.service.NewsSearchService;
+import com.freedom.scrap.domain.service.NewsScrapStateCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -19,41 +21,63 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NewsQueryAppService {
+
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int NEWS_ADDICT_READ_COUNT = 50;
     
     private final FindNewsService findNewsService;
-    private final FindNewsScrapService findNewsScrapService;
+    private final NewsScrapStateCache newsScrapStateCache;
     private final NewsHistorySaveService newsHistorySaveService;
-    private final NewsHistoryReadService newsHistoryReadService;
     private final AchievementCommandService achievementCommandService;
+    private final NewsSearchService newsSearchService;
 
-    public Page<NewsResponse> getRecentNewsList(int page, int size) {
+    public Page<NewsResponse> getRecentNewsList(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         Page<NewsDto> newsDtos = findNewsService.findRecentNews(pageable);
-        
-        return newsDtos.map(NewsResponse::from);
+        Set<Long> scrapped = newsScrapStateCache.filterScrapped(userId, newsDtos.map(NewsDto::getId).getContent());
+
+        return newsDtos.map(news -> NewsResponse.of(news, scrapped.contains(news.getId())));
+    }
+
+    /**
+     * 뉴스 검색 - 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+     */
+    public NewsSearchSliceResponse searchNews(Long userId, String query, Double cursorScore, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+        List<NewsSearchHit> hits = newsSearchService.search(query, cursorScore, cursorId, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        List<NewsSearchHit> page = hasNext ? hits.subList(0, pageSize) : hits;
+
+        List<Long> newsIds = page.stream().map(NewsSearchHit::newsId).toList();
+        Set<Long> scrapped = newsScrapStateCache.filterScrapped(userId, newsIds);
+        List<NewsResponse> content = findNewsService.findNewsByIds(newsIds)
+                .stream()
+                .map(news -> NewsResponse.of(news, scrapped.contains(news.getId())))
+                .toList();
+        if (!hasNext || page.isEmpty()) {
+            return new NewsSearchSliceResponse(content, pageSize, false, null, null);
+        }
+        NewsSearchHit last = page.get(page.size() - 1);
+        return new NewsSearchSliceResponse(content, pageSize, true, last.score(), last.newsId());
     }
 
     public NewsDetailResponse getNewsDetail(Long newsId, Long userId) {
-        CompletableFuture<NewsDetailDto> newsDetailFuture = CompletableFuture.supplyAsync(() ->
-                findNewsService.findNewsById(newsId)
-        );
-        CompletableFuture<NewsScrapDto> newsScrapFuture = CompletableFuture.supplyAsync(() ->
-                findNewsScrapService.getNewsScrapById(newsId, userId)
-        );
-        newsHistorySaveService.saveNewsHistory(userId, newsId);
-        int count = newsHistoryReadService.countNewsRead(userId);
+        // 상세/스크랩 여부 모두 메모리 캐시에서 조회
+        NewsDetailDto newsDetailDto = findNewsService.findNewsById(newsId);
+        boolean isScraped = newsScrapStateCache.isScrapped(userId, newsId);
+        NewsReadResult readResult = newsHistorySaveService.saveNewsHistory(userId, newsId);
         AchievementDto achievementDto = null;
-        if(count == 50){
+        // 인스턴스별 버퍼라 누적 수가 50 을 건너뛸 수 있으므로 이상 조건 + 멱등 부여
+        if(readResult.firstRead() && readResult.lifetimeCount() >= NEWS_ADDICT_READ_COUNT){
             achievementDto = achievementCommandService.grantAchievement(userId, Achievement.AchievementType.NEWS_ADDICT);
         }
-        NewsDetailDto newsDetailDto = newsDetailFuture.join();
-        NewsScrapDto newsScrapDto = newsScrapFuture.join();
-        return NewsDetailResponse.of(newsDetailDto, newsScrapDto, achievementDto);
+        return NewsDetailResponse.of(newsDetailDto, isScraped, achievementDto);
     }
 }
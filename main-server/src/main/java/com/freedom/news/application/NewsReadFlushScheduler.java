@@ -0,0 +1,59 @@
+package com.freedom.news.application;
+
+import com.freedom.news.domain.event.NewsReadEvent;
+import com.freedom.news.domain.model.NewsRead;
+import com.freedom.news.domain.service.NewsReadBuffer;
+import com.freedom.news.infra.NewsReadHistoryWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 뉴스 읽음 기록 flush (상세 조회 요청과 분리된 INSERT IGNORE)
+ * - 실제로 INSERT 된 행에 대해서만 NewsReadEvent 발행 (인스턴스 간 중복 열람이 퀘스트 카운터에 두 번 반영되지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsReadFlushScheduler {
+
+    private final NewsReadBuffer newsReadBuffer;
+    private final NewsReadHistoryWriter newsReadHistoryWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(fixedDelayString = "${news.read-buffer.flush-delay-ms:5000}")
+    public void flush() {
+        List<NewsRead> reads = newsReadBuffer.pendingReads();
+        if (reads.isEmpty()) {
+            return;
+        }
+        List<NewsRead> flushed = new ArrayList<>(reads.size());
+        int inserted = 0;
+        try {
+            for (NewsRead read : reads) {
+                if (newsReadHistoryWriter.insertIgnore(read)) {
+                    inserted++;
+                    eventPublisher.publishEvent(new NewsReadEvent(read.userId(), read.newsArticleId(), read.readAt()));
+                }
+                flushed.add(read);
+            }
+            log.debug("뉴스 읽음 기록 반영 완료 - {}건 (신규 {}건)", flushed.size(), inserted);
+        } catch (Exception e) {
+            log.error("뉴스 읽음 기록 반영 실패 - 다음 주기에 재시도 ({}건)", reads.size() - flushed.size(), e);
+        } finally {
+            newsReadBuffer.acknowledge(flushed);
+        }
+    }
+
+    // 종료 시 남은 기록 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,14 +1,19 @@
 package com.freedom.news.application.dto;
 
 import com.freedom.news.domain.entity.NewsContentBlock;
+import com.freedom.term.domain.model.TermSpan;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class NewsContentBlockDto {
+
+    private static final String TEXT_BLOCK_TYPE = "text";
     
     private String blockType;
     private String originalContent;
@@ -16,6 +21,7 @@ public class NewsContentBlockDto {
     private String url;
     private String altText;
     private Integer blockOrder;
+    private List<TermSpan> termSpans;
     
     public static NewsContentBlockDto from(NewsContentBlock contentBlock) {
         return NewsContentBlockDto.builder()
@@ -25,6 +31,11 @@ public class NewsContentBlockDto {
                 .url(contentBlock.getUrl())
                 .altText(contentBlock.getAltText())
                 .blockOrder(contentBlock.getBlockOrder())
+                .termSpans(List.of())
                 .build();
     }
+
+    public boolean isText() {
+        return TEXT_BLOCK_TYPE.equals(blockType);
+    }
 }
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class NewsDetailDto {
 
@@ -28,6 +28,13 @@ public class NewsDetailDto {
     private List<NewsContentBlockDto> contentBlocks;
 
     public static NewsDetailDto from(NewsArticle newsArticle, List<NewsContentBlock> contentBlocks) {
+        return from(newsArticle, newsArticle.getPlainTextContent(), contentBlocks);
+    }
+
+    /**
+     * 본문(지연 로딩 컬럼)을 같은 쿼리에서 따로 조회한 경우
+     */
+    public static NewsDetailDto from(NewsArticle newsArticle, String plainTextContent, List<NewsContentBlock> contentBlocks) {
         List<NewsContentBlockDto> contentBlockDtos = contentBlocks
                 .stream()
                 .map(NewsContentBlockDto::from)
@@ -42,7 +49,7 @@ public class NewsDetailDto {
                 .originalImgUrl(newsArticle.getOriginalImgUrl())
                 .thumbnailUrl(newsArticle.getThumbnailUrl())
                 .aiSummary(newsArticle.getAiSummary())
-                .plainTextContent(newsArticle.getPlainTextContent())
+                .plainTextContent(plainTextContent)
                 .ministerCode(newsArticle.getMinisterCode())
                 .originalUrl(newsArticle.getOriginalUrl())
                 .contentBlocks(contentBlockDtos)
@@ -1,6 +1,6 @@
 package com.freedom.news.application.dto;
 
-import com.freedom.news.domain.entity.NewsArticle;
+import com.freedom.news.domain.model.NewsListItem;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,24 +23,24 @@ public class NewsDto {
     private String originalImgUrl;
     private String thumbnailUrl;
     private String aiSummary;
-    private String plainTextContent;
     private String ministerCode;
+    private String excerpt;
     
-    public static NewsDto from(NewsArticle newsArticle) {
+    public static NewsDto from(NewsListItem item) {
         return NewsDto.builder()
-                .id(newsArticle.getId())
-                .newsItemId(newsArticle.getNewsItemId())
-                .title(newsArticle.getTitle())
-                .subTitle1(newsArticle.getSubTitle1())
-                .subTitle2(newsArticle.getSubTitle2())
-                .subTitle3(newsArticle.getSubTitle3())
-                .approveDate(newsArticle.getApproveDate())
-                .modifyDate(newsArticle.getModifyDate())
-                .originalImgUrl(newsArticle.getOriginalImgUrl())
-                .thumbnailUrl(newsArticle.getThumbnailUrl())
-                .aiSummary(newsArticle.getAiSummary())
-                .plainTextContent(newsArticle.getPlainTextContent())
-                .ministerCode(newsArticle.getMinisterCode())
+                .id(item.id())
+                .newsItemId(item.newsItemId())
+                .title(item.title())
+                .subTitle1(item.subTitle1())
+                .subTitle2(item.subTitle2())
+                .subTitle3(item.subTitle3())
+                .approveDate(item.approveDate())
+                .modifyDate(item.modifyDate())
+                .originalImgUrl(item.originalImgUrl())
+                .thumbnailUrl(item.thumbnailUrl())
+                .aiSummary(item.aiSummary())
+                .ministerCode(item.ministerCode())
+                .excerpt(item.excerpt())
                 .build();
     }
 }
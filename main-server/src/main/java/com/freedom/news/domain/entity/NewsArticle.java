@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.LazyGroup;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -60,9 +61,14 @@ public class NewsArticle extends BaseEntity {
     @Column(name = "contents_type", length = 1, nullable = false)
     private String contentsType;
     
+    // 본문 TEXT 컬럼은 상세 조회에서만 사용 - 바이트코드 향상으로 지연 로딩, 두 컬럼은 한 번에 로딩
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("body")
     @Column(name = "data_contents", columnDefinition = "TEXT")
     private String dataContents;
     
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("body")
     @Column(name = "plain_text_content", columnDefinition = "TEXT")
     private String plainTextContent;
     
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "news_read_history")
+@Table(name = "news_read_history",
+        uniqueConstraints = @UniqueConstraint(name = "uk_news_read_user_article", columnNames = {"user_id", "news_article_id"}))
 public class NewsReadHistory extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
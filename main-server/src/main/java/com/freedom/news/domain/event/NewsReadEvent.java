@@ -0,0 +1,9 @@
+package com.freedom.news.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 최초 열람 이벤트 (flush 시 news_read_history 신규 INSERT 된 행에 대해서만 발행)
+ */
+public record NewsReadEvent(Long userId, Long newsArticleId, LocalDateTime readAt) {
+}
@@ -0,0 +1,56 @@
+package com.freedom.news.domain.model;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 한국어 검색용 글자 bigram 토크나이저
+ * - NFKC 정규화 + 소문자 변환 후 문자/숫자 연속 구간마다 인접 두 글자를 토큰으로 사용 (형태소 분석 없이 조사/어미 변화에 강함)
+ * - 한 글자 구간은 그 글자 자체를 토큰으로 사용
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachToken(text, tokens::add);
+        return tokens;
+    }
+
+    /**
+     * 토큰별 빈도를 weight 배로 누적
+     */
+    public static void accumulate(String text, int weight, Map<String, Integer> frequencies) {
+        forEachToken(text, token -> frequencies.merge(token, weight, Integer::sum));
+    }
+
+    private static void forEachToken(String text, Consumer<String> consumer) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int runStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean inRun = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (inRun && runStart < 0) {
+                runStart = i;
+            } else if (!inRun && runStart >= 0) {
+                emitRun(normalized, runStart, i, consumer);
+                runStart = -1;
+            }
+        }
+    }
+
+    private static void emitRun(String text, int start, int end, Consumer<String> consumer) {
+        if (end - start == 1) {
+            consumer.accept(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            consumer.accept(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.freedom.news.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 목록용 조회 모델 (본문 TEXT 제외)
+ * - 본문 대신 앞부분 발췌(excerpt)만 DB 에서 잘라 가져옴, 본문이 없으면 null
+ */
+public record NewsListItem(
+        Long id,
+        String newsItemId,
+        String title,
+        String subTitle1,
+        String subTitle2,
+        String subTitle3,
+        LocalDateTime approveDate,
+        LocalDateTime modifyDate,
+        String originalImgUrl,
+        String thumbnailUrl,
+        String aiSummary,
+        String ministerCode,
+        String excerpt
+) {
+    public static final int EXCERPT_LENGTH = 120;
+}
@@ -0,0 +1,9 @@
+package com.freedom.news.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반영 대기 중인 뉴스 읽음 기록 (news_read_history 한 행)
+ */
+public record NewsRead(Long userId, Long newsArticleId, LocalDateTime readAt) {
+}
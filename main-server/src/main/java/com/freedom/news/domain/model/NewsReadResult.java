@@ -0,0 +1,9 @@
+package com.freedom.news.domain.model;
+
+/**
+ * 뉴스 읽음 기록 결과
+ * @param firstRead 처음 읽은 뉴스인지 여부
+ * @param lifetimeCount 누적 읽은 뉴스 수 (이번 기록 포함)
+ */
+public record NewsReadResult(boolean firstRead, int lifetimeCount) {
+}
@@ -0,0 +1,15 @@
+package com.freedom.news.domain.model;
+
+import java.util.Objects;
+
+/**
+ * 뉴스 상세 캐시 검증용 리비전 (admin-server 수정 시 modifyId/contentHash 변경)
+ */
+public record NewsRevision(Long id, Integer modifyId, String contentHash) {
+
+    public boolean sameAs(NewsRevision other) {
+        return other != null
+                && Objects.equals(modifyId, other.modifyId)
+                && Objects.equals(contentHash, other.contentHash);
+    }
+}
@@ -0,0 +1,7 @@
+package com.freedom.news.domain.model;
+
+/**
+ * 검색 색인 대상 뉴스 (제목, AI 요약, 본문)
+ */
+public record NewsSearchDocument(Long id, String contentHash, String title, String aiSummary, String plainTextContent) {
+}
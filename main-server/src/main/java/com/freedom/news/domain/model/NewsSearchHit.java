@@ -0,0 +1,7 @@
+package com.freedom.news.domain.model;
+
+/**
+ * 뉴스 검색 결과 (BM25 점수 내림차순, 동점은 newsId 내림차순)
+ */
+public record NewsSearchHit(long newsId, double score) {
+}
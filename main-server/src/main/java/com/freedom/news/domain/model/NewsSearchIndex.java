@@ -0,0 +1,296 @@
+package com.freedom.news.domain.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 뉴스 역색인 (스레드 안전하지 않음 - NewsSearchService 가 읽기/쓰기 락으로 보호)
+ * - 문서마다 증가하는 내부 문서 번호를 부여하고 포스팅은 추가만 함
+ * - 수정/삭제된 문서는 삭제 표시 후 검색에서 제외, 삭제 문서가 많아지면 compact 로 포스팅 재작성
+ * - 점수는 BM25 (제목 3배, AI 요약 2배, 본문 1배 가중 빈도), 문서 빈도는 삭제 표시 문서를 포함한 근사치
+ */
+public class NewsSearchIndex {
+
+    private static final int MAGIC = 0x4E534931; // "NSI1"
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SUMMARY_WEIGHT = 2;
+    private static final int BODY_WEIGHT = 1;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByNewsId = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private long[] newsIds = new long[64];
+    private int[] lengths = new int[64];
+    private String[] contentHashes = new String[64];
+    private int docCount;
+    private int liveCount;
+    private long liveLength;
+
+    /**
+     * 색인용 가중 토큰 빈도 계산 (락 밖에서 호출)
+     */
+    public static Map<String, Integer> analyze(NewsSearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        BigramTokenizer.accumulate(document.title(), TITLE_WEIGHT, frequencies);
+        BigramTokenizer.accumulate(document.aiSummary(), SUMMARY_WEIGHT, frequencies);
+        BigramTokenizer.accumulate(document.plainTextContent(), BODY_WEIGHT, frequencies);
+        return frequencies;
+    }
+
+    /**
+     * 문서 추가 (이미 색인된 뉴스면 기존 문서를 삭제 표시 후 새 번호로 추가)
+     */
+    public void put(long newsId, String contentHash, Map<String, Integer> frequencies) {
+        remove(newsId);
+        int docNo = docCount++;
+        ensureCapacity(docCount);
+
+        int length = 0;
+        for (Map.Entry<String, Integer> e : frequencies.entrySet()) {
+            postings.computeIfAbsent(e.getKey(), t -> new PostingList()).add(docNo, e.getValue());
+            length += e.getValue();
+        }
+        newsIds[docNo] = newsId;
+        lengths[docNo] = length;
+        contentHashes[docNo] = contentHash;
+        live.set(docNo);
+        docByNewsId.put(newsId, docNo);
+        liveCount++;
+        liveLength += length;
+    }
+
+    public boolean remove(long newsId) {
+        Integer docNo = docByNewsId.remove(newsId);
+        if (docNo == null) {
+            return false;
+        }
+        live.clear(docNo);
+        contentHashes[docNo] = null;
+        liveCount--;
+        liveLength -= lengths[docNo];
+        return true;
+    }
+
+    /**
+     * 색인된 뉴스 ID → contentHash (변경 감지용)
+     */
+    public Map<Long, String> contentHashes() {
+        Map<Long, String> result = new HashMap<>(docByNewsId.size() * 2);
+        docByNewsId.forEach((newsId, docNo) -> result.put(newsId, contentHashes[docNo]));
+        return result;
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    /**
+     * BM25 검색 - (score, newsId) 키셋 이후 결과를 limit 건까지 반환
+     * @param cursorScore 이전 페이지 마지막 점수 (첫 페이지면 null)
+     * @param cursorNewsId 이전 페이지 마지막 뉴스 ID (첫 페이지면 null)
+     */
+    public List<NewsSearchHit> search(String query, Double cursorScore, Long cursorNewsId, int limit) {
+        Set<String> terms = new LinkedHashSet<>(BigramTokenizer.tokenize(query));
+        if (terms.isEmpty() || liveCount == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        double[] scores = new double[docCount];
+        double avgLength = (double) liveLength / liveCount;
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            int df = Math.min(list.docFreq(), liveCount);
+            double idf = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+            list.forEach((docNo, tf) -> {
+                if (live.get(docNo)) {
+                    double norm = K1 * (1 - B + B * lengths[docNo] / avgLength);
+                    scores[docNo] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            });
+        }
+
+        // 상위 limit 건만 유지하는 최소 힙 (루트가 가장 뒤 순서)
+        Comparator<NewsSearchHit> order = Comparator.comparingDouble(NewsSearchHit::score).reversed()
+                .thenComparing(Comparator.comparingLong(NewsSearchHit::newsId).reversed());
+        PriorityQueue<NewsSearchHit> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        for (int docNo = 0; docNo < docCount; docNo++) {
+            double score = scores[docNo];
+            if (score <= 0) {
+                continue;
+            }
+            long newsId = newsIds[docNo];
+            if (cursorScore != null && cursorNewsId != null
+                    && (score > cursorScore || (score == cursorScore && newsId >= cursorNewsId))) {
+                continue; // 키셋 이전 결과
+            }
+            heap.offer(new NewsSearchHit(newsId, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<NewsSearchHit> hits = new ArrayList<>(heap);
+        hits.sort(order);
+        return hits;
+    }
+
+    public boolean needsCompaction() {
+        int dead = docCount - liveCount;
+        return dead > 64 && dead > liveCount / 4;
+    }
+
+    /**
+     * 삭제 표시 문서를 제거하고 문서 번호를 0부터 다시 부여
+     */
+    public void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int docNo = 0; docNo < docCount; docNo++) {
+            remap[docNo] = live.get(docNo) ? next++ : -1;
+        }
+
+        Map<String, PostingList> rewritten = new HashMap<>(postings.size() * 2);
+        postings.forEach((term, list) -> {
+            PostingList compacted = new PostingList();
+            list.forEach((docNo, tf) -> {
+                if (remap[docNo] >= 0) {
+                    compacted.add(remap[docNo], tf);
+                }
+            });
+            if (compacted.docFreq() > 0) {
+                rewritten.put(term, compacted);
+            }
+        });
+
+        long[] ids = new long[Math.max(64, next)];
+        int[] lens = new int[ids.length];
+        String[] hashes = new String[ids.length];
+        docByNewsId.clear();
+        live.clear();
+        for (int docNo = 0; docNo < docCount; docNo++) {
+            int to = remap[docNo];
+            if (to >= 0) {
+                ids[to] = newsIds[docNo];
+                lens[to] = lengths[docNo];
+                hashes[to] = contentHashes[docNo];
+                docByNewsId.put(ids[to], to);
+                live.set(to);
+            }
+        }
+        postings.clear();
+        postings.putAll(rewritten);
+        newsIds = ids;
+        lengths = lens;
+        contentHashes = hashes;
+        docCount = next;
+    }
+
+    /**
+     * 직렬화 크기 (삭제 표시 문서가 없는 compact 이후 기준)
+     */
+    public int serializedSize() {
+        int size = Integer.BYTES * 3;
+        for (int docNo = 0; docNo < docCount; docNo++) {
+            size += Long.BYTES + Integer.BYTES + Short.BYTES + utf8Length(contentHashes[docNo]);
+        }
+        for (Map.Entry<String, PostingList> e : postings.entrySet()) {
+            size += Short.BYTES + utf8Length(e.getKey()) + Integer.BYTES * 3 + e.getValue().toByteArray().length;
+        }
+        return size;
+    }
+
+    /**
+     * 파일 형식: MAGIC, 문서 수, [newsId, 길이, hash], 용어 수, [용어, 문서 빈도, 마지막 문서 번호, 포스팅 바이트]
+     */
+    public void writeTo(ByteBuffer out) {
+        if (docCount != liveCount) {
+            throw new IllegalStateException("compact 후에만 저장할 수 있습니다.");
+        }
+        out.putInt(MAGIC);
+        out.putInt(docCount);
+        for (int docNo = 0; docNo < docCount; docNo++) {
+            out.putLong(newsIds[docNo]);
+            out.putInt(lengths[docNo]);
+            putString(out, contentHashes[docNo]);
+        }
+        out.putInt(postings.size());
+        for (Map.Entry<String, PostingList> e : postings.entrySet()) {
+            byte[] bytes = e.getValue().toByteArray();
+            putString(out, e.getKey());
+            out.putInt(e.getValue().docFreq());
+            out.putInt(e.getValue().lastDoc());
+            out.putInt(bytes.length);
+            out.put(bytes);
+        }
+    }
+
+    public static NewsSearchIndex readFrom(ByteBuffer in) {
+        if (in.getInt() != MAGIC) {
+            throw new IllegalStateException("뉴스 검색 색인 파일 형식이 올바르지 않습니다.");
+        }
+        NewsSearchIndex index = new NewsSearchIndex();
+        int docs = in.getInt();
+        index.ensureCapacity(docs);
+        for (int docNo = 0; docNo < docs; docNo++) {
+            long newsId = in.getLong();
+            int length = in.getInt();
+            index.newsIds[docNo] = newsId;
+            index.lengths[docNo] = length;
+            index.contentHashes[docNo] = getString(in);
+            index.docByNewsId.put(newsId, docNo);
+            index.live.set(docNo);
+            index.liveLength += length;
+        }
+        index.docCount = docs;
+        index.liveCount = docs;
+
+        int terms = in.getInt();
+        for (int i = 0; i < terms; i++) {
+            String term = getString(in);
+            int docFreq = in.getInt();
+            int lastDoc = in.getInt();
+            byte[] bytes = new byte[in.getInt()];
+            in.get(bytes);
+            index.postings.put(term, PostingList.of(bytes, docFreq, lastDoc));
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > newsIds.length) {
+            int grown = Math.max(capacity, newsIds.length * 2);
+            newsIds = Arrays.copyOf(newsIds, grown);
+            lengths = Arrays.copyOf(lengths, grown);
+            contentHashes = Arrays.copyOf(contentHashes, grown);
+        }
+    }
+
+    private static int utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        short length = in.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
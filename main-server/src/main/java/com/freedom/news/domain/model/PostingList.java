@@ -0,0 +1,89 @@
+package com.freedom.news.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * 압축 포스팅 리스트 (스레드 안전하지 않음)
+ * - (문서 번호 차이, 빈도) 쌍을 varint 로 이어 붙여 저장, 문서 번호는 증가 순서로만 추가
+ */
+public class PostingList {
+
+    private byte[] bytes;
+    private int length;
+    private int lastDoc = -1;
+    private int docFreq;
+
+    public PostingList() {
+        this.bytes = new byte[8];
+    }
+
+    private PostingList(byte[] bytes, int docFreq, int lastDoc) {
+        this.bytes = bytes;
+        this.length = bytes.length;
+        this.docFreq = docFreq;
+        this.lastDoc = lastDoc;
+    }
+
+    public static PostingList of(byte[] bytes, int docFreq, int lastDoc) {
+        return new PostingList(bytes, docFreq, lastDoc);
+    }
+
+    public void add(int docNo, int termFrequency) {
+        if (docNo <= lastDoc) {
+            throw new IllegalArgumentException("문서 번호는 증가 순서로만 추가할 수 있습니다. docNo: " + docNo);
+        }
+        writeVarInt(docNo - lastDoc);
+        writeVarInt(termFrequency);
+        lastDoc = docNo;
+        docFreq++;
+    }
+
+    public void forEach(PostingConsumer consumer) {
+        int pos = 0;
+        int doc = -1;
+        while (pos < length) {
+            int delta = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[pos++];
+                delta |= (b & 0x7F) << shift;
+                if (b >= 0) break;
+            }
+            int tf = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[pos++];
+                tf |= (b & 0x7F) << shift;
+                if (b >= 0) break;
+            }
+            doc += delta;
+            consumer.accept(doc, tf);
+        }
+    }
+
+    public int docFreq() {
+        return docFreq;
+    }
+
+    public int lastDoc() {
+        return lastDoc;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    private void writeVarInt(int value) {
+        if (bytes.length - length < 5) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    @FunctionalInterface
+    public interface PostingConsumer {
+        void accept(int docNo, int termFrequency);
+    }
+}
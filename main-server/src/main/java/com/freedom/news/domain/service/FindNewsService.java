@@ -1,67 +1,59 @@
 package com.freedom.news.domain.service;
 
-import com.freedom.common.exception.custom.NewsNotFoundException;
 import com.freedom.news.application.dto.NewsDetailDto;
 import com.freedom.news.application.dto.NewsDto;
-import com.freedom.news.domain.entity.NewsArticle;
+import com.freedom.news.domain.model.NewsListItem;
 import com.freedom.news.infra.repository.NewsArticleRepository;
-import com.freedom.news.infra.repository.NewsHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class FindNewsService {
     
     private final NewsArticleRepository newsArticleRepository;
-    private final NewsHistoryRepository newsHistoryRepository;
+    private final NewsFeedCache newsFeedCache;
+    private final NewsDetailCache newsDetailCache;
 
-    @Transactional(readOnly = true)
+    /**
+     * 이번 주(없으면 전주) 뉴스 목록 - 주간 피드 캐시에서 페이지 슬라이스
+     */
     public Page<NewsDto> findRecentNews(Pageable pageable) {
-        LocalDate today = LocalDate.now();
-        
-        // 이번 주 월요일 ~ 일요일 범위 계산
-        LocalDate thisWeekMonday = today.with(java.time.DayOfWeek.MONDAY);
-        LocalDate thisWeekSunday = thisWeekMonday.plusDays(6);
-        LocalDateTime thisWeekStart = thisWeekMonday.atStartOfDay();
-        LocalDateTime thisWeekEnd = thisWeekSunday.plusDays(1).atStartOfDay();
-
-        Page<NewsArticle> newsArticles = newsArticleRepository.findRecentNewsByApproveDateBetween(
-            thisWeekStart, thisWeekEnd, pageable
-        );
-        
-        // 이번 주에 뉴스가 없으면 전주 뉴스로 fallback
-        if (newsArticles.isEmpty()) {
-            LocalDate lastWeekMonday = thisWeekMonday.minusWeeks(1);
-            LocalDate lastWeekSunday = lastWeekMonday.plusDays(6);
-            LocalDateTime lastWeekStart = lastWeekMonday.atStartOfDay();
-            LocalDateTime lastWeekEnd = lastWeekSunday.plusDays(1).atStartOfDay();
-            
-            newsArticles = newsArticleRepository.findRecentNewsByApproveDateBetween(
-                lastWeekStart, lastWeekEnd, pageable
-            );
-        }
-        
-        return newsArticles.map(NewsDto::from);
+        return newsFeedCache.findPage(pageable).map(NewsDto::from);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 뉴스 상세 - 상세 캐시 조회 (미스 시 본문 블록 fetch join 한 번으로 적재)
+     */
     public NewsDetailDto findNewsById(Long newsId) {
-        NewsArticle newsArticle = newsArticleRepository.findById(newsId).orElseThrow(() -> new NewsNotFoundException("존재하지 않는 뉴스 입니다." + newsId));
-        return NewsDetailDto.from(newsArticle, newsArticle.getContentBlocks());
+        return newsDetailCache.get(newsId);
     }
 
-    public int findNewsHistoryCountByUserId(Long userId) {
-        LocalDate today = LocalDate.now();
-        LocalDate thisWeekMonday = today.with(java.time.DayOfWeek.MONDAY);
-        LocalDateTime start = thisWeekMonday.atStartOfDay();
-        LocalDateTime end = LocalDateTime.now();
-        return newsHistoryRepository.countByUserIdAndReadAtBetween(userId, start, end);
+    public boolean existsById(Long newsId) {
+        return newsArticleRepository.existsById(newsId);
+    }
+
+    /**
+     * ID 목록 순서대로 뉴스 목록 조회 (삭제된 뉴스는 제외)
+     */
+    public List<NewsDto> findNewsByIds(List<Long> newsIds) {
+        if (newsIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, NewsListItem> byId = newsArticleRepository.findListItemsByIdIn(newsIds).stream()
+                .collect(Collectors.toMap(NewsListItem::id, Function.identity()));
+        return newsIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(NewsDto::from)
+                .toList();
     }
 }
@@ -0,0 +1,147 @@
+package com.freedom.news.domain.service;
+
+import com.freedom.common.exception.custom.NewsNotFoundException;
+import com.freedom.news.application.dto.NewsContentBlockDto;
+import com.freedom.news.application.dto.NewsDetailDto;
+import com.freedom.news.domain.entity.NewsArticle;
+import com.freedom.news.domain.model.NewsRevision;
+import com.freedom.news.infra.repository.NewsArticleRepository;
+import com.freedom.news.infra.repository.NewsFeedVersionRepository;
+import com.freedom.term.domain.service.TermDictionary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 뉴스 상세 캐시 (메모리, LRU)
+ * - 뉴스 ID 별로 완성된 NewsDetailDto 와 적재 시점 리비전(modifyId, contentHash)을 보관
+ * - 미스 시 본문 블록까지 한 번의 fetch join 쿼리로 적재
+ * - news_feed_version 이 바뀌면 캐시된 ID 의 리비전을 한 번에 조회해 달라졌거나 삭제된 뉴스만 제거
+ * - 텍스트 블록의 금융 용어 위치는 적재 시 한 번 계산해 함께 보관하고, 용어 사전이 바뀌면 조회 시 다시 계산
+ */
+@Slf4j
+@Service
+public class NewsDetailCache {
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final NewsFeedVersionRepository newsFeedVersionRepository;
+    private final TermDictionary termDictionary;
+    private final Map<Long, Entry> entries;
+
+    private volatile long checkedVersion = -1;
+
+    public NewsDetailCache(NewsArticleRepository newsArticleRepository,
+                           NewsFeedVersionRepository newsFeedVersionRepository,
+                           TermDictionary termDictionary,
+                           @Value("${news.detail-cache.max-size:1000}") int maxSize) {
+        this.newsArticleRepository = newsArticleRepository;
+        this.newsFeedVersionRepository = newsFeedVersionRepository;
+        this.termDictionary = termDictionary;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public NewsDetailDto get(Long newsId) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(newsId); // 접근 순서 갱신
+        }
+        if (entry != null && entry.termVersion() == termDictionary.version()) {
+            return entry.detail();
+        }
+
+        Entry loaded = entry != null ? reannotate(entry) : load(newsId);
+        synchronized (entries) {
+            // 재계산 중 버전 검증으로 제거된 항목은 되살리지 않음
+            if (entry == null || entries.get(newsId) == entry) {
+                entries.put(newsId, loaded);
+            }
+        }
+        return loaded.detail();
+    }
+
+    /**
+     * 버전 변경 시 리비전이 달라진 상세만 제거 (admin-server 뉴스 수정/삭제 반영)
+     */
+    @Scheduled(fixedDelayString = "${news.feed.refresh-delay-ms:30000}")
+    public void evictStaleIfChanged() {
+        try {
+            // 버전을 먼저 읽어 확인 중 수정된 뉴스는 다음 확인 때 다시 검사되도록 함
+            long version = newsFeedVersionRepository.findCurrentVersion();
+            if (version == checkedVersion) {
+                return;
+            }
+            Map<Long, NewsRevision> cached;
+            synchronized (entries) {
+                cached = entries.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().revision()));
+            }
+            if (!cached.isEmpty()) {
+                Map<Long, NewsRevision> current = newsArticleRepository.findRevisionsByIdIn(cached.keySet()).stream()
+                        .collect(Collectors.toMap(NewsRevision::id, Function.identity()));
+                List<Long> stale = cached.entrySet().stream()
+                        .filter(e -> !e.getValue().sameAs(current.get(e.getKey())))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                evict(stale, cached);
+            }
+            checkedVersion = version;
+        } catch (Exception e) {
+            log.error("뉴스 상세 캐시 검증 실패", e);
+        }
+    }
+
+    private void evict(List<Long> stale, Map<Long, NewsRevision> checked) {
+        if (stale.isEmpty()) {
+            return;
+        }
+        synchronized (entries) {
+            for (Long id : stale) {
+                // 검사 이후 새로 적재된 항목은 유지
+                Entry entry = entries.get(id);
+                if (entry != null && entry.revision() == checked.get(id)) {
+                    entries.remove(id);
+                }
+            }
+        }
+        log.info("뉴스 상세 캐시 무효화 - {}건", stale.size());
+    }
+
+    private Entry load(Long newsId) {
+        List<Object[]> rows = newsArticleRepository.findDetailRowsById(newsId);
+        if (rows.isEmpty()) {
+            throw new NewsNotFoundException("존재하지 않는 뉴스 입니다." + newsId);
+        }
+        NewsArticle article = (NewsArticle) rows.get(0)[0];
+        String plainTextContent = (String) rows.get(0)[1];
+        NewsDetailDto detail = NewsDetailDto.from(article, plainTextContent, article.getContentBlocks());
+        long termVersion = termDictionary.version();
+        return new Entry(new NewsRevision(article.getId(), article.getModifyId(), article.getContentHash()),
+                annotate(detail), termVersion);
+    }
+
+    private Entry reannotate(Entry entry) {
+        long termVersion = termDictionary.version();
+        return new Entry(entry.revision(), annotate(entry.detail()), termVersion);
+    }
+
+    private NewsDetailDto annotate(NewsDetailDto detail) {
+        List<NewsContentBlockDto> blocks = detail.getContentBlocks().stream()
+                .map(block -> block.isText()
+                        ? block.toBuilder().termSpans(termDictionary.annotate(block.getPlainContent())).build()
+                        : block)
+                .toList();
+        return detail.toBuilder().contentBlocks(blocks).build();
+    }
+
+    private record Entry(NewsRevision revision, NewsDetailDto detail, long termVersion) {}
+}
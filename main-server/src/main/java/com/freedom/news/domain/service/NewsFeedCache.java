@@ -0,0 +1,95 @@
+package com.freedom.news.domain.service;
+
+import com.freedom.common.time.TimeProvider;
+import com.freedom.news.domain.model.NewsListItem;
+import com.freedom.news.infra.repository.NewsArticleRepository;
+import com.freedom.news.infra.repository.NewsFeedVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주간 뉴스 피드 캐시 (메모리)
+ * - 이번 주(없으면 전주) 뉴스 카드를 승인일 내림차순 배열로 보관하고 페이지는 배열에서 잘라 응답
+ * - news_feed_version 을 주기적으로 확인해 admin-server 가 뉴스를 수집/삭제하면 다시 적재, 주가 바뀌면 첫 조회 시 적재
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsFeedCache {
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final NewsFeedVersionRepository newsFeedVersionRepository;
+    private final TimeProvider timeProvider;
+
+    private volatile Snapshot snapshot;
+
+    public Page<NewsListItem> findPage(Pageable pageable) {
+        List<NewsListItem> cards = current().cards();
+        int from = (int) Math.min(pageable.getOffset(), cards.size());
+        int to = Math.min(from + pageable.getPageSize(), cards.size());
+        return new PageImpl<>(cards.subList(from, to), pageable, cards.size());
+    }
+
+    /**
+     * 버전 변경 시 피드 재적재 (admin-server 뉴스 수집 반영)
+     */
+    @Scheduled(fixedDelayString = "${news.feed.refresh-delay-ms:30000}")
+    public void refreshIfChanged() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return; // 첫 조회 시 적재
+        }
+        try {
+            if (current.version() != newsFeedVersionRepository.findCurrentVersion()) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.error("뉴스 피드 캐시 갱신 확인 실패", e);
+        }
+    }
+
+    public synchronized void reload() {
+        // 버전을 먼저 읽어 적재 중 수집된 뉴스는 다음 확인 때 다시 적재되도록 함
+        long version = newsFeedVersionRepository.findCurrentVersion();
+        LocalDate thisWeekMonday = timeProvider.today().with(DayOfWeek.MONDAY);
+
+        List<NewsListItem> cards = findWeek(thisWeekMonday);
+        if (cards.isEmpty()) {
+            cards = findWeek(thisWeekMonday.minusWeeks(1)); // 이번 주에 뉴스가 없으면 전주 뉴스로 fallback
+        }
+
+        snapshot = new Snapshot(version, thisWeekMonday, List.copyOf(cards));
+        log.info("뉴스 피드 적재 완료 - 주차: {}, 버전: {}, 뉴스: {}개", thisWeekMonday, version, cards.size());
+    }
+
+    private List<NewsListItem> findWeek(LocalDate monday) {
+        LocalDateTime start = monday.atStartOfDay();
+        return newsArticleRepository.findFeedItemsByApproveDateBetween(start, start.plusWeeks(1));
+    }
+
+    private Snapshot current() {
+        LocalDate thisWeekMonday = timeProvider.today().with(DayOfWeek.MONDAY);
+        Snapshot current = snapshot;
+        if (current == null || !current.weekMonday().equals(thisWeekMonday)) {
+            synchronized (this) {
+                if (snapshot == null || !snapshot.weekMonday().equals(thisWeekMonday)) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(long version, LocalDate weekMonday, List<NewsListItem> cards) {}
+}
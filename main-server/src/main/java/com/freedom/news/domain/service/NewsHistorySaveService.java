@@ -1,7 +1,7 @@
 package com.freedom.news.domain.service;
 
-import com.freedom.news.domain.entity.NewsReadHistory;
-import com.freedom.news.infra.repository.NewsHistoryRepository;
+import com.freedom.common.time.TimeProvider;
+import com.freedom.news.domain.model.NewsReadResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,17 +11,14 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class NewsHistorySaveService {
 
-    private final NewsHistoryRepository newsHistoryRepository;
+    private final NewsReadBuffer newsReadBuffer;
+    private final TimeProvider timeProvider;
 
-    public void saveNewsHistory(Long userId, Long newsId) {
-        NewsReadHistory history = newsHistoryRepository.findByUserIdAndNewsArticleId(userId, newsId);
-        if(history == null) {
-            NewsReadHistory newHistory = NewsReadHistory.builder()
-                    .userId(userId)
-                    .newsArticleId(newsId)
-                    .readAt(LocalDateTime.now())
-                    .build();
-            newsHistoryRepository.save(newHistory);
-        }
+    /**
+     * 뉴스 읽음 기록 - 쓰기 버퍼에만 기록하고 DB 반영과 NewsReadEvent 발행은 NewsReadFlushScheduler 가 처리
+     */
+    public NewsReadResult saveNewsHistory(Long userId, Long newsId) {
+        LocalDateTime readAt = timeProvider.now().toLocalDateTime();
+        return newsReadBuffer.record(userId, newsId, readAt);
     }
 }
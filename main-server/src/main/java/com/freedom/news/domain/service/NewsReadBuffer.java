@@ -0,0 +1,90 @@
+package com.freedom.news.domain.service;
+
+import com.freedom.news.domain.model.NewsRead;
+import com.freedom.news.domain.model.NewsReadResult;
+import com.freedom.news.infra.repository.NewsHistoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 뉴스 읽음 기록 write-behind 버퍼 (메모리)
+ * - (userId, newsId) 중복을 메모리에서 걸러내고 신규 읽음만 반영 대기열에 쌓음 (flush 는 NewsReadFlushScheduler)
+ * - 사용자별 읽은 뉴스 ID 를 보관해 업적 조건(누적 읽음 수) 확인에 COUNT 쿼리가 필요 없음
+ * - 사용자 상태는 첫 접근 시 news_read_history 로 적재, 최대 인원 초과 시 가장 오래 쓰지 않은 사용자부터 제거
+ * - 반영 대기 기록은 flush 성공 후에만 제거하므로 재적재 시 DB + 대기열 합집합으로 복원됨
+ */
+@Service
+public class NewsReadBuffer {
+
+    private final NewsHistoryRepository newsHistoryRepository;
+    private final Map<Long, Set<Long>> users;
+    private final Map<ReadKey, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public NewsReadBuffer(NewsHistoryRepository newsHistoryRepository,
+                          @Value("${news.read-buffer.max-users:10000}") int maxUsers) {
+        this.newsHistoryRepository = newsHistoryRepository;
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Set<Long>> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 읽음 기록 - 처음 읽은 뉴스만 반영 대기열에 추가
+     */
+    public NewsReadResult record(Long userId, Long newsId, LocalDateTime readAt) {
+        Set<Long> newsIds = load(userId);
+        synchronized (newsIds) {
+            boolean firstRead = newsIds.add(newsId);
+            if (firstRead) {
+                pending.put(new ReadKey(userId, newsId), readAt);
+            }
+            return new NewsReadResult(firstRead, newsIds.size());
+        }
+    }
+
+    /**
+     * 반영 대기 기록 스냅샷 (flush 성공 후 acknowledge 로 제거)
+     */
+    public List<NewsRead> pendingReads() {
+        List<NewsRead> reads = new ArrayList<>(pending.size());
+        pending.forEach((key, readAt) -> reads.add(new NewsRead(key.userId(), key.newsId(), readAt)));
+        return reads;
+    }
+
+    public void acknowledge(List<NewsRead> flushed) {
+        for (NewsRead read : flushed) {
+            pending.remove(new ReadKey(read.userId(), read.newsArticleId()), read.readAt());
+        }
+    }
+
+    private Set<Long> load(Long userId) {
+        synchronized (users) {
+            Set<Long> cached = users.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // 사용자 첫 접근 - DB 기록과 아직 반영되지 않은 대기 기록을 합쳐 복원
+        Set<Long> newsIds = new HashSet<>(newsHistoryRepository.findNewsArticleIdsByUserId(userId));
+        for (ReadKey key : pending.keySet()) {
+            if (key.userId().equals(userId)) {
+                newsIds.add(key.newsId());
+            }
+        }
+
+        synchronized (users) {
+            // 동시에 적재된 경우 먼저 들어간 상태를 사용
+            return users.computeIfAbsent(userId, id -> newsIds);
+        }
+    }
+
+    private record ReadKey(Long userId, Long newsId) {}
+}
@@ -0,0 +1,164 @@
+package com.freedom.news.domain.service;
+
+import com.freedom.news.domain.model.NewsRevision;
+import com.freedom.news.domain.model.NewsSearchDocument;
+import com.freedom.news.domain.model.NewsSearchHit;
+import com.freedom.news.domain.model.NewsSearchIndex;
+import com.freedom.news.infra.NewsSearchIndexFile;
+import com.freedom.news.infra.repository.NewsArticleRepository;
+import com.freedom.news.infra.repository.NewsFeedVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 뉴스 전문 검색 (메모리 역색인 + 메모리 매핑 파일)
+ * - 기동 시 색인 파일을 읽고 news_article 의 (id, contentHash) 와 비교해 달라진 뉴스만 다시 색인
+ * - news_feed_version 이 바뀌면 같은 방식으로 증분 색인 후 파일 저장 (본문 토큰화는 락 밖에서 수행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsSearchService {
+
+    private static final int LOAD_CHUNK_SIZE = 200;
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final NewsFeedVersionRepository newsFeedVersionRepository;
+    private final NewsSearchIndexFile indexFile;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private NewsSearchIndex index = new NewsSearchIndex();
+    private volatile long syncedVersion = -1;
+
+    public List<NewsSearchHit> search(String query, Double cursorScore, Long cursorNewsId, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, cursorScore, cursorNewsId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            NewsSearchIndex loaded = indexFile.load();
+            if (loaded != null) {
+                swap(loaded);
+                log.info("뉴스 검색 색인 파일 적재 완료 - 뉴스: {}건", loaded.size());
+            }
+        } catch (Exception e) {
+            log.warn("뉴스 검색 색인 파일 적재 실패 - DB 에서 다시 색인합니다.", e);
+        }
+        syncIfChanged();
+    }
+
+    /**
+     * 버전 변경 시 증분 색인 (admin-server 뉴스 수집/수정/삭제 반영)
+     */
+    @Scheduled(fixedDelayString = "${news.feed.refresh-delay-ms:30000}",
+               initialDelayString = "${news.feed.refresh-delay-ms:30000}")
+    public synchronized void syncIfChanged() {
+        try {
+            // 버전을 먼저 읽어 색인 중 수집된 뉴스는 다음 확인 때 반영되도록 함
+            long version = newsFeedVersionRepository.findCurrentVersion();
+            if (version == syncedVersion) {
+                return;
+            }
+            if (sync() > 0) {
+                save();
+            }
+            syncedVersion = version;
+        } catch (Exception e) {
+            log.error("뉴스 검색 색인 갱신 실패", e);
+        }
+    }
+
+    /**
+     * @return 추가/갱신/삭제된 뉴스 수
+     */
+    int sync() {
+        Map<Long, String> indexed;
+        lock.readLock().lock();
+        try {
+            indexed = index.contentHashes();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> changedIds = new ArrayList<>();
+        Set<Long> removedIds = new HashSet<>(indexed.keySet());
+        for (NewsRevision revision : newsArticleRepository.findAllRevisions()) {
+            removedIds.remove(revision.id());
+            if (!indexed.containsKey(revision.id()) || !Objects.equals(indexed.get(revision.id()), revision.contentHash())) {
+                changedIds.add(revision.id());
+            }
+        }
+
+        for (int from = 0; from < changedIds.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = changedIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, changedIds.size()));
+            List<NewsSearchDocument> documents = newsArticleRepository.findSearchDocumentsByIdIn(chunk);
+            List<Map<String, Integer>> analyzed = documents.stream().map(NewsSearchIndex::analyze).toList();
+
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < documents.size(); i++) {
+                    NewsSearchDocument document = documents.get(i);
+                    index.put(document.id(), document.contentHash(), analyzed.get(i));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removedIds.forEach(index::remove);
+            if (index.needsCompaction()) {
+                index.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int changed = changedIds.size() + removedIds.size();
+        if (changed > 0) {
+            log.info("뉴스 검색 색인 갱신 완료 - 색인: {}건, 삭제: {}건, 전체: {}건", changedIds.size(), removedIds.size(), index.size());
+        }
+        return changed;
+    }
+
+    private void save() {
+        lock.writeLock().lock();
+        try {
+            index.compact(); // 파일에는 삭제 표시 문서 없이 저장
+        } finally {
+            lock.writeLock().unlock();
+        }
+        lock.readLock().lock();
+        try {
+            indexFile.save(index);
+        } catch (Exception e) {
+            log.warn("뉴스 검색 색인 파일 저장 실패 - 다음 변경 시 다시 저장합니다.", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void swap(NewsSearchIndex loaded) {
+        lock.writeLock().lock();
+        try {
+            index = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.freedom.news.infra;
+
+import com.freedom.news.domain.model.NewsRead;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * news_read_history INSERT IGNORE (uk_news_read_user_article 중복은 무시)
+ * - 행 단위로 실행해 영향 행 수로 신규 INSERT 여부를 판별 (rewriteBatchedStatements 로 재작성된 batch 는 행별 결과를 알 수 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsReadHistoryWriter {
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO news_read_history (user_id, news_article_id, read_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 신규 INSERT 여부 (다른 인스턴스나 이전 flush 가 이미 반영했으면 false)
+     */
+    public boolean insertIgnore(NewsRead read) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(INSERT_IGNORE_SQL,
+                read.userId(), read.newsArticleId(), Timestamp.valueOf(read.readAt()), now, now) > 0;
+    }
+}
@@ -0,0 +1,59 @@
+package com.freedom.news.infra;
+
+import com.freedom.news.domain.model.NewsSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 뉴스 검색 색인 파일 (메모리 매핑)
+ * - 임시 파일에 매핑해 기록한 뒤 원자적으로 교체하므로 기록 중 종료되어도 이전 색인이 유지됨
+ */
+@Component
+public class NewsSearchIndexFile {
+
+    private final Path path;
+
+    public NewsSearchIndexFile(@Value("${news.search.index-path:data/news-search.idx}") String path) {
+        this.path = Path.of(path);
+    }
+
+    /**
+     * @return 저장된 색인, 파일이 없으면 null
+     */
+    public NewsSearchIndex load() throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return NewsSearchIndex.readFrom(buffer);
+        }
+    }
+
+    /**
+     * compact 된 색인 저장
+     */
+    public void save(NewsSearchIndex index) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.deleteIfExists(temp);
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, index.serializedSize());
+            index.writeTo(buffer);
+            buffer.force();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -1,21 +1,50 @@
 package com.freedom.news.infra.repository;
 
 import com.freedom.news.domain.entity.NewsArticle;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.freedom.news.domain.model.NewsListItem;
+import com.freedom.news.domain.model.NewsRevision;
+import com.freedom.news.domain.model.NewsSearchDocument;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long> {
-    @Query("SELECT na FROM NewsArticle na WHERE na.approveDate >= :startDate AND na.approveDate < :endDate ORDER BY na.approveDate DESC")
-    Page<NewsArticle> findRecentNewsByApproveDateBetween(
+    @Query("SELECT new com.freedom.news.domain.model.NewsListItem(" +
+           "na.id, na.newsItemId, na.title, na.subTitle1, na.subTitle2, na.subTitle3, " +
+           "na.approveDate, na.modifyDate, na.originalImgUrl, na.thumbnailUrl, na.aiSummary, na.ministerCode, " +
+           "SUBSTRING(na.plainTextContent, 1, " + NewsListItem.EXCERPT_LENGTH + ")) " +
+           "FROM NewsArticle na WHERE na.approveDate >= :startDate AND na.approveDate < :endDate ORDER BY na.approveDate DESC")
+    List<NewsListItem> findFeedItemsByApproveDateBetween(
         @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate,
-        Pageable pageable
+        @Param("endDate") LocalDateTime endDate
     );
+
+    // 상세 캐시 적재용 - 본문 블록 fetch join, 지연 로딩 본문은 같은 SELECT 의 스칼라로 조회 (행: [NewsArticle, plainTextContent])
+    @Query("SELECT na, na.plainTextContent FROM NewsArticle na LEFT JOIN FETCH na.contentBlocks WHERE na.id = :newsId")
+    List<Object[]> findDetailRowsById(@Param("newsId") Long newsId);
+
+    @Query("SELECT new com.freedom.news.domain.model.NewsRevision(na.id, na.modifyId, na.contentHash) " +
+           "FROM NewsArticle na WHERE na.id IN :ids")
+    List<NewsRevision> findRevisionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.freedom.news.domain.model.NewsRevision(na.id, na.modifyId, na.contentHash) FROM NewsArticle na")
+    List<NewsRevision> findAllRevisions();
+
+    @Query("SELECT new com.freedom.news.domain.model.NewsSearchDocument(" +
+           "na.id, na.contentHash, na.title, na.aiSummary, na.plainTextContent) " +
+           "FROM NewsArticle na WHERE na.id IN :ids")
+    List<NewsSearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.freedom.news.domain.model.NewsListItem(" +
+           "na.id, na.newsItemId, na.title, na.subTitle1, na.subTitle2, na.subTitle3, " +
+           "na.approveDate, na.modifyDate, na.originalImgUrl, na.thumbnailUrl, na.aiSummary, na.ministerCode, " +
+           "SUBSTRING(na.plainTextContent, 1, " + NewsListItem.EXCERPT_LENGTH + ")) " +
+           "FROM NewsArticle na WHERE na.id IN :ids")
+    List<NewsListItem> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
 }
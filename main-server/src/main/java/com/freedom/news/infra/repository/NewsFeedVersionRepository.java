@@ -0,0 +1,14 @@
+package com.freedom.news.infra.repository;
+
+import com.freedom.news.domain.entity.NewsFeedVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NewsFeedVersionRepository extends JpaRepository<NewsFeedVersion, Long> {
+
+    // 행이 아직 없으면 0
+    @Query("SELECT COALESCE(MAX(v.version), 0) FROM NewsFeedVersion v")
+    long findCurrentVersion();
+}
@@ -2,15 +2,14 @@ package com.freedom.news.infra.repository;
 
 import com.freedom.news.domain.entity.NewsReadHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface NewsHistoryRepository extends JpaRepository<NewsReadHistory, Long> {
-    NewsReadHistory findByUserIdAndNewsArticleId(Long userId, Long newsArticleId);
-
-    int countByUserIdAndReadAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
-    
-    int countByUserId(Long userId);
+    @Query("SELECT h.newsArticleId FROM NewsReadHistory h WHERE h.userId = :userId")
+    List<Long> findNewsArticleIdsByUserId(@Param("userId") Long userId);
 }
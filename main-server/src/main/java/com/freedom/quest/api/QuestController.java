@@ -22,7 +22,7 @@ public class QuestController {
     @Loggable("퀘스트 메인 조회")
     @GetMapping("/current")
     public ResponseEntity<List<QuestSummaryResponse>> getCurrentWeekQuests(@AuthenticationPrincipal CustomUserPrincipal principal) {
-        List<QuestSummaryResponse> response = questFacade.fetchAndUpdateCurrentWeek(principal.getId());
+        List<QuestSummaryResponse> response = questFacade.fetchCurrentWeek(principal.getId());
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,61 @@
+package com.freedom.quest.application;
+
+import com.freedom.attendance.domain.event.AttendanceMarkedEvent;
+import com.freedom.news.domain.event.NewsReadEvent;
+import com.freedom.quest.domain.entity.TargetType;
+import com.freedom.quest.domain.service.QuestProgressService;
+import com.freedom.quiz.domain.event.QuizFirstCorrectEvent;
+import com.freedom.scrap.domain.entity.ScrapHistory;
+import com.freedom.scrap.domain.event.ScrapAddedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+/**
+ * 출석/뉴스 열람/퀴즈 정답/스크랩 이벤트를 퀘스트 진행도로 반영
+ * - 발행 측 커밋 이후에만 반영 (롤백된 활동은 집계되지 않음), 트랜잭션 밖 발행은 즉시 반영
+ * - 반영 실패가 원래 요청을 실패시키지 않도록 예외는 로그로만 남긴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestProgressEventListener {
+
+    private final QuestProgressService questProgressService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceMarked(AttendanceMarkedEvent event) {
+        try {
+            questProgressService.recordAttendance(event.userId(), event.checkDate());
+        } catch (Exception e) {
+            log.warn("퀘스트 진행도 반영 실패 - userId: {}, targetType: {}", event.userId(), TargetType.ATTENDANCE, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsRead(NewsReadEvent event) {
+        increase(event.userId(), TargetType.NEWS, event.readAt().toLocalDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizFirstCorrect(QuizFirstCorrectEvent event) {
+        increase(event.userId(), TargetType.QUIZ_CORRECT_ONLY, event.answeredAt().toLocalDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScrapAdded(ScrapAddedEvent event) {
+        TargetType targetType = event.type() == ScrapHistory.ScrapType.NEWS ? TargetType.SCRAP_NEWS : TargetType.SCRAP_QUIZ;
+        increase(event.userId(), targetType, event.scrapAt().toLocalDate());
+    }
+
+    private void increase(Long userId, TargetType targetType, LocalDate eventDate) {
+        try {
+            questProgressService.increase(userId, targetType, eventDate);
+        } catch (Exception e) {
+            log.warn("퀘스트 진행도 반영 실패 - userId: {}, targetType: {}", userId, targetType, e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.freedom.quest.application;
+
+import com.freedom.common.notification.DiscordWebhookClient;
+import com.freedom.quest.domain.service.ProvisionWeeklyQuestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * 다음 주 퀘스트 사전 배정 배치 (ISO 주 경계 직전 실행)
+ * - 활성 사용자를 user_id 키셋 청크로 읽어 청크별 트랜잭션으로 batch INSERT IGNORE
+ * - 배치에서 빠진 사용자(신규 가입 등)는 QuestFacade 의 첫 조회 시 생성 경로로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeeklyQuestProvisionScheduler {
+
+    private final ProvisionWeeklyQuestService provisionWeeklyQuestService;
+    private final DiscordWebhookClient discordWebhookClient;
+
+    @Value("${quest.provision.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${quest.provision.cron:0 40 23 * * SUN}")
+    public void provisionNextWeekQuests() {
+        LocalDate nextMonday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        try {
+            provision(nextMonday);
+        } catch (Exception e) {
+            log.error("주간 퀘스트 배정 중 오류 발생", e);
+            String stackTrace = getStackTraceAsString(e);
+
+            discordWebhookClient.sendErrorMessage(
+                    "🚨 주간 퀘스트 배정 스케줄러 오류",
+                    "**오류 메시지:** " + e.getMessage() +
+                            "\n\n**스택 트레이스:**\n```" +
+                            (stackTrace.length() > 1500 ? stackTrace.substring(0, 1500) + "..." : stackTrace) +
+                            "```"
+            );
+        }
+    }
+
+    private void provision(LocalDate weekStart) {
+        long afterUserId = 0L;
+        int chunks = 0;
+        int failedChunks = 0;
+        long rows = 0;
+        long startedAt = System.currentTimeMillis();
+        while (true) {
+            List<Long> userIds = provisionWeeklyQuestService.findActiveUserIds(afterUserId, chunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            afterUserId = userIds.get(userIds.size() - 1);
+            chunks++;
+            try {
+                rows += provisionWeeklyQuestService.provision(userIds, weekStart);
+            } catch (Exception e) {
+                failedChunks++;
+                log.error("주간 퀘스트 배정 청크 실패 - 마지막 userId: {}", afterUserId, e);
+            }
+        }
+
+        log.info("주간 퀘스트 배정 완료 - 주 시작일: {}, 시도 행: {}, 청크: {}개(실패 {}개), 소요: {}ms",
+                weekStart, rows, chunks, failedChunks, System.currentTimeMillis() - startedAt);
+        if (failedChunks > 0) {
+            discordWebhookClient.sendErrorMessage(
+                    "⚠️ 주간 퀘스트 배정 일부 실패",
+                    "**주 시작일:** " + weekStart + "\n**실패 청크:** " + failedChunks + "/" + chunks +
+                            "\n실패한 사용자는 퀘스트 첫 조회 시 생성됩니다."
+            );
+        }
+    }
+
+    private String getStackTraceAsString(Exception e) {
+        StringWriter sw = new StringWriter();
+        PrintWriter pw = new PrintWriter(sw);
+        e.printStackTrace(pw);
+        return sw.toString();
+    }
+}
@@ -78,4 +78,43 @@ public class UserQuest extends BaseEntity {
     public void updateProgressCount(int checkCount,int count) {
         this.progressCount = Math.min(checkCount, count);
     }
+
+    /**
+     * 누적형 진행도 1 증가 (요구치 도달 시 완료) - 이미 완료면 변경하지 않는다
+     */
+    public void increaseProgress(int requirementCount) {
+        if (completed) return;
+        this.progressCount = Math.min(requirementCount, progressCount + 1);
+        if (progressCount >= requirementCount) {
+            completeQuest();
+        }
+    }
+
+    /**
+     * 누적형 진행도를 주간 카운터 값으로 맞춤 (감소시키지 않음)
+     */
+    public void applyCount(int count, int requirementCount) {
+        if (completed || count <= progressCount) return;
+        this.progressCount = Math.min(requirementCount, count);
+        if (progressCount >= requirementCount) {
+            completeQuest();
+        }
+    }
+
+    /**
+     * 연속형 진행도 반영 - 값이 같으면 필드를 건드리지 않아 UPDATE 가 발생하지 않는다
+     */
+    public void applyStreak(int streak, int requirementCount) {
+        if (completed) return;
+        int progress = Math.min(requirementCount, Math.max(0, streak));
+        if (streak != currentStreak) {
+            updateCurrentStreak(streak);
+        }
+        if (progress != progressCount) {
+            this.progressCount = progress;
+        }
+        if (progressCount >= requirementCount || currentStreak == requirementCount) {
+            completeQuest();
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package com.freedom.quest.domain.entity;
+
+import com.freedom.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 주간 퀘스트 대상 카운터
+ * - 도메인 이벤트마다 UPSERT 로 증가 (ATTENDANCE 는 주 내 연속 출석 일수)
+ * - 주 중간에 user_quests 가 생성될 때 진행도 초기값으로 사용
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "user_quest_weekly_counters",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_quest_counter_week",
+                        columnNames = {"user_id", "week_start_date", "target_type"})
+        }
+)
+public class UserQuestWeeklyCounter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "week_start_date", nullable = false)
+    private LocalDate weekStartDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 30)
+    private TargetType targetType;
+
+    @Column(name = "event_count", nullable = false)
+    private int eventCount;
+
+    @Column(name = "last_event_date", nullable = false)
+    private LocalDate lastEventDate;
+
+    /**
+     * 기준일 현재 유효한 연속 일수 (마지막 기록이 어제 이전이면 끊긴 것으로 본다)
+     */
+    public int streakAsOf(LocalDate today) {
+        return lastEventDate.isBefore(today.minusDays(1)) ? 0 : eventCount;
+    }
+}
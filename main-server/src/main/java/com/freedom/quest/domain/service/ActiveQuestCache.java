@@ -0,0 +1,56 @@
+package com.freedom.quest.domain.service;
+
+import com.freedom.quest.domain.entity.Quest;
+import com.freedom.quest.domain.entity.TargetType;
+import com.freedom.quest.infra.repository.QuestJPARepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.List;
+
+/**
+ * 활성 퀘스트 목록 캐시 (메모리)
+ * - quests 는 관리자만 변경하는 소량 데이터이므로 TTL 만료 시에만 다시 조회
+ * - 스크랩 퀘스트는 ISO 주차 홀수: SCRAP_NEWS, 짝수: SCRAP_QUIZ 만 배정
+ */
+@Service
+@RequiredArgsConstructor
+public class ActiveQuestCache {
+
+    private final QuestJPARepository questRepository;
+
+    @Value("${quest.active-cache-ttl-ms:300000}")
+    private long ttlMillis;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 해당 날짜가 속한 주에 배정할 퀘스트 목록
+     */
+    public List<Quest> findQuestsForWeek(LocalDate date) {
+        int week = date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+        TargetType weeklyScrapType = week % 2 == 1 ? TargetType.SCRAP_NEWS : TargetType.SCRAP_QUIZ;
+        return current().quests().stream()
+                .filter(quest -> !isScrapQuest(quest) || quest.getTargetType() == weeklyScrapType)
+                .toList();
+    }
+
+    private boolean isScrapQuest(Quest quest) {
+        return quest.getTargetType() == TargetType.SCRAP_NEWS || quest.getTargetType() == TargetType.SCRAP_QUIZ;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || System.currentTimeMillis() - current.loadedAt() > ttlMillis) {
+            current = new Snapshot(List.copyOf(questRepository.findAllByActiveTrue()), System.currentTimeMillis());
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private record Snapshot(List<Quest> quests, long loadedAt) {
+    }
+}
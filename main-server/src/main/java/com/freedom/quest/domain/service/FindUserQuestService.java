@@ -32,11 +32,4 @@ public class FindUserQuestService {
                 .map(UserQuestDto::toDto)
                 .toList();
     }
-
-    @Transactional(readOnly = true)
-    public boolean checkQuestCompleted(Long userQuestId) {
-        return userQuestRepository.findById(userQuestId)
-                .map(uq -> uq.isCompleted() && !uq.isClaimed())
-                .orElse(false);
-    }
 }
@@ -0,0 +1,46 @@
+package com.freedom.quest.domain.service;
+
+import com.freedom.auth.domain.UserStatus;
+import com.freedom.auth.infra.UserJpaRepository;
+import com.freedom.quest.domain.entity.Quest;
+import com.freedom.quest.infra.UserQuestBulkWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주간 퀘스트 일괄 배정
+ * - 활성 사용자 청크 x 캐시된 활성 퀘스트 목록을 한 번의 batch INSERT IGNORE 로 생성
+ * - 이미 배정된 (user, quest, 주 시작일) 은 uk_user_quest_period 로 건너뛰므로 재실행에 안전
+ */
+@Service
+@RequiredArgsConstructor
+public class ProvisionWeeklyQuestService {
+
+    private final UserJpaRepository userRepository;
+    private final ActiveQuestCache activeQuestCache;
+    private final UserQuestBulkWriter userQuestBulkWriter;
+
+    @Transactional(readOnly = true)
+    public List<Long> findActiveUserIds(long afterUserId, int limit) {
+        return userRepository.findIdsByStatusAfter(UserStatus.ACTIVE, afterUserId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * @return 시도한 행 수 (사용자 수 x 퀘스트 수)
+     */
+    @Transactional
+    public int provision(List<Long> userIds, LocalDate weekDate) {
+        List<Quest> quests = activeQuestCache.findQuestsForWeek(weekDate);
+        if (userIds.isEmpty() || quests.isEmpty()) {
+            return 0;
+        }
+        userQuestBulkWriter.insertIgnoreAll(userIds, quests, weekDate.with(DayOfWeek.MONDAY), weekDate.with(DayOfWeek.SUNDAY));
+        return userIds.size() * quests.size();
+    }
+}
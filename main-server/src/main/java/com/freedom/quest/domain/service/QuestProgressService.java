@@ -0,0 +1,72 @@
+package com.freedom.quest.domain.service;
+
+import com.freedom.quest.domain.entity.TargetType;
+import com.freedom.quest.domain.entity.UserQuest;
+import com.freedom.quest.domain.entity.UserQuestWeeklyCounter;
+import com.freedom.quest.infra.repository.UserQuestJPARepository;
+import com.freedom.quest.infra.repository.UserQuestWeeklyCounterJPARepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 도메인 이벤트 기반 퀘스트 진행도 증분 반영
+ * - 주간 카운터 UPSERT 1회 + 해당 대상 타입의 이번 주 user_quests 조회 1회
+ * - user_quests 는 값이 바뀐 행만 dirty checking 으로 UPDATE
+ * - 발행 측 트랜잭션 커밋 이후 호출되므로 항상 새 트랜잭션에서 실행
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestProgressService {
+
+    private final UserQuestJPARepository userQuestRepository;
+    private final UserQuestWeeklyCounterJPARepository counterRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void increase(Long userId, TargetType targetType, LocalDate eventDate) {
+        LocalDate weekStart = eventDate.with(DayOfWeek.MONDAY);
+        counterRepository.increment(userId, weekStart, targetType.name(), eventDate);
+
+        List<UserQuest> userQuests = userQuestRepository.findByUserIdAndWeekStartAndTargetType(userId, weekStart, targetType);
+        for (UserQuest userQuest : userQuests) {
+            userQuest.increaseProgress(userQuest.getQuest().getRequirementCount());
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordAttendance(Long userId, LocalDate checkDate) {
+        LocalDate weekStart = checkDate.with(DayOfWeek.MONDAY);
+        counterRepository.recordStreakDay(userId, weekStart, TargetType.ATTENDANCE.name(), checkDate);
+        int streak = counterRepository.findByUserIdAndWeekStartDateAndTargetType(userId, weekStart, TargetType.ATTENDANCE)
+                .map(counter -> counter.streakAsOf(checkDate))
+                .orElse(0);
+
+        List<UserQuest> userQuests = userQuestRepository.findByUserIdAndWeekStartAndTargetType(userId, weekStart, TargetType.ATTENDANCE);
+        for (UserQuest userQuest : userQuests) {
+            userQuest.applyStreak(streak, userQuest.getQuest().getRequirementCount());
+        }
+    }
+
+    /**
+     * 주 중간에 생성된 user_quests 를 이미 쌓인 카운터로 초기화 (생성 트랜잭션 안에서 호출)
+     */
+    public void initializeProgress(Long userId, LocalDate today, List<UserQuest> userQuests) {
+        List<UserQuestWeeklyCounter> counters = counterRepository.findAllByUserIdAndWeekStartDate(userId, today.with(DayOfWeek.MONDAY));
+        for (UserQuestWeeklyCounter counter : counters) {
+            for (UserQuest userQuest : userQuests) {
+                if (userQuest.getQuest().getTargetType() != counter.getTargetType()) continue;
+                int requirementCount = userQuest.getQuest().getRequirementCount();
+                if (counter.getTargetType() == TargetType.ATTENDANCE) {
+                    userQuest.applyStreak(counter.streakAsOf(today), requirementCount);
+                } else {
+                    userQuest.applyCount(counter.getEventCount(), requirementCount);
+                }
+            }
+        }
+    }
+}
@@ -4,31 +4,28 @@ import com.freedom.auth.domain.User;
 import com.freedom.auth.infra.UserJpaRepository;
 import com.freedom.common.exception.custom.*;
 import com.freedom.quest.application.dto.UserQuestDto;
-import com.freedom.quest.domain.entity.Quest;
-import com.freedom.quest.domain.entity.TargetType;
 import com.freedom.quest.domain.entity.UserQuest;
-import com.freedom.quest.infra.repository.QuestJPARepository;
 import com.freedom.quest.infra.repository.UserQuestJPARepository;
-import com.freedom.wallet.domain.UserWallet;
-import com.freedom.wallet.domain.UserWalletRepository;
+import com.freedom.wallet.application.RewardCreditService;
+import com.freedom.wallet.domain.TransactionReasonCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.IsoFields;
 import java.util.List;
-import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class UserQuestCommandService {
 
     private final UserQuestJPARepository userQuestRepository;
-    private final QuestJPARepository questRepository;
+    private final ActiveQuestCache activeQuestCache;
     private final UserJpaRepository userRepository;
-    private final UserWalletRepository userWalletRepository;
+    private final RewardCreditService rewardCreditService;
+    private final QuestProgressService questProgressService;
 
     @Transactional
     public List<UserQuestDto> saveUserQuest(long userId) {
@@ -36,21 +33,10 @@ public class UserQuestCommandService {
         LocalDate startOfWeek = now.with(DayOfWeek.MONDAY);
         LocalDate endOfWeek = now.with(DayOfWeek.SUNDAY);
 
-        User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+        // 인증된 사용자이므로 조회 없이 FK 참조만 사용, 퀘스트 목록은 캐시에서 주차 필터 적용
+        User user = userRepository.getReferenceById(userId);
 
-        List<Quest> questList = questRepository.findAllByActiveTrue();
-        List<UserQuest> userQuestList = questList.stream()
-                .filter(quest -> {
-                    if (quest.getTargetType() != TargetType.SCRAP_NEWS && quest.getTargetType() != TargetType.SCRAP_QUIZ) {
-                        return true;
-                    }
-                    int week = now.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
-                    if (week % 2 == 1) {
-                        return quest.getTargetType() == TargetType.SCRAP_NEWS;
-                    } else {
-                        return quest.getTargetType() == TargetType.SCRAP_QUIZ;
-                    }
-                })
+        List<UserQuest> userQuestList = activeQuestCache.findQuestsForWeek(now).stream()
                 .map(quest -> UserQuest.builder()
                         .user(user)
                         .quest(quest)
@@ -60,6 +46,8 @@ public class UserQuestCommandService {
                         .currentStreak(0)
                         .build()
                 ).toList();
+        // 퀘스트 화면 첫 방문 전에 쌓인 이번 주 진행분 반영
+        questProgressService.initializeProgress(userId, now, userQuestList);
         List<UserQuest> savedUserQuestList = userQuestRepository.saveAll(userQuestList);
 
         return savedUserQuestList.stream()
@@ -67,72 +55,27 @@ public class UserQuestCommandService {
                 .toList();
     }
 
+    /**
+     * 퀘스트 보상 수령 - 조건부 UPDATE 가 정확히 1행을 갱신한 요청만 보상 적립
+     * - 지갑 락/엔티티 조회 없이 수령 여부를 원자적으로 확정하고, 잔액 반영은 RewardCreditService 가 수행
+     * @return 이번 요청으로 수령했으면 true, 미완료/이미 수령이면 false
+     */
     @Transactional
-    public UserQuestDto updateAttendanceQuest(Long userQuestId, int consecutiveDays, int requirementCount) {
-        return updateQuestProgress(
-                userQuestId,
-                requirementCount,
-                (userQuest) -> {
-                    userQuest.updateCurrentStreak(consecutiveDays);
-                    userQuest.updateProgressCount(requirementCount, consecutiveDays);
-                }
-        );
-    }
-
-    @Transactional
-    public UserQuestDto updateNewsQuest(Long userQuestId, int newsHistoryCount, int requirementCount) {
-        return updateQuestProgress(
-                userQuestId,
-                requirementCount,
-                (userQuest) -> userQuest.updateProgressCount(requirementCount, newsHistoryCount)
-        );
-    }
-
-    @Transactional
-    public UserQuestDto updateQuizQuest(Long userQuestId, int quizHistoryCount, int requirementCount) {
-        return updateQuestProgress(
-                userQuestId,
-                requirementCount,
-                (userQuest) -> userQuest.updateProgressCount(requirementCount, quizHistoryCount)
-        );
-    }
-
-    @Transactional
-    public UserQuestDto updateScrapQuest(Long userQuestId, int newsScrapCount, int requirementCount) {
-        return updateQuestProgress(
-                userQuestId,
-                requirementCount,
-                (userQuest) -> userQuest.updateProgressCount(requirementCount, newsScrapCount)
-        );
-    }
-
-    private UserQuestDto updateQuestProgress(Long userQuestId, int requirementCount, Consumer<UserQuest> updater) {
-        UserQuest userQuest = userQuestRepository.findById(userQuestId)
-                .orElseThrow(() -> new UserQuestNotFoundException(userQuestId));
-        updater.accept(userQuest);
-
-        if ((userQuest.getProgressCount() >= requirementCount) || (userQuest.getCurrentStreak() == requirementCount)) {
-            userQuest.completeQuest();
+    public boolean claimCompleted(Long userId, Long userQuestId) {
+        if (userQuestRepository.claimIfCompleted(userQuestId, userId) == 1) {
+            BigDecimal rewardAmount = userQuestRepository.findRewardAmountById(userQuestId);
+            // 결정적 request_id 로 중복 적립 시 DuplicateWalletRequestException 발생 → 롤백
+            rewardCreditService.appendReward(userId, "QUEST_REWARD_" + userQuestId, TransactionReasonCode.QUEST_REWARD,
+                    rewardAmount, "퀘스트 보상", "USER_QUEST", userQuestId);
+            return true;
         }
-        UserQuest updatedUserQuest = userQuestRepository.save(userQuest);
-        return UserQuestDto.toDto(updatedUserQuest);
-    }
 
-    @Transactional
-    public void claimCompleted(Long userId, Long userQuestId) {
-        UserWallet wallet = userWalletRepository.findByUserIdForUpdate(userId).orElseThrow(() -> new UserWalletNotFoundException(userId));
-        UserQuest userQuest = userQuestRepository.findById(userQuestId)
+        // 실패 사유 구분은 드문 경로에서만 조회
+        Long ownerId = userQuestRepository.findUserIdById(userQuestId)
                 .orElseThrow(() -> new UserQuestNotFoundException(userQuestId));
-
-        User user = userQuest.getUser();
-        if (!user.getId().equals(userId)) {
+        if (!ownerId.equals(userId)) {
             throw new QuestAccessDeniedException(userQuestId);
         }
-
-        wallet.deposit(userQuest.getQuest().getRewardAmount());
-        userWalletRepository.save(wallet);
-
-        userQuest.claimReward();
-        userQuestRepository.save(userQuest);
+        return false;
     }
 }
@@ -0,0 +1,53 @@
+package com.freedom.quest.infra;
+
+import com.freedom.quest.domain.entity.Quest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * user_quests 일괄 INSERT (주간 퀘스트 배정 배치용)
+ * - uk_user_quest_period 에 걸리는 행은 INSERT IGNORE 로 건너뛰어 재실행해도 중복 생성되지 않음
+ * - jdbc url 의 rewriteBatchedStatements=true 설정으로 multi-row INSERT 로 재작성됨
+ */
+@Component
+@RequiredArgsConstructor
+public class UserQuestBulkWriter {
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO user_quests (user_id, quest_id, period_start_date, period_end_date, " +
+            "progress_count, current_streak, is_claimed, is_completed, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 0, 0, false, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertIgnoreAll(List<Long> userIds, List<Quest> quests, LocalDate periodStart, LocalDate periodEnd) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int questCount = quests.size();
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, userIds.get(i / questCount));
+                ps.setLong(2, quests.get(i % questCount).getId());
+                ps.setDate(3, Date.valueOf(periodStart));
+                ps.setDate(4, Date.valueOf(periodEnd));
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return userIds.size() * questCount;
+            }
+        });
+    }
+}
@@ -1,21 +1,45 @@
 package com.freedom.quest.infra.repository;
 
+import com.freedom.quest.domain.entity.TargetType;
 import com.freedom.quest.domain.entity.UserQuest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface UserQuestJPARepository extends JpaRepository<UserQuest, Long> {
 
-    @Query("SELECT uq FROM UserQuest uq WHERE uq.user.id = :userId " +
+    @Query("SELECT uq FROM UserQuest uq JOIN FETCH uq.quest WHERE uq.user.id = :userId " +
            "AND uq.periodStartDate <= :endDate AND uq.periodEndDate >= :startDate")
     List<UserQuest> findByUserIdAndPeriodOverlap(@Param("userId") Long userId, 
                                                   @Param("startDate") LocalDate startDate, 
                                                   @Param("endDate") LocalDate endDate);
 
+    @Query("SELECT uq FROM UserQuest uq JOIN FETCH uq.quest q WHERE uq.user.id = :userId " +
+           "AND uq.periodStartDate = :weekStart AND q.targetType = :targetType")
+    List<UserQuest> findByUserIdAndWeekStartAndTargetType(@Param("userId") Long userId,
+                                                          @Param("weekStart") LocalDate weekStart,
+                                                          @Param("targetType") TargetType targetType);
+
+
+    /**
+     * 보상 수령 조건부 UPDATE - 본인 소유 + 완료 + 미수령일 때만 1행 갱신 (동시 수령 시 한 요청만 성공)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserQuest uq SET uq.isClaimed = true WHERE uq.id = :userQuestId AND uq.user.id = :userId " +
+           "AND uq.completed = true AND uq.isClaimed = false")
+    int claimIfCompleted(@Param("userQuestId") Long userQuestId, @Param("userId") Long userId);
+
+    @Query("SELECT q.rewardAmount FROM UserQuest uq JOIN uq.quest q WHERE uq.id = :userQuestId")
+    BigDecimal findRewardAmountById(@Param("userQuestId") Long userQuestId);
+
+    @Query("SELECT uq.user.id FROM UserQuest uq WHERE uq.id = :userQuestId")
+    Optional<Long> findUserIdById(@Param("userQuestId") Long userQuestId);
 }
@@ -0,0 +1,51 @@
+package com.freedom.quest.infra.repository;
+
+import com.freedom.quest.domain.entity.TargetType;
+import com.freedom.quest.domain.entity.UserQuestWeeklyCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserQuestWeeklyCounterJPARepository extends JpaRepository<UserQuestWeeklyCounter, Long> {
+
+    Optional<UserQuestWeeklyCounter> findByUserIdAndWeekStartDateAndTargetType(Long userId, LocalDate weekStartDate, TargetType targetType);
+
+    List<UserQuestWeeklyCounter> findAllByUserIdAndWeekStartDate(Long userId, LocalDate weekStartDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_quest_weekly_counters " +
+            "(user_id, week_start_date, target_type, event_count, last_event_date, created_at, updated_at) " +
+            "VALUES (:userId, :weekStart, :targetType, 1, :eventDate, NOW(), NOW()) AS new " +
+            "ON DUPLICATE KEY UPDATE event_count = event_count + 1, " +
+            "last_event_date = new.last_event_date, updated_at = NOW()",
+            nativeQuery = true)
+    int increment(@Param("userId") Long userId,
+                  @Param("weekStart") LocalDate weekStart,
+                  @Param("targetType") String targetType,
+                  @Param("eventDate") LocalDate eventDate);
+
+    /**
+     * 연속 일수 카운터: 같은 날 재기록은 유지, 전날 이어지면 +1, 끊겼으면 1로 재시작
+     * - event_count 를 last_event_date 보다 먼저 갱신해야 이전 날짜 기준으로 비교된다
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_quest_weekly_counters " +
+            "(user_id, week_start_date, target_type, event_count, last_event_date, created_at, updated_at) " +
+            "VALUES (:userId, :weekStart, :targetType, 1, :eventDate, NOW(), NOW()) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "event_count = IF(last_event_date = new.last_event_date, event_count, " +
+            "IF(last_event_date = new.last_event_date - INTERVAL 1 DAY, event_count + 1, 1)), " +
+            "last_event_date = new.last_event_date, updated_at = NOW()",
+            nativeQuery = true)
+    int recordStreakDay(@Param("userId") Long userId,
+                        @Param("weekStart") LocalDate weekStart,
+                        @Param("targetType") String targetType,
+                        @Param("eventDate") LocalDate eventDate);
+}
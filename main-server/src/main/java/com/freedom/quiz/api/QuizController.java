@@ -5,6 +5,7 @@ import com.freedom.common.security.CustomUserPrincipal;
 import com.freedom.quiz.api.request.QuizAnswerRequest;
 import com.freedom.quiz.api.response.DailyQuizQuestionResponse;
 import com.freedom.quiz.api.response.QuizAnswerResultResponse;
+import com.freedom.quiz.api.response.QuizLeaderboardResponse;
 import com.freedom.quiz.application.QuizFacade;
 import com.freedom.quiz.application.dto.DailyQuizDto;
 import jakarta.validation.Valid;
@@ -34,8 +35,19 @@ public class QuizController {
 
     @PostMapping("/answer")
     @Loggable("퀴즈 답안 제출")
-    public ResponseEntity<QuizAnswerResultResponse> submitAnswer(@RequestBody @Valid QuizAnswerRequest request) {
-        QuizAnswerResultResponse result = quizFacade.submitQuizAnswer(request.getUserQuizId(), request.getUserAnswer());
+    public ResponseEntity<QuizAnswerResultResponse> submitAnswer(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestBody @Valid QuizAnswerRequest request) {
+        QuizAnswerResultResponse result = quizFacade.submitQuizAnswer(
+                userPrincipal.getId(), request.getUserQuizId(), request.getUserAnswer());
         return ResponseEntity.ok(result);
     }
+
+    @GetMapping("/leaderboard")
+    @Loggable("주간 퀴즈 리더보드 조회")
+    public ResponseEntity<QuizLeaderboardResponse> getWeeklyLeaderboard(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(quizFacade.getWeeklyLeaderboard(userPrincipal.getId(), size));
+    }
 }
@@ -0,0 +1,23 @@
+package com.freedom.quiz.api.response;
+
+import com.freedom.quiz.domain.model.LeaderboardEntry;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LeaderboardEntryResponse {
+    private final int rank;              // 0: 이번 주 정답 없음
+    private final Long userId;
+    private final String characterName;
+    private final long correctCount;
+
+    public static LeaderboardEntryResponse from(LeaderboardEntry entry, String characterName) {
+        return LeaderboardEntryResponse.builder()
+                .rank(entry.rank())
+                .userId(entry.userId())
+                .characterName(characterName)
+                .correctCount(entry.correctCount())
+                .build();
+    }
+}
@@ -1,8 +1,6 @@
 package com.freedom.quiz.api.response;
 
-import com.freedom.quiz.application.dto.UserQuizDto;
-import com.freedom.quiz.domain.entity.Quiz;
-import com.freedom.quiz.domain.entity.QuizType;
+import com.freedom.quiz.domain.model.QuizAnswerKey;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -16,17 +14,13 @@ public class QuizAnswerResultResponse {
     private String correctAnswer;
 
 
-    public static QuizAnswerResultResponse from(boolean isCorrect, UserQuizDto quiz) {
-        String correctAnswer = quiz.getType() == QuizType.OX
-                ?  String.valueOf(quiz.getOxAnswer())
-                :  String.valueOf(quiz.getMcqCorrectIndex());
-
+    public static QuizAnswerResultResponse from(boolean isCorrect, QuizAnswerKey answerKey) {
         return QuizAnswerResultResponse.builder()
                 .isCorrect(isCorrect)
-                .explanation(quiz.getExplanation())
-                .category(quiz.getCategory())
-                .hint(quiz.getHint())
-                .correctAnswer(correctAnswer)
+                .explanation(answerKey.explanation())
+                .category(answerKey.category())
+                .hint(answerKey.hint())
+                .correctAnswer(answerKey.correctAnswer())
                 .build();
     }
 }
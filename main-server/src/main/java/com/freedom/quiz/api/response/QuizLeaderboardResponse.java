@@ -0,0 +1,28 @@
+package com.freedom.quiz.api.response;
+
+import com.freedom.quiz.domain.model.LeaderboardEntry;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class QuizLeaderboardResponse {
+    private final LocalDate weekStart;
+    private final List<LeaderboardEntryResponse> rankings;
+    private final LeaderboardEntryResponse me;
+
+    public static QuizLeaderboardResponse of(LocalDate weekStart, List<LeaderboardEntry> top,
+                                             LeaderboardEntry me, Map<Long, String> characterNames) {
+        return QuizLeaderboardResponse.builder()
+                .weekStart(weekStart)
+                .rankings(top.stream()
+                        .map(entry -> LeaderboardEntryResponse.from(entry, characterNames.get(entry.userId())))
+                        .toList())
+                .me(LeaderboardEntryResponse.from(me, characterNames.get(me.userId())))
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.freedom.quiz.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일일 퀴즈 첫 조회 지표 (Micrometer)
+ * - quiz.daily.first_view{source=pre_generated}: 사전 배정된 퀴즈로 응답한 첫 조회 수 (인스턴스에서 사용자당 하루 1회 집계)
+ * - quiz.daily.first_view{source=lazy_created}: 조회 시점에 퀴즈를 생성한 수
+ * - 적중률(pre_generated / 전체)은 지표 수집 측에서 인스턴스를 합산해 계산
+ */
+@Component
+public class DailyQuizAssignmentMetrics {
+
+    private final Counter preGeneratedHits;
+    private final Counter lazyCreated;
+    private final Set<Long> servedUsers = ConcurrentHashMap.newKeySet();
+    private volatile LocalDate date = LocalDate.now();
+
+    public DailyQuizAssignmentMetrics(MeterRegistry meterRegistry) {
+        this.preGeneratedHits = firstViewCounter(meterRegistry, "pre_generated");
+        this.lazyCreated = firstViewCounter(meterRegistry, "lazy_created");
+    }
+
+    public void recordPreGenerated(Long userId, LocalDate quizDate) {
+        rollIfNeeded(quizDate);
+        if (servedUsers.add(userId)) {
+            preGeneratedHits.increment();
+        }
+    }
+
+    public void recordLazyCreated(LocalDate quizDate) {
+        rollIfNeeded(quizDate);
+        lazyCreated.increment();
+    }
+
+    private void rollIfNeeded(LocalDate quizDate) {
+        if (quizDate.equals(date)) {
+            return;
+        }
+        synchronized (this) {
+            if (!quizDate.equals(date)) {
+                servedUsers.clear();
+                date = quizDate;
+            }
+        }
+    }
+
+    private static Counter firstViewCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("quiz.daily.first_view")
+                .description("일일 퀴즈 첫 조회 (사전 배정 응답 / 지연 생성)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,122 @@
+package com.freedom.quiz.application;
+
+import com.freedom.common.notification.DiscordWebhookClient;
+import com.freedom.quiz.domain.service.PreGenerateDailyQuizService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 다음 날 일일 퀴즈 사전 배정 배치
+ * - 최근 퀴즈에 답한 사용자를 user_id 키셋 청크로 읽고, 청크별 트랜잭션을 최대 parallelism 개까지 동시에 처리
+ * - 배치에서 빠진 사용자는 QuizFacade 의 지연 생성 경로로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyQuizPreGenerationScheduler {
+
+    private final PreGenerateDailyQuizService preGenerateDailyQuizService;
+    private final DiscordWebhookClient discordWebhookClient;
+
+    @Value("${quiz.pregenerate.active-days:7}")
+    private int activeDays;
+
+    @Value("${quiz.pregenerate.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${quiz.pregenerate.parallelism:4}")
+    private int parallelism;
+
+    @Scheduled(cron = "${quiz.pregenerate.cron:0 30 23 * * *}")
+    public void preGenerateTomorrowQuizzes() {
+        LocalDate today = LocalDate.now();
+        try {
+            preGenerate(today.plusDays(1), today);
+        } catch (Exception e) {
+            log.error("일일 퀴즈 사전 배정 중 오류 발생", e);
+            String stackTrace = getStackTraceAsString(e);
+
+            discordWebhookClient.sendErrorMessage(
+                    "🚨 일일 퀴즈 사전 배정 스케줄러 오류",
+                    "**오류 메시지:** " + e.getMessage() +
+                            "\n\n**스택 트레이스:**\n```" +
+                            (stackTrace.length() > 1500 ? stackTrace.substring(0, 1500) + "..." : stackTrace) +
+                            "```"
+            );
+        }
+    }
+
+    private void preGenerate(LocalDate quizDate, LocalDate assignedDate) throws InterruptedException {
+        LocalDate since = assignedDate.minusDays(activeDays);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        List<Future<Integer>> inFlight = new ArrayList<>(parallelism);
+        ChunkResult result = new ChunkResult();
+        long afterUserId = 0L;
+        long startedAt = System.currentTimeMillis();
+        try {
+            while (true) {
+                List<Long> userIds = preGenerateDailyQuizService.findActiveUserIds(since, afterUserId, chunkSize);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                afterUserId = userIds.get(userIds.size() - 1);
+                inFlight.add(executor.submit(() -> preGenerateDailyQuizService.preGenerate(userIds, quizDate, assignedDate)));
+                if (inFlight.size() >= parallelism) {
+                    awaitAll(inFlight, result);
+                }
+            }
+            awaitAll(inFlight, result);
+        } finally {
+            executor.shutdown();
+        }
+
+        log.info("일일 퀴즈 사전 배정 완료 - 출제일: {}, 배정 사용자: {}명, 청크: {}개(실패 {}개), 소요: {}ms",
+                quizDate, result.assignedUsers, result.chunks, result.failedChunks, System.currentTimeMillis() - startedAt);
+        if (result.failedChunks > 0) {
+            discordWebhookClient.sendErrorMessage(
+                    "⚠️ 일일 퀴즈 사전 배정 일부 실패",
+                    "**출제일:** " + quizDate + "\n**실패 청크:** " + result.failedChunks + "/" + result.chunks +
+                            "\n실패한 사용자는 첫 조회 시 지연 생성됩니다."
+            );
+        }
+    }
+
+    private void awaitAll(List<Future<Integer>> futures, ChunkResult result) throws InterruptedException {
+        for (Future<Integer> future : futures) {
+            result.chunks++;
+            try {
+                result.assignedUsers += future.get();
+            } catch (ExecutionException e) {
+                result.failedChunks++;
+                log.error("일일 퀴즈 사전 배정 청크 실패", e.getCause());
+            }
+        }
+        futures.clear();
+    }
+
+    private String getStackTraceAsString(Exception e) {
+        StringWriter sw = new StringWriter();
+        PrintWriter pw = new PrintWriter(sw);
+        e.printStackTrace(pw);
+        return sw.toString();
+    }
+
+    private static class ChunkResult {
+        private int chunks;
+        private int failedChunks;
+        private int assignedUsers;
+    }
+}
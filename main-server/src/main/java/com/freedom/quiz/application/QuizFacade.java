@@ -1,16 +1,24 @@
 package com.freedom.quiz.application;
 
+import com.freedom.auth.domain.service.FindUserService;
 import com.freedom.quiz.api.response.QuizAnswerResultResponse;
+import com.freedom.quiz.api.response.QuizLeaderboardResponse;
 import com.freedom.quiz.application.dto.DailyQuizDto;
 import com.freedom.quiz.application.dto.UserQuizDto;
-import com.freedom.quiz.domain.entity.QuizType;
+import com.freedom.quiz.domain.event.QuizFirstCorrectEvent;
+import com.freedom.quiz.domain.model.LeaderboardEntry;
+import com.freedom.quiz.domain.model.QuizAnswerKey;
 import com.freedom.quiz.domain.service.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +29,14 @@ public class QuizFacade {
     private final CreateDailyQuizService createDailyQuizService;
     private final UpdateUserQuizService updateUserQuizService;
     private final QuizHistorySaveService quizHistorySaveService;
+    private final QuizAnswerKeyCache quizAnswerKeyCache;
+    private final QuizStatsAggregator quizStatsAggregator;
+    private final DailyQuizAssignmentMetrics assignmentMetrics;
+    private final QuizLeaderboardService quizLeaderboardService;
+    private final FindUserService findUserService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_LEADERBOARD_SIZE = 100;
 
     @Transactional
     public DailyQuizDto getDailyQuizzes(Long userId) {
@@ -29,7 +45,11 @@ public class QuizFacade {
         List<UserQuizDto> dailyUserQuizDtos = findUserQuizService.findDailyQuizzes(userId, today);
         
         if (dailyUserQuizDtos.isEmpty()) {
+            // 사전 배정 배치에서 빠진 사용자는 조회 시점에 생성
             dailyUserQuizDtos = createDailyQuizService.createDailyQuizzes(userId, today);
+            assignmentMetrics.recordLazyCreated(today);
+        } else if (dailyUserQuizDtos.get(0).isPreGenerated()) {
+            assignmentMetrics.recordPreGenerated(userId, today);
         }
         
         long correctCount = dailyUserQuizDtos.stream()
@@ -44,25 +64,42 @@ public class QuizFacade {
         return DailyQuizDto.from(isCompleted, activeQuizList);
     }
 
+    /**
+     * 답안 제출: quiz_id 조회 1회 + 조건부 UPDATE (최초 시도 정답일 때만 히스토리 INSERT IGNORE)
+     * - 최초 시도 여부는 사전 조회가 아닌 UPDATE 영향 행 수로 판별
+     * - 채점은 메모리 정답 키 캐시로 처리, 퀴즈 통계는 메모리 집계 후 비동기 flush
+     */
     @Transactional
-    public QuizAnswerResultResponse submitQuizAnswer(Long userQuizId, String userAnswer) {
-        UserQuizDto userQuizDto = findUserQuizService.findUserQuizById(userQuizId);
-        
-        boolean isCorrect = userQuizDto.getType() == QuizType.OX
-                ? userQuizDto.getOxAnswer() != null &&
-                  userQuizDto.getOxAnswer().toString().equalsIgnoreCase(userAnswer)
-                : userQuizDto.getMcqCorrectIndex() != null &&
-                  userQuizDto.getMcqCorrectIndex().toString().equals(userAnswer);
+    public QuizAnswerResultResponse submitQuizAnswer(Long userId, Long userQuizId, String userAnswer) {
+        Long quizId = findUserQuizService.findQuizIdForAnswer(userId, userQuizId);
+        QuizAnswerKey answerKey = quizAnswerKeyCache.get(quizId);
 
-        quizHistorySave(userQuizDto, isCorrect);
+        boolean isCorrect = answerKey.grade(userAnswer);
+        boolean isFirstAttempt = updateUserQuizService.updateAnswer(userQuizId, userId, userAnswer, isCorrect);
 
-        updateUserQuizService.updateAnswer(userQuizId, userAnswer, isCorrect);
-        return QuizAnswerResultResponse.from(isCorrect, userQuizDto);
+        if (isFirstAttempt && isCorrect) { // 최초 시도 정답 제출 시에만 히스토리 저장
+            LocalDateTime answeredAt = LocalDateTime.now();
+            if (quizHistorySaveService.quizHistorySave(userId, quizId, answeredAt)) {
+                // 리더보드/퀘스트 반영은 커밋 이후 리스너에서 처리 (롤백 시 반영되지 않음)
+                eventPublisher.publishEvent(new QuizFirstCorrectEvent(userId, quizId, answeredAt));
+            }
+        }
+        // 통계는 메모리 증분만 기록 (DB 반영은 QuizStatsFlushScheduler)
+        quizStatsAggregator.record(quizId, answerKey.type(), userAnswer, isFirstAttempt, isCorrect);
+        return QuizAnswerResultResponse.from(isCorrect, answerKey);
     }
 
-    private void quizHistorySave(UserQuizDto userQuizDto, boolean isCorrect) {
-        if(userQuizDto.getUserAnswer() == null && isCorrect) { // 최초 시도 정답 제출 시에만 히스토리 저장
-            quizHistorySaveService.quizHistorySave(userQuizDto.getUserId(), userQuizDto.getQuizId());
-        }
+    /**
+     * 주간 리더보드: 상위 size 명 + 내 순위 (메모리 순위 트리 조회, 캐릭터명만 DB 조회)
+     */
+    public QuizLeaderboardResponse getWeeklyLeaderboard(Long userId, int size) {
+        List<LeaderboardEntry> top = quizLeaderboardService.top(Math.max(1, Math.min(size, MAX_LEADERBOARD_SIZE)));
+        LeaderboardEntry me = quizLeaderboardService.rankOf(userId);
+        List<Long> userIds = new ArrayList<>(top.size() + 1);
+        top.forEach(entry -> userIds.add(entry.userId()));
+        userIds.add(userId);
+        Map<Long, String> characterNames = findUserService.findCharacterNames(userIds);
+
+        return QuizLeaderboardResponse.of(quizLeaderboardService.getWeekStart(), top, me, characterNames);
     }
 }
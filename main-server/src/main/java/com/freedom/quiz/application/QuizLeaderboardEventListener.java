@@ -0,0 +1,30 @@
+package com.freedom.quiz.application;
+
+import com.freedom.quiz.domain.event.QuizFirstCorrectEvent;
+import com.freedom.quiz.domain.service.QuizLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 최초 정답 이벤트를 주간 리더보드에 반영
+ * - 답안 제출 트랜잭션 커밋 이후에만 반영 (롤백된 정답은 집계되지 않음)
+ * - 반영 실패는 로그만 남기고, 누락분은 주기적 재구성으로 수렴
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizLeaderboardEventListener {
+
+    private final QuizLeaderboardService quizLeaderboardService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizFirstCorrect(QuizFirstCorrectEvent event) {
+        try {
+            quizLeaderboardService.recordFirstCorrect(event.userId(), event.answeredAt());
+        } catch (Exception e) {
+            log.warn("주간 리더보드 반영 실패 - userId: {}, quizId: {}", event.userId(), event.quizId(), e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.freedom.quiz.application;
+
+import com.freedom.quiz.domain.model.QuizStatsDelta;
+import com.freedom.quiz.domain.service.QuizStatsAggregator;
+import com.freedom.quiz.infra.QuizStatsUpsertWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 퀴즈 통계 증분 flush (답안 제출 트랜잭션과 분리된 배치 upsert)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizStatsFlushScheduler {
+
+    private final QuizStatsAggregator quizStatsAggregator;
+    private final QuizStatsUpsertWriter quizStatsUpsertWriter;
+
+    @Scheduled(fixedDelayString = "${quiz.stats.flush-delay-ms:10000}")
+    public void flush() {
+        List<QuizStatsDelta> deltas = quizStatsAggregator.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            quizStatsUpsertWriter.upsertAll(deltas);
+            log.debug("퀴즈 통계 반영 완료 - 퀴즈: {}개", deltas.size());
+        } catch (Exception e) {
+            quizStatsAggregator.restore(deltas);
+            log.error("퀴즈 통계 반영 실패 - 다음 주기에 재시도 (퀴즈: {}개)", deltas.size(), e);
+        }
+    }
+
+    // 종료 시 남은 증분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -3,6 +3,7 @@ package com.freedom.quiz.application.dto;
 import com.freedom.quiz.domain.entity.Quiz;
 import com.freedom.quiz.domain.entity.QuizType;
 import com.freedom.quiz.domain.entity.UserQuiz;
+import com.freedom.quiz.domain.model.QuizQuestion;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -39,6 +40,9 @@ public class UserQuizDto {
     // 퀴즈 날짜
     private final LocalDate quizDate;
 
+    // 자정 배치로 미리 배정된 퀴즈 여부
+    private final boolean preGenerated;
+
     public static UserQuizDto from(UserQuiz userQuiz, Quiz quiz, String newsUrl) {
         return UserQuizDto.builder()
                 .userQuizId(userQuiz.getId())
@@ -81,6 +85,24 @@ public class UserQuizDto {
                 .isCorrect(userQuiz.getIsCorrect())
                 .newsUrl(newsUrl)
                 .quizDate(userQuiz.getQuizDate())
+                .preGenerated(userQuiz.isPreGenerated())
+                .build();
+    }
+
+    public static UserQuizDto fromQuestionOnly(UserQuiz userQuiz, QuizQuestion question) {
+        return UserQuizDto.builder()
+                .userQuizId(userQuiz.getId())
+                .quizId(question.id())
+                .type(question.type())
+                .category(question.category())
+                .question(question.question())
+                .mcqOption1(question.mcqOption1())
+                .mcqOption2(question.mcqOption2())
+                .mcqOption3(question.mcqOption3())
+                .mcqOption4(question.mcqOption4())
+                .userAnswer(userQuiz.getUserAnswer())
+                .isCorrect(userQuiz.getIsCorrect())
+                .quizDate(userQuiz.getQuizDate())
                 .build();
     }
 }
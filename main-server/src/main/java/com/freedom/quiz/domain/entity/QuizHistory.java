@@ -13,7 +13,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "quiz_history")
+@Table(
+        name = "quiz_history",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_quiz_history_user_quiz", columnNames = {"user_id", "quiz_id"})
+        },
+        indexes = {
+                @Index(name = "idx_quiz_history_answered_user", columnList = "answered_at, user_id")
+        }
+)
 public class QuizHistory extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,41 @@
+package com.freedom.quiz.domain.entity;
+
+import com.freedom.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 퀴즈별 누적 풀이 통계 (난이도 보정용)
+ * - QuizStatsAggregator 가 메모리에서 집계한 증분을 주기적으로 upsert (엔티티로 직접 저장하지 않음)
+ */
+@Entity
+@Table(name = "quiz_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizStats extends BaseEntity {
+
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    @Column(name = "attempts", nullable = false)
+    private long attempts;            // 전체 제출 수
+
+    @Column(name = "first_attempts", nullable = false)
+    private long firstAttempts;       // 최초 제출 수
+
+    @Column(name = "first_try_correct", nullable = false)
+    private long firstTryCorrect;     // 최초 제출 정답 수
+
+    // MCQ 선택지 분포 (최초/재시도 포함 전체 제출 기준)
+    @Column(name = "mcq_option1_count", nullable = false)
+    private long mcqOption1Count;
+    @Column(name = "mcq_option2_count", nullable = false)
+    private long mcqOption2Count;
+    @Column(name = "mcq_option3_count", nullable = false)
+    private long mcqOption3Count;
+    @Column(name = "mcq_option4_count", nullable = false)
+    private long mcqOption4Count;
+}
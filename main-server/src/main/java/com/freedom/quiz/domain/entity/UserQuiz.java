@@ -7,7 +7,13 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "user_quiz")
+@Table(
+        name = "user_quiz",
+        uniqueConstraints = {
+                // 사용자·날짜당 출제 순번별 1건 - 사전 배정 배치와 지연 생성이 겹쳐도 하루 최대 5건 (user_id, quiz_date 조회 인덱스 겸용)
+                @UniqueConstraint(name = "uk_user_quiz_user_date_slot", columnNames = {"user_id", "quiz_date", "slot"})
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -34,8 +40,11 @@ public class UserQuiz extends BaseEntity {
     @Column(name = "quiz_date", nullable = false)
     private LocalDate quizDate;  // 퀴즈가 출제된 날짜
 
+    @Column(name = "slot", nullable = false)
+    private Integer slot;  // 하루 출제 순번 (0부터)
+
     @Column(name = "assigned_date", nullable = false)
-    private LocalDate assignedDate;  // 퀴즈가 배정된 날짜 (현재는 quiz_date와 동일하게 설정)
+    private LocalDate assignedDate;  // 퀴즈가 배정된 날짜 (사전 생성 시 quiz_date 전날, 그 외 quiz_date와 동일)
 
     // 답안 제출 시 업데이트
     public void submitAnswer(String userAnswer, boolean isCorrect) {
@@ -43,6 +52,11 @@ public class UserQuiz extends BaseEntity {
         this.isCorrect = isCorrect;
     }
 
+    // 출제일 이전에 배정된 경우 (자정 배치 사전 생성분)
+    public boolean isPreGenerated() {
+        return assignedDate != null && quizDate != null && assignedDate.isBefore(quizDate);
+    }
+
     private UserQuiz(Long userQuizId) {
         this.id = userQuizId;
     }
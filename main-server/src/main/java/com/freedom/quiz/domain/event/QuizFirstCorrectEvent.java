@@ -0,0 +1,9 @@
+package com.freedom.quiz.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최초 시도 정답 이벤트 (quiz_history 신규 INSERT 시에만 발행)
+ */
+public record QuizFirstCorrectEvent(Long userId, Long quizId, LocalDateTime answeredAt) {
+}
@@ -0,0 +1,7 @@
+package com.freedom.quiz.domain.model;
+
+/**
+ * 사용자별 배정 퀴즈 (user_quiz 의 user_id, quiz_id 만 조회/일괄 INSERT 할 때 사용)
+ */
+public record AssignedQuiz(Long userId, Long quizId) {
+}
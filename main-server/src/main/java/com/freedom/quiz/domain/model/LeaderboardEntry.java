@@ -0,0 +1,4 @@
+package com.freedom.quiz.domain.model;
+
+public record LeaderboardEntry(int rank, long userId, long correctCount) {
+}
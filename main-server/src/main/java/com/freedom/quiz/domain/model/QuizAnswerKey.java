@@ -0,0 +1,28 @@
+package com.freedom.quiz.domain.model;
+
+import com.freedom.quiz.domain.entity.QuizType;
+
+/**
+ * 퀴즈 정답 키 (채점/결과 응답용 불변 스냅샷)
+ * - 퀴즈는 생성/삭제만 되고 수정되지 않으므로 id 기준으로 계속 캐시해도 안전
+ */
+public record QuizAnswerKey(
+        Long quizId,
+        QuizType type,
+        String category,
+        String hint,
+        String explanation,
+        Boolean oxAnswer,
+        Integer mcqCorrectIndex
+) {
+
+    public boolean grade(String userAnswer) {
+        return type == QuizType.OX
+                ? oxAnswer != null && oxAnswer.toString().equalsIgnoreCase(userAnswer)
+                : mcqCorrectIndex != null && mcqCorrectIndex.toString().equals(userAnswer);
+    }
+
+    public String correctAnswer() {
+        return type == QuizType.OX ? String.valueOf(oxAnswer) : String.valueOf(mcqCorrectIndex);
+    }
+}
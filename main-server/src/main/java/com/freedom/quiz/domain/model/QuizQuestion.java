@@ -0,0 +1,32 @@
+package com.freedom.quiz.domain.model;
+
+import com.freedom.quiz.domain.entity.QuizType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 출제용 퀴즈 문항 스냅샷 (정답/해설 제외)
+ * - QuizPoolService 가 메모리에 보관하고 일일 퀴즈 생성 시 quiz 테이블 조회 없이 응답 구성
+ */
+public record QuizQuestion(
+        Long id,
+        QuizType type,
+        String category,
+        String question,
+        String mcqOption1,
+        String mcqOption2,
+        String mcqOption3,
+        String mcqOption4,
+        LocalDateTime createdAt
+) {
+    public static final String CATEGORY_NEWS = "news";
+    public static final String CATEGORY_QUIZ = "quiz";
+
+    public boolean isNews() {
+        return CATEGORY_NEWS.equals(category);
+    }
+
+    public boolean isGeneral() {
+        return CATEGORY_QUIZ.equals(category);
+    }
+}
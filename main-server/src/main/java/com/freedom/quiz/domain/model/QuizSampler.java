@@ -0,0 +1,77 @@
+package com.freedom.quiz.domain.model;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 퀴즈 ID 비복원 추출
+ * - 후보 배열에서 임의 인덱스를 뽑고, 이번 주 출제 이력(정렬된 long[])과 이미 뽑은 ID 는 건너뜀
+ * - 출제 이력이 후보보다 충분히 작으면 기대 O(k), 대부분 출제된 경우에만 미출제 후보를 모아 부분 셔플
+ */
+public final class QuizSampler {
+
+    private static final int MAX_REJECTIONS_PER_PICK = 8;
+
+    private QuizSampler() {
+    }
+
+    /**
+     * @param candidates 후보 퀴즈 ID (변경하지 않음)
+     * @param excludedSorted 제외할 퀴즈 ID (오름차순 정렬)
+     * @param k 추출 개수
+     */
+    public static long[] sample(long[] candidates, long[] excludedSorted, int k, Random random) {
+        int n = candidates.length;
+        if (k <= 0 || n == 0) {
+            return new long[0];
+        }
+
+        long[] picked = new long[Math.min(k, n)];
+        int count = 0;
+        int rejections = 0;
+        int maxRejections = MAX_REJECTIONS_PER_PICK * picked.length + 16;
+
+        while (count < picked.length && rejections < maxRejections) {
+            long id = candidates[random.nextInt(n)];
+            if (Arrays.binarySearch(excludedSorted, id) >= 0 || contains(picked, count, id)) {
+                rejections++;
+                continue;
+            }
+            picked[count++] = id;
+        }
+
+        if (count < picked.length) {
+            return fillFromRemaining(candidates, excludedSorted, picked, count, random);
+        }
+        return picked;
+    }
+
+    private static long[] fillFromRemaining(long[] candidates, long[] excludedSorted, long[] picked, int count, Random random) {
+        long[] remaining = new long[candidates.length];
+        int size = 0;
+        for (long id : candidates) {
+            if (Arrays.binarySearch(excludedSorted, id) < 0 && !contains(picked, count, id)) {
+                remaining[size++] = id;
+            }
+        }
+
+        int need = Math.min(picked.length - count, size);
+        for (int i = 0; i < need; i++) {
+            int j = i + random.nextInt(size - i);
+            long tmp = remaining[i];
+            remaining[i] = remaining[j];
+            remaining[j] = tmp;
+            picked[count++] = remaining[i];
+        }
+        return Arrays.copyOf(picked, count);
+    }
+
+    private static boolean contains(long[] values, int size, long id) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
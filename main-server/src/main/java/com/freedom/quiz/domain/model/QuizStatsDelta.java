@@ -0,0 +1,61 @@
+package com.freedom.quiz.domain.model;
+
+import com.freedom.quiz.domain.entity.QuizType;
+import lombok.Getter;
+
+/**
+ * 퀴즈 통계 증분 (flush 전까지 메모리에 누적)
+ * - QuizStatsAggregator 의 ConcurrentHashMap.compute 안에서만 변경되므로 별도 동기화 없음
+ */
+@Getter
+public class QuizStatsDelta {
+
+    private final Long quizId;
+    private long attempts;
+    private long firstAttempts;
+    private long firstTryCorrect;
+    private final long[] mcqOptionCounts = new long[4];
+
+    public QuizStatsDelta(Long quizId) {
+        this.quizId = quizId;
+    }
+
+    public QuizStatsDelta record(QuizType type, String userAnswer, boolean firstAttempt, boolean correct) {
+        attempts++;
+        if (firstAttempt) {
+            firstAttempts++;
+            if (correct) {
+                firstTryCorrect++;
+            }
+        }
+        if (type == QuizType.MCQ) {
+            int option = parseOption(userAnswer);
+            if (option > 0) {
+                mcqOptionCounts[option - 1]++;
+            }
+        }
+        return this;
+    }
+
+    public QuizStatsDelta merge(QuizStatsDelta other) {
+        attempts += other.attempts;
+        firstAttempts += other.firstAttempts;
+        firstTryCorrect += other.firstTryCorrect;
+        for (int i = 0; i < mcqOptionCounts.length; i++) {
+            mcqOptionCounts[i] += other.mcqOptionCounts[i];
+        }
+        return this;
+    }
+
+    public long mcqOptionCount(int option) {
+        return mcqOptionCounts[option - 1];
+    }
+
+    private static int parseOption(String userAnswer) {
+        if (userAnswer == null || userAnswer.length() != 1) {
+            return 0;
+        }
+        int option = userAnswer.charAt(0) - '0';
+        return option >= 1 && option <= 4 ? option : 0;
+    }
+}
@@ -0,0 +1,174 @@
+package com.freedom.quiz.domain.model;
+
+import java.util.*;
+
+/**
+ * 점수 순위 트리 (order-statistic treap, 스레드 안전하지 않음)
+ * - 정렬 기준: 점수 내림차순, 동점이면 userId 오름차순
+ * - 노드마다 서브트리 크기를 유지해 점수 갱신/순위 조회 O(log n), 상위 k명 O(log n + k)
+ */
+public class RankingTree {
+
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    /**
+     * @return 갱신 후 점수
+     */
+    public long increment(long userId, long delta) {
+        Long current = scores.get(userId);
+        long next = (current != null ? current : 0L) + delta;
+        put(userId, next);
+        return next;
+    }
+
+    public void put(long userId, long score) {
+        Long current = scores.put(userId, score);
+        if (current != null) {
+            root = remove(root, current, userId);
+        }
+        root = insert(root, new Node(userId, score, random.nextInt()));
+    }
+
+    public long scoreOf(long userId) {
+        return scores.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * @return 1부터 시작하는 순위, 점수가 없으면 0
+     */
+    public int rankOf(long userId) {
+        Long score = scores.get(userId);
+        if (score == null) {
+            return 0;
+        }
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int c = compare(score, userId, node);
+            if (c == 0) {
+                return rank + size(node.left) + 1;
+            }
+            if (c < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    public List<LeaderboardEntry> top(int k) {
+        List<LeaderboardEntry> entries = new ArrayList<>(Math.min(k, size()));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while ((node != null || !stack.isEmpty()) && entries.size() < k) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            entries.add(new LeaderboardEntry(entries.size() + 1, node.userId, node.score));
+            node = node.right;
+        }
+        return entries;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            Node[] parts = split(node, inserted.score, inserted.userId);
+            inserted.left = parts[0];
+            inserted.right = parts[1];
+            return update(inserted);
+        }
+        if (compare(inserted.score, inserted.userId, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return update(node);
+    }
+
+    private Node remove(Node node, long score, long userId) {
+        if (node == null) {
+            return null;
+        }
+        int c = compare(score, userId, node);
+        if (c == 0) {
+            return merge(node.left, node.right);
+        }
+        if (c < 0) {
+            node.left = remove(node.left, score, userId);
+        } else {
+            node.right = remove(node.right, score, userId);
+        }
+        return update(node);
+    }
+
+    // [키 < (score, userId), 키 >= (score, userId)]
+    private Node[] split(Node node, long score, long userId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(score, userId, node) > 0) {
+            Node[] parts = split(node.right, score, userId);
+            node.right = parts[0];
+            return new Node[]{update(node), parts[1]};
+        }
+        Node[] parts = split(node.left, score, userId);
+        node.left = parts[1];
+        return new Node[]{parts[0], update(node)};
+    }
+
+    // left 의 모든 키 < right 의 모든 키
+    private Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static int compare(long score, long userId, Node node) {
+        if (score != node.score) {
+            return score > node.score ? -1 : 1;
+        }
+        return Long.compare(userId, node.userId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static final class Node {
+        private final long userId;
+        private final long score;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long userId, long score, int priority) {
+            this.userId = userId;
+            this.score = score;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.freedom.quiz.domain.model;
+
+/**
+ * 사용자별 주간 최초 정답 수 (quiz_history 집계 결과)
+ */
+public record UserCorrectCount(Long userId, Long correctCount) {
+}
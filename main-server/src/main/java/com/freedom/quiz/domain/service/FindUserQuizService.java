@@ -3,14 +3,12 @@ package com.freedom.quiz.domain.service;
 import com.freedom.common.exception.custom.UserQuizNotFoundException;
 import com.freedom.quiz.application.dto.UserQuizDto;
 import com.freedom.quiz.domain.entity.UserQuiz;
-import com.freedom.quiz.infra.QuizHistoryRepository;
 import com.freedom.quiz.infra.UserQuizRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -18,7 +16,6 @@ import java.util.List;
 public class FindUserQuizService {
 
     private final UserQuizRepository userQuizRepository;
-    private final QuizHistoryRepository quizHistoryRepository;
 
     @Transactional(readOnly = true)
     public List<UserQuizDto> findDailyQuizzes(Long userId, LocalDate quizDate) {
@@ -35,6 +32,16 @@ public class FindUserQuizService {
         return UserQuizDto.from(userQuiz, userQuiz.getQuiz(), null);
     }
 
+    public boolean existsById(Long userQuizId) {
+        return userQuizRepository.existsById(userQuizId);
+    }
+
+    // 답안 제출용: quiz_id 만 조회 (본인 퀴즈가 아니면 예외)
+    public Long findQuizIdForAnswer(Long userId, Long userQuizId) {
+        return userQuizRepository.findQuizIdByIdAndUserId(userQuizId, userId)
+                .orElseThrow(() -> new UserQuizNotFoundException(String.valueOf(userQuizId)));
+    }
+
     public Long findQuizIdByUserQuizId(Long userQuizId) {
         Long quizId = userQuizRepository.findQuizIdByUserQuizId(userQuizId);
         if (quizId == null) {
@@ -42,12 +49,4 @@ public class FindUserQuizService {
         }
         return quizId;
     }
-
-    public int findQuizHistoryCountByUserId(Long userId) {
-        LocalDate today = LocalDate.now();
-        LocalDate thisWeekMonday = today.with(java.time.DayOfWeek.MONDAY);
-        LocalDateTime start = thisWeekMonday.atStartOfDay();
-        LocalDateTime end = LocalDateTime.now();
-        return quizHistoryRepository.countByUserIdAndAnsweredAtBetween(userId, start, end);
-    }
 }
@@ -0,0 +1,71 @@
+package com.freedom.quiz.domain.service;
+
+import com.freedom.quiz.domain.model.AssignedQuiz;
+import com.freedom.quiz.domain.model.QuizQuestion;
+import com.freedom.quiz.infra.UserQuizBulkWriter;
+import com.freedom.quiz.infra.UserQuizRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 일일 퀴즈 사전 배정
+ * - 사용자 청크 단위로 이미 배정된 사용자 제외, 주간 출제 이력 일괄 조회 후 한 번의 batch INSERT IGNORE
+ * - 선택 규칙은 CreateDailyQuizService 와 동일 (지연 생성 경로는 배치에서 빠진 사용자용으로 유지)
+ */
+@Service
+@RequiredArgsConstructor
+public class PreGenerateDailyQuizService {
+
+    private final UserQuizRepository userQuizRepository;
+    private final UserQuizBulkWriter userQuizBulkWriter;
+    private final CreateDailyQuizService createDailyQuizService;
+
+    @Transactional(readOnly = true)
+    public List<Long> findActiveUserIds(LocalDate since, long afterUserId, int limit) {
+        return userQuizRepository.findActiveUserIdsAfter(since, afterUserId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * @return 퀴즈가 배정된 사용자 수
+     */
+    @Transactional
+    public int preGenerate(List<Long> userIds, LocalDate quizDate, LocalDate assignedDate) {
+        Set<Long> alreadyAssigned = new HashSet<>(
+                userQuizRepository.findUserIdsByUserIdInAndQuizDate(userIds, quizDate));
+
+        Map<Long, List<Long>> seenByUser = userQuizRepository.findAssignedQuizzesByUserIdInAndDateRange(
+                        userIds, quizDate.with(DayOfWeek.MONDAY), quizDate.with(DayOfWeek.SUNDAY)).stream()
+                .collect(Collectors.groupingBy(AssignedQuiz::userId,
+                        Collectors.mapping(AssignedQuiz::quizId, Collectors.toList())));
+
+        List<AssignedQuiz> rows = new ArrayList<>(userIds.size() * 5);
+        int assignedUsers = 0;
+        for (Long userId : userIds) {
+            if (alreadyAssigned.contains(userId)) {
+                continue;
+            }
+            long[] seenQuizIds = seenByUser.getOrDefault(userId, List.of()).stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+            List<QuizQuestion> selected = createDailyQuizService.selectQuizzes(quizDate, seenQuizIds);
+            if (selected.isEmpty()) {
+                continue; // 출제 가능한 퀴즈가 없으면 지연 생성 경로에서 처리
+            }
+            selected.forEach(quiz -> rows.add(new AssignedQuiz(userId, quiz.id())));
+            assignedUsers++;
+        }
+
+        if (!rows.isEmpty()) {
+            userQuizBulkWriter.insertIgnoreAll(quizDate, assignedDate, rows);
+        }
+        return assignedUsers;
+    }
+}
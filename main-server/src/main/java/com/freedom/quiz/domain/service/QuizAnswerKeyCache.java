@@ -0,0 +1,38 @@
+package com.freedom.quiz.domain.service;
+
+import com.freedom.common.exception.custom.QuizNotFoundException;
+import com.freedom.quiz.domain.model.QuizAnswerKey;
+import com.freedom.quiz.infra.QuizRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 퀴즈 정답 키 캐시 (quiz id 기준, 미스 시 한 건 조회 후 적재)
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizAnswerKeyCache {
+
+    private static final int MAX_ENTRIES = 20_000;
+
+    private final QuizRepository quizRepository;
+
+    private final Map<Long, QuizAnswerKey> answerKeys = new ConcurrentHashMap<>();
+
+    public QuizAnswerKey get(Long quizId) {
+        QuizAnswerKey cached = answerKeys.get(quizId);
+        if (cached != null) {
+            return cached;
+        }
+        QuizAnswerKey loaded = quizRepository.findAnswerKeyById(quizId)
+                .orElseThrow(() -> new QuizNotFoundException(quizId));
+        if (answerKeys.size() >= MAX_ENTRIES) {
+            answerKeys.clear(); // 삭제된 퀴즈 키가 쌓이지 않도록 상한 도달 시 비움
+        }
+        answerKeys.put(quizId, loaded);
+        return loaded;
+    }
+}
@@ -1,6 +1,5 @@
 package com.freedom.quiz.domain.service;
 
-import com.freedom.quiz.domain.entity.QuizHistory;
 import com.freedom.quiz.infra.QuizHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,15 +12,11 @@ public class QuizHistorySaveService {
 
     private final QuizHistoryRepository quizHistoryRepository;
 
-    public void quizHistorySave(Long userId, Long quizId) {
-        QuizHistory history = quizHistoryRepository.findByUserIdAndQuizId(userId, quizId);
-        if(history == null) {
-            QuizHistory quizHistory = QuizHistory.builder()
-                    .userId(userId)
-                    .quizId(quizId)
-                    .answeredAt(LocalDateTime.now())
-                    .build();
-            quizHistoryRepository.save(quizHistory);
-        }
+    /**
+     * (user_id, quiz_id) 유니크 키에 INSERT IGNORE (이미 있으면 무시)
+     * @return 새로 저장되었는지 여부
+     */
+    public boolean quizHistorySave(Long userId, Long quizId, LocalDateTime answeredAt) {
+        return quizHistoryRepository.insertIgnore(userId, quizId, answeredAt) > 0;
     }
 }
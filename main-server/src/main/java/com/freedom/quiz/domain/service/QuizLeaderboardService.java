@@ -0,0 +1,179 @@
+package com.freedom.quiz.domain.service;
+
+import com.freedom.quiz.domain.model.LeaderboardEntry;
+import com.freedom.quiz.domain.model.RankingTree;
+import com.freedom.quiz.domain.model.UserCorrectCount;
+import com.freedom.quiz.infra.QuizHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 주간 퀴즈 리더보드 (ISO 주 기준: 월요일 00:00 ~ 다음 월요일 00:00)
+ * - 최초 정답 히스토리가 커밋될 때마다 메모리 순위 트리 점수를 1 증가 (QuizLeaderboardEventListener)
+ * - 기동 시와 주기적으로 quiz_history 에서 재구성 (다른 인스턴스에서 반영된 정답과 수렴)
+ * - 재구성 중 들어온 증분은 버퍼에 모았다가 교체 직전에 다시 적용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizLeaderboardService {
+
+    private final QuizHistoryRepository quizHistoryRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private RankingTree ranking = new RankingTree();
+    private volatile LocalDate weekStart = weekStartOf(LocalDate.now());
+    private List<FirstCorrect> pendingDuringRebuild; // 재구성 중에만 non-null (writeLock 으로 보호)
+
+    public void recordFirstCorrect(Long userId, LocalDateTime answeredAt) {
+        LocalDate answeredWeek = weekStartOf(answeredAt.toLocalDate());
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(new FirstCorrect(userId, answeredAt));
+            }
+            rollIfNeeded(answeredWeek);
+            if (answeredWeek.equals(weekStart)) {
+                ranking.increment(userId, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<LeaderboardEntry> top(int k) {
+        rollIfNeeded();
+        lock.readLock().lock();
+        try {
+            return ranking.top(k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 사용자 순위와 정답 수 (이번 주 정답이 없으면 순위 0)
+     */
+    public LeaderboardEntry rankOf(Long userId) {
+        rollIfNeeded();
+        lock.readLock().lock();
+        try {
+            return new LeaderboardEntry(ranking.rankOf(userId), userId, ranking.scoreOf(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "0 0 0 * * MON")
+    public void rollOver() {
+        rollIfNeeded();
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.leaderboard.resync-delay-ms:600000}",
+               initialDelayString = "${quiz.leaderboard.resync-delay-ms:600000}")
+    public void resync() {
+        rebuild();
+    }
+
+    /**
+     * 이번 주 quiz_history 집계로 순위 트리 재구성 (조회/구성은 락 밖에서 수행 후 교체)
+     * - 조회는 시작 시각(cutoff) 이전 정답까지만, 이후 정답은 재구성 중 버퍼에 쌓인 증분으로 보충
+     * - cutoff 직전에 답했지만 조회 이후 커밋된 정답은 다음 재구성에서 수렴
+     */
+    public synchronized void rebuild() {
+        LocalDate week = weekStartOf(LocalDate.now());
+        LocalDateTime cutoff;
+        lock.writeLock().lock();
+        try {
+            cutoff = LocalDateTime.now();
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            LocalDateTime weekEnd = week.plusWeeks(1).atStartOfDay();
+            List<UserCorrectCount> counts = quizHistoryRepository.countFirstCorrectByUserBetween(
+                    week.atStartOfDay(), cutoff.isBefore(weekEnd) ? cutoff : weekEnd);
+            RankingTree rebuilt = new RankingTree();
+            counts.forEach(c -> rebuilt.put(c.userId(), c.correctCount()));
+
+            lock.writeLock().lock();
+            try {
+                for (FirstCorrect pending : pendingDuringRebuild) {
+                    if (!pending.answeredAt().isBefore(cutoff)
+                            && weekStartOf(pending.answeredAt().toLocalDate()).equals(week)) {
+                        rebuilt.increment(pending.userId(), 1);
+                    }
+                }
+                ranking = rebuilt;
+                weekStart = week;
+            } finally {
+                pendingDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+            log.info("주간 퀴즈 리더보드 재구성 완료 - 주: {}, 사용자: {}명", week, rebuilt.size());
+        } catch (Exception e) {
+            clearPending();
+            log.error("주간 퀴즈 리더보드 재구성 실패", e);
+        }
+    }
+
+    private void clearPending() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rollIfNeeded() {
+        LocalDate currentWeek = weekStartOf(LocalDate.now());
+        if (!currentWeek.isAfter(weekStart)) {
+            return; // 조회 경로에서는 주가 바뀐 경우에만 쓰기 락
+        }
+        lock.writeLock().lock();
+        try {
+            rollIfNeeded(currentWeek);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // writeLock 보유 상태에서 호출
+    private void rollIfNeeded(LocalDate week) {
+        if (week.isAfter(weekStart)) {
+            ranking = new RankingTree();
+            weekStart = week;
+        }
+    }
+
+    private static LocalDate weekStartOf(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    private record FirstCorrect(Long userId, LocalDateTime answeredAt) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.freedom.quiz.domain.service;
+
+import com.freedom.quiz.domain.model.QuizQuestion;
+import com.freedom.quiz.domain.model.QuizSampler;
+import com.freedom.quiz.infra.QuizRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 출제용 퀴즈 풀 (메모리)
+ * - 일반 퀴즈 ID, 주차별 뉴스 퀴즈 ID 를 long[] 로 보관하고 문항 스냅샷을 함께 유지
+ * - quiz 테이블의 MAX(id)/COUNT 를 주기적으로 확인해 admin-server 가 퀴즈를 추가/삭제하면 다시 적재
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizPoolService {
+
+    private final QuizRepository quizRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 해당 주차 뉴스 퀴즈 중 미출제 문항 추출
+     */
+    public List<QuizQuestion> sampleNewsQuizzes(LocalDate quizDate, long[] excludedSorted, int count) {
+        Snapshot current = current();
+        long[] weekIds = current.newsIdsByWeek().getOrDefault(quizDate.with(DayOfWeek.MONDAY), new long[0]);
+        return toQuestions(current, QuizSampler.sample(weekIds, excludedSorted, count, ThreadLocalRandom.current()));
+    }
+
+    /**
+     * 일반 퀴즈 중 미출제 문항 추출
+     */
+    public List<QuizQuestion> sampleGeneralQuizzes(long[] excludedSorted, int count) {
+        Snapshot current = current();
+        return toQuestions(current, QuizSampler.sample(current.generalIds(), excludedSorted, count, ThreadLocalRandom.current()));
+    }
+
+    /**
+     * 변경 감지 시 풀 재적재 (admin-server 퀴즈 추가 반영)
+     */
+    @Scheduled(fixedDelayString = "${quiz.pool.refresh-delay-ms:60000}")
+    public void refreshIfChanged() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return; // 첫 사용 시 적재
+        }
+        try {
+            if (current.maxId() != quizRepository.findMaxId() || current.count() != quizRepository.count()) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.error("퀴즈 풀 갱신 확인 실패", e);
+        }
+    }
+
+    public synchronized void reload() {
+        long maxId = quizRepository.findMaxId();
+        long count = quizRepository.count();
+        List<QuizQuestion> questions = quizRepository.findAllQuestions();
+
+        Map<Long, QuizQuestion> byId = new HashMap<>(questions.size() * 2);
+        questions.forEach(q -> byId.put(q.id(), q));
+
+        long[] generalIds = questions.stream()
+                .filter(QuizQuestion::isGeneral)
+                .mapToLong(QuizQuestion::id)
+                .toArray();
+
+        Map<LocalDate, long[]> newsIdsByWeek = questions.stream()
+                .filter(q -> q.isNews() && q.createdAt() != null)
+                .collect(Collectors.groupingBy(
+                        q -> q.createdAt().toLocalDate().with(DayOfWeek.MONDAY),
+                        Collectors.collectingAndThen(Collectors.toList(),
+                                list -> list.stream().mapToLong(QuizQuestion::id).toArray())));
+
+        snapshot = new Snapshot(maxId, count, generalIds, newsIdsByWeek, byId);
+        log.info("퀴즈 풀 적재 완료 - 전체: {}개, 일반: {}개, 뉴스 주차: {}개", count, generalIds.length, newsIdsByWeek.size());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private List<QuizQuestion> toQuestions(Snapshot current, long[] ids) {
+        List<QuizQuestion> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            result.add(current.questions().get(id));
+        }
+        return result;
+    }
+
+    private record Snapshot(long maxId, long count, long[] generalIds,
+                            Map<LocalDate, long[]> newsIdsByWeek, Map<Long, QuizQuestion> questions) {}
+}
@@ -0,0 +1,49 @@
+package com.freedom.quiz.domain.service;
+
+import com.freedom.quiz.domain.entity.QuizType;
+import com.freedom.quiz.domain.model.QuizStatsDelta;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 퀴즈별 풀이 통계 메모리 집계
+ * - 답안 제출 경로에서는 메모리 증분만 기록하고, flush 는 QuizStatsFlushScheduler 가 별도로 수행
+ * - 기록(compute)과 수거(remove)가 같은 키에서 원자적으로 동작하므로 flush 중 기록이 유실되지 않음
+ */
+@Service
+public class QuizStatsAggregator {
+
+    private final Map<Long, QuizStatsDelta> deltas = new ConcurrentHashMap<>();
+
+    public void record(Long quizId, QuizType type, String userAnswer, boolean firstAttempt, boolean correct) {
+        deltas.compute(quizId, (id, delta) ->
+                (delta != null ? delta : new QuizStatsDelta(id)).record(type, userAnswer, firstAttempt, correct));
+    }
+
+    /**
+     * 누적된 증분을 모두 꺼냄 (꺼낸 뒤 기록되는 증분은 다음 flush 대상)
+     */
+    public List<QuizStatsDelta> drain() {
+        List<QuizStatsDelta> drained = new ArrayList<>(deltas.size());
+        for (Long quizId : deltas.keySet()) {
+            QuizStatsDelta delta = deltas.remove(quizId);
+            if (delta != null) {
+                drained.add(delta);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * flush 실패 시 증분을 되돌려 다음 flush 에서 다시 반영
+     */
+    public void restore(List<QuizStatsDelta> failed) {
+        for (QuizStatsDelta delta : failed) {
+            deltas.merge(delta.getQuizId(), delta, QuizStatsDelta::merge);
+        }
+    }
+}
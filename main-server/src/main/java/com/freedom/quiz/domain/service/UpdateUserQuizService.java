@@ -1,22 +1,33 @@
 package com.freedom.quiz.domain.service;
 
-import com.freedom.quiz.domain.entity.UserQuiz;
 import com.freedom.common.exception.custom.UserQuizNotFoundException;
 import com.freedom.quiz.infra.UserQuizRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class UpdateUserQuizService {
 
     private final UserQuizRepository userQuizRepository;
 
-    public void updateAnswer(Long userQuizId, String userAnswer, boolean isCorrect) {
-        UserQuiz userQuiz = userQuizRepository.findById(userQuizId)
-                .orElseThrow(() -> new UserQuizNotFoundException(String.valueOf(userQuizId)));
-
-        userQuiz.submitAnswer(userAnswer, isCorrect);
-        userQuizRepository.save(userQuiz);
+    /**
+     * 조회 없이 조건부 UPDATE 로 반영
+     * - 답안이 비어 있을 때만 갱신하는 UPDATE 의 영향 행 수로 최초 시도 판별 (동시 제출 시 하나만 최초로 집계)
+     * - 재시도면 답안만 덮어씀
+     * @return 최초 시도 여부
+     */
+    public boolean updateAnswer(Long userQuizId, Long userId, String userAnswer, boolean isCorrect) {
+        LocalDateTime now = LocalDateTime.now();
+        if (userQuizRepository.updateFirstAnswer(userQuizId, userId, userAnswer, isCorrect, now) == 1) {
+            return true;
+        }
+        int updated = userQuizRepository.updateAnswer(userQuizId, userId, userAnswer, isCorrect, now);
+        if (updated == 0) {
+            throw new UserQuizNotFoundException(String.valueOf(userQuizId));
+        }
+        return false;
     }
 }
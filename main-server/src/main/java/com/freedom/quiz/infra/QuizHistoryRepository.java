@@ -1,15 +1,28 @@
 package com.freedom.quiz.infra;
 
 import com.freedom.quiz.domain.entity.QuizHistory;
+import com.freedom.quiz.domain.model.UserCorrectCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface QuizHistoryRepository extends JpaRepository<QuizHistory, Long> {
 
-    QuizHistory findByUserIdAndQuizId(Long userId, Long quizId);
+    @Query("SELECT new com.freedom.quiz.domain.model.UserCorrectCount(h.userId, COUNT(h)) FROM QuizHistory h " +
+           "WHERE h.answeredAt >= :start AND h.answeredAt < :end GROUP BY h.userId")
+    List<UserCorrectCount> countFirstCorrectByUserBetween(@Param("start") LocalDateTime start,
+                                                          @Param("end") LocalDateTime end);
 
-    int countByUserIdAndAnsweredAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO quiz_history (user_id, quiz_id, answered_at, created_at, updated_at) " +
+                   "VALUES (:userId, :quizId, :answeredAt, :answeredAt, :answeredAt)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId,
+                     @Param("quizId") Long quizId,
+                     @Param("answeredAt") LocalDateTime answeredAt);
 }
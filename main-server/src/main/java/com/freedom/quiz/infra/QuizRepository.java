@@ -1,27 +1,29 @@
 package com.freedom.quiz.infra;
 
 import com.freedom.quiz.domain.entity.Quiz;
+import com.freedom.quiz.domain.model.QuizAnswerKey;
+import com.freedom.quiz.domain.model.QuizQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
 
-    @Query("SELECT q FROM Quiz q WHERE q.category = 'news' " +
-           "AND q.createdAt >= :weekStart AND q.createdAt <= :weekEnd " +
-           "AND q.id NOT IN :excludeQuizIds ")
-    List<Quiz> findNewsQuizzesInWeek(@Param("weekStart") LocalDateTime weekStart,
-                                     @Param("weekEnd") LocalDateTime weekEnd,
-                                     @Param("excludeQuizIds") List<Long> excludeQuizIds);
+    @Query("SELECT new com.freedom.quiz.domain.model.QuizQuestion(" +
+           "q.id, q.type, q.category, q.question, q.mcqOption1, q.mcqOption2, q.mcqOption3, q.mcqOption4, q.createdAt) " +
+           "FROM Quiz q")
+    List<QuizQuestion> findAllQuestions();
 
-    @Query(value = "SELECT * FROM quiz q WHERE q.category = 'quiz' " +
-           "AND q.id NOT IN :excludeQuizIds " +
-           "ORDER BY RAND() LIMIT :limit", nativeQuery = true)
-    List<Quiz> findGeneralQuizzes(@Param("excludeQuizIds") List<Long> excludeQuizIds, 
-                                 @Param("limit") int limit);
+    @Query("SELECT new com.freedom.quiz.domain.model.QuizAnswerKey(" +
+           "q.id, q.type, q.category, q.hint, q.explanation, q.oxAnswer, q.mcqCorrectIndex) " +
+           "FROM Quiz q WHERE q.id = :quizId")
+    Optional<QuizAnswerKey> findAnswerKeyById(@Param("quizId") Long quizId);
+
+    @Query("SELECT COALESCE(MAX(q.id), 0) FROM Quiz q")
+    long findMaxId();
 }
@@ -0,0 +1,61 @@
+package com.freedom.quiz.infra;
+
+import com.freedom.quiz.domain.model.QuizStatsDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * quiz_stats 증분 일괄 upsert (행 별칭 문법, MySQL 8.0.19+)
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizStatsUpsertWriter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO quiz_stats (quiz_id, attempts, first_attempts, first_try_correct, " +
+            "mcq_option1_count, mcq_option2_count, mcq_option3_count, mcq_option4_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "attempts = quiz_stats.attempts + new.attempts, " +
+            "first_attempts = quiz_stats.first_attempts + new.first_attempts, " +
+            "first_try_correct = quiz_stats.first_try_correct + new.first_try_correct, " +
+            "mcq_option1_count = quiz_stats.mcq_option1_count + new.mcq_option1_count, " +
+            "mcq_option2_count = quiz_stats.mcq_option2_count + new.mcq_option2_count, " +
+            "mcq_option3_count = quiz_stats.mcq_option3_count + new.mcq_option3_count, " +
+            "mcq_option4_count = quiz_stats.mcq_option4_count + new.mcq_option4_count, " +
+            "updated_at = new.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(List<QuizStatsDelta> deltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                QuizStatsDelta delta = deltas.get(i);
+                ps.setLong(1, delta.getQuizId());
+                ps.setLong(2, delta.getAttempts());
+                ps.setLong(3, delta.getFirstAttempts());
+                ps.setLong(4, delta.getFirstTryCorrect());
+                for (int option = 1; option <= 4; option++) {
+                    ps.setLong(4 + option, delta.mcqOptionCount(option));
+                }
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.freedom.quiz.infra;
+
+import com.freedom.quiz.domain.model.AssignedQuiz;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * user_quiz 일괄 INSERT (사전 배정 배치, 지연 생성 공용)
+ * - 사용자별 출제 순번(slot)을 0부터 매겨 INSERT IGNORE - 두 경로가 서로 다른 퀴즈를 골라도
+ *   uk_user_quiz_user_date_slot 에서 먼저 들어간 행만 남으므로 사용자·날짜당 최대 5건
+ *   (한 사용자의 행은 한 multi-row INSERT 로 slot 순서대로 잠기므로 먼저 들어간 쪽 세트가 통째로 남음)
+ * - IDENTITY 전략 엔티티는 Hibernate JDBC 배치가 비활성화되므로 JdbcTemplate batchUpdate 사용
+ * - jdbc url 의 rewriteBatchedStatements=true 설정으로 multi-row INSERT 로 재작성됨
+ */
+@Component
+@RequiredArgsConstructor
+public class UserQuizBulkWriter {
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO user_quiz (user_id, quiz_id, slot, quiz_date, assigned_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param rows 사용자별 출제 순서대로 나열된 배정 행
+     */
+    public void insertIgnoreAll(LocalDate quizDate, LocalDate assignedDate, List<AssignedQuiz> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] slots = slots(rows);
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AssignedQuiz row = rows.get(i);
+                ps.setLong(1, row.userId());
+                ps.setLong(2, row.quizId());
+                ps.setInt(3, slots[i]);
+                ps.setDate(4, Date.valueOf(quizDate));
+                ps.setDate(5, Date.valueOf(assignedDate));
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    // 사용자별 출제 순번 (행 순서 기준 0부터)
+    private static int[] slots(List<AssignedQuiz> rows) {
+        int[] slots = new int[rows.size()];
+        Map<Long, Integer> next = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            slots[i] = next.merge(rows.get(i).userId(), 1, Integer::sum) - 1;
+        }
+        return slots;
+    }
+}
@@ -1,13 +1,18 @@
 package com.freedom.quiz.infra;
 
 import com.freedom.quiz.domain.entity.UserQuiz;
+import com.freedom.quiz.domain.model.AssignedQuiz;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface UserQuizRepository extends JpaRepository<UserQuiz, Long> {
@@ -22,4 +27,45 @@ public interface UserQuizRepository extends JpaRepository<UserQuiz, Long> {
 
     @Query("SELECT uq.quiz.id FROM UserQuiz uq WHERE uq.id = :userQuizId")
     Long findQuizIdByUserQuizId(@Param("userQuizId") Long userQuizId);
+
+    @Query("SELECT uq.quiz.id FROM UserQuiz uq WHERE uq.id = :userQuizId AND uq.userId = :userId")
+    Optional<Long> findQuizIdByIdAndUserId(@Param("userQuizId") Long userQuizId, @Param("userId") Long userId);
+
+    // 아직 답안이 없을 때만 반영 (영향 행 수 1 이면 최초 시도, 동시 제출 중 하나만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserQuiz uq SET uq.userAnswer = :userAnswer, uq.isCorrect = :isCorrect, uq.updatedAt = :now " +
+           "WHERE uq.id = :userQuizId AND uq.userId = :userId AND uq.userAnswer IS NULL")
+    int updateFirstAnswer(@Param("userQuizId") Long userQuizId,
+                          @Param("userId") Long userId,
+                          @Param("userAnswer") String userAnswer,
+                          @Param("isCorrect") boolean isCorrect,
+                          @Param("now") LocalDateTime now);
+
+    // 본인 퀴즈일 때만 반영 (영향 행 수 0 이면 없는 퀴즈)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserQuiz uq SET uq.userAnswer = :userAnswer, uq.isCorrect = :isCorrect, uq.updatedAt = :now " +
+           "WHERE uq.id = :userQuizId AND uq.userId = :userId")
+    int updateAnswer(@Param("userQuizId") Long userQuizId,
+                     @Param("userId") Long userId,
+                     @Param("userAnswer") String userAnswer,
+                     @Param("isCorrect") boolean isCorrect,
+                     @Param("now") LocalDateTime now);
+
+    // 최근 퀴즈에 답한 사용자 (user_id 키셋 청크 조회)
+    // - 배정만 된 행은 제외: 배치가 미리 만든 다음 날 행 때문에 미이용 사용자가 계속 대상에 남지 않도록
+    @Query("SELECT DISTINCT uq.userId FROM UserQuiz uq WHERE uq.quizDate >= :since AND uq.userAnswer IS NOT NULL " +
+           "AND uq.userId > :afterUserId ORDER BY uq.userId")
+    List<Long> findActiveUserIdsAfter(@Param("since") LocalDate since,
+                                      @Param("afterUserId") Long afterUserId,
+                                      Pageable pageable);
+
+    @Query("SELECT DISTINCT uq.userId FROM UserQuiz uq WHERE uq.userId IN :userIds AND uq.quizDate = :quizDate")
+    List<Long> findUserIdsByUserIdInAndQuizDate(@Param("userIds") List<Long> userIds,
+                                               @Param("quizDate") LocalDate quizDate);
+
+    @Query("SELECT new com.freedom.quiz.domain.model.AssignedQuiz(uq.userId, uq.quiz.id) FROM UserQuiz uq " +
+           "WHERE uq.userId IN :userIds AND uq.quizDate >= :startDate AND uq.quizDate <= :endDate")
+    List<AssignedQuiz> findAssignedQuizzesByUserIdInAndDateRange(@Param("userIds") List<Long> userIds,
+                                                                 @Param("startDate") LocalDate startDate,
+                                                                 @Param("endDate") LocalDate endDate);
 }
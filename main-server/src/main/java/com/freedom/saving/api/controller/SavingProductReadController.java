@@ -4,11 +4,14 @@ import com.freedom.saving.api.dto.MaturityPreviewRequest;
 import com.freedom.saving.api.dto.MaturityPreviewResponse;
 import com.freedom.saving.application.maturity.SavingMaturityPreviewService;
 import com.freedom.saving.application.query.SavingProductQueryService;
+import com.freedom.saving.application.query.SavingProductSearchService;
 import com.freedom.saving.application.query.dto.SavingProductDetail;
+import com.freedom.saving.application.query.dto.SavingProductListItem;
 import com.freedom.saving.util.SavingProductQueryUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +24,7 @@ import java.util.List;
 public class SavingProductReadController {
 
     private final SavingProductQueryService readService;
+    private final SavingProductSearchService searchService;
     private final SavingMaturityPreviewService maturityPreviewService;
 
     @GetMapping
@@ -37,6 +41,16 @@ public class SavingProductReadController {
         return readService.getSavingProductsWithBankNames(type, sort, bankNames);
     }
 
+    /**
+     * 상품명/은행명 검색 (부분 문자열, 초성 질의 지원. 예: q=ㅈㄱ)
+     */
+    @GetMapping("/search")
+    public List<SavingProductListItem> searchProducts(
+            @RequestParam("q") @NotBlank @Size(max = 50) String query,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return searchService.search(query, size);
+    }
+
     @GetMapping("/{productId}")
     public SavingProductDetail getProductDetail(
             @PathVariable("productId") @Positive Long productSnapshotId) {
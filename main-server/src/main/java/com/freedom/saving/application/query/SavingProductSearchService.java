@@ -0,0 +1,109 @@
+package com.freedom.saving.application.query;
+
+import com.freedom.saving.application.query.dto.SavingProductListItem;
+import com.freedom.saving.domain.model.SavingProductSearchDocument;
+import com.freedom.saving.domain.model.SavingProductSearchIndex;
+import com.freedom.saving.domain.model.SavingProductSnapshot;
+import com.freedom.saving.infra.persistence.SavingProductSnapshotJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 적금 상품 검색 (메모리 색인)
+ * - 최신 스냅샷 전체로 상품명/은행명 bigram·초성 색인을 만들어 DB 없이 검색
+ * - 최신 스냅샷의 COUNT/MAX(id) 를 주기적으로 확인해 admin-server 가 새 공시를 반영하면 색인을 새로 만들어 통째로 교체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SavingProductSearchService {
+
+    static final int MAX_SEARCH_SIZE = 50;
+
+    private final SavingProductSnapshotJpaRepository productRepo;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 상품명/은행명 검색 (상품명 일치 우선, 동점은 가입자 수 순)
+     */
+    public List<SavingProductListItem> search(String query, int size) {
+        Snapshot current = current();
+        int limit = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        return current.index().search(query, limit).stream()
+                .map(current.items()::get)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (Exception e) {
+            log.error("적금 상품 검색 색인 초기 적재 실패 - 첫 검색 시 다시 시도", e);
+        }
+    }
+
+    /**
+     * 변경 감지 시 색인 재구성 (새 공시 스냅샷 반영)
+     */
+    @Scheduled(fixedDelayString = "${saving.product-search.refresh-delay-ms:60000}")
+    public void refreshIfChanged() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return; // 첫 사용 시 적재
+        }
+        try {
+            if (current.maxId() != productRepo.findMaxLatestId() || current.count() != productRepo.countByIsLatestTrue()) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.error("적금 상품 검색 색인 갱신 확인 실패", e);
+        }
+    }
+
+    public synchronized void reload() {
+        long maxId = productRepo.findMaxLatestId();
+        long count = productRepo.countByIsLatestTrue();
+        List<SavingProductSnapshot> products = productRepo.findAllLatestOrderBySubscriberCountDesc();
+
+        List<SavingProductSearchDocument> documents = new ArrayList<>(products.size());
+        Map<Long, SavingProductListItem> items = new HashMap<>(products.size() * 2);
+        for (SavingProductSnapshot s : products) {
+            documents.add(new SavingProductSearchDocument(s.getId(), s.getFinPrdtNm(), s.getKorCoNm(),
+                    s.getSubscriberCount() != null ? s.getSubscriberCount() : 0L));
+
+            SavingProductListItem item = new SavingProductListItem();
+            item.setProductSnapshotId(s.getId());
+            item.setProductName(s.getFinPrdtNm());
+            item.setBankName(s.getKorCoNm());
+            item.setAiSummary(s.getAiSummary() != null ? s.getAiSummary() : "");
+            items.put(s.getId(), item);
+        }
+
+        snapshot = new Snapshot(maxId, count, SavingProductSearchIndex.build(documents), items);
+        log.info("적금 상품 검색 색인 적재 완료 - 상품: {}개", documents.size());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(long maxId, long count, SavingProductSearchIndex index,
+                            Map<Long, SavingProductListItem> items) {}
+}
@@ -0,0 +1,7 @@
+package com.freedom.saving.domain.model;
+
+/**
+ * 상품 검색 색인 대상 (최신 스냅샷 기준)
+ */
+public record SavingProductSearchDocument(Long productSnapshotId, String productName, String bankName,
+                                          long subscriberCount) {}
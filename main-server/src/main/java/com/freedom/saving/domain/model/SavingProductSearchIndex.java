@@ -0,0 +1,188 @@
+package com.freedom.saving.domain.model;
+
+import com.freedom.common.util.KoreanTextUtil;
+
+import java.util.*;
+
+import static com.freedom.common.util.KoreanTextUtil.*;
+
+/**
+ * 적금 상품 검색 색인 (메모리)
+ * - 상품명/은행명을 정규화(공백 제거, 소문자)한 문자열과 그 초성 문자열에 대해 글자 bigram 역색인을 둠
+ * - 질의 단어의 bigram 포스팅을 교집합한 뒤 실제 부분 문자열 포함 여부로 확정 (한 글자 질의는 글자 포스팅 사용)
+ * - 질의에 초성(ㄱ~ㅎ)이 섞여 있으면 초성 문자열에서 찾음 (예: "ㅈㄱ" → 적금)
+ * - 공백으로 나눈 모든 단어가 상품명 또는 은행명에 있어야 하며, 상품명 일치 2점·은행명 일치 1점 합산 후 가입자 수로 동점 처리
+ * - 생성 후 불변이므로 여러 스레드에서 공유 가능
+ */
+public final class SavingProductSearchIndex {
+
+    static final int NAME_WEIGHT = 2;
+    static final int BANK_WEIGHT = 1;
+
+    private final SavingProductSearchDocument[] documents;
+    private final SubstringIndex names;
+    private final SubstringIndex nameInitials;
+    private final SubstringIndex banks;
+    private final SubstringIndex bankInitials;
+
+    private SavingProductSearchIndex(SavingProductSearchDocument[] documents) {
+        this.documents = documents;
+        String[] nameTexts = new String[documents.length];
+        String[] bankTexts = new String[documents.length];
+        for (int i = 0; i < documents.length; i++) {
+            nameTexts[i] = normalize(documents[i].productName());
+            bankTexts[i] = normalize(documents[i].bankName());
+        }
+        this.names = new SubstringIndex(nameTexts);
+        this.nameInitials = new SubstringIndex(Arrays.stream(nameTexts).map(KoreanTextUtil::toChoseong).toArray(String[]::new));
+        this.banks = new SubstringIndex(bankTexts);
+        this.bankInitials = new SubstringIndex(Arrays.stream(bankTexts).map(KoreanTextUtil::toChoseong).toArray(String[]::new));
+    }
+
+    public static SavingProductSearchIndex build(Collection<SavingProductSearchDocument> documents) {
+        return new SavingProductSearchIndex(documents.toArray(new SavingProductSearchDocument[0]));
+    }
+
+    public int size() {
+        return documents.length;
+    }
+
+    /**
+     * 질의와 일치하는 상품 스냅샷 ID (점수 → 가입자 수 → ID 순)
+     */
+    public List<Long> search(String query, int limit) {
+        String[] words = query == null ? new String[0] : query.trim().split("\\s+");
+        int[] scores = new int[documents.length];
+        boolean matchedAnyWord = false;
+        boolean[] alive = null;
+
+        for (String word : words) {
+            String normalized = normalize(word);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            boolean initials = containsChoseong(normalized);
+            String key = initials ? toChoseong(normalized) : normalized;
+            BitSet nameHits = (initials ? nameInitials : names).find(key);
+            BitSet bankHits = (initials ? bankInitials : banks).find(key);
+
+            boolean[] next = new boolean[documents.length];
+            for (int doc = 0; doc < documents.length; doc++) {
+                if (alive != null && !alive[doc]) {
+                    continue;
+                }
+                if (nameHits.get(doc)) {
+                    scores[doc] += NAME_WEIGHT;
+                    next[doc] = true;
+                } else if (bankHits.get(doc)) {
+                    scores[doc] += BANK_WEIGHT;
+                    next[doc] = true;
+                }
+            }
+            alive = next;
+            matchedAnyWord = true;
+        }
+        if (!matchedAnyWord || limit <= 0) {
+            return List.of();
+        }
+
+        List<Integer> hits = new ArrayList<>();
+        for (int doc = 0; doc < documents.length; doc++) {
+            if (alive[doc]) {
+                hits.add(doc);
+            }
+        }
+        hits.sort(Comparator.<Integer>comparingInt(doc -> scores[doc]).reversed()
+                .thenComparing(Comparator.<Integer>comparingLong(doc -> documents[doc].subscriberCount()).reversed())
+                .thenComparingLong(doc -> documents[doc].productSnapshotId()));
+        return hits.stream()
+                .limit(limit)
+                .map(doc -> documents[doc].productSnapshotId())
+                .toList();
+    }
+
+    /**
+     * 부분 문자열 검색용 bigram 역색인 (문서 번호 오름차순 포스팅)
+     */
+    private static final class SubstringIndex {
+
+        private final String[] texts;
+        private final Map<Integer, int[]> postings;
+
+        SubstringIndex(String[] texts) {
+            this.texts = texts;
+            Map<Integer, List<Integer>> building = new HashMap<>();
+            for (int doc = 0; doc < texts.length; doc++) {
+                Set<Integer> grams = new HashSet<>();
+                String text = texts[doc];
+                for (int i = 0; i < text.length(); i++) {
+                    grams.add(unigram(text.charAt(i)));
+                    if (i + 1 < text.length()) {
+                        grams.add(bigram(text.charAt(i), text.charAt(i + 1)));
+                    }
+                }
+                for (Integer gram : grams) {
+                    building.computeIfAbsent(gram, g -> new ArrayList<>()).add(doc);
+                }
+            }
+            this.postings = new HashMap<>(building.size() * 2);
+            building.forEach((gram, docs) -> postings.put(gram, docs.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        BitSet find(String key) {
+            BitSet result = new BitSet(texts.length);
+            int[] candidates = candidates(key);
+            for (int doc : candidates) {
+                // bigram 교집합은 순서를 보장하지 않으므로 실제 포함 여부로 확정
+                if (texts[doc].contains(key)) {
+                    result.set(doc);
+                }
+            }
+            return result;
+        }
+
+        private int[] candidates(String key) {
+            if (key.length() == 1) {
+                return postings.getOrDefault(unigram(key.charAt(0)), new int[0]);
+            }
+            int[] result = null;
+            for (int i = 0; i + 1 < key.length(); i++) {
+                int[] posting = postings.get(bigram(key.charAt(i), key.charAt(i + 1)));
+                if (posting == null) {
+                    return new int[0];
+                }
+                result = result == null ? posting : intersect(result, posting);
+                if (result.length == 0) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0, j = 0, n = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    out[n++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, n);
+        }
+
+        // 글자 하나는 상위 16비트를 비워 bigram 과 구분 (bigram 첫 글자가 0 인 경우는 없음)
+        private static int unigram(char c) {
+            return c;
+        }
+
+        private static int bigram(char first, char second) {
+            return (first << 16) | second;
+        }
+    }
+}
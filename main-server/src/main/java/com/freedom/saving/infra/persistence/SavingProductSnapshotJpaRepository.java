@@ -15,4 +15,9 @@ public interface SavingProductSnapshotJpaRepository extends JpaRepository<Saving
      */
     @Query("select s from SavingProductSnapshot s where s.isLatest = true order by coalesce(s.subscriberCount, 0) desc")
     List<SavingProductSnapshot> findAllLatestOrderBySubscriberCountDesc();
+
+    long countByIsLatestTrue();
+
+    @Query("select coalesce(max(s.id), 0) from SavingProductSnapshot s where s.isLatest = true")
+    long findMaxLatestId();
 }
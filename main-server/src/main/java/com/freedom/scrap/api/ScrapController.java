@@ -4,6 +4,7 @@ import com.freedom.common.dto.PageResponse;
 import com.freedom.common.logging.Loggable;
 import com.freedom.common.security.CustomUserPrincipal;
 import com.freedom.scrap.api.request.QuizScrapRequest;
+import com.freedom.scrap.api.response.ScrapSliceResponse;
 import com.freedom.scrap.application.QuizScrapFacade;
 import com.freedom.scrap.application.NewsScrapFacade;
 import com.freedom.scrap.application.dto.NewsScrapDto;
@@ -13,12 +14,15 @@ import com.freedom.scrap.application.dto.QuizScrapToggleResult;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api/scrap")
 @RequiredArgsConstructor
@@ -39,16 +43,30 @@ public class ScrapController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 기본은 (scrappedDate, createdAt, id) 키셋 조회, paged=true 이면 기존 page/size 기반 PageResponse
+     */
     @Loggable("뉴스 스크랩 목록 조회 API")
     @GetMapping("/news")
-    public ResponseEntity<PageResponse<NewsScrapDto>> getNewsScrapList(
-            @PageableDefault(size = 20, sort = "scrappedDate", direction = Sort.Direction.DESC) 
-            Pageable pageable,
+    public ResponseEntity<?> getNewsScrapList(
+            @RequestParam(value = "paged", defaultValue = "false") boolean paged,
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(value = "cursorScrappedDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorScrappedDate,
+            @RequestParam(value = "cursorCreatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorId", required = false) Long cursorId,
+            @RequestParam(value = "size", defaultValue = "20") int size,
             @AuthenticationPrincipal CustomUserPrincipal userPrincipal) {
-        
-        PageResponse<NewsScrapDto> response = scrapFacade.getNewsScrapList(
-                userPrincipal.getId(), pageable);
-        
+
+        if (paged) {
+            PageResponse<NewsScrapDto> response = scrapFacade.getNewsScrapList(
+                    userPrincipal.getId(), pageable);
+            return ResponseEntity.ok(response);
+        }
+
+        ScrapSliceResponse<NewsScrapDto> response = scrapFacade.getNewsScrapSlice(
+                userPrincipal.getId(), cursorScrappedDate, cursorCreatedAt, cursorId, size);
         return ResponseEntity.ok(response);
     }
     
@@ -68,14 +86,25 @@ public class ScrapController {
     
     @Loggable("퀴즈 스크랩 목록 조회 API")
     @GetMapping("/quiz")
-    public ResponseEntity<PageResponse<QuizScrapDto>> getQuizScrapList(
-            @PageableDefault(size = 20, sort = "scrappedDate", direction = Sort.Direction.DESC) 
-            Pageable pageable,
+    public ResponseEntity<?> getQuizScrapList(
+            @RequestParam(value = "paged", defaultValue = "false") boolean paged,
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(value = "cursorScrappedDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorScrappedDate,
+            @RequestParam(value = "cursorCreatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorId", required = false) Long cursorId,
+            @RequestParam(value = "size", defaultValue = "20") int size,
             @AuthenticationPrincipal CustomUserPrincipal userPrincipal) {
-        
-        PageResponse<QuizScrapDto> response = quizScrapFacade.getQuizScrapList(
-                userPrincipal.getId(), pageable);
-        
+
+        if (paged) {
+            PageResponse<QuizScrapDto> response = quizScrapFacade.getQuizScrapList(
+                    userPrincipal.getId(), pageable);
+            return ResponseEntity.ok(response);
+        }
+
+        ScrapSliceResponse<QuizScrapDto> response = quizScrapFacade.getQuizScrapSlice(
+                userPrincipal.getId(), cursorScrappedDate, cursorCreatedAt, cursorId, size);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,36 @@
+package com.freedom.scrap.api.response;
+
+import com.freedom.scrap.domain.model.ScrapKeysetRow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 스크랩 목록 키셋 페이지 응답
+ * - 다음 페이지 요청 시 nextCursorScrappedDate, nextCursorCreatedAt, nextCursorId 를 그대로 전달
+ */
+public record ScrapSliceResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        LocalDate nextCursorScrappedDate,
+        LocalDateTime nextCursorCreatedAt,
+        Long nextCursorId
+) {
+    /**
+     * @param rows size + 1 건까지 조회한 결과 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <R extends ScrapKeysetRow, T> ScrapSliceResponse<T> of(List<R> rows, int size, Function<R, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+        List<T> content = page.stream().map(mapper).toList();
+
+        if (!hasNext || page.isEmpty()) {
+            return new ScrapSliceResponse<>(content, size, false, null, null, null);
+        }
+        R last = page.get(page.size() - 1);
+        return new ScrapSliceResponse<>(content, size, true, last.scrappedDate(), last.createdAt(), last.id());
+    }
+}
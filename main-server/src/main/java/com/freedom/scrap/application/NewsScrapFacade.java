@@ -3,16 +3,15 @@ package com.freedom.scrap.application;
 import com.freedom.achievement.application.dto.AchievementDto;
 import com.freedom.achievement.domain.entity.Achievement;
 import com.freedom.achievement.domain.service.AchievementCommandService;
-import com.freedom.auth.domain.User;
-import com.freedom.auth.domain.service.FindUserService;
 import com.freedom.common.dto.PageResponse;
+import com.freedom.common.exception.custom.NewsNotFoundException;
 import com.freedom.common.logging.Loggable;
-import com.freedom.news.application.dto.NewsDetailDto;
 import com.freedom.news.domain.service.FindNewsService;
+import com.freedom.scrap.api.response.ScrapSliceResponse;
 import com.freedom.scrap.application.dto.NewsScrapDto;
 import com.freedom.scrap.application.dto.NewsScrapToggleResult;
-import com.freedom.scrap.domain.entity.NewsScrap;
 import com.freedom.scrap.domain.entity.ScrapHistory;
+import com.freedom.scrap.domain.model.NewsScrapRow;
 import com.freedom.scrap.domain.service.FindNewsScrapService;
 import com.freedom.scrap.domain.service.FindScrapHistoryService;
 import com.freedom.scrap.domain.service.NewsScrapToggleService;
@@ -22,24 +21,30 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NewsScrapFacade {
+
+    private static final int MAX_PAGE_SIZE = 100;
     
     private final NewsScrapToggleService newsScrapToggleService;
     private final FindNewsScrapService findNewsScrapService;
     private final FindNewsService findNewsService;
-    private final FindUserService findUserService;
     private final FindScrapHistoryService findScrapHistoryService;
     private final AchievementCommandService achievementCommandService;
 
     @Loggable("뉴스 스크랩 토글")
     @Transactional
     public NewsScrapToggleResult toggleNewsScrap(Long userId, Long newsArticleId) {
-        User user = findUserService.findById(userId);
-        NewsDetailDto newsArticle = findNewsService.findNewsById(newsArticleId);
-        boolean isScraped = newsScrapToggleService.toggleNewsScrap(user, newsArticle.getId());
+        if (!findNewsService.existsById(newsArticleId)) {
+            throw new NewsNotFoundException("존재하지 않는 뉴스 입니다." + newsArticleId);
+        }
+        boolean isScraped = newsScrapToggleService.toggleNewsScrap(userId, newsArticleId);
         AchievementDto achievementDto = null;
         if(isScraped){
             int count = findScrapHistoryService.getTotalScrapCountByType(userId, ScrapHistory.ScrapType.NEWS);
@@ -52,8 +57,22 @@ public class NewsScrapFacade {
     
     @Loggable("사용자 뉴스 스크랩 목록 조회")
     public PageResponse<NewsScrapDto> getNewsScrapList(Long userId, Pageable pageable) {
-        Page<NewsScrap> newsScrapPage = findNewsScrapService.findNewsScrapsByUserId(userId, pageable);
+        Page<NewsScrapRow> newsScrapPage = findNewsScrapService.findNewsScrapsByUserId(userId, pageable);
         Page<NewsScrapDto> newsScrapDtoPage = newsScrapPage.map(NewsScrapDto::from);
         return PageResponse.of(newsScrapDtoPage);
     }
+
+    /**
+     * 사용자 뉴스 스크랩 목록 키셋 조회 - OFFSET/COUNT 쿼리 없음
+     */
+    @Loggable("사용자 뉴스 스크랩 목록 키셋 조회")
+    public ScrapSliceResponse<NewsScrapDto> getNewsScrapSlice(Long userId, LocalDate cursorScrappedDate,
+                                                              LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<NewsScrapRow> rows = findNewsScrapService.findNewsScrapSlice(
+                userId, cursorScrappedDate, cursorCreatedAt, cursorId, pageSize + 1);
+        return ScrapSliceResponse.of(rows, pageSize, NewsScrapDto::from);
+    }
 }
@@ -3,16 +3,15 @@ package com.freedom.scrap.application;
 import com.freedom.achievement.application.dto.AchievementDto;
 import com.freedom.achievement.domain.entity.Achievement;
 import com.freedom.achievement.domain.service.AchievementCommandService;
-import com.freedom.auth.domain.User;
-import com.freedom.auth.domain.service.FindUserService;
 import com.freedom.common.dto.PageResponse;
+import com.freedom.common.exception.custom.UserQuizNotFoundException;
 import com.freedom.common.logging.Loggable;
-import com.freedom.quiz.application.dto.UserQuizDto;
 import com.freedom.quiz.domain.service.FindUserQuizService;
+import com.freedom.scrap.api.response.ScrapSliceResponse;
 import com.freedom.scrap.application.dto.QuizScrapDto;
 import com.freedom.scrap.application.dto.QuizScrapToggleResult;
-import com.freedom.scrap.domain.entity.QuizScrap;
 import com.freedom.scrap.domain.entity.ScrapHistory;
+import com.freedom.scrap.domain.model.QuizScrapRow;
 import com.freedom.scrap.domain.service.FindQuizScrapService;
 import com.freedom.scrap.domain.service.FindScrapHistoryService;
 import com.freedom.scrap.domain.service.QuizScrapToggleService;
@@ -22,14 +21,19 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class QuizScrapFacade {
+
+    private static final int MAX_PAGE_SIZE = 100;
     
     private final QuizScrapToggleService quizScrapToggleService;
     private final FindQuizScrapService findQuizScrapService;
-    private final FindUserService findUserService;
     private final FindUserQuizService findUserQuizService;
     private final FindScrapHistoryService findScrapHistoryService;
     private final AchievementCommandService achievementCommandService;
@@ -37,9 +41,10 @@ public class QuizScrapFacade {
     @Loggable("퀴즈 스크랩 토글")
     @Transactional
     public QuizScrapToggleResult toggleQuizScrap(Long userId, Long userQuizId, Boolean isCorrectAtScrap) {
-        User user = findUserService.findById(userId);
-        UserQuizDto userQuiz = findUserQuizService.findUserQuizById(userQuizId);
-        boolean isScraped = quizScrapToggleService.toggleQuizScrap(user, userQuiz.getUserQuizId(), isCorrectAtScrap);
+        if (!findUserQuizService.existsById(userQuizId)) {
+            throw new UserQuizNotFoundException(String.valueOf(userQuizId));
+        }
+        boolean isScraped = quizScrapToggleService.toggleQuizScrap(userId, userQuizId, isCorrectAtScrap);
         AchievementDto achievementDto = null;
         if(isScraped){
             int count = findScrapHistoryService.getTotalScrapCountByType(userId, ScrapHistory.ScrapType.QUIZ);
@@ -52,8 +57,22 @@ public class QuizScrapFacade {
     
     @Loggable("사용자 퀴즈 스크랩 목록 조회")
     public PageResponse<QuizScrapDto> getQuizScrapList(Long userId, Pageable pageable) {
-        Page<QuizScrap> quizScrapPage = findQuizScrapService.findQuizScrapsByUserId(userId, pageable);
+        Page<QuizScrapRow> quizScrapPage = findQuizScrapService.findQuizScrapsByUserId(userId, pageable);
         Page<QuizScrapDto> quizScrapDtoPage = quizScrapPage.map(QuizScrapDto::from);
         return PageResponse.of(quizScrapDtoPage);
     }
+
+    /**
+     * 사용자 퀴즈 스크랩 목록 키셋 조회 - OFFSET/COUNT 쿼리 없음
+     */
+    @Loggable("사용자 퀴즈 스크랩 목록 키셋 조회")
+    public ScrapSliceResponse<QuizScrapDto> getQuizScrapSlice(Long userId, LocalDate cursorScrappedDate,
+                                                              LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<QuizScrapRow> rows = findQuizScrapService.findQuizScrapSlice(
+                userId, cursorScrappedDate, cursorCreatedAt, cursorId, pageSize + 1);
+        return ScrapSliceResponse.of(rows, pageSize, QuizScrapDto::from);
+    }
 }
@@ -1,6 +1,6 @@
 package com.freedom.scrap.application.dto;
 
-import com.freedom.scrap.domain.entity.NewsScrap;
+import com.freedom.scrap.domain.model.NewsScrapRow;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -21,16 +21,16 @@ public class NewsScrapDto {
     private boolean isScraped;
     
     /**
-     * NewsScrap 엔티티를 DTO로 변환
+     * 스크랩 목록 프로젝션을 DTO로 변환
      */
-    public static NewsScrapDto from(NewsScrap newsScrap) {
+    public static NewsScrapDto from(NewsScrapRow row) {
         return NewsScrapDto.builder()
-                .newsArticleId(newsScrap.getNewsArticle().getId())
-                .scrappedDate(formatScrappedDate(newsScrap.getScrappedDate()))
-                .title(newsScrap.getNewsArticle().getTitle())
-                .aiSummary(newsScrap.getNewsArticle().getAiSummary())
-                .thumbnailUrl(newsScrap.getNewsArticle().getThumbnailUrl())
-                .approveDate(formatApproveDate(newsScrap.getNewsArticle().getApproveDate()))
+                .newsArticleId(row.newsArticleId())
+                .scrappedDate(formatScrappedDate(row.scrappedDate()))
+                .title(row.title())
+                .aiSummary(row.aiSummary())
+                .thumbnailUrl(row.thumbnailUrl())
+                .approveDate(formatApproveDate(row.approveDate()))
                 .isScraped(true) // 스크랩 목록이므로 항상 true
                 .build();
     }
@@ -2,7 +2,7 @@ package com.freedom.scrap.application.dto;
 
 import com.freedom.quiz.domain.entity.QuizDifficulty;
 import com.freedom.quiz.domain.entity.QuizType;
-import com.freedom.scrap.domain.entity.QuizScrap;
+import com.freedom.scrap.domain.model.QuizScrapRow;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -37,30 +37,30 @@ public class QuizScrapDto {
     private Integer mcqCorrectIndex;
     
     /**
-     * QuizScrap 엔티티를 DTO로 변환
+     * 스크랩 목록 프로젝션을 DTO로 변환
      */
-    public static QuizScrapDto from(QuizScrap quizScrap) {
+    public static QuizScrapDto from(QuizScrapRow row) {
         return QuizScrapDto.builder()
-                .userQuizId(quizScrap.getUserQuiz().getId())
-                .quizId(quizScrap.getUserQuiz().getQuiz().getId())
-                .scrappedDate(formatDate(quizScrap.getScrappedDate()))
-                .quizDate(formatDate(quizScrap.getUserQuiz().getQuizDate()))
-                .quizType(quizScrap.getUserQuiz().getQuiz().getType())
-                .difficulty(quizScrap.getUserQuiz().getQuiz().getDifficulty())
-                .category(quizScrap.getUserQuiz().getQuiz().getCategory())
-                .question(quizScrap.getUserQuiz().getQuiz().getQuestion())
-                .explanation(quizScrap.getUserQuiz().getQuiz().getExplanation())
-                .isCorrectAtScrap(quizScrap.getIsCorrectAtScrap())
-                .userAnswer(quizScrap.getUserQuiz().getUserAnswer())
+                .userQuizId(row.userQuizId())
+                .quizId(row.quizId())
+                .scrappedDate(formatDate(row.scrappedDate()))
+                .quizDate(formatDate(row.quizDate()))
+                .quizType(row.quizType())
+                .difficulty(row.difficulty())
+                .category(row.category())
+                .question(row.question())
+                .explanation(row.explanation())
+                .isCorrectAtScrap(row.isCorrectAtScrap())
+                .userAnswer(row.userAnswer())
                 .isScraped(true) // 스크랩 목록이므로 항상 true
                 // OX 퀴즈 필드
-                .oxAnswer(quizScrap.getUserQuiz().getQuiz().getOxAnswer())
+                .oxAnswer(row.oxAnswer())
                 // MCQ 퀴즈 필드
-                .mcqOption1(quizScrap.getUserQuiz().getQuiz().getMcqOption1())
-                .mcqOption2(quizScrap.getUserQuiz().getQuiz().getMcqOption2())
-                .mcqOption3(quizScrap.getUserQuiz().getQuiz().getMcqOption3())
-                .mcqOption4(quizScrap.getUserQuiz().getQuiz().getMcqOption4())
-                .mcqCorrectIndex(quizScrap.getUserQuiz().getQuiz().getMcqCorrectIndex())
+                .mcqOption1(row.mcqOption1())
+                .mcqOption2(row.mcqOption2())
+                .mcqOption3(row.mcqOption3())
+                .mcqOption4(row.mcqOption4())
+                .mcqCorrectIndex(row.mcqCorrectIndex())
                 .build();
     }
     
@@ -19,7 +19,7 @@ import java.time.LocalDate;
         columnNames = {"user_id", "news_article_id"}
     ),
     indexes = {
-        @Index(name = "idx_user_id_scrapped_date", columnList = "user_id, scrapped_date DESC")
+        @Index(name = "idx_user_id_scrapped_created", columnList = "user_id, scrapped_date DESC, created_at DESC")
     }
 )
 @Getter
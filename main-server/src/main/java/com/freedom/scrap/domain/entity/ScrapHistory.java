@@ -12,7 +12,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @Entity
-@Table(name = "scrap_history")
+@Table(
+    name = "scrap_history",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_scrap_history_user_scrap_type",
+        columnNames = {"user_id", "scrap_id", "type"}
+    )
+)
 public class ScrapHistory {
 
     @Id
@@ -0,0 +1,7 @@
+package com.freedom.scrap.domain.event;
+
+/**
+ * 뉴스 스크랩 등록/해제 이벤트 (커밋 후 스크랩 상태 캐시 반영용)
+ */
+public record NewsScrapToggledEvent(Long userId, Long newsArticleId, boolean scrapped) {
+}
@@ -0,0 +1,11 @@
+package com.freedom.scrap.domain.event;
+
+import com.freedom.scrap.domain.entity.ScrapHistory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최초 스크랩 이벤트 (scrap_history 신규 INSERT 시에만 발행 - 해제 후 재스크랩은 제외)
+ */
+public record ScrapAddedEvent(Long userId, ScrapHistory.ScrapType type, LocalDateTime scrapAt) {
+}
@@ -0,0 +1,19 @@
+package com.freedom.scrap.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 스크랩 목록 조회용 프로젝션
+ * - NewsScrap/NewsArticle 엔티티를 로딩하지 않고 목록에 필요한 컬럼만 조회
+ */
+public record NewsScrapRow(
+        Long id,
+        LocalDate scrappedDate,
+        LocalDateTime createdAt,
+        Long newsArticleId,
+        String title,
+        String aiSummary,
+        String thumbnailUrl,
+        LocalDateTime approveDate
+) implements ScrapKeysetRow {}
@@ -0,0 +1,33 @@
+package com.freedom.scrap.domain.model;
+
+import com.freedom.quiz.domain.entity.QuizDifficulty;
+import com.freedom.quiz.domain.entity.QuizType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 퀴즈 스크랩 목록 조회용 프로젝션
+ * - QuizScrap/UserQuiz/Quiz 엔티티를 로딩하지 않고 목록에 필요한 컬럼만 조회
+ */
+public record QuizScrapRow(
+        Long id,
+        LocalDate scrappedDate,
+        LocalDateTime createdAt,
+        Boolean isCorrectAtScrap,
+        Long userQuizId,
+        LocalDate quizDate,
+        String userAnswer,
+        Long quizId,
+        QuizType quizType,
+        QuizDifficulty difficulty,
+        String category,
+        String question,
+        String explanation,
+        Boolean oxAnswer,
+        String mcqOption1,
+        String mcqOption2,
+        String mcqOption3,
+        String mcqOption4,
+        Integer mcqCorrectIndex
+) implements ScrapKeysetRow {}
@@ -0,0 +1,16 @@
+package com.freedom.scrap.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 스크랩 목록 키셋 커서 (scrapped_date, created_at, id 내림차순)
+ */
+public interface ScrapKeysetRow {
+
+    Long id();
+
+    LocalDate scrappedDate();
+
+    LocalDateTime createdAt();
+}
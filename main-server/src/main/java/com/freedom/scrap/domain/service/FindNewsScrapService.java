@@ -1,29 +1,40 @@
 package com.freedom.scrap.domain.service;
 
 import com.freedom.common.logging.Loggable;
-import com.freedom.scrap.application.dto.NewsScrapDto;
-import com.freedom.scrap.domain.entity.NewsScrap;
+import com.freedom.scrap.domain.model.NewsScrapRow;
 import com.freedom.scrap.infra.NewsScrapRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class FindNewsScrapService {
-    
+
     private final NewsScrapRepository newsScrapRepository;
     
     @Loggable("사용자 뉴스 스크랩 목록 조회")
-    public Page<NewsScrap> findNewsScrapsByUserId(Long userId, Pageable pageable) {
-        return newsScrapRepository.findByUserIdOrderByScrappedDateDesc(userId, pageable);
+    public Page<NewsScrapRow> findNewsScrapsByUserId(Long userId, Pageable pageable) {
+        return newsScrapRepository.findRowsByUserId(userId, pageable);
     }
 
-    @Transactional(readOnly = true)
-    public NewsScrapDto getNewsScrapById(Long newsId, Long userId) {
-        NewsScrap newsScrap = newsScrapRepository.findByUserIdAndNewsArticleId(userId, newsId).orElse(null);
-        return newsScrap != null ? NewsScrapDto.from(newsScrap) : null;
+    /**
+     * 사용자 뉴스 스크랩 목록 키셋 조회 (scrapped_date, created_at, id 내림차순)
+     * - 커서 세 값이 모두 있어야 이어서 조회하고, 하나라도 없으면 첫 페이지
+     */
+    @Loggable("사용자 뉴스 스크랩 목록 키셋 조회")
+    public List<NewsScrapRow> findNewsScrapSlice(Long userId, LocalDate cursorScrappedDate,
+                                               LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        if (cursorScrappedDate == null || cursorCreatedAt == null || cursorId == null) {
+            return newsScrapRepository.findFirstRows(userId, PageRequest.of(0, limit));
+        }
+        return newsScrapRepository.findRowsAfterCursor(userId, cursorScrappedDate, cursorCreatedAt, cursorId,
+                PageRequest.of(0, limit));
     }
 }
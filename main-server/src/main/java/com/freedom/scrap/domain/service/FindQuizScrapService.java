@@ -1,21 +1,40 @@
 package com.freedom.scrap.domain.service;
 
 import com.freedom.common.logging.Loggable;
-import com.freedom.scrap.domain.entity.QuizScrap;
+import com.freedom.scrap.domain.model.QuizScrapRow;
 import com.freedom.scrap.infra.QuizScrapRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class FindQuizScrapService {
-    
+
     private final QuizScrapRepository quizScrapRepository;
     
     @Loggable("사용자 퀴즈 스크랩 목록 조회")
-    public Page<QuizScrap> findQuizScrapsByUserId(Long userId, Pageable pageable) {
-        return quizScrapRepository.findByUserIdOrderByScrappedDateDesc(userId, pageable);
+    public Page<QuizScrapRow> findQuizScrapsByUserId(Long userId, Pageable pageable) {
+        return quizScrapRepository.findRowsByUserId(userId, pageable);
+    }
+
+    /**
+     * 사용자 퀴즈 스크랩 목록 키셋 조회 (scrapped_date, created_at, id 내림차순)
+     * - 커서 세 값이 모두 있어야 이어서 조회하고, 하나라도 없으면 첫 페이지
+     */
+    @Loggable("사용자 퀴즈 스크랩 목록 키셋 조회")
+    public List<QuizScrapRow> findQuizScrapSlice(Long userId, LocalDate cursorScrappedDate,
+                                               LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        if (cursorScrappedDate == null || cursorCreatedAt == null || cursorId == null) {
+            return quizScrapRepository.findFirstRows(userId, PageRequest.of(0, limit));
+        }
+        return quizScrapRepository.findRowsAfterCursor(userId, cursorScrappedDate, cursorCreatedAt, cursorId,
+                PageRequest.of(0, limit));
     }
 }
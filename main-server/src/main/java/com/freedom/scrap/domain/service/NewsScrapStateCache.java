@@ -0,0 +1,151 @@
+package com.freedom.scrap.domain.service;
+
+import com.freedom.scrap.domain.event.NewsScrapToggledEvent;
+import com.freedom.scrap.infra.NewsScrapRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 사용자별 스크랩한 뉴스 ID 캐시 (메모리, LRU)
+ * - 정렬된 long[] 로 보관해 상세/목록의 스크랩 여부를 이진 탐색으로 판별 (요청마다 news_scrap 조회 없음)
+ * - 첫 접근 시 사용자의 스크랩 ID 를 한 번에 적재, 토글은 커밋 후 이벤트로 배열을 교체 (copy-on-write)
+ * - 다른 인스턴스의 토글은 TTL 만료 후 재적재로 반영
+ * - DB 적재 중 들어온 토글은 적재 결과에 다시 적용하고, 더 늦게 시작한 적재 결과는 덮어쓰지 않음
+ */
+@Service
+public class NewsScrapStateCache {
+
+    private final NewsScrapRepository newsScrapRepository;
+    private final long ttlMillis;
+    private final Map<Long, Entry> users;
+    private final Map<Long, List<List<NewsScrapToggledEvent>>> loadsInFlight = new HashMap<>(); // users 락으로 보호
+
+    public NewsScrapStateCache(NewsScrapRepository newsScrapRepository,
+                               @Value("${scrap.state-cache.max-users:10000}") int maxUsers,
+                               @Value("${scrap.state-cache.ttl-ms:300000}") long ttlMillis) {
+        this.newsScrapRepository = newsScrapRepository;
+        this.ttlMillis = ttlMillis;
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public boolean isScrapped(Long userId, Long newsId) {
+        return Arrays.binarySearch(scrappedIds(userId), newsId) >= 0;
+    }
+
+    /**
+     * 주어진 뉴스 중 스크랩한 ID (목록 화면용, 한 번의 캐시 조회)
+     */
+    public Set<Long> filterScrapped(Long userId, Collection<Long> newsIds) {
+        long[] ids = scrappedIds(userId);
+        Set<Long> result = new HashSet<>();
+        for (Long newsId : newsIds) {
+            if (Arrays.binarySearch(ids, newsId) >= 0) {
+                result.add(newsId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 토글 커밋 후 반영 (적재되지 않은 사용자는 다음 접근 시 DB 에서 적재)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsScrapToggled(NewsScrapToggledEvent event) {
+        synchronized (users) {
+            Entry entry = users.get(event.userId());
+            if (entry != null) {
+                users.put(event.userId(), new Entry(apply(entry.ids(), event), entry.loadedAt()));
+            }
+            // 진행 중인 DB 조회 결과에 빠졌을 수 있으므로 적재 완료 시 다시 적용
+            List<List<NewsScrapToggledEvent>> loads = loadsInFlight.get(event.userId());
+            if (loads != null) {
+                loads.forEach(missed -> missed.add(event));
+            }
+        }
+    }
+
+    private long[] scrappedIds(Long userId) {
+        long now = System.currentTimeMillis();
+        List<NewsScrapToggledEvent> missed = new ArrayList<>();
+        synchronized (users) {
+            Entry entry = users.get(userId); // 접근 순서 갱신
+            if (entry != null && now - entry.loadedAt() < ttlMillis) {
+                return entry.ids();
+            }
+            loadsInFlight.computeIfAbsent(userId, id -> new ArrayList<>()).add(missed);
+        }
+
+        long[] ids;
+        try {
+            ids = newsScrapRepository.findNewsArticleIdsByUserId(userId).stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+        } catch (RuntimeException e) {
+            synchronized (users) {
+                finishLoad(userId, missed);
+            }
+            throw e;
+        }
+
+        synchronized (users) {
+            finishLoad(userId, missed);
+            for (NewsScrapToggledEvent event : missed) {
+                ids = apply(ids, event);
+            }
+            Entry current = users.get(userId);
+            if (current != null && current.loadedAt() > now) {
+                return current.ids(); // 더 늦게 시작한 적재가 먼저 반영됨
+            }
+            users.put(userId, new Entry(ids, now));
+        }
+        return ids;
+    }
+
+    // users 락 보유 상태에서 호출
+    private void finishLoad(Long userId, List<NewsScrapToggledEvent> missed) {
+        List<List<NewsScrapToggledEvent>> loads = loadsInFlight.get(userId);
+        loads.removeIf(load -> load == missed);
+        if (loads.isEmpty()) {
+            loadsInFlight.remove(userId);
+        }
+    }
+
+    private static long[] apply(long[] ids, NewsScrapToggledEvent event) {
+        return event.scrapped() ? insert(ids, event.newsArticleId()) : remove(ids, event.newsArticleId());
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) {
+            return ids;
+        }
+        int at = -pos - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        next[at] = id;
+        System.arraycopy(ids, at, next, at + 1, ids.length - at);
+        return next;
+    }
+
+    private static long[] remove(long[] ids, long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos < 0) {
+            return ids;
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, pos);
+        System.arraycopy(ids, pos + 1, next, pos, ids.length - pos - 1);
+        return next;
+    }
+
+    private record Entry(long[] ids, long loadedAt) {}
+}
@@ -1,39 +1,41 @@
 package com.freedom.scrap.domain.service;
 
-import com.freedom.auth.domain.User;
-import com.freedom.news.domain.entity.NewsArticle;
-import com.freedom.scrap.domain.entity.NewsScrap;
 import com.freedom.scrap.domain.entity.ScrapHistory;
+import com.freedom.scrap.domain.event.NewsScrapToggledEvent;
+import com.freedom.scrap.domain.event.ScrapAddedEvent;
 import com.freedom.scrap.infra.NewsScrapRepository;
 import com.freedom.scrap.infra.ScrapHistoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * 뉴스 스크랩 토글
+ * - 조건부 DELETE 로 해제를 먼저 시도하고, 지운 행이 없으면 INSERT IGNORE 로 등록 (조회 없이 최대 3문장)
+ * - 최초 스크랩 여부는 scrap_history INSERT IGNORE 결과로 판별
+ */
 @Service
 @RequiredArgsConstructor
 public class NewsScrapToggleService {
     
     private final NewsScrapRepository newsScrapRepository;
     private final ScrapHistoryRepository scrapHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public boolean toggleNewsScrap(User user, Long newsId) {
-        return newsScrapRepository.findByUserIdAndNewsArticleId(user.getId(), newsId)
-                .map(existingScrap -> {
-                    newsScrapRepository.delete(existingScrap);
-                    return false;
-                })
-                .orElseGet(() -> {
-                    NewsScrap newsScrap = NewsScrap.create(user, NewsArticle.createNewsArticle(newsId));
-                    newsScrapRepository.save(newsScrap);
-                    ScrapHistory history = scrapHistoryRepository.findByUserIdAndScrapIdAndType(user.getId(), newsId, ScrapHistory.ScrapType.NEWS);
-                    if (history == null) {
-                        ScrapHistory scrapHistory = ScrapHistory.builder().userId(user.getId()).scrapId(newsId).type(ScrapHistory.ScrapType.NEWS).scrapAt(LocalDateTime.now()).build();
-                        scrapHistoryRepository.save(scrapHistory);
-                    }
-                    return true;
-                });
+    public boolean toggleNewsScrap(Long userId, Long newsId) {
+        if (newsScrapRepository.deleteByUserIdAndNewsArticleId(userId, newsId) > 0) {
+            eventPublisher.publishEvent(new NewsScrapToggledEvent(userId, newsId, false));
+            return false;
+        }
+
+        LocalDateTime scrapAt = LocalDateTime.now();
+        newsScrapRepository.insertIgnore(userId, newsId, scrapAt.toLocalDate(), scrapAt);
+        eventPublisher.publishEvent(new NewsScrapToggledEvent(userId, newsId, true));
+        if (scrapHistoryRepository.insertIgnore(userId, newsId, ScrapHistory.ScrapType.NEWS.name(), scrapAt) > 0) {
+            eventPublisher.publishEvent(new ScrapAddedEvent(userId, ScrapHistory.ScrapType.NEWS, scrapAt));
+        }
+        return true;
     }
 }
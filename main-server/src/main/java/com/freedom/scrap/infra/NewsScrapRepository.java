@@ -1,28 +1,72 @@
 package com.freedom.scrap.infra;
 
 import com.freedom.scrap.domain.entity.NewsScrap;
+import com.freedom.scrap.domain.model.NewsScrapRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface NewsScrapRepository extends JpaRepository<NewsScrap, Long> {
-    
-    Optional<NewsScrap> findByUserIdAndNewsArticleId(Long userId, Long newsArticleId);
-
-    @Query("""
-        SELECT ns FROM NewsScrap ns 
-        JOIN FETCH ns.newsArticle na
-        WHERE ns.user.id = :userId 
-        ORDER BY ns.scrappedDate DESC, ns.createdAt DESC
-        """)
-    Page<NewsScrap> findByUserIdOrderByScrappedDateDesc(
-        @Param("userId") Long userId, 
-        Pageable pageable
-    );
-    
+
+    String NEWS_SCRAP_ROW = "SELECT new com.freedom.scrap.domain.model.NewsScrapRow(" +
+            "ns.id, ns.scrappedDate, ns.createdAt, na.id, na.title, na.aiSummary, na.thumbnailUrl, na.approveDate) " +
+            "FROM NewsScrap ns JOIN ns.newsArticle na ";
+
+    /**
+     * 사용자 뉴스 스크랩 목록 페이지 조회 (page 파라미터 호환용)
+     * - COUNT 는 news_article 조인 없이 news_scrap 만 집계
+     */
+    @Query(value = NEWS_SCRAP_ROW +
+            "WHERE ns.user.id = :userId " +
+            "ORDER BY ns.scrappedDate DESC, ns.createdAt DESC, ns.id DESC",
+           countQuery = "SELECT COUNT(ns) FROM NewsScrap ns WHERE ns.user.id = :userId")
+    Page<NewsScrapRow> findRowsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 뉴스 스크랩 목록 키셋 첫 페이지 (커서 조건 없음, COUNT 쿼리 없음)
+     */
+    @Query(NEWS_SCRAP_ROW +
+            "WHERE ns.user.id = :userId " +
+            "ORDER BY ns.scrappedDate DESC, ns.createdAt DESC, ns.id DESC")
+    List<NewsScrapRow> findFirstRows(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 뉴스 스크랩 목록 키셋 조회 (idx_user_id_scrapped_created 사용, COUNT 쿼리 없음)
+     */
+    @Query(NEWS_SCRAP_ROW +
+            "WHERE ns.user.id = :userId " +
+            "AND (ns.scrappedDate < :cursorScrappedDate OR (ns.scrappedDate = :cursorScrappedDate " +
+            "AND (ns.createdAt < :cursorCreatedAt OR (ns.createdAt = :cursorCreatedAt AND ns.id < :cursorId)))) " +
+            "ORDER BY ns.scrappedDate DESC, ns.createdAt DESC, ns.id DESC")
+    List<NewsScrapRow> findRowsAfterCursor(@Param("userId") Long userId,
+                                           @Param("cursorScrappedDate") LocalDate cursorScrappedDate,
+                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
     boolean existsByUserIdAndNewsArticleId(Long userId, Long newsArticleId);
+
+    @Query("SELECT ns.newsArticle.id FROM NewsScrap ns WHERE ns.user.id = :userId")
+    List<Long> findNewsArticleIdsByUserId(@Param("userId") Long userId);
+
+    // 스크랩 해제 - 삭제된 행이 없으면 스크랩돼 있지 않았던 것
+    @Modifying
+    @Query("DELETE FROM NewsScrap ns WHERE ns.user.id = :userId AND ns.newsArticle.id = :newsArticleId")
+    int deleteByUserIdAndNewsArticleId(@Param("userId") Long userId, @Param("newsArticleId") Long newsArticleId);
+
+    // 스크랩 등록 - uk_user_news_article 중복(동시 토글)은 무시
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO news_scrap (user_id, news_article_id, scrapped_date, created_at, updated_at) " +
+                   "VALUES (:userId, :newsArticleId, :scrappedDate, :now, :now)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId,
+                     @Param("newsArticleId") Long newsArticleId,
+                     @Param("scrappedDate") LocalDate scrappedDate,
+                     @Param("now") LocalDateTime now);
 }
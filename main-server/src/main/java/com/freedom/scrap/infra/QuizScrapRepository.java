@@ -1,26 +1,71 @@
 package com.freedom.scrap.infra;
 
 import com.freedom.scrap.domain.entity.QuizScrap;
+import com.freedom.scrap.domain.model.QuizScrapRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface QuizScrapRepository extends JpaRepository<QuizScrap, Long> {
-    @Query("""
-        SELECT qs FROM QuizScrap qs 
-        JOIN FETCH qs.userQuiz uq
-        JOIN FETCH uq.quiz q
-        WHERE qs.user.id = :userId 
-        ORDER BY qs.scrappedDate DESC, qs.createdAt DESC
-        """)
-    Page<QuizScrap> findByUserIdOrderByScrappedDateDesc(
-        @Param("userId") Long userId, 
-        Pageable pageable
-    );
-    
-    Optional<QuizScrap> findByUserIdAndUserQuizId(Long userId, Long userQuizId);
+
+    String QUIZ_SCRAP_ROW = "SELECT new com.freedom.scrap.domain.model.QuizScrapRow(" +
+            "qs.id, qs.scrappedDate, qs.createdAt, qs.isCorrectAtScrap, " +
+            "uq.id, uq.quizDate, uq.userAnswer, " +
+            "q.id, q.type, q.difficulty, q.category, q.question, q.explanation, " +
+            "q.oxAnswer, q.mcqOption1, q.mcqOption2, q.mcqOption3, q.mcqOption4, q.mcqCorrectIndex) " +
+            "FROM QuizScrap qs JOIN qs.userQuiz uq JOIN uq.quiz q ";
+
+    /**
+     * 사용자 퀴즈 스크랩 목록 페이지 조회 (page 파라미터 호환용)
+     * - COUNT 는 user_quiz/quiz 조인 없이 quiz_scrap 만 집계
+     */
+    @Query(value = QUIZ_SCRAP_ROW +
+            "WHERE qs.user.id = :userId " +
+            "ORDER BY qs.scrappedDate DESC, qs.createdAt DESC, qs.id DESC",
+           countQuery = "SELECT COUNT(qs) FROM QuizScrap qs WHERE qs.user.id = :userId")
+    Page<QuizScrapRow> findRowsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 퀴즈 스크랩 목록 키셋 첫 페이지 (커서 조건 없음, COUNT 쿼리 없음)
+     */
+    @Query(QUIZ_SCRAP_ROW +
+            "WHERE qs.user.id = :userId " +
+            "ORDER BY qs.scrappedDate DESC, qs.createdAt DESC, qs.id DESC")
+    List<QuizScrapRow> findFirstRows(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 퀴즈 스크랩 목록 키셋 조회 (idx_user_id_scrapped_created 사용, COUNT 쿼리 없음)
+     */
+    @Query(QUIZ_SCRAP_ROW +
+            "WHERE qs.user.id = :userId " +
+            "AND (qs.scrappedDate < :cursorScrappedDate OR (qs.scrappedDate = :cursorScrappedDate " +
+            "AND (qs.createdAt < :cursorCreatedAt OR (qs.createdAt = :cursorCreatedAt AND qs.id < :cursorId)))) " +
+            "ORDER BY qs.scrappedDate DESC, qs.createdAt DESC, qs.id DESC")
+    List<QuizScrapRow> findRowsAfterCursor(@Param("userId") Long userId,
+                                           @Param("cursorScrappedDate") LocalDate cursorScrappedDate,
+                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    // 스크랩 해제 - 삭제된 행이 없으면 스크랩돼 있지 않았던 것
+    @Modifying
+    @Query("DELETE FROM QuizScrap qs WHERE qs.user.id = :userId AND qs.userQuiz.id = :userQuizId")
+    int deleteByUserIdAndUserQuizId(@Param("userId") Long userId, @Param("userQuizId") Long userQuizId);
+
+    // 스크랩 등록 - uk_user_user_quiz 중복(동시 토글)은 무시
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO quiz_scrap (user_id, user_quiz_id, scrapped_date, is_correct_at_scrap, created_at, updated_at) " +
+                   "VALUES (:userId, :userQuizId, :scrappedDate, :isCorrectAtScrap, :now, :now)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId,
+                     @Param("userQuizId") Long userQuizId,
+                     @Param("scrappedDate") LocalDate scrappedDate,
+                     @Param("isCorrectAtScrap") Boolean isCorrectAtScrap,
+                     @Param("now") LocalDateTime now);
 }
@@ -2,6 +2,9 @@ package com.freedom.scrap.infra;
 
 import com.freedom.scrap.domain.entity.ScrapHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -9,9 +12,15 @@ import java.time.LocalDateTime;
 @Repository
 public interface ScrapHistoryRepository extends JpaRepository<ScrapHistory, Long> {
 
-    ScrapHistory findByUserIdAndScrapIdAndType(Long userId, Long scrapId, ScrapHistory.ScrapType scrapType);
-
-    int countByUserIdAndTypeAndScrapAtBetween(Long userId, ScrapHistory.ScrapType scrapType, LocalDateTime start, LocalDateTime end);
 
     int countByUserIdAndType(Long userId, ScrapHistory.ScrapType scrapType);
+
+    // 최초 스크랩 이력 - 해제 후 재스크랩이면 uk_scrap_history_user_scrap_type 중복으로 0 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scrap_history (user_id, scrap_id, type, scrap_at) " +
+                   "VALUES (:userId, :scrapId, :type, :scrapAt)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId,
+                     @Param("scrapId") Long scrapId,
+                     @Param("type") String type,
+                     @Param("scrapAt") LocalDateTime scrapAt);
 }
@@ -2,12 +2,13 @@ package com.freedom.term.api;
 
 import com.freedom.term.api.dto.TermResponseDto;
 import com.freedom.term.application.FinancialTermService;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/savings/terms")
@@ -21,4 +22,10 @@ public class FinancialTermController {
         TermResponseDto responseDto = termService.findTerm(termName);
         return ResponseEntity.ok(responseDto);
     }
+
+    @GetMapping
+    public ResponseEntity<List<TermResponseDto>> suggestTerms(@RequestParam("prefix") @NotBlank @Size(max = 50) String prefix,
+                                                              @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(termService.suggestTerms(prefix, size));
+    }
 }
@@ -0,0 +1,21 @@
+package com.freedom.term.api.dto;
+
+import com.freedom.term.domain.model.TermSpan;
+
+/**
+ * 본문 내 금융 용어 위치 응답 DTO (오프셋은 plainContent 기준 UTF-16 문자 단위)
+ * @param start   시작 위치 (포함)
+ * @param end     끝 위치 (미포함)
+ * @param termId  용어 ID
+ * @param term    용어 이름 (별칭으로 매칭돼도 원래 용어명)
+ */
+public record TermSpanResponseDto(
+        int start,
+        int end,
+        Long termId,
+        String term
+) {
+    public static TermSpanResponseDto from(TermSpan span) {
+        return new TermSpanResponseDto(span.start(), span.end(), span.termId(), span.term());
+    }
+}
@@ -2,33 +2,44 @@ package com.freedom.term.application;
 
 import com.freedom.common.exception.custom.ResourceNotFoundException;
 import com.freedom.term.api.dto.TermResponseDto;
-import com.freedom.term.domain.FinancialTermRepository;
-import com.freedom.term.domain.TermAliasRepository;
-import com.freedom.term.domain.entity.FinancialTerm;
+import com.freedom.term.domain.model.TermEntry;
+import com.freedom.term.domain.service.TermDictionary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * 금융 용어 조회 (메모리 사전 기반, DB 미조회)
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class FinancialTermService {
 
-    private final FinancialTermRepository termRepository;
-    private final TermAliasRepository aliasRepository;
+    static final int MAX_SUGGESTION_SIZE = 20;
+
+    private final TermDictionary termDictionary;
 
+    /**
+     * 용어명 또는 별칭으로 단건 조회
+     */
     public TermResponseDto findTerm(String termName) {
-        return termRepository.findByTerm(termName)
-                .map(term -> new TermResponseDto(term.getTerm(), term.getDescription()))
-                .orElseGet(() -> findByAlias(termName));
+        return termDictionary.find(termName)
+                .map(FinancialTermService::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("금융 용어를 찾을 수 없습니다: " + termName));
+    }
+
+    /**
+     * 접두사 자동완성 (초성 질의 지원)
+     */
+    public List<TermResponseDto> suggestTerms(String prefix, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SUGGESTION_SIZE);
+        return termDictionary.suggest(prefix, limit).stream()
+                .map(FinancialTermService::toResponse)
+                .toList();
     }
 
-    private TermResponseDto findByAlias(String aliasName) {
-        return aliasRepository.findByAliasTerm(aliasName)
-                .map(alias -> {
-                    FinancialTerm originalTerm = alias.getFinancialTerm();
-                    return new TermResponseDto(originalTerm.getTerm(), originalTerm.getDescription());
-                })
-                .orElseThrow(() -> new ResourceNotFoundException("금융 용어를 찾을 수 없습니다: " + aliasName));
+    private static TermResponseDto toResponse(TermEntry entry) {
+        return new TermResponseDto(entry.term(), entry.description());
     }
 }
@@ -1,11 +1,18 @@
 package com.freedom.term.domain;
 
-import com.freedom.term.domain.entity.FinancialTerm;
+import com.freedom.term.domain.model.TermEntry;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 // Port 인터페이스
 public interface FinancialTermRepository {
 
-    Optional<FinancialTerm> findByTerm(String term);
+    List<TermEntry> findAllEntries();
+
+    long count();
+
+    long findMaxId();
+
+    LocalDateTime findLastUpdatedAt();
 }
@@ -1,11 +1,18 @@
 package com.freedom.term.domain;
 
-import com.freedom.term.domain.entity.TermAlias;
+import com.freedom.term.domain.model.TermKeyword;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 // Port 인터페이스
 public interface TermAliasRepository {
 
-    Optional<TermAlias> findByAliasTerm(String aliasTerm);
+    List<TermKeyword> findAllKeywords();
+
+    long count();
+
+    long findMaxId();
+
+    LocalDateTime findLastUpdatedAt();
 }
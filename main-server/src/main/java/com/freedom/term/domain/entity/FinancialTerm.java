@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * 금융 용어의 대표 개념을 정의하는 엔티티
  */
@@ -25,6 +27,11 @@ public class FinancialTerm {
     @Column(name = "description", columnDefinition = "TEXT", nullable = false)
     private String description; // 용어 설명
 
+    // DB 가 행 수정 시 갱신 (용어 사전 변경 감지용, 애플리케이션에서는 쓰지 않음)
+    @Column(name = "updated_at", insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)")
+    private LocalDateTime updatedAt;
+
     @Builder
     public FinancialTerm(String term, String description) {
         this.term = term;
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Entity
 @Table(name = "term_aliases")
@@ -23,6 +25,11 @@ public class TermAlias {
     @JoinColumn(name = "term_id", nullable = false)
     private FinancialTerm financialTerm;
 
+    // DB 가 행 수정 시 갱신 (용어 사전 변경 감지용, 애플리케이션에서는 쓰지 않음)
+    @Column(name = "updated_at", insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)")
+    private LocalDateTime updatedAt;
+
     @Builder
     public TermAlias(String aliasTerm) {
         this.aliasTerm = aliasTerm;
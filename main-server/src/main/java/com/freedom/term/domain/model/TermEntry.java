@@ -0,0 +1,6 @@
+package com.freedom.term.domain.model;
+
+/**
+ * 사전에 보관하는 금융 용어 (대표 용어명과 설명)
+ */
+public record TermEntry(Long id, String term, String description) {}
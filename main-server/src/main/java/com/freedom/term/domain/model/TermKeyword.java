@@ -0,0 +1,6 @@
+package com.freedom.term.domain.model;
+
+/**
+ * 본문에서 찾을 키워드 (용어명 또는 별칭) 와 가리키는 용어
+ */
+public record TermKeyword(String keyword, Long termId, String term) {}
@@ -0,0 +1,186 @@
+package com.freedom.term.domain.model;
+
+import java.util.*;
+
+/**
+ * 용어/별칭 다중 패턴 매칭 (Aho–Corasick)
+ * - 모든 키워드를 한 번에 트라이로 구성하고 실패 링크로 본문을 한 번만 훑음
+ * - 영문은 대소문자 구분 없이 비교하고, 영문/숫자로 시작·끝나는 키워드는 단어 중간에서 매칭하지 않음 (한글은 조사 결합 허용)
+ * - 겹치는 매칭은 가장 왼쪽, 그중 가장 긴 것만 남김
+ * - 생성 후 불변이므로 여러 스레드에서 공유 가능
+ */
+public final class TermMatcher {
+
+    static final int MIN_KEYWORD_LENGTH = 2;
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final List<Map<Character, Integer>> children; // 노드별 자식 간선 (자식이 없으면 null)
+    private final int[] fail;
+    private final int[] output;      // 이 노드에서 끝나는 키워드 인덱스
+    private final int[] outputLink;  // 실패 링크를 따라 만나는 다음 출력 노드 (ROOT 면 없음)
+    private final TermKeyword[] keywords;
+
+    private TermMatcher(List<Map<Character, Integer>> children, int[] fail, int[] output, int[] outputLink,
+                        TermKeyword[] keywords) {
+        this.children = children;
+        this.fail = fail;
+        this.output = output;
+        this.outputLink = outputLink;
+        this.keywords = keywords;
+    }
+
+    /**
+     * 키워드 목록으로 오토마톤 생성 (같은 키워드는 먼저 나온 용어 우선, 2자 미만은 제외)
+     */
+    public static TermMatcher build(Collection<TermKeyword> source) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        List<TermKeyword> accepted = new ArrayList<>();
+        trie.add(null);
+        outputs.add(NONE);
+
+        for (TermKeyword keyword : source) {
+            String text = keyword.keyword() == null ? "" : keyword.keyword().strip();
+            if (text.length() < MIN_KEYWORD_LENGTH) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < text.length(); i++) {
+                char c = fold(text.charAt(i));
+                Map<Character, Integer> edges = trie.get(state);
+                if (edges == null) {
+                    edges = new HashMap<>(4);
+                    trie.set(state, edges);
+                }
+                Integer next = edges.get(c);
+                if (next == null) {
+                    next = trie.size();
+                    edges.put(c, next);
+                    trie.add(null);
+                    outputs.add(NONE);
+                }
+                state = next;
+            }
+            if (outputs.get(state) == NONE) {
+                outputs.set(state, accepted.size());
+                accepted.add(new TermKeyword(text, keyword.termId(), keyword.term()));
+            }
+        }
+
+        int size = trie.size();
+        int[] output = outputs.stream().mapToInt(Integer::intValue).toArray();
+        int[] fail = new int[size];
+        int[] outputLink = new int[size];
+
+        // BFS 로 실패 링크 / 출력 링크 구성
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        if (trie.get(ROOT) != null) {
+            queue.addAll(trie.get(ROOT).values());
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            if (trie.get(node) == null) {
+                continue;
+            }
+            for (Map.Entry<Character, Integer> edge : trie.get(node).entrySet()) {
+                int child = edge.getValue();
+                int f = fail[node];
+                int target = ROOT;
+                while (true) {
+                    Map<Character, Integer> edges = trie.get(f);
+                    Integer next = edges == null ? null : edges.get(edge.getKey());
+                    if (next != null && next != child) {
+                        target = next;
+                        break;
+                    }
+                    if (f == ROOT) {
+                        break;
+                    }
+                    f = fail[f];
+                }
+                fail[child] = target;
+                outputLink[child] = output[target] != NONE ? target : outputLink[target];
+                queue.add(child);
+            }
+        }
+        return new TermMatcher(trie, fail, output, outputLink, accepted.toArray(new TermKeyword[0]));
+    }
+
+    public int size() {
+        return keywords.length;
+    }
+
+    /**
+     * 본문에서 용어 위치 탐색 (겹치지 않게, 시작 위치 순)
+     */
+    public List<TermSpan> findAll(String text) {
+        if (text == null || text.isEmpty() || keywords.length == 0) {
+            return List.of();
+        }
+        List<TermSpan> candidates = new ArrayList<>();
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            state = step(state, c);
+            int node = output[state] != NONE ? state : outputLink[state];
+            while (node != ROOT) {
+                TermKeyword keyword = keywords[output[node]];
+                int end = i + 1;
+                int start = end - keyword.keyword().length();
+                if (isWordBoundary(text, start, end)) {
+                    candidates.add(new TermSpan(start, end, keyword.termId(), keyword.term()));
+                }
+                node = outputLink[node];
+            }
+        }
+        return selectLeftmostLongest(candidates);
+    }
+
+    private int step(int state, char c) {
+        while (true) {
+            Map<Character, Integer> edges = children.get(state);
+            Integer next = edges == null ? null : edges.get(c);
+            if (next != null) {
+                return next;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private static List<TermSpan> selectLeftmostLongest(List<TermSpan> candidates) {
+        if (candidates.size() <= 1) {
+            return candidates;
+        }
+        candidates.sort(Comparator.comparingInt(TermSpan::start)
+                .thenComparing(Comparator.comparingInt(TermSpan::end).reversed()));
+        List<TermSpan> selected = new ArrayList<>();
+        int lastEnd = 0;
+        for (TermSpan span : candidates) {
+            if (span.start() >= lastEnd) {
+                selected.add(span);
+                lastEnd = span.end();
+            }
+        }
+        return selected;
+    }
+
+    private static boolean isWordBoundary(String text, int start, int end) {
+        if (isWordChar(text.charAt(start)) && start > 0 && isWordChar(text.charAt(start - 1))) {
+            return false;
+        }
+        return !(isWordChar(text.charAt(end - 1)) && end < text.length() && isWordChar(text.charAt(end)));
+    }
+
+    private static boolean isWordChar(char c) {
+        return c < 128 && Character.isLetterOrDigit(c);
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+}
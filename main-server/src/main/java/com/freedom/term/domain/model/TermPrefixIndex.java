@@ -0,0 +1,91 @@
+package com.freedom.term.domain.model;
+
+import java.util.*;
+
+import static com.freedom.common.util.KoreanTextUtil.*;
+
+/**
+ * 용어/별칭 접두사 색인 (자동완성)
+ * - 정규화 키와 초성 키를 각각 정렬 배열로 보관하는 압축 트라이 (이진 탐색으로 접두사 구간 시작점을 찾고 순서대로 훑음)
+ * - 질의에 초성(ㄱ~ㅎ)이 섞여 있으면 초성 키에서, 아니면 정규화 키에서 찾음
+ * - 생성 후 불변이므로 여러 스레드에서 공유 가능
+ */
+public final class TermPrefixIndex {
+
+    private final String[] keys;
+    private final long[] termIds;
+    private final String[] choseongKeys;
+    private final long[] choseongTermIds;
+
+    private TermPrefixIndex(String[] keys, long[] termIds, String[] choseongKeys, long[] choseongTermIds) {
+        this.keys = keys;
+        this.termIds = termIds;
+        this.choseongKeys = choseongKeys;
+        this.choseongTermIds = choseongTermIds;
+    }
+
+    public static TermPrefixIndex build(Collection<TermKeyword> keywords) {
+        List<Key> plain = new ArrayList<>(keywords.size());
+        List<Key> choseong = new ArrayList<>(keywords.size());
+        for (TermKeyword keyword : keywords) {
+            String key = normalize(keyword.keyword());
+            if (key.isEmpty()) {
+                continue;
+            }
+            plain.add(new Key(key, keyword.termId()));
+            String initials = toChoseong(key);
+            if (!initials.equals(key)) {
+                choseong.add(new Key(initials, keyword.termId()));
+            }
+        }
+        plain.sort(Key.ORDER);
+        choseong.sort(Key.ORDER);
+        return new TermPrefixIndex(
+                plain.stream().map(Key::key).toArray(String[]::new),
+                plain.stream().mapToLong(Key::termId).toArray(),
+                choseong.stream().map(Key::key).toArray(String[]::new),
+                choseong.stream().mapToLong(Key::termId).toArray());
+    }
+
+    /**
+     * 접두사로 시작하는 용어 ID (키 사전순, 중복 용어 제거)
+     */
+    public List<Long> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return containsChoseong(normalized)
+                ? scan(choseongKeys, choseongTermIds, toChoseong(normalized), limit)
+                : scan(keys, termIds, normalized, limit);
+    }
+
+    private static List<Long> scan(String[] sortedKeys, long[] ids, String prefix, int limit) {
+        Set<Long> result = new LinkedHashSet<>();
+        for (int i = lowerBound(sortedKeys, prefix); i < sortedKeys.length && result.size() < limit; i++) {
+            if (!sortedKeys[i].startsWith(prefix)) {
+                break;
+            }
+            result.add(ids[i]);
+        }
+        return List.copyOf(result);
+    }
+
+    private static int lowerBound(String[] sortedKeys, String prefix) {
+        int lo = 0;
+        int hi = sortedKeys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedKeys[mid].compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private record Key(String key, long termId) {
+        static final Comparator<Key> ORDER = Comparator.comparing(Key::key).thenComparingLong(Key::termId);
+    }
+}
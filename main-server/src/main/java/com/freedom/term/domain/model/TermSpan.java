@@ -0,0 +1,6 @@
+package com.freedom.term.domain.model;
+
+/**
+ * 본문 내 용어 위치 (start 포함, end 미포함, UTF-16 문자 오프셋)
+ */
+public record TermSpan(int start, int end, Long termId, String term) {}
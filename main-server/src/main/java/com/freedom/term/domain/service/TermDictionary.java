@@ -0,0 +1,143 @@
+package com.freedom.term.domain.service;
+
+import com.freedom.common.util.KoreanTextUtil;
+import com.freedom.term.domain.FinancialTermRepository;
+import com.freedom.term.domain.TermAliasRepository;
+import com.freedom.term.domain.model.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 금융 용어 사전 (메모리)
+ * - 기동 시 전체 용어/별칭을 적재해 용어명·별칭 → 용어 해시 조회, 접두사(초성 포함) 자동완성, 본문 용어 탐색을 DB 없이 처리
+ * - 본문 탐색은 전체 용어명/별칭으로 만든 Aho–Corasick 오토마톤을 사용
+ * - financial_terms / term_aliases 의 MAX(id)/COUNT/MAX(updated_at) 을 주기적으로 확인해 바뀌면 다시 적재 (추가·삭제·수정 반영)
+ * - 적재할 때마다 version 이 올라가므로 주석 결과를 캐시하는 쪽은 version 으로 재계산 여부를 판단
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TermDictionary {
+
+    private final FinancialTermRepository termRepository;
+    private final TermAliasRepository aliasRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 용어명 또는 별칭으로 용어 조회 (공백/대소문자 무시)
+     */
+    public Optional<TermEntry> find(String name) {
+        return Optional.ofNullable(current().entriesByKey().get(KoreanTextUtil.normalize(name)));
+    }
+
+    /**
+     * 접두사로 시작하는 용어 (초성 질의 지원, 용어 중복 제거)
+     */
+    public List<TermEntry> suggest(String prefix, int limit) {
+        Snapshot current = current();
+        return current.prefixIndex().search(prefix, limit).stream()
+                .map(current.terms()::get)
+                .toList();
+    }
+
+    /**
+     * 본문 내 용어 위치 (겹치지 않게, 가장 왼쪽·가장 긴 용어 우선)
+     */
+    public List<TermSpan> annotate(String text) {
+        return current().matcher().findAll(text);
+    }
+
+    /**
+     * 현재 사전 버전 (재적재 시 증가)
+     */
+    public long version() {
+        return current().version();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (Exception e) {
+            log.error("금융 용어 사전 초기 적재 실패 - 첫 사용 시 다시 시도", e);
+        }
+    }
+
+    /**
+     * 변경 감지 시 사전 재적재 (용어/별칭 추가·삭제, 용어명·설명·별칭 수정 반영)
+     */
+    @Scheduled(fixedDelayString = "${term.dictionary.refresh-delay-ms:300000}")
+    public void refreshIfChanged() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return; // 첫 사용 시 적재
+        }
+        try {
+            if (!current.signature().equals(readSignature())) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.error("금융 용어 사전 갱신 확인 실패", e);
+        }
+    }
+
+    public synchronized void reload() {
+        Signature signature = readSignature();
+        List<TermEntry> entries = termRepository.findAllEntries();
+
+        Map<Long, TermEntry> terms = new HashMap<>(entries.size() * 2);
+        // 용어명을 별칭보다 먼저 넣어 같은 키워드는 용어명이 우선
+        List<TermKeyword> keywords = new ArrayList<>(entries.size() * 2);
+        for (TermEntry entry : entries) {
+            terms.put(entry.id(), entry);
+            keywords.add(new TermKeyword(entry.term(), entry.id(), entry.term()));
+        }
+        keywords.addAll(aliasRepository.findAllKeywords());
+
+        Map<String, TermEntry> entriesByKey = new HashMap<>(keywords.size() * 2);
+        for (TermKeyword keyword : keywords) {
+            String key = KoreanTextUtil.normalize(keyword.keyword());
+            TermEntry entry = terms.get(keyword.termId());
+            if (!key.isEmpty() && entry != null) {
+                entriesByKey.putIfAbsent(key, entry);
+            }
+        }
+
+        long version = snapshot == null ? 1 : snapshot.version() + 1;
+        snapshot = new Snapshot(signature, version, Map.copyOf(terms), Map.copyOf(entriesByKey),
+                TermPrefixIndex.build(keywords), TermMatcher.build(keywords));
+        log.info("금융 용어 사전 적재 완료 - 용어: {}개, 별칭: {}개", signature.termCount(), signature.aliasCount());
+    }
+
+    private Signature readSignature() {
+        return new Signature(termRepository.count(), termRepository.findMaxId(), termRepository.findLastUpdatedAt(),
+                aliasRepository.count(), aliasRepository.findMaxId(), aliasRepository.findLastUpdatedAt());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Signature(long termCount, long termMaxId, LocalDateTime termUpdatedAt,
+                             long aliasCount, long aliasMaxId, LocalDateTime aliasUpdatedAt) {}
+
+    private record Snapshot(Signature signature, long version, Map<Long, TermEntry> terms,
+                            Map<String, TermEntry> entriesByKey, TermPrefixIndex prefixIndex, TermMatcher matcher) {}
+}
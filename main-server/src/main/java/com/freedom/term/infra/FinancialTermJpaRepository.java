@@ -2,12 +2,24 @@ package com.freedom.term.infra;
 
 import com.freedom.term.domain.FinancialTermRepository;
 import com.freedom.term.domain.entity.FinancialTerm;
+import com.freedom.term.domain.model.TermEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface FinancialTermJpaRepository extends JpaRepository<FinancialTerm, Long>, FinancialTermRepository {
 
     @Override
-    Optional<FinancialTerm> findByTerm(String term);
+    @Query("SELECT new com.freedom.term.domain.model.TermEntry(t.id, t.term, t.description) FROM FinancialTerm t ORDER BY t.id")
+    List<TermEntry> findAllEntries();
+
+    @Override
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM FinancialTerm t")
+    long findMaxId();
+
+    @Override
+    @Query("SELECT MAX(t.updatedAt) FROM FinancialTerm t")
+    LocalDateTime findLastUpdatedAt();
 }
@@ -2,12 +2,25 @@ package com.freedom.term.infra;
 
 import com.freedom.term.domain.TermAliasRepository;
 import com.freedom.term.domain.entity.TermAlias;
+import com.freedom.term.domain.model.TermKeyword;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface TermAliasJpaRepository extends JpaRepository<TermAlias, Long>, TermAliasRepository {
 
     @Override
-    Optional<TermAlias> findByAliasTerm(String aliasTerm);
+    @Query("SELECT new com.freedom.term.domain.model.TermKeyword(a.aliasTerm, t.id, t.term) " +
+           "FROM TermAlias a JOIN a.financialTerm t ORDER BY a.id")
+    List<TermKeyword> findAllKeywords();
+
+    @Override
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM TermAlias a")
+    long findMaxId();
+
+    @Override
+    @Query("SELECT MAX(a.updatedAt) FROM TermAlias a")
+    LocalDateTime findLastUpdatedAt();
 }
@@ -1,14 +1,20 @@
 package com.freedom.wallet.api;
 
 import com.freedom.common.security.CustomUserPrincipal;
+import com.freedom.wallet.api.response.WalletTransactionSliceResponse;
+import com.freedom.wallet.application.WalletHistoryQueryService;
 import com.freedom.wallet.application.WalletService;
+import com.freedom.wallet.domain.TransactionReasonCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/wallet")
@@ -16,12 +22,23 @@ import java.math.BigDecimal;
 public class WalletQueryController {
 
     private final WalletService walletService;
+    private final WalletHistoryQueryService walletHistoryQueryService;
 
     public record BalanceResponse(BigDecimal balance) {}
 
     @GetMapping("/balance")
     public BalanceResponse getBalance(@AuthenticationPrincipal CustomUserPrincipal principal) {
-        var wallet = walletService.getWalletByUserId(principal.getId());
-        return new BalanceResponse(wallet.getBalance());
+        return new BalanceResponse(walletService.getBalance(principal.getId()));
+    }
+
+    @GetMapping("/transactions")
+    public WalletTransactionSliceResponse getTransactions(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @RequestParam(value = "reasonCode", required = false) TransactionReasonCode reasonCode,
+            @RequestParam(value = "cursorCreatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorId", required = false) Long cursorId,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return walletHistoryQueryService.getTransactions(principal.getId(), reasonCode, cursorCreatedAt, cursorId, size);
     }
 }
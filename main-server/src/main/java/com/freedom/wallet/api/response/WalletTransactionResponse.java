@@ -0,0 +1,30 @@
+package com.freedom.wallet.api.response;
+
+import com.freedom.wallet.domain.TransactionReasonCode;
+import com.freedom.wallet.domain.WalletTransaction;
+import com.freedom.wallet.domain.WalletTransactionHistory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record WalletTransactionResponse(
+        Long id,
+        WalletTransaction.TransactionDirection direction,
+        TransactionReasonCode reasonCode,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        String description,
+        LocalDateTime createdAt
+) {
+    public static WalletTransactionResponse from(WalletTransactionHistory history) {
+        return new WalletTransactionResponse(
+                history.id(),
+                history.direction(),
+                history.reasonCode(),
+                history.amount(),
+                history.balanceAfter(),
+                history.description(),
+                history.createdAt()
+        );
+    }
+}
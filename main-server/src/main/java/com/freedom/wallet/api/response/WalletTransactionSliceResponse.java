@@ -0,0 +1,27 @@
+package com.freedom.wallet.api.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래 이력 키셋 페이지 응답
+ * - 다음 페이지 요청 시 nextCursorCreatedAt, nextCursorId 를 그대로 전달
+ */
+public record WalletTransactionSliceResponse(
+        List<WalletTransactionResponse> content,
+        int size,
+        boolean hasNext,
+        LocalDateTime nextCursorCreatedAt,
+        Long nextCursorId
+) {
+    public static WalletTransactionSliceResponse of(List<WalletTransactionResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<WalletTransactionResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+        if (!hasNext || content.isEmpty()) {
+            return new WalletTransactionSliceResponse(content, size, false, null, null);
+        }
+        WalletTransactionResponse last = content.get(content.size() - 1);
+        return new WalletTransactionSliceResponse(content, size, true, last.createdAt(), last.id());
+    }
+}
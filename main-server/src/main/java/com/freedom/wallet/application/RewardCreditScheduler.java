@@ -0,0 +1,43 @@
+package com.freedom.wallet.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 대기 보상 적립 배치 반영
+ * - 사용자(지갑)마다 별도 트랜잭션으로 처리해 락 보유 시간을 짧게 유지
+ * - 낙관적 모드 충돌은 WalletConcurrencyStrategy 로 새 트랜잭션에서 재시도 (한도 초과 시 다음 주기에 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RewardCreditScheduler {
+
+    private final RewardCreditService rewardCreditService;
+    private final WalletConcurrencyStrategy concurrencyStrategy;
+
+    @Value("${wallet.reward.fold-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${wallet.reward.fold-delay-ms:5000}")
+    public void foldPendingCredits() {
+        List<Long> userIds = rewardCreditService.findPendingUserIds(batchSize);
+        int folded = 0;
+        for (Long userId : userIds) {
+            try {
+                folded += concurrencyStrategy.executeWithRetry("REWARD_FOLD",
+                        () -> rewardCreditService.foldPendingCredits(userId));
+            } catch (Exception e) {
+                log.error("보상 적립 반영 실패 - userId: {}", userId, e);
+            }
+        }
+        if (folded > 0) {
+            log.info("보상 적립 배치 반영 완료 - 사용자: {}명, 건수: {}", userIds.size(), folded);
+        }
+    }
+}
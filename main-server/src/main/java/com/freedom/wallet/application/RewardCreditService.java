@@ -0,0 +1,130 @@
+package com.freedom.wallet.application;
+
+import com.freedom.common.exception.custom.DuplicateWalletRequestException;
+import com.freedom.common.exception.custom.UserWalletNotFoundException;
+import com.freedom.common.util.DataIntegrityUtil;
+import com.freedom.wallet.domain.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보상 적립 파이프라인
+ * - 수령: 결정적 request_id 로 대기 적립(wallet_pending_credit)만 INSERT (지갑 락 없음)
+ * - 반영: 지갑별 짧은 트랜잭션에서 잔액 합산 + wallet_transaction 이력 생성
+ *   (배치 스케줄러, 출금 직전에 수행 - 잔액 조회는 읽기 전용이므로 반영하지 않음)
+ * - 배치 반영은 WalletConcurrencyStrategy 모드를 따름 (낙관적 모드는 지갑 @Version 으로 동시 반영 감지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RewardCreditService {
+
+    private final WalletPendingCreditRepository pendingCreditRepository;
+    private final UserWalletRepository walletRepository;
+    private final WalletTransactionRepository transactionRepository;
+    private final WalletConcurrencyStrategy concurrencyStrategy;
+
+    /**
+     * 보상 적립 요청 (멱등성 보장)
+     */
+    public void appendReward(Long userId, String requestId, TransactionReasonCode reasonCode, BigDecimal amount,
+                             String description, String relatedEntityType, Long relatedEntityId) {
+        WalletPendingCredit credit = WalletPendingCredit.create(userId, requestId, reasonCode, amount,
+                description, relatedEntityType, relatedEntityId);
+        try {
+            pendingCreditRepository.save(credit);
+        } catch (DataIntegrityViolationException e) {
+            // PK 는 IDENTITY 라 유니크 키 중복은 request_id 뿐
+            if (DataIntegrityUtil.isDuplicateKey(e)) {
+                throw new DuplicateWalletRequestException(requestId);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 대기 적립을 지갑에 반영
+     * - 낙관적 모드 충돌(OptimisticLockingFailureException) 재시도는 호출 측(RewardCreditScheduler)에서 수행
+     * @return 반영 건수
+     */
+    public int foldPendingCredits(Long userId) {
+        // 1. 대기 적립이 없으면 락 없이 종료
+        if (!pendingCreditRepository.existsByUserId(userId)) {
+            return 0;
+        }
+
+        if (concurrencyStrategy.isOptimistic()) {
+            return foldWithVersionCheck(userId);
+        }
+
+        // 2. 지갑 락 → 대기 적립 락 순서로 조회 (출금 경로와 같은 순서)
+        UserWallet wallet = walletRepository.findByUserIdForUpdate(userId)
+                .orElseThrow(() -> new UserWalletNotFoundException(userId));
+        return applyPendingCredits(wallet);
+    }
+
+    /**
+     * 대기 적립이 있는 사용자 ID 조회 (배치 반영용)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findPendingUserIds(int limit) {
+        return pendingCreditRepository.findPendingUserIds(limit);
+    }
+
+    /**
+     * 이미 락을 잡은 지갑에 대기 적립 반영 (출금 처리 등 같은 트랜잭션에서 사용)
+     */
+    public int applyPendingCredits(UserWallet lockedWallet) {
+        List<WalletPendingCredit> credits = pendingCreditRepository.findByUserIdForUpdate(lockedWallet.getUserId());
+        if (credits.isEmpty()) {
+            return 0;
+        }
+
+        for (WalletPendingCredit credit : credits) {
+            lockedWallet.deposit(credit.getAmount());
+            transactionRepository.save(WalletTransaction.createRewardCredit(lockedWallet, credit));
+        }
+        pendingCreditRepository.deleteAll(credits);
+
+        log.debug("보상 적립 반영 - userId: {}, 건수: {}", lockedWallet.getUserId(), credits.size());
+        return credits.size();
+    }
+
+    private int foldWithVersionCheck(Long userId) {
+        // 1. 지갑 → 대기 적립 순서로 락 없이 조회 (그 사이 다른 반영이 커밋되면 지갑 버전이 달라짐)
+        UserWallet wallet = walletRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserWalletNotFoundException(userId));
+        List<WalletPendingCredit> credits = pendingCreditRepository.findByUserId(userId);
+        if (credits.isEmpty()) {
+            return 0;
+        }
+
+        List<WalletTransaction> ledger = new ArrayList<>(credits.size());
+        for (WalletPendingCredit credit : credits) {
+            wallet.deposit(credit.getAmount());
+            ledger.add(WalletTransaction.createRewardCredit(wallet, credit));
+        }
+
+        // 2. 지갑 버전 검사 UPDATE 를 먼저 실행 (출금 경로와 같은 지갑 → 대기 적립 락 순서, 버전 불일치면 충돌)
+        walletRepository.saveAndFlush(wallet);
+
+        // 3. 조회한 대기 적립을 모두 지웠을 때만 반영 (일부가 이미 반영됐다면 롤백 후 재시도)
+        int deleted = pendingCreditRepository.deleteByIds(credits.stream().map(WalletPendingCredit::getId).toList());
+        if (deleted != credits.size()) {
+            throw new OptimisticLockingFailureException("대기 적립이 동시에 반영되었습니다. userId: " + userId);
+        }
+        ledger.forEach(transactionRepository::save);
+
+        log.debug("보상 적립 반영(낙관적) - userId: {}, 건수: {}", userId, credits.size());
+        return credits.size();
+    }
+}
@@ -1,20 +1,26 @@
 package com.freedom.wallet.application;
 
+import com.freedom.common.exception.custom.DuplicateWalletRequestException;
 import com.freedom.common.exception.custom.InsufficientBalanceException;
+import com.freedom.common.util.DataIntegrityUtil;
 import com.freedom.wallet.domain.UserWallet;
 import com.freedom.wallet.domain.WalletTransaction;
 import com.freedom.wallet.domain.WalletTransactionRepository;
 import com.freedom.wallet.domain.UserWalletRepository;
-import com.freedom.wallet.infra.WalletTransactionJpaAdapter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * 적금 거래 처리 서비스
+ * - 지갑은 user_id 기준 비관적 락으로 한 번만 조회 (이자 입금은 WalletConcurrencyStrategy 모드를 따름)
+ * - 멱등성은 wallet_transaction.request_id 유니크 키에 선 INSERT 로 보장 (중복 시 DuplicateWalletRequestException)
+ *   (PK 는 IDENTITY 라 유니크 키 중복은 request_id 뿐이며, FK/NOT NULL 위반은 그대로 전파)
  */
 @Service
 @RequiredArgsConstructor
@@ -23,36 +29,15 @@ public class SavingTransactionService {
 
     private final UserWalletRepository walletRepository;
     private final WalletTransactionRepository transactionRepository;
-    private final WalletTransactionJpaAdapter transactionJpaAdapter;
+    private final RewardCreditService rewardCreditService;
+    private final WalletConcurrencyStrategy concurrencyStrategy;
 
     /**
      * 적금 가입 처리
      */
     public WalletTransaction processSavingJoin(Long userId, String requestId, BigDecimal amount, Long subscriptionId) {
-        // 1. 멱등성 확인
-        if (transactionRepository.findByRequestId(requestId).isPresent()) {
-            throw new IllegalArgumentException("이미 처리된 요청입니다. requestId: " + requestId);
-        }
-
-        // 2. 사용자 지갑 조회
-        UserWallet userWallet = walletRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 지갑을 찾을 수 없습니다. userId: " + userId));
-
-        // 3. 비관적 락으로 지갑 조회
-        UserWallet wallet = transactionJpaAdapter.findWalletByIdWithLock(userWallet.getId())
-                .orElseThrow(() -> new IllegalArgumentException("지갑을 찾을 수 없습니다. ID: " + userWallet.getId()));
-        
-        // 4. 도메인 로직 실행
-        try {
-            wallet.withdraw(amount);
-        } catch (IllegalArgumentException e) {
-            throw new InsufficientBalanceException(wallet.getBalance(), amount);
-        }
-        walletRepository.save(wallet);
-        
-        // 5. 거래 이력 저장
-        WalletTransaction transaction = WalletTransaction.createSavingJoin(wallet, requestId, amount, subscriptionId);
-        return transactionRepository.save(transaction);
+        return withdraw(userId, requestId, amount,
+                wallet -> WalletTransaction.createSavingJoin(wallet, requestId, amount, subscriptionId));
     }
 
     /**
@@ -64,26 +49,8 @@ public class SavingTransactionService {
      * @return 생성된 거래 이력
      */
     public WalletTransaction processSavingCancel(Long userId, String requestId, BigDecimal amount, Long subscriptionId) {
-        // 1. 멱등성 확인
-        if (transactionRepository.findByRequestId(requestId).isPresent()) {
-            throw new IllegalArgumentException("이미 처리된 요청입니다. requestId: " + requestId);
-        }
-
-        // 2. 사용자 지갑 조회
-        UserWallet userWallet = walletRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 지갑을 찾을 수 없습니다. userId: " + userId));
-
-        // 3. 비관적 락으로 지갑 조회
-        UserWallet wallet = transactionJpaAdapter.findWalletByIdWithLock(userWallet.getId())
-                .orElseThrow(() -> new IllegalArgumentException("지갑을 찾을 수 없습니다. ID: " + userWallet.getId()));
-        
-        // 4. 도메인 로직 실행
-        wallet.deposit(amount);
-        walletRepository.save(wallet);
-        
-        // 5. 거래 이력 저장
-        WalletTransaction transaction = WalletTransaction.createSavingCancel(wallet, requestId, amount, subscriptionId);
-        return transactionRepository.save(transaction);
+        return deposit(userId, requestId, amount,
+                wallet -> WalletTransaction.createSavingCancel(wallet, requestId, amount, subscriptionId));
     }
 
     /**
@@ -95,30 +62,14 @@ public class SavingTransactionService {
      * @return 생성된 거래 이력
      */
     public WalletTransaction processSavingMaturity(Long userId, String requestId, BigDecimal amount, Long subscriptionId) {
-        // 1. 멱등성 확인
-        if (transactionRepository.findByRequestId(requestId).isPresent()) {
-            throw new IllegalArgumentException("이미 처리된 요청입니다. requestId: " + requestId);
-        }
-
-        // 2. 사용자 지갑 조회
-        UserWallet userWallet = walletRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 지갑을 찾을 수 없습니다. userId: " + userId));
-
-        // 3. 비관적 락으로 지갑 조회
-        UserWallet wallet = transactionJpaAdapter.findWalletByIdWithLock(userWallet.getId())
-                .orElseThrow(() -> new IllegalArgumentException("지갑을 찾을 수 없습니다. ID: " + userWallet.getId()));
-        
-        // 4. 도메인 로직 실행
-        wallet.deposit(amount);
-        walletRepository.save(wallet);
-        
-        // 5. 거래 이력 저장
-        WalletTransaction transaction = WalletTransaction.createSavingMaturity(wallet, requestId, amount, subscriptionId);
-        return transactionRepository.save(transaction);
+        return deposit(userId, requestId, amount,
+                wallet -> WalletTransaction.createSavingMaturity(wallet, requestId, amount, subscriptionId));
     }
 
     /**
      * 적금 이자 처리 (멱등성 보장)
+     * - 경합이 낮은 입금이므로 WalletConcurrencyStrategy 모드를 따름
+     *   (낙관적 모드 충돌 재시도는 호출 측에서 트랜잭션 바깥을 executeWithRetry 로 감쌈)
      * @param userId 사용자 ID
      * @param requestId 요청 ID (멱등성 보장용)
      * @param amount 이자 금액
@@ -126,87 +77,82 @@ public class SavingTransactionService {
      * @return 생성된 거래 이력
      */
     public WalletTransaction processSavingInterest(Long userId, String requestId, BigDecimal amount, Long subscriptionId) {
-        // 1. 멱등성 확인
-        if (transactionRepository.findByRequestId(requestId).isPresent()) {
-            throw new IllegalArgumentException("이미 처리된 요청입니다. requestId: " + requestId);
-        }
-
-        // 2. 사용자 지갑 조회
-        UserWallet userWallet = walletRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 지갑을 찾을 수 없습니다. userId: " + userId));
-
-        // 3. 비관적 락으로 지갑 조회
-        UserWallet wallet = transactionJpaAdapter.findWalletByIdWithLock(userWallet.getId())
-                .orElseThrow(() -> new IllegalArgumentException("지갑을 찾을 수 없습니다. ID: " + userWallet.getId()));
-        
-        // 4. 도메인 로직 실행
+        UserWallet wallet = concurrencyStrategy.loadForBalanceChange(userId);
         wallet.deposit(amount);
-        walletRepository.save(wallet);
-        
-        // 5. 거래 이력 저장
-        WalletTransaction transaction = WalletTransaction.createSavingInterest(wallet, requestId, amount, subscriptionId);
-        return transactionRepository.save(transaction);
+
+        // 지갑 버전 검사 UPDATE 를 이력 INSERT 보다 먼저 실행
+        // (이력 FK 의 지갑 공유 락을 먼저 잡으면 같은 지갑의 동시 입금끼리 UPDATE 에서 교착)
+        walletRepository.saveAndFlush(wallet);
+        return appendLedger(requestId, WalletTransaction.createSavingInterest(wallet, requestId, amount, subscriptionId));
     }
 
     /**
      * 적금 자동 납입 처리 (멱등성 보장)
      */
     public WalletTransaction processSavingAutoDebit(Long userId, String requestId, BigDecimal amount, Long subscriptionId) {
-        if (transactionRepository.findByRequestId(requestId).isPresent()) {
-            return transactionRepository.findByRequestId(requestId).get();
-        }
-        UserWallet userWallet = walletRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 지갑을 찾을 수 없습니다. userId: " + userId));
-        UserWallet wallet = transactionJpaAdapter.findWalletByIdWithLock(userWallet.getId())
-                .orElseThrow(() -> new IllegalArgumentException("지갑을 찾을 수 없습니다. ID: " + userWallet.getId()));
-
-        // 출금(잔액 부족 시 도메인에서 예외 발생)
-        try {
-            wallet.withdraw(amount);
-        } catch (IllegalArgumentException e) {
-            throw new InsufficientBalanceException(wallet.getBalance(), amount);
-        }
-        walletRepository.save(wallet);
-
-        WalletTransaction transaction = WalletTransaction.createSavingAutoDebit(wallet, requestId, amount, subscriptionId);
-        return transactionRepository.save(transaction);
+        return withdraw(userId, requestId, amount,
+                wallet -> WalletTransaction.createSavingAutoDebit(wallet, requestId, amount, subscriptionId));
     }
 
     /**
      * 적금 수동 납입 처리 (멱등성 보장)
      */
     public WalletTransaction processSavingManualPayment(Long userId, String requestId, BigDecimal amount, Long subscriptionId) {
-        // 1. 멱등성 확인
-        if (transactionRepository.findByRequestId(requestId).isPresent()) {
-            throw new IllegalArgumentException("이미 처리된 요청입니다. requestId: " + requestId);
-        }
+        return withdraw(userId, requestId, amount,
+                wallet -> WalletTransaction.createSavingManualPayment(wallet, requestId, amount, subscriptionId));
+    }
 
-        // 2. 사용자 지갑 조회
-        UserWallet userWallet = walletRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 지갑을 찾을 수 없습니다. userId: " + userId));
+    /**
+     * 요청 ID 생성 (UUID 기반)
+     * @return 고유한 요청 ID
+     */
+    public String generateRequestId() {
+        return "SAVING_" + UUID.randomUUID().toString();
+    }
 
-        // 3. 비관적 락으로 지갑 조회
-        UserWallet wallet = transactionJpaAdapter.findWalletByIdWithLock(userWallet.getId())
-                .orElseThrow(() -> new IllegalArgumentException("지갑을 찾을 수 없습니다. ID: " + userWallet.getId()));
-        
-        // 4. 도메인 로직 실행
+    private WalletTransaction withdraw(Long userId, String requestId, BigDecimal amount,
+                                       Function<UserWallet, WalletTransaction> ledgerFactory) {
+        // 1. user_id 기준 비관적 락으로 지갑 조회 후 대기 중인 보상 적립 반영
+        UserWallet wallet = lockWallet(userId);
+        rewardCreditService.applyPendingCredits(wallet);
+
+        // 2. 도메인 로직 실행 (잔액 부족 시 도메인에서 예외 발생)
         try {
             wallet.withdraw(amount);
         } catch (IllegalArgumentException e) {
             throw new InsufficientBalanceException(wallet.getBalance(), amount);
         }
-        walletRepository.save(wallet);
-        
-        // 5. 거래 이력 저장
-        WalletTransaction transaction = WalletTransaction.createSavingManualPayment(wallet, requestId, amount, subscriptionId);
-        return transactionRepository.save(transaction);
+
+        // 3. 거래 이력 선 INSERT (지갑 UPDATE 는 커밋 시 dirty checking 으로 반영)
+        return appendLedger(requestId, ledgerFactory.apply(wallet));
     }
 
-    /**
-     * 요청 ID 생성 (UUID 기반)
-     * @return 고유한 요청 ID
-     */
-    public String generateRequestId() {
-        return "SAVING_" + UUID.randomUUID().toString();
+    private WalletTransaction deposit(Long userId, String requestId, BigDecimal amount,
+                                      Function<UserWallet, WalletTransaction> ledgerFactory) {
+        // 1. user_id 기준 비관적 락으로 지갑 조회
+        UserWallet wallet = lockWallet(userId);
+
+        // 2. 도메인 로직 실행
+        wallet.deposit(amount);
+
+        // 3. 거래 이력 선 INSERT (지갑 UPDATE 는 커밋 시 dirty checking 으로 반영)
+        return appendLedger(requestId, ledgerFactory.apply(wallet));
+    }
+
+    private UserWallet lockWallet(Long userId) {
+        return walletRepository.findByUserIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자 지갑을 찾을 수 없습니다. userId: " + userId));
+    }
+
+    private WalletTransaction appendLedger(String requestId, WalletTransaction transaction) {
+        try {
+            // IDENTITY 전략이므로 save 시점에 즉시 INSERT 되어 request_id 중복이 여기서 드러난다
+            return transactionRepository.save(transaction);
+        } catch (DataIntegrityViolationException e) {
+            if (DataIntegrityUtil.isDuplicateKey(e)) {
+                throw new DuplicateWalletRequestException(requestId);
+            }
+            throw e;
+        }
     }
 }
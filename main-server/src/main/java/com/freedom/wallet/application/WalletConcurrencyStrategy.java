@@ -0,0 +1,110 @@
+package com.freedom.wallet.application;
+
+import com.freedom.common.exception.custom.UserWalletNotFoundException;
+import com.freedom.wallet.domain.UserWallet;
+import com.freedom.wallet.domain.UserWalletRepository;
+import com.freedom.wallet.domain.WalletConcurrencyMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 지갑 동시성 제어 전략
+ * - 경합이 낮은 입금 흐름(이자 입금, 대기 보상 적립 반영)에서 사용
+ * - OPTIMISTIC: 락 없이 조회 후 @Version 충돌이면 지수 백오프(full jitter)로 새 트랜잭션에서 재시도
+ * - PESSIMISTIC: user_id 기준 SELECT ... FOR UPDATE, 재시도 없음
+ * - 출금(적금 납입)은 잔액 부족 판단이 필요하므로 항상 비관적 락 사용 (SavingTransactionService)
+ */
+@Slf4j
+@Component
+public class WalletConcurrencyStrategy {
+
+    private final UserWalletRepository walletRepository;
+    private final WalletRetryMetrics metrics;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private volatile WalletConcurrencyMode mode;
+
+    public WalletConcurrencyStrategy(UserWalletRepository walletRepository,
+                                     WalletRetryMetrics metrics,
+                                     @Value("${wallet.concurrency.mode:OPTIMISTIC}") WalletConcurrencyMode mode,
+                                     @Value("${wallet.concurrency.max-attempts:3}") int maxAttempts,
+                                     @Value("${wallet.concurrency.backoff-base-ms:10}") long backoffBaseMs,
+                                     @Value("${wallet.concurrency.backoff-max-ms:200}") long backoffMaxMs) {
+        this.walletRepository = walletRepository;
+        this.metrics = metrics;
+        this.mode = mode;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+    }
+
+    public WalletConcurrencyMode getMode() {
+        return mode;
+    }
+
+    public boolean isOptimistic() {
+        return mode == WalletConcurrencyMode.OPTIMISTIC;
+    }
+
+    /**
+     * 동시성 모드 변경 (운영 중 전환 및 벤치마크용)
+     */
+    public void changeMode(WalletConcurrencyMode mode) {
+        log.info("지갑 동시성 모드 변경: {} -> {}", this.mode, mode);
+        this.mode = mode;
+    }
+
+    /**
+     * 잔액 변경용 지갑 조회 (트랜잭션 안에서 호출)
+     */
+    public UserWallet loadForBalanceChange(Long userId) {
+        return (isOptimistic()
+                ? walletRepository.findByUserId(userId)
+                : walletRepository.findByUserIdForUpdate(userId))
+                .orElseThrow(() -> new UserWalletNotFoundException(userId));
+    }
+
+    /**
+     * 트랜잭션 경계 바깥에서 호출: 낙관적 락 충돌 시 새 트랜잭션으로 재시도
+     * @param operation 지표 집계용 작업 이름
+     * @param action 자체 트랜잭션을 가지는 작업
+     */
+    public <T> T executeWithRetry(String operation, Supplier<T> action) {
+        metrics.recordCall(operation);
+        if (!isOptimistic()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    metrics.recordExhausted(operation);
+                    log.warn("지갑 낙관적 락 재시도 한도 초과 - operation: {}, attempts: {}", operation, attempt);
+                    throw e;
+                }
+                metrics.recordRetry(operation);
+                log.debug("지갑 낙관적 락 충돌, 재시도 - operation: {}, attempt: {}", operation, attempt);
+                sleepBackoff(attempt);
+            }
+        }
+    }
+
+    private void sleepBackoff(int attempt) {
+        long cap = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempt - 1, 16));
+        long delay = ThreadLocalRandom.current().nextLong(cap + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("지갑 재시도 대기 중 인터럽트 발생", e);
+        }
+    }
+}
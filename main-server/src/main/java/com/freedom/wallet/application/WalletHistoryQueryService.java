@@ -0,0 +1,40 @@
+package com.freedom.wallet.application;
+
+import com.freedom.wallet.api.response.WalletTransactionResponse;
+import com.freedom.wallet.api.response.WalletTransactionSliceResponse;
+import com.freedom.wallet.domain.TransactionReasonCode;
+import com.freedom.wallet.domain.WalletTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지갑 거래 이력 조회 서비스
+ * - (created_at, id) 키셋 페이지네이션, OFFSET/COUNT 쿼리 없음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WalletHistoryQueryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final WalletTransactionRepository transactionRepository;
+
+    public WalletTransactionSliceResponse getTransactions(Long userId, TransactionReasonCode reasonCode,
+                                                          LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<WalletTransactionResponse> rows = transactionRepository
+                .findHistoryByUserId(userId, reasonCode, cursorCreatedAt, cursorId, pageSize + 1)
+                .stream()
+                .map(WalletTransactionResponse::from)
+                .toList();
+
+        return WalletTransactionSliceResponse.of(rows, pageSize);
+    }
+}
@@ -0,0 +1,66 @@
+package com.freedom.wallet.application;
+
+import com.freedom.common.notification.DiscordWebhookClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WalletReconciliationScheduler {
+
+    private static final int MAX_REPORTED_DRIFTS = 20;
+
+    private final WalletReconciliationService walletReconciliationService;
+    private final DiscordWebhookClient discordWebhookClient;
+
+    @Scheduled(cron = "${wallet.reconciliation.cron:0 30 3 * * *}")
+    public void reconcileWalletBalances() {
+        try {
+            WalletReconciliationService.ReconciliationReport report = walletReconciliationService.reconcile();
+            if (report.hasDrift()) {
+                reportDrift(report);
+            }
+        } catch (Exception e) {
+            log.error("지갑 정합성 검증 중 오류 발생", e);
+            String stackTrace = getStackTraceAsString(e);
+
+            discordWebhookClient.sendErrorMessage(
+                    "🚨 지갑 정합성 검증 스케줄러 오류",
+                    "**오류 메시지:** " + e.getMessage() +
+                            "\n\n**스택 트레이스:**\n```" +
+                            (stackTrace.length() > 1500 ? stackTrace.substring(0, 1500) + "..." : stackTrace) +
+                            "```"
+            );
+        }
+    }
+
+    private void reportDrift(WalletReconciliationService.ReconciliationReport report) {
+        String lines = report.drifts().stream()
+                .limit(MAX_REPORTED_DRIFTS)
+                .map(d -> String.format("[%s] walletId=%d, txId=%d, 원장합계=%s, 기록잔액=%s, 차이=%s",
+                        d.type(), d.walletId(), d.lastTransactionId(), d.ledgerBalance(), d.recordedBalance(), d.drift()))
+                .collect(Collectors.joining("\n"));
+        log.warn("지갑 잔액 불일치 {}건 발견\n{}", report.drifts().size(), lines);
+
+        discordWebhookClient.sendErrorMessage(
+                "⚠️ 지갑 잔액 불일치 감지",
+                "**검증 구간:** (" + report.afterTransactionId() + ", " + report.upToTransactionId() + "]" +
+                        "\n**불일치 지갑:** " + report.drifts().size() + "개" +
+                        "\n```" + lines + "```"
+        );
+    }
+
+    private String getStackTraceAsString(Exception e) {
+        StringWriter sw = new StringWriter();
+        PrintWriter pw = new PrintWriter(sw);
+        e.printStackTrace(pw);
+        return sw.toString();
+    }
+}
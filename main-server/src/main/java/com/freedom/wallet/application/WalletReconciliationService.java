@@ -0,0 +1,180 @@
+package com.freedom.wallet.application;
+
+import com.freedom.wallet.domain.WalletBalanceCheckpoint;
+import com.freedom.wallet.domain.WalletBalanceCheckpointRepository;
+import com.freedom.wallet.domain.WalletBalanceMismatch;
+import com.freedom.wallet.infra.WalletLedgerCursorReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 지갑 잔액 정합성 검증 서비스
+ * - 마지막 체크포인트 이후 원장만 스트리밍으로 읽어 지갑별 체크포인트를 전진
+ * - IDENTITY id 는 커밋 순서와 다를 수 있어 직전 워터마크 아래 rescan-window 구간을 다시 읽고,
+ *   지갑별 체크포인트 이후 원장만 반영 (같은 지갑의 원장은 지갑 락 안에서 INSERT 되므로 지갑 안에서는 id 순 = 커밋 순)
+ * - 체크포인트가 없는 지갑은 처음 읽은 원장의 balance_after - 금액을 시작 잔액으로 둠
+ *   (원장 도입 전에 쌓인 잔액이 매번 drift 로 보고되지 않도록)
+ * - 원장 합계와 원장 balance_after, 원장 합계와 user_wallet.balance 가 다르면 drift 로 보고
+ * - 비용은 전체 이력이 아니라 직전 검증 이후 발생한 거래 수에 비례
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WalletReconciliationService {
+
+    private static final int CHECKPOINT_CHUNK_SIZE = 1000;
+
+    private final WalletBalanceCheckpointRepository checkpointRepository;
+    private final WalletLedgerCursorReader ledgerCursorReader;
+
+    @Value("${wallet.reconciliation.rescan-window:10000}")
+    private long rescanWindow;
+
+    @Transactional
+    public ReconciliationReport reconcile() {
+        // 1. 검증 구간 결정 (afterId, upToId] - 워터마크 아래 rescan-window 만큼 다시 읽음
+        long highWatermark = checkpointRepository.findHighWatermark();
+        long afterId = Math.max(0L, highWatermark - rescanWindow);
+        long upToId = ledgerCursorReader.findMaxTransactionId();
+
+        // 2. 구간 원장 스트리밍 집계 (지갑별 순증감, 마지막 balance_after)
+        Map<Long, WalletDelta> deltas = new HashMap<>();
+        long[] scannedRows = {0};
+        if (upToId > afterId) {
+            ledgerCursorReader.stream(afterId, upToId, (transactionId, walletId, signedAmount, balanceAfter) -> {
+                deltas.computeIfAbsent(walletId, id -> new WalletDelta(highWatermark))
+                        .add(transactionId, signedAmount, balanceAfter);
+                scannedRows[0]++;
+            });
+        }
+
+        // 3. 체크포인트 전진 및 balance_after drift 수집
+        List<Drift> drifts = new ArrayList<>();
+        List<Long> walletIds = new ArrayList<>(deltas.keySet());
+        int advancedWallets = 0;
+        for (int from = 0; from < walletIds.size(); from += CHECKPOINT_CHUNK_SIZE) {
+            List<Long> chunk = walletIds.subList(from, Math.min(from + CHECKPOINT_CHUNK_SIZE, walletIds.size()));
+            Map<Long, WalletBalanceCheckpoint> checkpoints = checkpointRepository.findAllByWalletIdIn(chunk).stream()
+                    .collect(Collectors.toMap(WalletBalanceCheckpoint::getWalletId, Function.identity()));
+
+            List<WalletBalanceCheckpoint> updated = new ArrayList<>(chunk.size());
+            for (Long walletId : chunk) {
+                WalletDelta delta = deltas.get(walletId);
+                WalletBalanceCheckpoint checkpoint = checkpoints.get(walletId);
+                if (checkpoint == null) {
+                    checkpoint = WalletBalanceCheckpoint.initial(walletId, delta.openingBalance());
+                }
+                BigDecimal recordedBalance = delta.applyTo(checkpoint);
+                if (recordedBalance == null) {
+                    continue; // 다시 읽은 원장이 모두 이미 반영된 지갑
+                }
+                if (checkpoint.hasDrift()) {
+                    drifts.add(new Drift(DriftType.BALANCE_AFTER, walletId, checkpoint.getLastTransactionId(),
+                            checkpoint.getLedgerBalance(), recordedBalance, checkpoint.getDrift()));
+                }
+                updated.add(checkpoint);
+            }
+            checkpointRepository.saveAll(updated);
+            advancedWallets += updated.size();
+        }
+
+        // 4. 체크포인트 원장 합계 vs user_wallet.balance (원장 없이 잔액만 바뀐 지갑 포함)
+        for (WalletBalanceMismatch mismatch : checkpointRepository.findWalletBalanceMismatches()) {
+            drifts.add(new Drift(DriftType.WALLET_BALANCE, mismatch.walletId(), mismatch.lastTransactionId(),
+                    mismatch.ledgerBalance(), mismatch.walletBalance(),
+                    mismatch.walletBalance().subtract(mismatch.ledgerBalance())));
+        }
+
+        ReconciliationReport report = new ReconciliationReport(afterId, upToId, scannedRows[0], advancedWallets, drifts);
+        log.info("지갑 정합성 검증 완료 - 구간: ({}, {}], 원장: {}건, 지갑: {}개, 불일치: {}개",
+                afterId, upToId, report.scannedRows(), report.walletCount(), drifts.size());
+        return report;
+    }
+
+    /**
+     * 지갑별 구간 원장 집계
+     * - 워터마크 이하(다시 읽은 구간) 원장은 체크포인트와 비교해야 하므로 행 단위로 보관
+     * - 워터마크 초과 원장은 어느 체크포인트에도 반영되지 않았으므로 합계만 유지
+     */
+    private static final class WalletDelta {
+        private final long highWatermark;
+        private final List<LedgerRow> rescannedRows = new ArrayList<>();
+        private BigDecimal openingBalance; // 구간에서 처음 읽은 원장 이전 잔액
+        private long lastTransactionId;
+        private BigDecimal netAmount = BigDecimal.ZERO;
+        private BigDecimal lastBalanceAfter;
+
+        private WalletDelta(long highWatermark) {
+            this.highWatermark = highWatermark;
+        }
+
+        private void add(long transactionId, BigDecimal signedAmount, BigDecimal balanceAfter) {
+            if (openingBalance == null) {
+                openingBalance = balanceAfter.subtract(signedAmount); // id 순으로 전달되므로 첫 행이 가장 이른 원장
+            }
+            if (transactionId <= highWatermark) {
+                rescannedRows.add(new LedgerRow(transactionId, signedAmount, balanceAfter));
+                return;
+            }
+            this.lastTransactionId = transactionId;
+            this.netAmount = this.netAmount.add(signedAmount);
+            this.lastBalanceAfter = balanceAfter;
+        }
+
+        private BigDecimal openingBalance() {
+            return openingBalance;
+        }
+
+        /**
+         * 체크포인트 이후 원장만 반영
+         * @return 마지막 원장의 balance_after (반영할 원장이 없으면 null)
+         */
+        private BigDecimal applyTo(WalletBalanceCheckpoint checkpoint) {
+            long applied = checkpoint.getLastTransactionId();
+            long last = 0L;
+            BigDecimal net = BigDecimal.ZERO;
+            BigDecimal balanceAfter = null;
+            for (LedgerRow row : rescannedRows) {
+                if (row.transactionId() > applied) {
+                    last = row.transactionId();
+                    net = net.add(row.signedAmount());
+                    balanceAfter = row.balanceAfter();
+                }
+            }
+            if (lastBalanceAfter != null) {
+                last = lastTransactionId;
+                net = net.add(netAmount);
+                balanceAfter = lastBalanceAfter;
+            }
+            if (balanceAfter != null) {
+                checkpoint.advance(last, net, balanceAfter);
+            }
+            return balanceAfter;
+        }
+    }
+
+    private record LedgerRow(long transactionId, BigDecimal signedAmount, BigDecimal balanceAfter) {}
+
+    public enum DriftType {
+        BALANCE_AFTER,  // 원장 합계 vs 마지막 원장 balance_after
+        WALLET_BALANCE  // 원장 합계 vs user_wallet.balance
+    }
+
+    public record Drift(DriftType type, Long walletId, Long lastTransactionId, BigDecimal ledgerBalance,
+                        BigDecimal recordedBalance, BigDecimal drift) {}
+
+    public record ReconciliationReport(long afterTransactionId, long upToTransactionId,
+                                       long scannedRows, int walletCount, List<Drift> drifts) {
+        public boolean hasDrift() {
+            return !drifts.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.freedom.wallet.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지갑 낙관적 락 재시도 지표 (Micrometer)
+ * - wallet.optimistic.calls / retries / exhausted 카운터, operation 태그로 작업 구분
+ * - 재시도율 = retries / calls
+ */
+@Component
+@RequiredArgsConstructor
+public class WalletRetryMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public void recordCall(String operation) {
+        counters(operation).calls().increment();
+    }
+
+    public void recordRetry(String operation) {
+        counters(operation).retries().increment();
+    }
+
+    public void recordExhausted(String operation) {
+        counters(operation).exhausted().increment();
+    }
+
+    /**
+     * 호출당 평균 재시도 횟수
+     */
+    public double retryRate(String operation) {
+        Counters c = counters.get(operation);
+        if (c == null || c.calls().count() == 0) {
+            return 0.0;
+        }
+        return c.retries().count() / c.calls().count();
+    }
+
+    /**
+     * 재시도 한도 초과 횟수
+     */
+    public long exhausted(String operation) {
+        Counters c = counters.get(operation);
+        return c == null ? 0 : (long) c.exhausted().count();
+    }
+
+    private Counters counters(String operation) {
+        return counters.computeIfAbsent(operation, op -> new Counters(
+                counter("wallet.optimistic.calls", "지갑 잔액 변경 작업 호출 수", op),
+                counter("wallet.optimistic.retries", "@Version 충돌로 인한 재시도 수", op),
+                counter("wallet.optimistic.exhausted", "재시도 한도 초과 수", op)));
+    }
+
+    private Counter counter(String name, String description, String operation) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private record Counters(Counter calls, Counter retries, Counter exhausted) {}
+}
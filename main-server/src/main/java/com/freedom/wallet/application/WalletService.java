@@ -2,6 +2,7 @@ package com.freedom.wallet.application;
 
 import com.freedom.wallet.domain.UserWallet;
 import com.freedom.wallet.domain.UserWalletRepository;
+import com.freedom.wallet.domain.WalletPendingCreditRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +12,7 @@ import java.math.BigDecimal;
 /**
  * 지갑 기본 관리 서비스
  * - 지갑 생성 및 기본 조회 기능
+ * - 표시/판단용 잔액은 user_wallet.balance + 반영 대기 보상 적립 합계 (수령 직후에도 바로 보이도록)
  */
 @Service
 @RequiredArgsConstructor
@@ -18,6 +20,7 @@ import java.math.BigDecimal;
 public class WalletService {
 
     private final UserWalletRepository walletRepository;
+    private final WalletPendingCreditRepository pendingCreditRepository;
 
     /**
      * 사용자 지갑 생성
@@ -35,6 +38,8 @@ public class WalletService {
 
     /**
      * 사용자 지갑 조회
+     * - 대기 중인 보상 적립은 RewardCreditScheduler 와 출금 경로에서 반영 (조회는 쓰기/락 없음)
+     * - 잔액 표시는 대기 적립을 포함하는 getBalance 사용
      * @param userId 사용자 ID
      * @return 사용자 지갑
      */
@@ -44,6 +49,18 @@ public class WalletService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자 지갑을 찾을 수 없습니다. userId: " + userId));
     }
 
+    /**
+     * 사용자 잔액 조회 (지갑 잔액 + 반영 대기 보상 적립 합계)
+     * - 한 읽기 트랜잭션의 스냅샷에서 읽으므로 반영(대기 적립 삭제 + 잔액 합산)과 겹쳐도 이중 계산 없음
+     * @param userId 사용자 ID
+     * @return 표시 잔액
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getBalance(Long userId) {
+        UserWallet wallet = getWalletByUserId(userId);
+        return wallet.getBalance().add(pendingCreditRepository.sumAmountByUserId(userId));
+    }
+
     /**
      * 잔액 확인
      * @param userId 사용자 ID
@@ -52,7 +69,7 @@ public class WalletService {
      */
     @Transactional(readOnly = true)
     public boolean hasEnoughBalance(Long userId, BigDecimal amount) {
-        UserWallet wallet = getWalletByUserId(userId);
-        return wallet.hasEnoughBalance(amount);
+        // 출금 경로는 대기 적립을 먼저 반영하므로 같은 기준으로 판단
+        return getBalance(userId).compareTo(amount) >= 0;
     }
 }
\ No newline at end of file
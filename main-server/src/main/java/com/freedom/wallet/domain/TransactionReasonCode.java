@@ -9,6 +9,10 @@ public enum TransactionReasonCode {
     
     // 출석 관련
     ATTENDANCE_REWARD,   // 출석 보상
+
+    // 퀘스트/업적 관련
+    QUEST_REWARD,        // 퀘스트 보상
+    ACHIEVEMENT_REWARD,  // 업적 보상
     
     // 적금 관련
     SAVING_JOIN,         // 적금 가입
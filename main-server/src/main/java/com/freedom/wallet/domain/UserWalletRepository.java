@@ -18,6 +18,11 @@ public interface UserWalletRepository {
      */
     UserWallet save(UserWallet wallet);
 
+    /**
+     * 지갑 저장 후 즉시 flush (낙관적 모드에서 버전 검사 UPDATE 를 이력 INSERT 보다 먼저 실행)
+     */
+    UserWallet saveAndFlush(UserWallet wallet);
+
     /**
      * ID로 지갑 조회
      */
@@ -38,5 +43,8 @@ public interface UserWalletRepository {
      */
     void delete(UserWallet wallet);
 
+    /**
+     * 사용자 ID로 지갑 조회 (비관적 락, 잔액 변경용)
+     */
     Optional<UserWallet> findByUserIdForUpdate(Long userId);
 }
@@ -0,0 +1,79 @@
+package com.freedom.wallet.domain;
+
+import com.freedom.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 지갑 잔액 체크포인트
+ * - 첫 원장 이전 잔액(opening balance) + lastTransactionId 까지의 원장 합계로 계산한 잔액
+ * - 정합성 검증 시 체크포인트 이후 원장만 읽으면 되도록 지갑마다 1건 유지
+ */
+@Getter
+@Entity
+@Table(name = "wallet_balance_checkpoint",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_wallet_balance_checkpoint_wallet_id", columnNames = {"wallet_id"})
+        },
+        indexes = {
+                @Index(name = "idx_wallet_balance_checkpoint_last_tx", columnList = "last_transaction_id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletBalanceCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "wallet_id", nullable = false)
+    private Long walletId;
+
+    @Column(name = "last_transaction_id", nullable = false)
+    private Long lastTransactionId; // 체크포인트에 반영된 마지막 원장 ID
+
+    @Column(name = "ledger_balance", nullable = false, precision = 15, scale = 0)
+    private BigDecimal ledgerBalance; // 원장 합계 잔액
+
+    @Column(name = "drift", nullable = false, precision = 15, scale = 0)
+    private BigDecimal drift; // 원장 balance_after - 원장 합계 (0 이 아니면 불일치)
+
+    /**
+     * 최초 체크포인트 (원장 0건 기준)
+     * @param openingBalance 첫 원장 이전 잔액 (첫 원장 balance_after - 금액, 원장 도입 전에 쌓인 잔액)
+     */
+    public static WalletBalanceCheckpoint initial(Long walletId, BigDecimal openingBalance) {
+        if (walletId == null) {
+            throw new IllegalArgumentException("지갑 ID는 필수입니다.");
+        }
+        if (openingBalance == null) {
+            throw new IllegalArgumentException("시작 잔액은 필수입니다.");
+        }
+
+        WalletBalanceCheckpoint checkpoint = new WalletBalanceCheckpoint();
+        checkpoint.walletId = walletId;
+        checkpoint.lastTransactionId = 0L;
+        checkpoint.ledgerBalance = openingBalance;
+        checkpoint.drift = BigDecimal.ZERO;
+        return checkpoint;
+    }
+
+    /**
+     * 체크포인트 이후 원장 반영
+     * @param lastTransactionId 반영한 마지막 원장 ID
+     * @param netAmount 입금(+)/출금(-) 합계
+     * @param balanceAfter 마지막 원장의 balance_after
+     */
+    public void advance(Long lastTransactionId, BigDecimal netAmount, BigDecimal balanceAfter) {
+        this.lastTransactionId = lastTransactionId;
+        this.ledgerBalance = this.ledgerBalance.add(netAmount);
+        this.drift = balanceAfter.subtract(this.ledgerBalance);
+    }
+
+    public boolean hasDrift() {
+        return drift.signum() != 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.freedom.wallet.domain;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 지갑 잔액 체크포인트 도메인 레벨 추상화
+ */
+public interface WalletBalanceCheckpointRepository {
+
+    List<WalletBalanceCheckpoint> findAllByWalletIdIn(Collection<Long> walletIds);
+
+    List<WalletBalanceCheckpoint> saveAll(List<WalletBalanceCheckpoint> checkpoints);
+
+    /**
+     * 마지막 정합성 검증 시점의 원장 ID (체크포인트가 없으면 0)
+     */
+    long findHighWatermark();
+
+    /**
+     * 체크포인트 이후 원장이 없는데 원장 합계와 user_wallet.balance 가 다른 지갑 조회
+     */
+    List<WalletBalanceMismatch> findWalletBalanceMismatches();
+}
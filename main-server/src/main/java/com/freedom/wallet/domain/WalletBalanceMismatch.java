@@ -0,0 +1,13 @@
+package com.freedom.wallet.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * 체크포인트 원장 합계와 user_wallet.balance 가 다른 지갑 (정합성 검증 결과 프로젝션)
+ */
+public record WalletBalanceMismatch(
+        Long walletId,
+        Long lastTransactionId,
+        BigDecimal ledgerBalance,
+        BigDecimal walletBalance
+) {}
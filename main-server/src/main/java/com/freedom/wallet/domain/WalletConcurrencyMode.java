@@ -0,0 +1,9 @@
+package com.freedom.wallet.domain;
+
+/**
+ * 지갑 잔액 변경 동시성 제어 방식
+ */
+public enum WalletConcurrencyMode {
+    OPTIMISTIC,  // @Version 기반 낙관적 락 + 재시도
+    PESSIMISTIC  // SELECT ... FOR UPDATE
+}
@@ -0,0 +1,77 @@
+package com.freedom.wallet.domain;
+
+import com.freedom.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 지갑 반영 대기 중인 보상 적립 엔티티
+ * - 퀘스트/업적 보상 수령 시 지갑 락 없이 INSERT 만 수행
+ * - 배치 또는 잔액 조회 시 지갑에 합산되고 같은 request_id 로 wallet_transaction 이력이 생성된 뒤 삭제
+ */
+@Getter
+@Entity
+@Table(name = "wallet_pending_credit",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_wallet_pending_credit_request_id", columnNames = {"request_id"})
+        },
+        indexes = {
+                @Index(name = "idx_wallet_pending_credit_user_id", columnList = "user_id, id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletPendingCredit extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "request_id", nullable = false, length = 100)
+    private String requestId; // 멱등키 (반영 시 wallet_transaction.request_id 로 사용)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason_code", nullable = false, length = 30)
+    private TransactionReasonCode reasonCode;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 0)
+    private BigDecimal amount;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Column(name = "related_entity_type", length = 50)
+    private String relatedEntityType;
+
+    @Column(name = "related_entity_id")
+    private Long relatedEntityId;
+
+    public static WalletPendingCredit create(Long userId, String requestId, TransactionReasonCode reasonCode,
+                                             BigDecimal amount, String description,
+                                             String relatedEntityType, Long relatedEntityId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+        if (requestId == null || requestId.trim().isEmpty()) {
+            throw new IllegalArgumentException("요청 ID는 필수입니다.");
+        }
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("적립 금액은 0보다 커야 합니다.");
+        }
+
+        WalletPendingCredit credit = new WalletPendingCredit();
+        credit.userId = userId;
+        credit.requestId = requestId;
+        credit.reasonCode = reasonCode;
+        credit.amount = amount;
+        credit.description = description;
+        credit.relatedEntityType = relatedEntityType;
+        credit.relatedEntityId = relatedEntityId;
+        return credit;
+    }
+}
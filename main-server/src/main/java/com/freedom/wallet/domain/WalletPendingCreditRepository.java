@@ -0,0 +1,42 @@
+package com.freedom.wallet.domain;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 반영 대기 보상 적립 도메인 레벨 추상화
+ */
+public interface WalletPendingCreditRepository {
+
+    WalletPendingCredit save(WalletPendingCredit credit);
+
+    boolean existsByUserId(Long userId);
+
+    /**
+     * 사용자 대기 적립 합계 (없으면 0)
+     */
+    BigDecimal sumAmountByUserId(Long userId);
+
+    /**
+     * 사용자 대기 적립 조회 (락 없음, 낙관적 반영용)
+     */
+    List<WalletPendingCredit> findByUserId(Long userId);
+
+    /**
+     * 사용자 대기 적립 조회 (FOR UPDATE, 동시 반영 방지)
+     */
+    List<WalletPendingCredit> findByUserIdForUpdate(Long userId);
+
+    /**
+     * 대기 적립이 있는 사용자 ID 조회 (배치 반영용)
+     */
+    List<Long> findPendingUserIds(int limit);
+
+    void deleteAll(List<WalletPendingCredit> credits);
+
+    /**
+     * ID 로 대기 적립 삭제
+     * @return 삭제 건수 (다른 트랜잭션이 먼저 반영했다면 요청 건수보다 적음)
+     */
+    int deleteByIds(List<Long> ids);
+}
@@ -21,7 +21,8 @@ import java.math.BigDecimal;
                 @UniqueConstraint(name = "uk_wallet_transaction_request_id", columnNames = {"request_id"})
         },
         indexes = {
-                @Index(name = "idx_wallet_transaction_wallet_created", columnList = "wallet_id, created_at"),
+                @Index(name = "idx_wallet_transaction_wallet_created_id", columnList = "wallet_id, created_at, id"),
+                @Index(name = "idx_wallet_transaction_wallet_reason_created", columnList = "wallet_id, reason_code, created_at, id"),
                 @Index(name = "idx_wallet_transaction_direction", columnList = "direction"),
                 @Index(name = "idx_wallet_transaction_reason", columnList = "reason_code")
         })
@@ -125,6 +126,14 @@ public class WalletTransaction extends BaseEntity {
                 amount, "적금 수동 납입", "SAVING_SUBSCRIPTION", subscriptionId);
     }
 
+    /**
+     * 거래 생성 팩토리 - 보상 적립 반영 (퀘스트/업적 보상)
+     */
+    public static WalletTransaction createRewardCredit(UserWallet wallet, WalletPendingCredit credit) {
+        return create(wallet, credit.getRequestId(), TransactionDirection.DEPOSIT, credit.getReasonCode(),
+                credit.getAmount(), credit.getDescription(), credit.getRelatedEntityType(), credit.getRelatedEntityId());
+    }
+
     /**
      * 공통 거래 생성 메서드
      */
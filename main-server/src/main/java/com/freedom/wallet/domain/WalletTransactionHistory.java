@@ -0,0 +1,18 @@
+package com.freedom.wallet.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 이력 조회용 프로젝션
+ * - WalletTransaction/UserWallet 엔티티를 로딩하지 않고 필요한 컬럼만 조회
+ */
+public record WalletTransactionHistory(
+        Long id,
+        WalletTransaction.TransactionDirection direction,
+        TransactionReasonCode reasonCode,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        String description,
+        LocalDateTime createdAt
+) {}
@@ -1,5 +1,6 @@
 package com.freedom.wallet.domain;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +24,14 @@ public interface WalletTransactionRepository {
      * 지갑 ID로 거래 이력 목록 조회 (최신순)
      */
     List<WalletTransaction> findByWalletIdOrderByCreatedAtDesc(Long walletId);
+
+    /**
+     * 사용자 거래 이력 키셋 조회 (created_at, id 내림차순)
+     * @param reasonCode 거래 사유 필터 (null 이면 전체)
+     * @param cursorCreatedAt 이전 페이지 마지막 행의 created_at (null 이면 첫 페이지)
+     * @param cursorId 이전 페이지 마지막 행의 id
+     * @param limit 조회 건수
+     */
+    List<WalletTransactionHistory> findHistoryByUserId(Long userId, TransactionReasonCode reasonCode,
+                                                       LocalDateTime cursorCreatedAt, Long cursorId, int limit);
 }
@@ -21,6 +21,11 @@ public class UserWalletJpaAdapter implements UserWalletRepository {
         return jpaRepository.save(wallet);
     }
 
+    @Override
+    public UserWallet saveAndFlush(UserWallet wallet) {
+        return jpaRepository.saveAndFlush(wallet);
+    }
+
     @Override
     public Optional<UserWallet> findById(Long id) {
         return jpaRepository.findById(id);
@@ -0,0 +1,40 @@
+package com.freedom.wallet.infra;
+
+import com.freedom.wallet.domain.WalletBalanceCheckpoint;
+import com.freedom.wallet.domain.WalletBalanceCheckpointRepository;
+import com.freedom.wallet.domain.WalletBalanceMismatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * WalletBalanceCheckpointRepository JPA 구현체
+ */
+@Component
+@RequiredArgsConstructor
+public class WalletBalanceCheckpointJpaAdapter implements WalletBalanceCheckpointRepository {
+
+    private final WalletBalanceCheckpointJpaRepository jpaRepository;
+
+    @Override
+    public List<WalletBalanceCheckpoint> findAllByWalletIdIn(Collection<Long> walletIds) {
+        return jpaRepository.findAllByWalletIdIn(walletIds);
+    }
+
+    @Override
+    public List<WalletBalanceCheckpoint> saveAll(List<WalletBalanceCheckpoint> checkpoints) {
+        return jpaRepository.saveAll(checkpoints);
+    }
+
+    @Override
+    public long findHighWatermark() {
+        return jpaRepository.findHighWatermark();
+    }
+
+    @Override
+    public List<WalletBalanceMismatch> findWalletBalanceMismatches() {
+        return jpaRepository.findWalletBalanceMismatches();
+    }
+}
@@ -0,0 +1,31 @@
+package com.freedom.wallet.infra;
+
+import com.freedom.wallet.domain.WalletBalanceCheckpoint;
+import com.freedom.wallet.domain.WalletBalanceMismatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 지갑 잔액 체크포인트 JPA Repository
+ */
+@Repository
+public interface WalletBalanceCheckpointJpaRepository extends JpaRepository<WalletBalanceCheckpoint, Long> {
+
+    List<WalletBalanceCheckpoint> findAllByWalletIdIn(Collection<Long> walletIds);
+
+    @Query("SELECT COALESCE(MAX(c.lastTransactionId), 0) FROM WalletBalanceCheckpoint c")
+    long findHighWatermark();
+
+    /**
+     * 체크포인트 이후 원장이 아직 반영되지 않은 지갑은 제외 (검증 이후 발생한 거래로 인한 오탐 방지)
+     */
+    @Query("SELECT new com.freedom.wallet.domain.WalletBalanceMismatch(c.walletId, c.lastTransactionId, c.ledgerBalance, w.balance) " +
+            "FROM WalletBalanceCheckpoint c, UserWallet w " +
+            "WHERE w.id = c.walletId AND w.balance <> c.ledgerBalance " +
+            "AND NOT EXISTS (SELECT t.id FROM WalletTransaction t WHERE t.wallet.id = c.walletId AND t.id > c.lastTransactionId)")
+    List<WalletBalanceMismatch> findWalletBalanceMismatches();
+}
@@ -0,0 +1,58 @@
+package com.freedom.wallet.infra;
+
+import com.freedom.wallet.domain.WalletTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * 원장 스트리밍 조회 (정합성 검증용)
+ * - TYPE_FORWARD_ONLY/CONCUR_READ_ONLY + fetch size Integer.MIN_VALUE 로 이 쿼리만 MySQL 스트리밍 모드로 읽음
+ *   (datasource 공통 설정을 바꾸지 않으므로 다른 쿼리의 fetch 동작에는 영향 없음)
+ * - 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 handler 는 메모리 집계만 수행
+ */
+@Component
+@RequiredArgsConstructor
+public class WalletLedgerCursorReader {
+
+    // MySQL Connector/J 에서 행 단위 스트리밍을 켜는 fetch size
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String STREAM_SQL =
+            "SELECT id, wallet_id, direction, amount, balance_after FROM wallet_transaction " +
+            "WHERE id > ? AND id <= ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long findMaxTransactionId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM wallet_transaction", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * (afterId, upToId] 구간 원장을 id 순으로 한 건씩 전달
+     */
+    public void stream(long afterId, long upToId, LedgerRowHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(STREAM_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            ps.setLong(1, afterId);
+            ps.setLong(2, upToId);
+            return ps;
+        }, rs -> {
+            BigDecimal amount = rs.getBigDecimal("amount");
+            boolean deposit = WalletTransaction.TransactionDirection.DEPOSIT.name().equals(rs.getString("direction"));
+            handler.handle(rs.getLong("id"), rs.getLong("wallet_id"),
+                    deposit ? amount : amount.negate(), rs.getBigDecimal("balance_after"));
+        });
+    }
+
+    @FunctionalInterface
+    public interface LedgerRowHandler {
+        void handle(long transactionId, long walletId, BigDecimal signedAmount, BigDecimal balanceAfter);
+    }
+}
@@ -0,0 +1,60 @@
+package com.freedom.wallet.infra;
+
+import com.freedom.wallet.domain.WalletPendingCredit;
+import com.freedom.wallet.domain.WalletPendingCreditRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * WalletPendingCreditRepository JPA 구현체
+ */
+@Component
+@RequiredArgsConstructor
+public class WalletPendingCreditJpaAdapter implements WalletPendingCreditRepository {
+
+    private final WalletPendingCreditJpaRepository jpaRepository;
+
+    @Override
+    public WalletPendingCredit save(WalletPendingCredit credit) {
+        return jpaRepository.save(credit);
+    }
+
+    @Override
+    public boolean existsByUserId(Long userId) {
+        return jpaRepository.existsByUserId(userId);
+    }
+
+    @Override
+    public BigDecimal sumAmountByUserId(Long userId) {
+        return jpaRepository.sumAmountByUserId(userId);
+    }
+
+    @Override
+    public List<WalletPendingCredit> findByUserId(Long userId) {
+        return jpaRepository.findByUserIdOrderByIdAsc(userId);
+    }
+
+    @Override
+    public List<WalletPendingCredit> findByUserIdForUpdate(Long userId) {
+        return jpaRepository.findByUserIdForUpdate(userId);
+    }
+
+    @Override
+    public List<Long> findPendingUserIds(int limit) {
+        return jpaRepository.findPendingUserIds(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void deleteAll(List<WalletPendingCredit> credits) {
+        jpaRepository.deleteAllInBatch(credits);
+    }
+
+    @Override
+    public int deleteByIds(List<Long> ids) {
+        return jpaRepository.deleteByIds(ids);
+    }
+}
@@ -0,0 +1,39 @@
+package com.freedom.wallet.infra;
+
+import com.freedom.wallet.domain.WalletPendingCredit;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 반영 대기 보상 적립 JPA Repository
+ */
+@Repository
+public interface WalletPendingCreditJpaRepository extends JpaRepository<WalletPendingCredit, Long> {
+
+    boolean existsByUserId(Long userId);
+
+    List<WalletPendingCredit> findByUserIdOrderByIdAsc(Long userId);
+
+    @Query("SELECT COALESCE(SUM(c.amount), 0) FROM WalletPendingCredit c WHERE c.userId = :userId")
+    BigDecimal sumAmountByUserId(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM WalletPendingCredit c WHERE c.userId = :userId ORDER BY c.id")
+    List<WalletPendingCredit> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT c.userId FROM WalletPendingCredit c")
+    List<Long> findPendingUserIds(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM WalletPendingCredit c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
@@ -1,11 +1,15 @@
 package com.freedom.wallet.infra;
 
+import com.freedom.wallet.domain.TransactionReasonCode;
 import com.freedom.wallet.domain.UserWallet;
 import com.freedom.wallet.domain.WalletTransaction;
+import com.freedom.wallet.domain.WalletTransactionHistory;
 import com.freedom.wallet.domain.WalletTransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +37,23 @@ public class WalletTransactionJpaAdapter implements WalletTransactionRepository
         return jpaRepository.findByWallet_IdOrderByCreatedAtDesc(walletId);
     }
 
+    @Override
+    public List<WalletTransactionHistory> findHistoryByUserId(Long userId, TransactionReasonCode reasonCode,
+                                                              LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        PageRequest limitOnly = PageRequest.of(0, limit);
+
+        if (cursorCreatedAt == null) {
+            return reasonCode == null
+                    ? jpaRepository.findFirstHistory(userId, limitOnly)
+                    : jpaRepository.findFirstHistoryByReason(userId, reasonCode, limitOnly);
+        }
+        Long id = cursorId != null ? cursorId : Long.MAX_VALUE;
+        if (reasonCode == null) {
+            return jpaRepository.findHistoryAfterCursor(userId, cursorCreatedAt, id, limitOnly);
+        }
+        return jpaRepository.findHistoryByReasonAfterCursor(userId, reasonCode, cursorCreatedAt, id, limitOnly);
+    }
+
     /**
      * 비관적 락으로 지갑 조회 (동시성 제어용)
      */
@@ -1,7 +1,10 @@
 package com.freedom.wallet.infra;
 
 import com.freedom.wallet.domain.UserWallet;
+import com.freedom.wallet.domain.TransactionReasonCode;
 import com.freedom.wallet.domain.WalletTransaction;
+import com.freedom.wallet.domain.WalletTransactionHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +32,57 @@ public interface WalletTransactionJpaRepository extends JpaRepository<WalletTran
      */
     List<WalletTransaction> findByWallet_IdOrderByCreatedAtDesc(Long walletId);
 
+    /**
+     * 사용자 거래 이력 첫 페이지 조회 (idx_wallet_transaction_wallet_created_id 사용)
+     */
+    @Query("SELECT new com.freedom.wallet.domain.WalletTransactionHistory(" +
+            "t.id, t.direction, t.reasonCode, t.amount, t.balanceAfter, t.description, t.createdAt) " +
+            "FROM WalletTransaction t JOIN t.wallet w " +
+            "WHERE w.userId = :userId " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<WalletTransactionHistory> findFirstHistory(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 거래 이력 첫 페이지 조회 - 거래 사유 필터 (idx_wallet_transaction_wallet_reason_created 사용)
+     */
+    @Query("SELECT new com.freedom.wallet.domain.WalletTransactionHistory(" +
+            "t.id, t.direction, t.reasonCode, t.amount, t.balanceAfter, t.description, t.createdAt) " +
+            "FROM WalletTransaction t JOIN t.wallet w " +
+            "WHERE w.userId = :userId AND t.reasonCode = :reasonCode " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<WalletTransactionHistory> findFirstHistoryByReason(@Param("userId") Long userId,
+                                                            @Param("reasonCode") TransactionReasonCode reasonCode,
+                                                            Pageable pageable);
+
+    /**
+     * 사용자 거래 이력 키셋 조회 (idx_wallet_transaction_wallet_created_id 사용)
+     */
+    @Query("SELECT new com.freedom.wallet.domain.WalletTransactionHistory(" +
+            "t.id, t.direction, t.reasonCode, t.amount, t.balanceAfter, t.description, t.createdAt) " +
+            "FROM WalletTransaction t JOIN t.wallet w " +
+            "WHERE w.userId = :userId " +
+            "AND (t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<WalletTransactionHistory> findHistoryAfterCursor(@Param("userId") Long userId,
+                                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Pageable pageable);
+
+    /**
+     * 사용자 거래 이력 키셋 조회 - 거래 사유 필터 (idx_wallet_transaction_wallet_reason_created 사용)
+     */
+    @Query("SELECT new com.freedom.wallet.domain.WalletTransactionHistory(" +
+            "t.id, t.direction, t.reasonCode, t.amount, t.balanceAfter, t.description, t.createdAt) " +
+            "FROM WalletTransaction t JOIN t.wallet w " +
+            "WHERE w.userId = :userId AND t.reasonCode = :reasonCode " +
+            "AND (t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<WalletTransactionHistory> findHistoryByReasonAfterCursor(@Param("userId") Long userId,
+                                                                  @Param("reasonCode") TransactionReasonCode reasonCode,
+                                                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                                  @Param("cursorId") Long cursorId,
+                                                                  Pageable pageable);
+
     /**
      * 비관적 락으로 지갑 조회 (동시성 제어용)
      */
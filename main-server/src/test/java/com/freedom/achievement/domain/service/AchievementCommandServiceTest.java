@@ -0,0 +1,77 @@
+package com.freedom.achievement.domain.service;
+
+import com.freedom.achievement.application.dto.AchievementDto;
+import com.freedom.achievement.domain.entity.Achievement;
+import com.freedom.achievement.domain.entity.UserAchievement;
+import com.freedom.achievement.infra.AchievementRepository;
+import com.freedom.achievement.infra.UserAchievementRepository;
+import com.freedom.wallet.application.RewardCreditService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AchievementCommandService 단위 테스트")
+class AchievementCommandServiceTest {
+
+    @Mock
+    private AchievementRepository achievementRepository;
+
+    @Mock
+    private UserAchievementRepository userAchievementRepository;
+
+    @Mock
+    private RewardCreditService rewardCreditService;
+
+    @InjectMocks
+    private AchievementCommandService achievementCommandService;
+
+    @Test
+    @DisplayName("이미 보유한 업적은 다시 저장하지 않고 null 을 반환한다")
+    void grantAchievement_AlreadyOwned_ReturnsNull() {
+        // given
+        given(userAchievementRepository.existsByUserIdAndAchievement_Type(1L, Achievement.AchievementType.NEWS_ADDICT))
+                .willReturn(true);
+
+        // when
+        AchievementDto result = achievementCommandService.grantAchievement(1L, Achievement.AchievementType.NEWS_ADDICT);
+
+        // then
+        assertThat(result).isNull();
+        verify(userAchievementRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("동시 요청이 먼저 부여해 유니크 키가 중복되면 예외 없이 null 을 반환한다")
+    void grantAchievement_ConcurrentDuplicate_ReturnsNull() {
+        // given
+        Achievement achievement = Achievement.builder()
+                .id(4L)
+                .type(Achievement.AchievementType.NEWS_ADDICT)
+                .title("속보 중독")
+                .build();
+        given(userAchievementRepository.existsByUserIdAndAchievement_Type(1L, Achievement.AchievementType.NEWS_ADDICT))
+                .willReturn(false);
+        given(achievementRepository.findByType(Achievement.AchievementType.NEWS_ADDICT)).willReturn(Optional.of(achievement));
+        given(userAchievementRepository.save(any(UserAchievement.class)))
+                .willThrow(new DuplicateKeyException("uk_user_achievement_user_achievement"));
+
+        // when
+        AchievementDto result = achievementCommandService.grantAchievement(1L, Achievement.AchievementType.NEWS_ADDICT);
+
+        // then
+        assertThat(result).isNull();
+    }
+}
@@ -0,0 +1,42 @@
+package com.freedom.attendance.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttendanceBitmapTest {
+
+    @Test
+    @DisplayName("바이트 직렬화는 BitSet 과 같은 little-endian 배치이고 왕복 변환된다")
+    void bytesRoundTrip() {
+        AttendanceBitmap bitmap = AttendanceBitmap.of(2024, List.of(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 4), LocalDate.of(2024, 12, 31)));
+
+        byte[] bytes = bitmap.toBytes();
+        BitSet bitSet = BitSet.valueOf(bytes);
+
+        assertThat(bytes).hasSize(AttendanceBitmap.BYTES);
+        assertThat(bitSet.cardinality()).isEqualTo(3);
+        assertThat(bitSet.get(0)).isTrue();
+        assertThat(bitSet.get(LocalDate.of(2024, 3, 4).getDayOfYear() - 1)).isTrue();
+        assertThat(bitSet.get(365)).isTrue(); // 윤년 366번째 날
+        assertThat(AttendanceBitmap.fromBytes(2024, bytes).toBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    @DisplayName("월 마스크는 워드 경계를 걸치는 달도 일자 비트로 잘라낸다")
+    void monthMaskAcrossWordBoundary() {
+        // 2025-03-05 는 64번째 날 → 3월이 long 워드 경계를 걸친다
+        AttendanceBitmap bitmap = AttendanceBitmap.of(2025, List.of(
+                LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 5),
+                LocalDate.of(2025, 3, 6), LocalDate.of(2025, 4, 1)));
+
+        assertThat(bitmap.monthMask(3)).isEqualTo((1) | (1 << 4) | (1 << 5));
+        assertThat(Integer.bitCount(bitmap.monthMask(2))).isEqualTo(1);
+    }
+}
@@ -1,23 +1,23 @@
 package com.freedom.attendance.domain.service;
 
-import com.freedom.attendance.domain.Attendance;
+import com.freedom.attendance.domain.event.AttendanceMarkedEvent;
 import com.freedom.attendance.infra.AttendanceRepository;
-import com.freedom.auth.domain.User;
-import com.freedom.auth.domain.UserRole;
-import com.freedom.auth.domain.UserStatus;
+import com.freedom.attendance.infra.AttendanceYearRepository;
 import com.freedom.auth.infra.UserJpaRepository;
 import com.freedom.common.exception.custom.UserNotFoundException;
+import com.freedom.common.time.TimeProvider;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -32,81 +32,66 @@ class AttendanceCommandServiceTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceYearRepository attendanceYearRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TimeProvider timeProvider;
+
     @InjectMocks
     private AttendanceCommandService attendanceCommandService;
 
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 10);
+
+    @BeforeEach
+    void setUp() {
+        given(timeProvider.today()).willReturn(TODAY);
+    }
+
     @Nested
     @DisplayName("markAttendance 메서드")
     class MarkAttendanceTest {
 
         @Test
-        @DisplayName("사용자가 존재하고 출석하지 않은 상태인 경우 출석 처리 후 true를 반환한다")
-        void shouldMarkAttendanceAndReturnTrueWhenUserExistsAndNotAttended() {
+        @DisplayName("오늘 첫 출석이면 마지막 출석일을 갱신하고 출석 이벤트를 발행한 뒤 true를 반환한다")
+        void shouldMarkAttendanceAndReturnTrueWhenFirstAttendanceToday() {
             // given
             Long userId = 1L;
-            User user = User.builder()
-                    .email("test@example.com")
-                    .password("password")
-                    .role(UserRole.USER)
-                    .status(UserStatus.ACTIVE)
-                    .build();
-
-            User attendedUser = User.builder()
-                    .email("test@example.com")
-                    .password("password")
-                    .role(UserRole.USER)
-                    .status(UserStatus.ACTIVE)
-                    .build();
-            attendedUser.completeAttendance();
-
-            given(userJpaRepository.findById(userId)).willReturn(Optional.of(user));
-            given(userJpaRepository.save(any(User.class))).willReturn(attendedUser);
-            given(attendanceRepository.save(any(Attendance.class))).willReturn(any());
+            given(attendanceRepository.insertIgnore(userId, TODAY)).willReturn(1);
+            given(userJpaRepository.updateLastAttendanceDate(userId, TODAY)).willReturn(1);
+            given(attendanceYearRepository.orDays(eq(userId), eq(2025), any(byte[].class))).willReturn(2);
 
             // when
             boolean result = attendanceCommandService.markAttendance(userId);
 
             // then
             assertThat(result).isTrue();
+            verify(userJpaRepository).updateLastAttendanceDate(userId, TODAY);
+            verify(attendanceYearRepository).orDays(eq(userId), eq(2025), any(byte[].class));
+            verify(eventPublisher).publishEvent(new AttendanceMarkedEvent(userId, TODAY));
 
-            // 출석 기록이 올바르게 저장되는지 검증
-            ArgumentCaptor<Attendance> attendanceCaptor = ArgumentCaptor.forClass(Attendance.class);
-            verify(attendanceRepository).save(attendanceCaptor.capture());
-            
-            Attendance savedAttendance = attendanceCaptor.getValue();
-            assertThat(savedAttendance.getUserId()).isEqualTo(userId);
-            assertThat(savedAttendance.getCheckDate()).isEqualTo(LocalDate.now());
-
-            // 사용자가 저장되는지 검증
-            verify(userJpaRepository).save(user);
-            verify(userJpaRepository).findById(userId);
+            // 사용자 행을 선조회하지 않는다
+            verify(userJpaRepository, never()).findById(any());
         }
 
         @Test
-        @DisplayName("사용자가 이미 출석한 상태인 경우 false를 반환하고 추가 처리하지 않는다")
-        void shouldReturnFalseWhenUserAlreadyAttended() {
+        @DisplayName("오늘 이미 출석한 경우 멱등 INSERT 가 무시되어 false를 반환하고 추가 처리하지 않는다")
+        void shouldReturnFalseWhenAlreadyAttendedToday() {
             // given
             Long userId = 1L;
-            User user = User.builder()
-                    .email("test@example.com")
-                    .password("password")
-                    .role(UserRole.USER)
-                    .status(UserStatus.ACTIVE)
-                    .build();
-            user.completeAttendance(); // 이미 출석 완료 상태
-
-            given(userJpaRepository.findById(userId)).willReturn(Optional.of(user));
+            given(attendanceRepository.insertIgnore(userId, TODAY)).willReturn(0);
 
             // when
             boolean result = attendanceCommandService.markAttendance(userId);
 
             // then
             assertThat(result).isFalse();
-
-            // 추가 처리가 되지 않는지 검증
-            verify(attendanceRepository, never()).save(any());
-            verify(userJpaRepository, never()).save(any());
-            verify(userJpaRepository).findById(userId);
+            verify(userJpaRepository, never()).updateLastAttendanceDate(any(), any());
+            verify(attendanceYearRepository, never()).orDays(any(), anyInt(), any());
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
@@ -114,85 +99,33 @@ class AttendanceCommandServiceTest {
         void shouldThrowUserNotFoundExceptionWhenUserNotExists() {
             // given
             Long userId = 999L;
-            given(userJpaRepository.findById(userId)).willReturn(Optional.empty());
+            given(attendanceRepository.insertIgnore(userId, TODAY)).willReturn(1);
+            given(userJpaRepository.updateLastAttendanceDate(userId, TODAY)).willReturn(0);
 
             // when & then
             assertThatThrownBy(() -> attendanceCommandService.markAttendance(userId))
                     .isInstanceOf(UserNotFoundException.class)
                     .hasMessage("사용자를 찾을 수 없습니다.");
 
-            // 추가 처리가 되지 않는지 검증
-            verify(attendanceRepository, never()).save(any());
-            verify(userJpaRepository, never()).save(any());
-            verify(userJpaRepository).findById(userId);
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
-        @DisplayName("출석 처리 시 현재 날짜로 Attendance 엔티티가 생성된다")
-        void shouldCreateAttendanceWithCurrentDateWhenMarkingAttendance() {
+        @DisplayName("해당 연도 비트셋 행이 새로 생성되면 감사 기록으로 지난 출석을 채운다")
+        void shouldBackfillYearBitmapWhenRowCreated() {
             // given
             Long userId = 1L;
-            User user = User.builder()
-                    .email("test@example.com")
-                    .password("password")
-                    .role(UserRole.USER)
-                    .status(UserStatus.ACTIVE)
-                    .build();
-
-            User attendedUser = User.builder()
-                    .email("test@example.com")
-                    .password("password")
-                    .role(UserRole.USER)
-                    .status(UserStatus.ACTIVE)
-                    .build();
-            attendedUser.completeAttendance();
-
-            given(userJpaRepository.findById(userId)).willReturn(Optional.of(user));
-            given(userJpaRepository.save(any(User.class))).willReturn(attendedUser);
+            given(attendanceRepository.insertIgnore(userId, TODAY)).willReturn(1);
+            given(userJpaRepository.updateLastAttendanceDate(userId, TODAY)).willReturn(1);
+            given(attendanceYearRepository.orDays(eq(userId), eq(2025), any(byte[].class))).willReturn(1);
+            given(attendanceRepository.findAllByUserIdAndCheckDateBetween(userId, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
+                    .willReturn(List.of());
 
             // when
             attendanceCommandService.markAttendance(userId);
 
             // then
-            ArgumentCaptor<Attendance> captor = ArgumentCaptor.forClass(Attendance.class);
-            verify(attendanceRepository).save(captor.capture());
-
-            Attendance capturedAttendance = captor.getValue();
-            assertThat(capturedAttendance.getUserId()).isEqualTo(userId);
-            assertThat(capturedAttendance.getCheckDate()).isEqualTo(LocalDate.now());
-        }
-
-        @Test
-        @DisplayName("출석 처리 시 User 엔티티의 출석 상태가 변경된다")
-        void shouldChangeUserAttendanceStatusWhenMarkingAttendance() {
-            // given
-            Long userId = 1L;
-            User user = User.builder()
-                    .email("test@example.com")
-                    .password("password")
-                    .role(UserRole.USER)
-                    .status(UserStatus.ACTIVE)
-                    .build();
-
-            User attendedUser = User.builder()
-                    .email("test@example.com")
-                    .password("password")
-                    .role(UserRole.USER)
-                    .status(UserStatus.ACTIVE)
-                    .build();
-            attendedUser.completeAttendance();
-
-            given(userJpaRepository.findById(userId)).willReturn(Optional.of(user));
-            given(userJpaRepository.save(user)).willReturn(attendedUser);
-
-            // when
-            boolean result = attendanceCommandService.markAttendance(userId);
-
-            // then
-            assertThat(result).isTrue();
-
-            // User의 completeAttendance() 메서드가 호출되어 출석 상태가 변경되었는지 확인
-            verify(userJpaRepository).save(user);
+            verify(attendanceYearRepository, times(2)).orDays(eq(userId), eq(2025), any(byte[].class));
         }
     }
 }
@@ -1,12 +1,16 @@
 package com.freedom.attendance.domain.service;
 
 import com.freedom.attendance.domain.Attendance;
+import com.freedom.attendance.domain.AttendanceBitmap;
+import com.freedom.attendance.domain.AttendanceYear;
 import com.freedom.attendance.infra.AttendanceRepository;
+import com.freedom.attendance.infra.AttendanceYearRepository;
 import com.freedom.auth.domain.User;
 import com.freedom.auth.domain.UserRole;
 import com.freedom.auth.domain.UserStatus;
 import com.freedom.auth.infra.UserJpaRepository;
 import com.freedom.common.exception.custom.UserNotFoundException;
+import com.freedom.common.time.TimeProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -32,6 +37,14 @@ class AttendanceReadServiceTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceYearRepository attendanceYearRepository;
+
+    @Mock
+    private TimeProvider timeProvider;
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 10);
+
     @InjectMocks
     private AttendanceReadService attendanceReadService;
 
@@ -50,9 +63,10 @@ class AttendanceReadServiceTest {
                     .role(UserRole.USER)
                     .status(UserStatus.ACTIVE)
                     .build();
-            user.completeAttendance();
+            ReflectionTestUtils.setField(user, "lastAttendanceDate", TODAY);
 
             given(userJpaRepository.findById(userId)).willReturn(Optional.of(user));
+            given(timeProvider.today()).willReturn(TODAY);
 
             // when
             boolean result = attendanceReadService.isAttendanceCompleted(userId);
@@ -63,7 +77,7 @@ class AttendanceReadServiceTest {
         }
 
         @Test
-        @DisplayName("사용자가 존재하지만 출석 미완료 상태인 경우 false를 반환한다")
+        @DisplayName("사용자가 존재하지만 마지막 출석일이 오늘이 아닌 경우 false를 반환한다")
         void shouldReturnFalseWhenUserExistsButAttendanceNotCompleted() {
             // given
             Long userId = 1L;
@@ -73,8 +87,10 @@ class AttendanceReadServiceTest {
                     .role(UserRole.USER)
                     .status(UserStatus.ACTIVE)
                     .build();
+            ReflectionTestUtils.setField(user, "lastAttendanceDate", TODAY.minusDays(1)); // 자정 초기화 없이 날짜 비교로 미출석 판단
 
             given(userJpaRepository.findById(userId)).willReturn(Optional.of(user));
+            given(timeProvider.today()).willReturn(TODAY);
 
             // when
             boolean result = attendanceReadService.isAttendanceCompleted(userId);
@@ -119,7 +135,7 @@ class AttendanceReadServiceTest {
                     createAttendance(4L, LocalDate.of(2024, 12, 31))
             );
 
-            LocalDate start = LocalDate.of(2024, 12, 1);
+            LocalDate start = LocalDate.of(2024, 1, 1); // 연간 비트셋 행이 없으면 감사 기록 연간 조회
             LocalDate end = LocalDate.of(2024, 12, 31);
 
             given(attendanceRepository.findAllByUserIdAndCheckDateBetween(userId, start, end))
@@ -147,8 +163,8 @@ class AttendanceReadServiceTest {
             int year = 2024;
             int month = 2; // 2월 (윤년이므로 29일)
 
-            LocalDate start = LocalDate.of(2024, 2, 1);
-            LocalDate end = LocalDate.of(2024, 2, 29);
+            LocalDate start = LocalDate.of(2024, 1, 1); // 연간 비트셋 행이 없으면 감사 기록 연간 조회
+            LocalDate end = LocalDate.of(2024, 12, 31);
 
             given(attendanceRepository.findAllByUserIdAndCheckDateBetween(userId, start, end))
                     .willReturn(List.of());
@@ -171,8 +187,8 @@ class AttendanceReadServiceTest {
             int year = 2023; // 평년
             int month = 2;
 
-            LocalDate start = LocalDate.of(2023, 2, 1);
-            LocalDate end = LocalDate.of(2023, 2, 28);
+            LocalDate start = LocalDate.of(2023, 1, 1); // 연간 비트셋 행이 없으면 감사 기록 연간 조회
+            LocalDate end = LocalDate.of(2023, 12, 31);
 
             given(attendanceRepository.findAllByUserIdAndCheckDateBetween(userId, start, end))
                     .willReturn(List.of());
@@ -195,8 +211,8 @@ class AttendanceReadServiceTest {
             int year = 2024;
             int month = 4; // 4월 (30일)
 
-            LocalDate start = LocalDate.of(2024, 4, 1);
-            LocalDate end = LocalDate.of(2024, 4, 30);
+            LocalDate start = LocalDate.of(2024, 1, 1); // 연간 비트셋 행이 없으면 감사 기록 연간 조회
+            LocalDate end = LocalDate.of(2024, 12, 31);
 
             Attendance attendance = createAttendance(1L, LocalDate.of(2024, 4, 30));
             given(attendanceRepository.findAllByUserIdAndCheckDateBetween(userId, start, end))
@@ -211,6 +227,27 @@ class AttendanceReadServiceTest {
 
             verify(attendanceRepository).findAllByUserIdAndCheckDateBetween(userId, start, end);
         }
+
+        @Test
+        @DisplayName("연간 비트셋 행이 있으면 감사 기록을 조회하지 않고 해당 월을 잘라 반환한다")
+        void shouldUseYearBitmapWhenRowExists() {
+            // given
+            Long userId = 1L;
+            AttendanceYear attendanceYear = mock(AttendanceYear.class);
+            given(attendanceYear.toBitmap()).willReturn(AttendanceBitmap.of(2024, List.of(
+                    LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31))));
+            given(attendanceYearRepository.findByUserIdAndAttendanceYear(userId, 2024)).willReturn(Optional.of(attendanceYear));
+
+            // when
+            boolean[] result = attendanceReadService.getAttendanceMapOfMonth(userId, 2024, 3);
+
+            // then
+            assertThat(result).hasSize(31);
+            assertThat(result[0]).isTrue();   // 3월 1일
+            assertThat(result[1]).isFalse();
+            assertThat(result[30]).isTrue();  // 3월 31일
+            verify(attendanceRepository, never()).findAllByUserIdAndCheckDateBetween(any(), any(), any());
+        }
     }
 
     private Attendance createAttendance(Long id, LocalDate checkDate) {
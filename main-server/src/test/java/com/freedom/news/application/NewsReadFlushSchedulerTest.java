@@ -0,0 +1,76 @@
+package com.freedom.news.application;
+
+import com.freedom.news.domain.event.NewsReadEvent;
+import com.freedom.news.domain.model.NewsRead;
+import com.freedom.news.domain.service.NewsReadBuffer;
+import com.freedom.news.infra.NewsReadHistoryWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsReadFlushSchedulerTest {
+
+    @Mock
+    private NewsReadBuffer newsReadBuffer;
+
+    @Mock
+    private NewsReadHistoryWriter newsReadHistoryWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private NewsReadFlushScheduler newsReadFlushScheduler;
+
+    private static final LocalDateTime READ_AT = LocalDateTime.of(2025, 9, 10, 12, 0);
+
+    @Test
+    @DisplayName("flush - 실제로 INSERT 된 기록만 열람 이벤트 발행")
+    void flush_PublishesOnlyInsertedReads() {
+        // given
+        NewsRead inserted = new NewsRead(1L, 10L, READ_AT);
+        NewsRead duplicated = new NewsRead(1L, 11L, READ_AT); // 다른 인스턴스가 먼저 반영
+        given(newsReadBuffer.pendingReads()).willReturn(List.of(inserted, duplicated));
+        given(newsReadHistoryWriter.insertIgnore(inserted)).willReturn(true);
+        given(newsReadHistoryWriter.insertIgnore(duplicated)).willReturn(false);
+
+        // when
+        newsReadFlushScheduler.flush();
+
+        // then
+        verify(eventPublisher, times(1)).publishEvent(new NewsReadEvent(1L, 10L, READ_AT));
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        verify(newsReadBuffer).acknowledge(List.of(inserted, duplicated));
+    }
+
+    @Test
+    @DisplayName("flush - 실패 시 반영된 기록만 대기열에서 제거하고 나머지는 다음 주기에 재시도")
+    void flush_Failure_AcknowledgesFlushedOnly() {
+        // given
+        NewsRead first = new NewsRead(1L, 10L, READ_AT);
+        NewsRead second = new NewsRead(2L, 10L, READ_AT);
+        given(newsReadBuffer.pendingReads()).willReturn(List.of(first, second));
+        given(newsReadHistoryWriter.insertIgnore(first)).willReturn(true);
+        given(newsReadHistoryWriter.insertIgnore(second)).willThrow(new DataAccessResourceFailureException("db down"));
+
+        // when
+        newsReadFlushScheduler.flush();
+
+        // then
+        verify(eventPublisher, times(1)).publishEvent(new NewsReadEvent(1L, 10L, READ_AT));
+        verify(newsReadBuffer).acknowledge(List.of(first));
+    }
+}
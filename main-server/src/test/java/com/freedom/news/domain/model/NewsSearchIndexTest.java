@@ -0,0 +1,135 @@
+package com.freedom.news.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsSearchIndexTest {
+
+    @Test
+    @DisplayName("토크나이저 - 문자/숫자 구간별 bigram, 한 글자 구간은 그대로")
+    void tokenize_Bigrams() {
+        assertThat(BigramTokenizer.tokenize("청년 도약계좌, ETF!  세"))
+                .containsExactly("청년", "도약", "약계", "계좌", "et", "tf", "세");
+        assertThat(BigramTokenizer.tokenize("  ,. ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("포스팅 - varint 차분 인코딩 후 같은 순서로 복원")
+    void postingList_RoundTrip() {
+        // given
+        PostingList list = new PostingList();
+        int[] docs = {0, 1, 130, 20_000, 2_000_000};
+        for (int doc : docs) {
+            list.add(doc, doc % 7 + 1);
+        }
+
+        // when
+        PostingList restored = PostingList.of(list.toByteArray(), list.docFreq(), list.lastDoc());
+        List<int[]> decoded = new ArrayList<>();
+        restored.forEach((doc, tf) -> decoded.add(new int[]{doc, tf}));
+
+        // then
+        assertThat(decoded).hasSize(docs.length);
+        for (int i = 0; i < docs.length; i++) {
+            assertThat(decoded.get(i)).containsExactly(docs[i], docs[i] % 7 + 1);
+        }
+        assertThat(list.toByteArray().length).isLessThan(docs.length * 8);
+    }
+
+    @Test
+    @DisplayName("BM25 - 제목에 검색어가 있는 뉴스가 먼저, 관련 없는 뉴스는 제외")
+    void search_RanksTitleMatchFirst() {
+        // given
+        NewsSearchIndex index = new NewsSearchIndex();
+        put(index, 1L, "청년도약계좌 가입 대상 확대", "청년 자산 형성 지원", "정부는 청년도약계좌 가입 요건을 완화한다.");
+        put(index, 2L, "부동산 공급 대책", "주거 안정", "청년 주거 지원도 포함된다.");
+        put(index, 3L, "오늘의 날씨", "맑음", "전국이 맑겠다.");
+
+        // when
+        List<NewsSearchHit> hits = index.search("청년도약계좌", null, null, 10);
+
+        // then
+        assertThat(hits).extracting(NewsSearchHit::newsId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 - (점수, newsId) 이후 결과만 반환하고 중복/누락이 없다")
+    void search_KeysetPaging() {
+        // given
+        NewsSearchIndex index = new NewsSearchIndex();
+        for (long id = 1; id <= 25; id++) {
+            put(index, id, "금리 인하 " + id, null, "금리".repeat((int) (id % 4) + 1));
+        }
+
+        // when
+        List<Long> paged = new ArrayList<>();
+        Double cursorScore = null;
+        Long cursorId = null;
+        while (true) {
+            List<NewsSearchHit> page = index.search("금리", cursorScore, cursorId, 7);
+            if (page.isEmpty()) break;
+            page.forEach(hit -> paged.add(hit.newsId()));
+            NewsSearchHit last = page.get(page.size() - 1);
+            cursorScore = last.score();
+            cursorId = last.newsId();
+        }
+
+        // then
+        assertThat(paged).containsExactlyElementsOf(
+                index.search("금리", null, null, 100).stream().map(NewsSearchHit::newsId).toList());
+        assertThat(paged).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("수정/삭제 - 이전 내용은 검색되지 않고 compact 후에도 결과가 같다")
+    void putAndRemove_ThenCompact() {
+        // given
+        NewsSearchIndex index = new NewsSearchIndex();
+        put(index, 1L, "예금 금리", null, null);
+        put(index, 2L, "적금 상품", null, null);
+        put(index, 1L, "연금 개편", null, null); // 수정
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("예금", null, null, 10)).isEmpty();
+        assertThat(index.search("적금", null, null, 10)).isEmpty();
+        assertThat(index.search("연금", null, null, 10)).extracting(NewsSearchHit::newsId).containsExactly(1L);
+
+        index.compact();
+        assertThat(index.search("연금", null, null, 10)).extracting(NewsSearchHit::newsId).containsExactly(1L);
+        assertThat(index.contentHashes()).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("직렬화 - 저장 후 읽은 색인이 같은 검색 결과를 반환")
+    void writeAndRead_RoundTrip() {
+        // given
+        NewsSearchIndex index = new NewsSearchIndex();
+        put(index, 10L, "청년 월세 지원", "월세 한시 지원", "청년 월세 특별지원 사업");
+        put(index, 11L, "ISA 비과세 확대", null, "비과세 한도 상향");
+        index.compact();
+
+        // when
+        ByteBuffer buffer = ByteBuffer.allocate(index.serializedSize());
+        index.writeTo(buffer);
+        buffer.flip();
+        NewsSearchIndex restored = NewsSearchIndex.readFrom(buffer);
+
+        // then
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(restored.size()).isEqualTo(2);
+        assertThat(restored.contentHashes()).isEqualTo(index.contentHashes());
+        assertThat(restored.search("월세 지원", null, null, 10)).isEqualTo(index.search("월세 지원", null, null, 10));
+    }
+
+    private void put(NewsSearchIndex index, Long id, String title, String summary, String body) {
+        NewsSearchDocument document = new NewsSearchDocument(id, "hash" + id, title, summary, body);
+        index.put(id, document.contentHash(), NewsSearchIndex.analyze(document));
+    }
+}
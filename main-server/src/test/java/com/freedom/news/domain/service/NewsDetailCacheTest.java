@@ -0,0 +1,185 @@
+package com.freedom.news.domain.service;
+
+import com.freedom.common.exception.custom.NewsNotFoundException;
+import com.freedom.news.application.dto.NewsDetailDto;
+import com.freedom.news.domain.entity.NewsArticle;
+import com.freedom.news.domain.entity.NewsContentBlock;
+import com.freedom.news.domain.model.NewsRevision;
+import com.freedom.news.infra.repository.NewsArticleRepository;
+import com.freedom.news.infra.repository.NewsFeedVersionRepository;
+import com.freedom.term.domain.model.TermSpan;
+import com.freedom.term.domain.service.TermDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsDetailCache 단위 테스트")
+class NewsDetailCacheTest {
+
+    @Mock
+    private NewsArticleRepository newsArticleRepository;
+
+    @Mock
+    private NewsFeedVersionRepository newsFeedVersionRepository;
+
+    @Mock
+    private TermDictionary termDictionary;
+
+    private NewsDetailCache newsDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        newsDetailCache = new NewsDetailCache(newsArticleRepository, newsFeedVersionRepository, termDictionary, 2);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB 를 조회하지 않는다")
+    void get_Hit_NoDbRead() {
+        // given
+        givenArticle(1L, 1, "본문");
+
+        // when
+        NewsDetailDto first = newsDetailCache.get(1L);
+        NewsDetailDto second = newsDetailCache.get(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getPlainTextContent()).isEqualTo("본문");
+        verify(newsArticleRepository, times(1)).findDetailRowsById(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 뉴스면 NewsNotFoundException")
+    void get_NotFound() {
+        // given
+        given(newsArticleRepository.findDetailRowsById(999L)).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> newsDetailCache.get(999L))
+                .isInstanceOf(NewsNotFoundException.class)
+                .hasMessageContaining("존재하지 않는 뉴스 입니다.");
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 상세를 제거한다")
+    void get_EvictsLeastRecentlyUsed() {
+        // given
+        givenArticle(1L, 1, "본문1");
+        givenArticle(2L, 1, "본문2");
+        givenArticle(3L, 1, "본문3");
+        newsDetailCache.get(1L);
+        newsDetailCache.get(2L);
+        newsDetailCache.get(1L); // 1 최근 사용
+
+        // when
+        newsDetailCache.get(3L); // 2 제거
+        newsDetailCache.get(1L);
+        newsDetailCache.get(2L);
+
+        // then
+        verify(newsArticleRepository, times(1)).findDetailRowsById(1L);
+        verify(newsArticleRepository, times(2)).findDetailRowsById(2L);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 리비전이 달라졌거나 삭제된 상세만 제거한다")
+    void evictStaleIfChanged_EvictsChangedRevisions() {
+        // given
+        givenArticle(1L, 1, "본문1");
+        givenArticle(2L, 1, "본문2");
+        newsDetailCache.get(1L);
+        newsDetailCache.get(2L);
+
+        given(newsFeedVersionRepository.findCurrentVersion()).willReturn(5L);
+        given(newsArticleRepository.findRevisionsByIdIn(anyCollection()))
+                .willReturn(List.of(new NewsRevision(1L, 2, "hash"))); // 1 수정, 2 삭제
+
+        // when
+        newsDetailCache.evictStaleIfChanged();
+        newsDetailCache.get(1L);
+        newsDetailCache.get(2L);
+
+        // then
+        verify(newsArticleRepository, times(2)).findDetailRowsById(1L);
+        verify(newsArticleRepository, times(2)).findDetailRowsById(2L);
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 리비전을 조회하지 않는다")
+    void evictStaleIfChanged_SameVersion_Noop() {
+        // given
+        given(newsFeedVersionRepository.findCurrentVersion()).willReturn(5L);
+        newsDetailCache.evictStaleIfChanged();
+
+        // when
+        newsDetailCache.evictStaleIfChanged();
+
+        // then
+        verify(newsArticleRepository, never()).findRevisionsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("텍스트 블록에만 용어 위치를 붙이고, 사전이 바뀌면 DB 조회 없이 다시 계산한다")
+    void get_AnnotatesTextBlocks_ReannotatesOnDictionaryChange() {
+        // given
+        NewsArticle article = givenArticle(1L, 1, "본문");
+        ReflectionTestUtils.setField(article, "contentBlocks", List.of(
+                block(article, 1, "text", "기준금리 동결"),
+                block(article, 2, "image", null)));
+        TermSpan span = new TermSpan(0, 4, 10L, "기준금리");
+        given(termDictionary.version()).willReturn(1L, 2L);
+        given(termDictionary.annotate("기준금리 동결")).willReturn(List.of(span));
+
+        // when
+        NewsDetailDto first = newsDetailCache.get(1L);
+        NewsDetailDto second = newsDetailCache.get(1L);
+
+        // then
+        assertThat(first.getContentBlocks().get(0).getTermSpans()).containsExactly(span);
+        assertThat(first.getContentBlocks().get(1).getTermSpans()).isEmpty();
+        assertThat(second).isNotSameAs(first);
+        verify(termDictionary, times(2)).annotate("기준금리 동결");
+        verify(newsArticleRepository, times(1)).findDetailRowsById(1L);
+    }
+
+    private NewsContentBlock block(NewsArticle article, int order, String type, String plainContent) {
+        return NewsContentBlock.builder()
+                .newsArticle(article)
+                .newsArticleId(article.getId())
+                .blockOrder(order)
+                .blockType(type)
+                .plainContent(plainContent)
+                .build();
+    }
+
+    private NewsArticle givenArticle(Long id, int modifyId, String plainText) {
+        NewsArticle article = NewsArticle.builder()
+                .newsItemId("news" + id)
+                .title("뉴스 " + id)
+                .modifyId(modifyId)
+                .approveDate(LocalDateTime.now())
+                .contentsType("H")
+                .contentHash("hash")
+                .build();
+        ReflectionTestUtils.setField(article, "id", id);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{article, plainText});
+        given(newsArticleRepository.findDetailRowsById(id)).willReturn(rows);
+        return article;
+    }
+}
@@ -0,0 +1,124 @@
+package com.freedom.news.domain.service;
+
+import com.freedom.common.time.TimeProvider;
+import com.freedom.news.domain.model.NewsListItem;
+import com.freedom.news.infra.repository.NewsArticleRepository;
+import com.freedom.news.infra.repository.NewsFeedVersionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsFeedCache 단위 테스트")
+class NewsFeedCacheTest {
+
+    @Mock
+    private NewsArticleRepository newsArticleRepository;
+
+    @Mock
+    private NewsFeedVersionRepository newsFeedVersionRepository;
+
+    @Mock
+    private TimeProvider timeProvider;
+
+    @InjectMocks
+    private NewsFeedCache newsFeedCache;
+
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 9, 10);
+    private static final LocalDateTime THIS_WEEK = LocalDate.of(2025, 9, 8).atStartOfDay();
+    private static final LocalDateTime LAST_WEEK = THIS_WEEK.minusWeeks(1);
+
+    @Test
+    @DisplayName("페이지는 적재된 배열에서 잘라 응답하고 DB 는 한 번만 조회한다")
+    void findPage_SlicesFromSnapshot() {
+        // given
+        given(timeProvider.today()).willReturn(WEDNESDAY);
+        given(newsFeedVersionRepository.findCurrentVersion()).willReturn(1L);
+        given(newsArticleRepository.findFeedItemsByApproveDateBetween(THIS_WEEK, THIS_WEEK.plusWeeks(1)))
+                .willReturn(items(25));
+
+        // when
+        Page<NewsListItem> first = newsFeedCache.findPage(PageRequest.of(0, 10));
+        Page<NewsListItem> last = newsFeedCache.findPage(PageRequest.of(2, 10));
+        Page<NewsListItem> beyond = newsFeedCache.findPage(PageRequest.of(5, 10));
+
+        // then
+        assertThat(first.getContent()).extracting(NewsListItem::id).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(first.getTotalElements()).isEqualTo(25);
+        assertThat(last.getContent()).extracting(NewsListItem::id).containsExactly(21L, 22L, 23L, 24L, 25L);
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.getTotalElements()).isEqualTo(25);
+
+        verify(newsArticleRepository, times(1)).findFeedItemsByApproveDateBetween(any(), any());
+    }
+
+    @Test
+    @DisplayName("이번 주 뉴스가 없으면 전주 뉴스로 적재한다")
+    void reload_ThisWeekEmpty_FallbackToLastWeek() {
+        // given
+        given(timeProvider.today()).willReturn(WEDNESDAY);
+        given(newsFeedVersionRepository.findCurrentVersion()).willReturn(1L);
+        given(newsArticleRepository.findFeedItemsByApproveDateBetween(THIS_WEEK, THIS_WEEK.plusWeeks(1)))
+                .willReturn(List.of());
+        given(newsArticleRepository.findFeedItemsByApproveDateBetween(LAST_WEEK, THIS_WEEK))
+                .willReturn(items(3));
+
+        // when
+        Page<NewsListItem> result = newsFeedCache.findPage(PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).hasSize(3);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("news_feed_version 이 바뀌면 다시 적재하고, 같으면 적재하지 않는다")
+    void refreshIfChanged_ReloadsOnlyWhenVersionChanged() {
+        // given
+        given(timeProvider.today()).willReturn(WEDNESDAY);
+        given(newsFeedVersionRepository.findCurrentVersion()).willReturn(1L, 1L, 2L, 2L);
+        given(newsArticleRepository.findFeedItemsByApproveDateBetween(THIS_WEEK, THIS_WEEK.plusWeeks(1)))
+                .willReturn(items(1), items(2));
+        newsFeedCache.findPage(PageRequest.of(0, 10));
+
+        // when
+        newsFeedCache.refreshIfChanged(); // 버전 1 - 유지
+        newsFeedCache.refreshIfChanged(); // 버전 2 - 재적재
+
+        // then
+        assertThat(newsFeedCache.findPage(PageRequest.of(0, 10)).getContent()).hasSize(2);
+        verify(newsArticleRepository, times(2)).findFeedItemsByApproveDateBetween(any(), any());
+    }
+
+    @Test
+    @DisplayName("적재 전에는 버전을 확인하지 않는다")
+    void refreshIfChanged_BeforeFirstLoad_Noop() {
+        // when
+        newsFeedCache.refreshIfChanged();
+
+        // then
+        verifyNoInteractions(newsFeedVersionRepository, newsArticleRepository);
+    }
+
+    private List<NewsListItem> items(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new NewsListItem(id, "news" + id, "뉴스 " + id, null, null, null,
+                        THIS_WEEK.plusHours(id), null, null, null, null, null, null))
+                .toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.freedom.news.domain.service;
+
+import com.freedom.news.domain.model.NewsRead;
+import com.freedom.news.domain.model.NewsReadResult;
+import com.freedom.news.infra.repository.NewsHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsReadBuffer 단위 테스트")
+class NewsReadBufferTest {
+
+    @Mock
+    private NewsHistoryRepository newsHistoryRepository;
+
+    private NewsReadBuffer newsReadBuffer;
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime WEDNESDAY = LocalDateTime.of(2025, 9, 10, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        newsReadBuffer = new NewsReadBuffer(newsHistoryRepository, 2);
+    }
+
+    @Test
+    @DisplayName("처음 읽은 뉴스만 대기열에 추가하고 누적 카운터를 올린다")
+    void record_DedupsAndCounts() {
+        // given
+        given(newsHistoryRepository.findNewsArticleIdsByUserId(USER_ID)).willReturn(List.of(10L, 11L));
+
+        // when
+        NewsReadResult alreadyRead = newsReadBuffer.record(USER_ID, 10L, WEDNESDAY);
+        NewsReadResult first = newsReadBuffer.record(USER_ID, 12L, WEDNESDAY);
+        NewsReadResult again = newsReadBuffer.record(USER_ID, 12L, WEDNESDAY.plusMinutes(1));
+
+        // then
+        assertThat(alreadyRead).isEqualTo(new NewsReadResult(false, 2));
+        assertThat(first).isEqualTo(new NewsReadResult(true, 3));
+        assertThat(again).isEqualTo(new NewsReadResult(false, 3));
+        assertThat(newsReadBuffer.pendingReads()).containsExactly(new NewsRead(USER_ID, 12L, WEDNESDAY));
+
+        // 사용자 상태는 한 번만 적재
+        verify(newsHistoryRepository, times(1)).findNewsArticleIdsByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("flush 확인된 기록만 대기열에서 제거한다")
+    void acknowledge_RemovesFlushedOnly() {
+        // given
+        given(newsHistoryRepository.findNewsArticleIdsByUserId(USER_ID)).willReturn(List.of());
+        newsReadBuffer.record(USER_ID, 1L, WEDNESDAY);
+        List<NewsRead> flushed = newsReadBuffer.pendingReads();
+        newsReadBuffer.record(USER_ID, 2L, WEDNESDAY);
+
+        // when
+        newsReadBuffer.acknowledge(flushed);
+
+        // then
+        assertThat(newsReadBuffer.pendingReads()).containsExactly(new NewsRead(USER_ID, 2L, WEDNESDAY));
+    }
+
+    @Test
+    @DisplayName("사용자 상태가 제거된 뒤 다시 적재해도 미반영 기록을 중복으로 세지 않는다")
+    void record_ReloadMergesPendingReads() {
+        // given
+        given(newsHistoryRepository.findNewsArticleIdsByUserId(anyLong())).willReturn(List.of());
+        newsReadBuffer.record(USER_ID, 1L, WEDNESDAY);
+        newsReadBuffer.record(2L, 1L, WEDNESDAY);
+        newsReadBuffer.record(3L, 1L, WEDNESDAY); // 최대 2명 - USER_ID 상태 제거
+
+        // when
+        NewsReadResult result = newsReadBuffer.record(USER_ID, 1L, WEDNESDAY.plusMinutes(1));
+
+        // then
+        assertThat(result).isEqualTo(new NewsReadResult(false, 1));
+        verify(newsHistoryRepository, times(2)).findNewsArticleIdsByUserId(USER_ID);
+    }
+}
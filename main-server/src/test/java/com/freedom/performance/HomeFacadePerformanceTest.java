@@ -64,7 +64,7 @@ class HomeFacadePerformanceTest extends TestContainerConfig {
     private void callSync() {
         String name        = characterNameService.getCharacterName(USER_ID);
         boolean attendance = attendanceService.isAttendanceCompleted(USER_ID);
-        var balance        = walletService.getWalletByUserId(USER_ID).getBalance();
+        var balance        = walletService.getBalance(USER_ID);
         int correctCount   = (int) findUserQuizService.findDailyQuizzes(USER_ID, LocalDate.now())
                 .stream().filter(q -> Boolean.TRUE.equals(q.getIsCorrect())).count();
         HomeResponse.of(name, balance, attendance, correctCount);
@@ -0,0 +1,138 @@
+package com.freedom.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freedom.common.test.TestContainerConfig;
+import com.freedom.news.api.response.NewsResponse;
+import com.freedom.news.application.NewsQueryAppService;
+import com.freedom.news.domain.service.NewsFeedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("뉴스 목록 페이로드 벤치마크 (본문 포함 전체 조회 vs 목록 projection vs 주간 피드 캐시)")
+class NewsListPayloadBenchmarkTest extends TestContainerConfig {
+
+    @Autowired private NewsQueryAppService newsQueryAppService;
+    @Autowired private NewsFeedCache newsFeedCache;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ObjectMapper objectMapper;
+
+    private static final String ITEM_PREFIX = "BNL";
+    private static final long USER_ID = 930_000L; // 스크랩 없는 사용자
+    private static final int PAGE_SIZE = 20;
+    private static final int ARTICLES = PAGE_SIZE; // 한 주 피드 = 한 페이지로 맞춰 조회 비용 비교
+    private static final int BODY_CHARS = 8_000;
+    private static final int WARMUP = 5;
+    private static final int RUNS = 100;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        String body = "정책 본문 ".repeat(BODY_CHARS / 6);
+        LocalDateTime approveDate = LocalDate.now().atStartOfDay().plusMinutes(1);
+        for (int i = 0; i < ARTICLES; i++) {
+            jdbcTemplate.update("INSERT INTO news_article (news_item_id, contents_status, modify_id, approve_date, title, contents_type, " +
+                            "data_contents, plain_text_content, thumbnail_url, ai_summary, created_at, updated_at) " +
+                            "VALUES (?, 'U', 1, ?, ?, 'H', ?, ?, 'https://example.com/t.jpg', 'AI 요약', NOW(), NOW())",
+                    ITEM_PREFIX + i, approveDate.plusSeconds(i), "벤치마크 뉴스 " + i, "<p>" + body + "</p>", body);
+        }
+        newsFeedCache.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+        newsFeedCache.reload();
+    }
+
+    @Test
+    @DisplayName("페이지당 응답 바이트 / 조회 시간")
+    void compareListPayload() throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            legacyPage();
+            newsFeedCache.reload();
+            newsQueryAppService.getRecentNewsList(USER_ID, 0, PAGE_SIZE);
+        }
+
+        long legacyNanos = 0, projectionNanos = 0, cachedNanos = 0;
+        for (int i = 0; i < RUNS; i++) {
+            long s1 = System.nanoTime();
+            legacyPage();
+            legacyNanos += System.nanoTime() - s1;
+
+            long s2 = System.nanoTime();
+            newsFeedCache.reload(); // projection 쿼리로 주간 피드 적재
+            projectionNanos += System.nanoTime() - s2;
+
+            long s3 = System.nanoTime();
+            newsQueryAppService.getRecentNewsList(USER_ID, 0, PAGE_SIZE);
+            cachedNanos += System.nanoTime() - s3;
+        }
+
+        int legacyBytes = objectMapper.writeValueAsBytes(legacyPage()).length;
+        List<NewsResponse> page = newsQueryAppService.getRecentNewsList(USER_ID, 0, PAGE_SIZE).getContent();
+        int projectionBytes = objectMapper.writeValueAsBytes(page).length;
+
+        log.info("🐢 Legacy     : {} bytes/page, avg={}ms (n={}, size={})", legacyBytes, fmt2(legacyNanos / 1e6 / RUNS), RUNS, PAGE_SIZE);
+        log.info("⚡ Projection : {} bytes/page, avg={}ms (n={}, size={})", projectionBytes, fmt2(projectionNanos / 1e6 / RUNS), RUNS, PAGE_SIZE);
+        log.info("📦 Cached     : avg={}ms (n={}, size={})", fmt2(cachedNanos / 1e6 / RUNS), RUNS, PAGE_SIZE);
+        log.info("🚀 Result: 페이로드 {}% 감소", fmt2((legacyBytes - projectionBytes) * 100.0 / legacyBytes));
+
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(page).allSatisfy(r -> assertThat(r.getExcerpt()).isNotBlank());
+        assertThat(projectionBytes).isLessThan(legacyBytes);
+    }
+
+    // 변경 전 경로: 본문 컬럼까지 한 번에 읽어(엔티티 전체 조회와 같은 SELECT) 기존 목록 DTO 전체 필드로 응답
+    // - 현재 엔티티는 본문이 지연 로딩 그룹이라 엔티티로 읽으면 행마다 추가 SELECT 가 생기므로 JDBC 로 직접 조회
+    private List<LegacyNewsResponse> legacyPage() {
+        LocalDateTime start = LocalDate.now().with(DayOfWeek.MONDAY).atStartOfDay();
+        LocalDateTime end = start.plusWeeks(1);
+        List<LegacyNewsResponse> rows = jdbcTemplate.query(
+                "SELECT id, news_item_id, contents_status, modify_id, modify_date, approve_date, approver_name, embargo_date, " +
+                        "grouping_code, title, sub_title1, sub_title2, sub_title3, contents_type, data_contents, plain_text_content, " +
+                        "content_hash, minister_code, thumbnail_url, original_img_url, original_url, ai_summary, created_at, updated_at " +
+                        "FROM news_article WHERE approve_date >= ? AND approve_date < ? ORDER BY approve_date DESC LIMIT ?",
+                (rs, rowNum) -> new LegacyNewsResponse(
+                        rs.getLong("id"),
+                        rs.getString("news_item_id"),
+                        rs.getString("title"),
+                        rs.getString("sub_title1"),
+                        rs.getString("sub_title2"),
+                        rs.getString("sub_title3"),
+                        rs.getObject("approve_date", LocalDateTime.class),
+                        rs.getObject("modify_date", LocalDateTime.class),
+                        rs.getString("original_img_url"),
+                        rs.getString("thumbnail_url"),
+                        rs.getString("ai_summary"),
+                        rs.getString("plain_text_content"),
+                        rs.getString("minister_code")),
+                start, end, PAGE_SIZE);
+        // 기존 Page 응답의 count 쿼리
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_article WHERE approve_date >= ? AND approve_date < ?",
+                Long.class, start, end);
+        return rows;
+    }
+
+    private void cleanUp() {
+        jdbcTemplate.update("DELETE FROM news_article WHERE news_item_id LIKE ?", ITEM_PREFIX + "%");
+    }
+
+    private static String fmt2(double v) { return String.format(Locale.ROOT, "%.2f", v); }
+
+    // 변경 전 목록 응답(NewsResponse)의 전체 필드
+    private record LegacyNewsResponse(Long id, String newsItemId, String title,
+                                      String subTitle1, String subTitle2, String subTitle3,
+                                      LocalDateTime approveDate, LocalDateTime modifyDate,
+                                      String originalImgUrl, String thumbnailUrl, String aiSummary,
+                                      String plainTextContent, String ministerCode) {}
+}
@@ -0,0 +1,121 @@
+package com.freedom.performance;
+
+import com.freedom.common.test.TestContainerConfig;
+import com.freedom.wallet.application.SavingTransactionService;
+import com.freedom.wallet.application.WalletConcurrencyStrategy;
+import com.freedom.wallet.application.WalletRetryMetrics;
+import com.freedom.wallet.domain.WalletConcurrencyMode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("지갑 동시성 모드 벤치마크 (OPTIMISTIC vs PESSIMISTIC)")
+class WalletConcurrencyBenchmarkTest extends TestContainerConfig {
+
+    @Autowired private SavingTransactionService savingTransactionService;
+    @Autowired private WalletConcurrencyStrategy concurrencyStrategy;
+    @Autowired private WalletRetryMetrics retryMetrics;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private static final long USER_ID_BASE = 910_000L;
+    private static final int THREADS = 16;
+    private static final int RUNS    = 320;
+
+    private WalletConcurrencyMode originalMode;
+
+    @BeforeEach
+    void setUp() {
+        originalMode = concurrencyStrategy.getMode();
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        concurrencyStrategy.changeMode(originalMode);
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("저경합(지갑 16개) / 고경합(지갑 1개) — 처리량 및 재시도율")
+    void compareModes() throws Exception {
+        for (int wallets : new int[]{THREADS, 1}) {
+            Result optimistic  = run(WalletConcurrencyMode.OPTIMISTIC, wallets);
+            Result pessimistic = run(WalletConcurrencyMode.PESSIMISTIC, wallets);
+
+            log.info("📊 wallets={} | ⚡ OPTIMISTIC : {} tx/s, 성공={}, 재시도율={}, 한도초과={}",
+                    wallets, fmt2(optimistic.tps), optimistic.success, fmt2(optimistic.retryRate), optimistic.exhausted);
+            log.info("📊 wallets={} | 🔒 PESSIMISTIC: {} tx/s, 성공={}",
+                    wallets, fmt2(pessimistic.tps), pessimistic.success);
+
+            assertThat(pessimistic.success).isEqualTo(RUNS);
+            assertThat(optimistic.success + optimistic.exhausted).isEqualTo(RUNS);
+        }
+    }
+
+    private Result run(WalletConcurrencyMode mode, int wallets) throws Exception {
+        cleanUp();
+        concurrencyStrategy.changeMode(mode);
+        for (int w = 0; w < wallets; w++) {
+            jdbcTemplate.update("INSERT INTO user_wallet (user_id, balance, version, created_at, updated_at) VALUES (?, 0, 0, NOW(), NOW())",
+                    USER_ID_BASE + w);
+        }
+
+        // 실행마다 operation 태그를 달리해 카운터를 분리
+        String operation = "BENCH_INTEREST_" + mode + "_" + wallets;
+        AtomicInteger success = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(RUNS);
+        for (int i = 0; i < RUNS; i++) {
+            long userId = USER_ID_BASE + (i % wallets);
+            String requestId = "BENCH_" + mode + "_" + wallets + "_" + i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    concurrencyStrategy.executeWithRetry(operation,
+                            () -> savingTransactionService.processSavingInterest(userId, requestId, BigDecimal.ONE, 1L));
+                    success.incrementAndGet();
+                } catch (OptimisticLockingFailureException ignore) {
+                    // 재시도 한도 초과는 지표로 집계
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        // 성공한 건수만큼만 잔액과 이력이 증가해야 한다 (유실/중복 반영 없음)
+        BigDecimal total = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(balance), 0) FROM user_wallet WHERE user_id >= ?", BigDecimal.class, USER_ID_BASE);
+        Long ledger = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM wallet_transaction t JOIN user_wallet w ON t.wallet_id = w.id WHERE w.user_id >= ?",
+                Long.class, USER_ID_BASE);
+        assertThat(total).isEqualByComparingTo(BigDecimal.valueOf(success.get()));
+        assertThat(ledger).isEqualTo(success.get());
+
+        return new Result(RUNS / (elapsed / 1_000_000_000.0), success.get(),
+                retryMetrics.retryRate(operation), retryMetrics.exhausted(operation));
+    }
+
+    private void cleanUp() {
+        jdbcTemplate.update("DELETE t FROM wallet_transaction t JOIN user_wallet w ON t.wallet_id = w.id WHERE w.user_id >= ?", USER_ID_BASE);
+        jdbcTemplate.update("DELETE FROM user_wallet WHERE user_id >= ?", USER_ID_BASE);
+    }
+
+    private static String fmt2(double v) { return String.format(Locale.ROOT, "%.2f", v); }
+
+    private record Result(double tps, int success, double retryRate, long exhausted) {}
+}
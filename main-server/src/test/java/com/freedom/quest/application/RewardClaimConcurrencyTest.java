@@ -0,0 +1,167 @@
+package com.freedom.quest.application;
+
+import com.freedom.achievement.domain.entity.Achievement;
+import com.freedom.achievement.domain.entity.UserAchievement;
+import com.freedom.achievement.domain.service.AchievementCommandService;
+import com.freedom.achievement.infra.AchievementRepository;
+import com.freedom.achievement.infra.UserAchievementRepository;
+import com.freedom.auth.domain.User;
+import com.freedom.auth.domain.UserRole;
+import com.freedom.auth.domain.UserStatus;
+import com.freedom.auth.infra.UserJpaRepository;
+import com.freedom.common.test.TestContainerConfig;
+import com.freedom.quest.api.response.ClaimResponse;
+import com.freedom.quest.domain.entity.*;
+import com.freedom.quest.infra.repository.QuestJPARepository;
+import com.freedom.quest.infra.repository.UserQuestJPARepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("퀘스트/업적 보상 동시 수령 테스트")
+class RewardClaimConcurrencyTest extends TestContainerConfig {
+
+    @Autowired private QuestFacade questFacade;
+    @Autowired private AchievementCommandService achievementCommandService;
+    @Autowired private UserJpaRepository userRepository;
+    @Autowired private QuestJPARepository questRepository;
+    @Autowired private UserQuestJPARepository userQuestRepository;
+    @Autowired private AchievementRepository achievementRepository;
+    @Autowired private UserAchievementRepository userAchievementRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 50;
+
+    private User user;
+    private Quest quest;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("claim-concurrency@example.com")
+                .password("password")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+        quest = questRepository.save(Quest.builder()
+                .title("동시 수령 테스트")
+                .description("동시 수령 테스트")
+                .periodType(PeriodType.WEEKLY)
+                .progressMode(ProgressMode.COUNT)
+                .targetType(TargetType.NEWS)
+                .requirementCount(1)
+                .rewardAmount(BigDecimal.valueOf(1_000))
+                .active(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM wallet_pending_credit WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM user_achievement WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM user_quests WHERE user_id = ?", user.getId());
+        questRepository.deleteById(quest.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("완료된 퀘스트 동시 수령 - 한 요청만 성공하고 보상은 1건만 적립된다")
+    void concurrentQuestClaim_CreditedOnce() throws Exception {
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        UserQuest userQuest = UserQuest.builder()
+                .user(user)
+                .quest(quest)
+                .periodStartDate(monday)
+                .periodEndDate(monday.plusDays(6))
+                .progressCount(0)
+                .currentStreak(0)
+                .build();
+        userQuest.increaseProgress(1);
+        Long userQuestId = userQuestRepository.save(userQuest).getId();
+
+        AtomicInteger success = new AtomicInteger();
+        runConcurrently(() -> {
+            ClaimResponse response = questFacade.questClaim(user.getId(), userQuestId);
+            if (response.isCompleted()) {
+                success.incrementAndGet();
+            }
+        });
+
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(pendingCreditCount("QUEST_REWARD_" + userQuestId)).isEqualTo(1);
+        assertThat(userQuestRepository.findById(userQuestId).orElseThrow().isClaimed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("미완료 퀘스트 수령 - 갱신되지 않고 보상도 적립되지 않는다")
+    void incompleteQuestClaim_NotCredited() {
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        Long userQuestId = userQuestRepository.save(UserQuest.builder()
+                .user(user)
+                .quest(quest)
+                .periodStartDate(monday)
+                .periodEndDate(monday.plusDays(6))
+                .progressCount(0)
+                .currentStreak(0)
+                .build()).getId();
+
+        ClaimResponse response = questFacade.questClaim(user.getId(), userQuestId);
+
+        assertThat(response.isCompleted()).isFalse();
+        assertThat(pendingCreditCount("QUEST_REWARD_" + userQuestId)).isZero();
+    }
+
+    @Test
+    @DisplayName("업적 동시 확인 - 한 요청만 성공하고 보상은 1건만 적립된다")
+    void concurrentAchievementClaim_CreditedOnce() throws Exception {
+        Achievement achievement = achievementRepository.findByType(Achievement.AchievementType.BEGINNERS_LUCK).orElseThrow();
+        Long userAchievementId = userAchievementRepository.save(UserAchievement.create(user.getId(), achievement)).getId();
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                achievementCommandService.claimAchievement(user.getId(), achievement.getId());
+                success.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(REQUESTS - 1);
+        assertThat(pendingCreditCount("ACHIEVEMENT_REWARD_" + userAchievementId)).isEqualTo(1);
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+    }
+
+    private long pendingCreditCount(String requestId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM wallet_pending_credit WHERE request_id = ?", Long.class, requestId);
+    }
+}
@@ -0,0 +1,75 @@
+package com.freedom.quest.domain.service;
+
+import com.freedom.quest.domain.entity.ProgressMode;
+import com.freedom.quest.domain.entity.Quest;
+import com.freedom.quest.domain.entity.TargetType;
+import com.freedom.quest.infra.repository.QuestJPARepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveQuestCacheTest {
+
+    @Mock
+    private QuestJPARepository questRepository;
+
+    @InjectMocks
+    private ActiveQuestCache activeQuestCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(activeQuestCache, "ttlMillis", 300_000L);
+        when(questRepository.findAllByActiveTrue()).thenReturn(List.of(
+                createQuest(TargetType.ATTENDANCE),
+                createQuest(TargetType.NEWS),
+                createQuest(TargetType.SCRAP_NEWS),
+                createQuest(TargetType.SCRAP_QUIZ)));
+    }
+
+    @Test
+    @DisplayName("홀수 주차에는 뉴스 스크랩, 짝수 주차에는 퀴즈 스크랩 퀘스트만 배정")
+    void findQuestsForWeek_FiltersScrapByWeekParity() {
+        // 2025-09-08: ISO 37주차(홀수), 2025-09-15: 38주차(짝수)
+        List<TargetType> oddWeek = activeQuestCache.findQuestsForWeek(LocalDate.of(2025, 9, 8)).stream()
+                .map(Quest::getTargetType).toList();
+        List<TargetType> evenWeek = activeQuestCache.findQuestsForWeek(LocalDate.of(2025, 9, 15)).stream()
+                .map(Quest::getTargetType).toList();
+
+        assertThat(oddWeek).containsExactly(TargetType.ATTENDANCE, TargetType.NEWS, TargetType.SCRAP_NEWS);
+        assertThat(evenWeek).containsExactly(TargetType.ATTENDANCE, TargetType.NEWS, TargetType.SCRAP_QUIZ);
+    }
+
+    @Test
+    @DisplayName("TTL 내 반복 조회는 DB 를 다시 조회하지 않는다")
+    void findQuestsForWeek_UsesCache() {
+        activeQuestCache.findQuestsForWeek(LocalDate.of(2025, 9, 8));
+        activeQuestCache.findQuestsForWeek(LocalDate.of(2025, 9, 9));
+
+        verify(questRepository, times(1)).findAllByActiveTrue();
+    }
+
+    private Quest createQuest(TargetType targetType) {
+        return Quest.builder()
+                .title(targetType.name())
+                .description("설명")
+                .progressMode(targetType == TargetType.ATTENDANCE ? ProgressMode.STREAK : ProgressMode.COUNT)
+                .targetType(targetType)
+                .requirementCount(3)
+                .rewardAmount(BigDecimal.valueOf(100))
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.freedom.quest.domain.service;
+
+import com.freedom.quest.domain.entity.ProgressMode;
+import com.freedom.quest.domain.entity.Quest;
+import com.freedom.quest.domain.entity.TargetType;
+import com.freedom.quest.domain.entity.UserQuest;
+import com.freedom.quest.domain.entity.UserQuestWeeklyCounter;
+import com.freedom.quest.infra.repository.UserQuestJPARepository;
+import com.freedom.quest.infra.repository.UserQuestWeeklyCounterJPARepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuestProgressServiceTest {
+
+    @Mock
+    private UserQuestJPARepository userQuestRepository;
+
+    @Mock
+    private UserQuestWeeklyCounterJPARepository counterRepository;
+
+    @InjectMocks
+    private QuestProgressService questProgressService;
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 9, 10);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 8);
+
+    @Test
+    @DisplayName("누적형 이벤트 - 주간 카운터 증가 후 진행도 1 증가, 요구치 도달 시 완료")
+    void increase_CompletesAtRequirement() {
+        // given
+        UserQuest userQuest = createUserQuest(TargetType.NEWS, 2, 1);
+        when(userQuestRepository.findByUserIdAndWeekStartAndTargetType(USER_ID, MONDAY, TargetType.NEWS))
+                .thenReturn(List.of(userQuest));
+
+        // when
+        questProgressService.increase(USER_ID, TargetType.NEWS, WEDNESDAY);
+
+        // then
+        verify(counterRepository).increment(USER_ID, MONDAY, "NEWS", WEDNESDAY);
+        assertThat(userQuest.getProgressCount()).isEqualTo(2);
+        assertThat(userQuest.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("누적형 이벤트 - 이미 완료된 퀘스트는 진행도를 바꾸지 않는다")
+    void increase_CompletedQuestUnchanged() {
+        // given
+        UserQuest userQuest = createUserQuest(TargetType.NEWS, 1, 0);
+        userQuest.increaseProgress(1);
+        when(userQuestRepository.findByUserIdAndWeekStartAndTargetType(USER_ID, MONDAY, TargetType.NEWS))
+                .thenReturn(List.of(userQuest));
+
+        // when
+        questProgressService.increase(USER_ID, TargetType.NEWS, WEDNESDAY);
+
+        // then
+        assertThat(userQuest.getProgressCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("출석 이벤트 - 주간 연속 일수 카운터 값으로 streak 과 진행도 반영")
+    void recordAttendance_AppliesStreak() {
+        // given
+        UserQuest userQuest = createUserQuest(TargetType.ATTENDANCE, 5, 2);
+        UserQuestWeeklyCounter counter = mock(UserQuestWeeklyCounter.class);
+        when(counter.streakAsOf(WEDNESDAY)).thenReturn(3);
+        when(counterRepository.findByUserIdAndWeekStartDateAndTargetType(USER_ID, MONDAY, TargetType.ATTENDANCE))
+                .thenReturn(Optional.of(counter));
+        when(userQuestRepository.findByUserIdAndWeekStartAndTargetType(USER_ID, MONDAY, TargetType.ATTENDANCE))
+                .thenReturn(List.of(userQuest));
+
+        // when
+        questProgressService.recordAttendance(USER_ID, WEDNESDAY);
+
+        // then
+        verify(counterRepository).recordStreakDay(USER_ID, MONDAY, "ATTENDANCE", WEDNESDAY);
+        assertThat(userQuest.getCurrentStreak()).isEqualTo(3);
+        assertThat(userQuest.getProgressCount()).isEqualTo(3);
+        assertThat(userQuest.isCompleted()).isFalse();
+    }
+
+    private UserQuest createUserQuest(TargetType targetType, int requirementCount, int progressCount) {
+        Quest quest = Quest.builder()
+                .title("퀘스트")
+                .description("설명")
+                .progressMode(targetType == TargetType.ATTENDANCE ? ProgressMode.STREAK : ProgressMode.COUNT)
+                .targetType(targetType)
+                .requirementCount(requirementCount)
+                .rewardAmount(BigDecimal.valueOf(100))
+                .active(true)
+                .build();
+        return UserQuest.builder()
+                .quest(quest)
+                .periodStartDate(MONDAY)
+                .periodEndDate(MONDAY.plusDays(6))
+                .progressCount(progressCount)
+                .currentStreak(progressCount)
+                .build();
+    }
+}
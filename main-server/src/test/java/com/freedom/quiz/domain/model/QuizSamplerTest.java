@@ -0,0 +1,91 @@
+package com.freedom.quiz.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuizSamplerTest {
+
+    @Test
+    @DisplayName("퀴즈 추출 - 중복 없이 k개, 출제 이력은 제외")
+    void sample_NoRepeatsAndExcludesHistory() {
+        // given
+        long[] candidates = LongStream.rangeClosed(1, 100).toArray();
+        long[] excluded = LongStream.rangeClosed(1, 20).map(i -> i * 2).toArray(); // 2, 4, ..., 40
+        Random random = new Random(42);
+
+        for (int trial = 0; trial < 1_000; trial++) {
+            // when
+            long[] picked = QuizSampler.sample(candidates, excluded, 30, random);
+
+            // then
+            assertThat(picked).hasSize(30).doesNotHaveDuplicates();
+            for (long id : picked) {
+                assertThat(id).isBetween(1L, 100L);
+                assertThat(Arrays.binarySearch(excluded, id)).isNegative();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("퀴즈 추출 - 후보 대부분이 출제됐으면 남은 후보 전부를 중복 없이 반환")
+    void sample_MostlyExcluded_FallsBackToRemaining() {
+        // given
+        long[] candidates = LongStream.rangeClosed(1, 50).toArray();
+        long[] excluded = LongStream.rangeClosed(1, 45).toArray();
+
+        // when
+        long[] picked = QuizSampler.sample(candidates, excluded, 10, new Random(7));
+
+        // then
+        assertThat(picked).containsExactlyInAnyOrder(46L, 47L, 48L, 49L, 50L);
+    }
+
+    @Test
+    @DisplayName("퀴즈 추출 - k 가 후보 수보다 크면 후보 전체, 후보가 없으면 빈 배열")
+    void sample_Bounds() {
+        long[] candidates = {5L, 3L, 9L};
+
+        assertThat(QuizSampler.sample(candidates, new long[0], 10, new Random(1)))
+                .containsExactlyInAnyOrder(5L, 3L, 9L);
+        assertThat(QuizSampler.sample(new long[0], new long[0], 3, new Random(1))).isEmpty();
+        assertThat(QuizSampler.sample(candidates, new long[0], 0, new Random(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("퀴즈 추출 - 같은 시드면 같은 결과")
+    void sample_DeterministicWithSeed() {
+        long[] candidates = LongStream.rangeClosed(1, 200).toArray();
+        long[] excluded = {10L, 20L, 30L};
+
+        assertThat(QuizSampler.sample(candidates, excluded, 5, new Random(2025)))
+                .containsExactly(QuizSampler.sample(candidates, excluded, 5, new Random(2025)));
+    }
+
+    @Test
+    @DisplayName("퀴즈 추출 - 제외되지 않은 후보가 고르게 뽑힘 (빈도 오차 5% 이내)")
+    void sample_UniformDistribution() {
+        // given - 후보 12개 중 2개 제외, 매번 3개 추출 → 남은 10개가 각각 30% 확률
+        long[] candidates = LongStream.rangeClosed(1, 12).toArray();
+        long[] excluded = {4L, 9L};
+        int trials = 50_000;
+        Map<Long, Integer> counts = new HashMap<>();
+        Random random = new Random(31);
+
+        // when
+        for (int trial = 0; trial < trials; trial++) {
+            for (long id : QuizSampler.sample(candidates, excluded, 3, random)) {
+                counts.merge(id, 1, Integer::sum);
+            }
+        }
+
+        // then
+        double expected = trials * 3 / 10.0;
+        assertThat(counts).hasSize(10).doesNotContainKeys(4L, 9L);
+        counts.values().forEach(count -> assertThat((double) count).isBetween(expected * 0.95, expected * 1.05));
+    }
+}
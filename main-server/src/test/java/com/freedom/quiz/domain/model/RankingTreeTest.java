@@ -0,0 +1,59 @@
+package com.freedom.quiz.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingTreeTest {
+
+    @Test
+    @DisplayName("순위 트리 - 점수 내림차순, 동점은 userId 오름차순")
+    void rankAndTop_OrderedByScoreThenUserId() {
+        // given
+        RankingTree tree = new RankingTree();
+        tree.increment(3L, 5);
+        tree.increment(1L, 5);
+        tree.increment(2L, 7);
+        tree.increment(4L, 1);
+
+        // then
+        assertThat(tree.top(3)).containsExactly(
+                new LeaderboardEntry(1, 2L, 7),
+                new LeaderboardEntry(2, 1L, 5),
+                new LeaderboardEntry(3, 3L, 5)
+        );
+        assertThat(tree.rankOf(4L)).isEqualTo(4);
+        assertThat(tree.rankOf(99L)).isZero();
+        assertThat(tree.scoreOf(99L)).isZero();
+    }
+
+    @Test
+    @DisplayName("순위 트리 - 무작위 갱신 후 전체 정렬 결과와 일치")
+    void randomUpdates_MatchBruteForce() {
+        // given
+        RankingTree tree = new RankingTree();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            long userId = random.nextInt(2_000);
+            tree.increment(userId, 1);
+            expected.merge(userId, 1L, Long::sum);
+        }
+
+        // then
+        List<Long> sorted = expected.keySet().stream()
+                .sorted(Comparator.<Long>comparingLong(expected::get).reversed().thenComparing(Comparator.naturalOrder()))
+                .toList();
+        assertThat(tree.size()).isEqualTo(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(tree.rankOf(sorted.get(i))).isEqualTo(i + 1);
+        }
+        assertThat(tree.top(10).stream().map(LeaderboardEntry::userId).toList())
+                .isEqualTo(sorted.subList(0, 10));
+    }
+}
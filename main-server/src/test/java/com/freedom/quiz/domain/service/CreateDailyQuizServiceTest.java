@@ -5,7 +5,9 @@ import com.freedom.quiz.application.dto.UserQuizDto;
 import com.freedom.quiz.domain.entity.Quiz;
 import com.freedom.quiz.domain.entity.QuizType;
 import com.freedom.quiz.domain.entity.UserQuiz;
-import com.freedom.quiz.infra.QuizRepository;
+import com.freedom.quiz.domain.model.AssignedQuiz;
+import com.freedom.quiz.domain.model.QuizQuestion;
+import com.freedom.quiz.infra.UserQuizBulkWriter;
 import com.freedom.quiz.infra.UserQuizRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,16 +25,20 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class CreateDailyQuizServiceTest {
 
     @Mock
-    private QuizRepository quizRepository;
+    private UserQuizRepository userQuizRepository;
 
     @Mock
-    private UserQuizRepository userQuizRepository;
+    private UserQuizBulkWriter userQuizBulkWriter;
+
+    @Mock
+    private QuizPoolService quizPoolService;
 
     @InjectMocks
     private CreateDailyQuizService createDailyQuizService;
@@ -49,36 +55,23 @@ class CreateDailyQuizServiceTest {
                 .thenReturn(Collections.emptyList());
         
         // News 퀴즈 4개 있음
-        List<Quiz> newsQuizzes = List.of(
+        List<QuizQuestion> newsQuizzes = List.of(
                 createQuiz(1L, "news", QuizType.MCQ),
                 createQuiz(2L, "news", QuizType.OX),
                 createQuiz(3L, "news", QuizType.MCQ),
                 createQuiz(4L, "news", QuizType.OX)
         );
-        when(quizRepository.findNewsQuizzesInWeek(any(LocalDateTime.class), any(LocalDateTime.class), anyList()))
+        when(quizPoolService.sampleNewsQuizzes(eq(quizDate), any(long[].class), eq(4)))
                 .thenReturn(newsQuizzes);
         
         // Quiz 퀴즈 1개만 있음 (News 4개 + Quiz 1개 = 5개)
-        List<Quiz> generalQuizzes = List.of(
+        List<QuizQuestion> generalQuizzes = List.of(
                 createQuiz(5L, "quiz", QuizType.MCQ)
         );
-        when(quizRepository.findGeneralQuizzes(anyList(), eq(1)))
+        when(quizPoolService.sampleGeneralQuizzes(any(long[].class), eq(1)))
                 .thenReturn(generalQuizzes);
         
-        // UserQuiz 저장 성공
-        when(userQuizRepository.saveAll(anyList()))
-                .thenAnswer(invocation -> {
-                    List<UserQuiz> userQuizzes = invocation.getArgument(0);
-                    return userQuizzes.stream()
-                            .map(uq -> UserQuiz.builder()
-                                    .id((long) (userQuizzes.indexOf(uq) + 1))
-                                    .userId(uq.getUserId())
-                                    .quiz(uq.getQuiz())  // 원래 Quiz 객체를 그대로 사용
-                                    .quizDate(uq.getQuizDate())
-                                    .assignedDate(uq.getAssignedDate())
-                                    .build())
-                            .toList();
-                });
+        givenInsertedRowsReadBack(userId, quizDate);
 
         // when
         List<UserQuizDto> result = createDailyQuizService.createDailyQuizzes(userId, quizDate);
@@ -107,35 +100,23 @@ class CreateDailyQuizServiceTest {
                 .thenReturn(Collections.emptyList());
         
         // News 퀴즈 2개만 있음
-        List<Quiz> newsQuizzes = List.of(
+        List<QuizQuestion> newsQuizzes = List.of(
                 createQuiz(1L, "news", QuizType.MCQ),
                 createQuiz(2L, "news", QuizType.OX)
         );
-        when(quizRepository.findNewsQuizzesInWeek(any(LocalDateTime.class), any(LocalDateTime.class), anyList()))
+        when(quizPoolService.sampleNewsQuizzes(eq(quizDate), any(long[].class), eq(4)))
                 .thenReturn(newsQuizzes);
         
         // Quiz 퀴즈 3개 있음 (News 2개 + Quiz 3개 = 5개)
-        List<Quiz> generalQuizzes = List.of(
+        List<QuizQuestion> generalQuizzes = List.of(
                 createQuiz(3L, "quiz", QuizType.MCQ),
                 createQuiz(4L, "quiz", QuizType.OX),
                 createQuiz(5L, "quiz", QuizType.MCQ)
         );
-        when(quizRepository.findGeneralQuizzes(anyList(), eq(3)))
+        when(quizPoolService.sampleGeneralQuizzes(any(long[].class), eq(3)))
                 .thenReturn(generalQuizzes);
         
-        when(userQuizRepository.saveAll(anyList()))
-                .thenAnswer(invocation -> {
-                    List<UserQuiz> userQuizzes = invocation.getArgument(0);
-                    return userQuizzes.stream()
-                            .map(uq -> UserQuiz.builder()
-                                    .id((long) (userQuizzes.indexOf(uq) + 1))
-                                    .userId(uq.getUserId())
-                                    .quiz(uq.getQuiz())  // 원래 Quiz 객체를 그대로 사용
-                                    .quizDate(uq.getQuizDate())
-                                    .assignedDate(uq.getAssignedDate())
-                                    .build())
-                            .toList();
-                });
+        givenInsertedRowsReadBack(userId, quizDate);
 
         // when
         List<UserQuizDto> result = createDailyQuizService.createDailyQuizzes(userId, quizDate);
@@ -163,11 +144,11 @@ class CreateDailyQuizServiceTest {
                 .thenReturn(Collections.emptyList());
         
         // News 퀴즈 없음
-        when(quizRepository.findNewsQuizzesInWeek(any(LocalDateTime.class), any(LocalDateTime.class), anyList()))
+        when(quizPoolService.sampleNewsQuizzes(eq(quizDate), any(long[].class), eq(4)))
                 .thenReturn(Collections.emptyList());
         
         // Quiz 퀴즈도 없음
-        when(quizRepository.findGeneralQuizzes(anyList(), anyInt()))
+        when(quizPoolService.sampleGeneralQuizzes(any(long[].class), eq(5)))
                 .thenReturn(Collections.emptyList());
 
         // when & then
@@ -188,34 +169,22 @@ class CreateDailyQuizServiceTest {
         when(userQuizRepository.findQuizIdsByUserIdAndDateRange(eq(userId), any(), any()))
                 .thenReturn(excludeQuizIds);
         
-        List<Quiz> newsQuizzes = List.of(
+        List<QuizQuestion> newsQuizzes = List.of(
                 createQuiz(3L, "news", QuizType.MCQ),
                 createQuiz(4L, "news", QuizType.OX)
         );
-        when(quizRepository.findNewsQuizzesInWeek(any(LocalDateTime.class), any(LocalDateTime.class), eq(excludeQuizIds)))
+        when(quizPoolService.sampleNewsQuizzes(eq(quizDate), aryEq(new long[]{1L, 2L}), eq(4)))
                 .thenReturn(newsQuizzes);
         
-        List<Quiz> generalQuizzes = List.of(
+        List<QuizQuestion> generalQuizzes = List.of(
                 createQuiz(5L, "quiz", QuizType.MCQ),
                 createQuiz(6L, "quiz", QuizType.OX),
                 createQuiz(7L, "quiz", QuizType.MCQ)
         );
-        when(quizRepository.findGeneralQuizzes(eq(excludeQuizIds), eq(3)))
+        when(quizPoolService.sampleGeneralQuizzes(aryEq(new long[]{1L, 2L}), eq(3)))
                 .thenReturn(generalQuizzes);
         
-        when(userQuizRepository.saveAll(anyList()))
-                .thenAnswer(invocation -> {
-                    List<UserQuiz> userQuizzes = invocation.getArgument(0);
-                    return userQuizzes.stream()
-                            .map(uq -> UserQuiz.builder()
-                                    .id((long) (userQuizzes.indexOf(uq) + 1))
-                                    .userId(uq.getUserId())
-                                    .quiz(uq.getQuiz())  // 원래 Quiz 객체를 그대로 사용
-                                    .quizDate(uq.getQuizDate())
-                                    .assignedDate(uq.getAssignedDate())
-                                    .build())
-                            .toList();
-                });
+        givenInsertedRowsReadBack(userId, quizDate);
 
         // when
         List<UserQuizDto> result = createDailyQuizService.createDailyQuizzes(userId, quizDate);
@@ -246,38 +215,24 @@ class CreateDailyQuizServiceTest {
         when(userQuizRepository.findQuizIdsByUserIdAndDateRange(eq(userId), any(), any()))
                 .thenReturn(Collections.emptyList());
         
-        // News 퀴즈 6개 있음 (4개 초과)
-        List<Quiz> newsQuizzes = new ArrayList<>(List.of(
+        // News 퀴즈 6개 중 풀은 요청 개수(4개)만큼만 추출
+        List<QuizQuestion> newsQuizzes = List.of(
                 createQuiz(1L, "news", QuizType.MCQ),
-                createQuiz(2L, "news", QuizType.OX),
                 createQuiz(3L, "news", QuizType.MCQ),
                 createQuiz(4L, "news", QuizType.OX),
-                createQuiz(5L, "news", QuizType.MCQ),
                 createQuiz(6L, "news", QuizType.OX)
-        ));
-        when(quizRepository.findNewsQuizzesInWeek(any(LocalDateTime.class), any(LocalDateTime.class), anyList()))
+        );
+        when(quizPoolService.sampleNewsQuizzes(eq(quizDate), any(long[].class), eq(4)))
                 .thenReturn(newsQuizzes);
         
-        // Quiz 퀴즈 1개만 있음 (최종적으로 News 4개 + Quiz 1개 = 5개)
-        List<Quiz> generalQuizzes = List.of(
+        // Quiz 퀴즈 1개 (최종적으로 News 4개 + Quiz 1개 = 5개)
+        List<QuizQuestion> generalQuizzes = List.of(
                 createQuiz(7L, "quiz", QuizType.MCQ)
         );
-        when(quizRepository.findGeneralQuizzes(anyList(), eq(1)))
+        when(quizPoolService.sampleGeneralQuizzes(any(long[].class), eq(1)))
                 .thenReturn(generalQuizzes);
         
-        when(userQuizRepository.saveAll(anyList()))
-                .thenAnswer(invocation -> {
-                    List<UserQuiz> userQuizzes = invocation.getArgument(0);
-                    return userQuizzes.stream()
-                            .map(uq -> UserQuiz.builder()
-                                    .id((long) (userQuizzes.indexOf(uq) + 1))
-                                    .userId(uq.getUserId())
-                                    .quiz(uq.getQuiz())  // 원래 Quiz 객체를 그대로 사용
-                                    .quizDate(uq.getQuizDate())
-                                    .assignedDate(uq.getAssignedDate())
-                                    .build())
-                            .toList();
-                });
+        givenInsertedRowsReadBack(userId, quizDate);
 
         // when
         List<UserQuizDto> result = createDailyQuizService.createDailyQuizzes(userId, quizDate);
@@ -303,20 +258,62 @@ class CreateDailyQuizServiceTest {
                 .allSatisfy(id -> assertThat(id).isBetween(1L, 6L));
     }
 
-    private Quiz createQuiz(Long id, String category, QuizType type) {
-        return Quiz.builder()
+    @Test
+    @DisplayName("일일 퀴즈 생성 - 다른 경로가 먼저 배정한 행도 재조회해 그대로 응답")
+    void createDailyQuizzes_ReadBackRowsAssignedConcurrently() {
+        // given
+        Long userId = 1L;
+        LocalDate quizDate = LocalDate.of(2024, 1, 3);
+
+        when(userQuizRepository.findQuizIdsByUserIdAndDateRange(eq(userId), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(quizPoolService.sampleNewsQuizzes(eq(quizDate), any(long[].class), eq(4)))
+                .thenReturn(List.of(createQuiz(1L, "news", QuizType.MCQ)));
+        when(quizPoolService.sampleGeneralQuizzes(any(long[].class), eq(4)))
+                .thenReturn(List.of(createQuiz(2L, "quiz", QuizType.OX)));
+
+        // 1번 퀴즈는 사전 배정 배치가 먼저 저장해 INSERT IGNORE 로 건너뜀, 9번 퀴즈도 배치가 배정
+        Quiz batchQuiz = Quiz.builder().id(9L).type(QuizType.MCQ).category("news").question("배치 문제").build();
+        when(userQuizRepository.findByUserIdAndQuizDate(userId, quizDate)).thenReturn(List.of(
+                createUserQuiz(11L, userId, Quiz.builder().id(1L).build(), quizDate),
+                createUserQuiz(12L, userId, batchQuiz, quizDate),
+                createUserQuiz(13L, userId, Quiz.builder().id(2L).build(), quizDate)
+        ));
+
+        // when
+        List<UserQuizDto> result = createDailyQuizService.createDailyQuizzes(userId, quizDate);
+
+        // then
+        assertThat(result).extracting(UserQuizDto::getUserQuizId).containsExactly(11L, 12L, 13L);
+        assertThat(result).extracting(UserQuizDto::getQuizId).containsExactly(1L, 9L, 2L);
+        assertThat(result.get(0).getQuestion()).isEqualTo("테스트 문제 1");
+        assertThat(result.get(1).getQuestion()).isEqualTo("배치 문제");
+    }
+
+    // INSERT IGNORE 로 저장된 행을 findByUserIdAndQuizDate 재조회 결과로 돌려줌
+    private void givenInsertedRowsReadBack(Long userId, LocalDate quizDate) {
+        List<UserQuiz> inserted = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<AssignedQuiz> rows = invocation.getArgument(2);
+            rows.forEach(row -> inserted.add(createUserQuiz((long) (inserted.size() + 1), row.userId(),
+                    Quiz.builder().id(row.quizId()).build(), quizDate)));
+            return null;
+        }).when(userQuizBulkWriter).insertIgnoreAll(eq(quizDate), eq(quizDate), anyList());
+        when(userQuizRepository.findByUserIdAndQuizDate(userId, quizDate)).thenReturn(inserted);
+    }
+
+    private UserQuiz createUserQuiz(Long id, Long userId, Quiz quiz, LocalDate quizDate) {
+        return UserQuiz.builder()
                 .id(id)
-                .type(type)
-                .category(category)
-                .question("테스트 문제 " + id)
-                .explanation("테스트 해설 " + id)
-                .hint("테스트 힌트 " + id)
-                .mcqOption1("선택지1")
-                .mcqOption2("선택지2")
-                .mcqOption3("선택지3")
-                .mcqOption4("선택지4")
-                .mcqCorrectIndex(1)
-                .oxAnswer(true)
+                .userId(userId)
+                .quiz(quiz)
+                .quizDate(quizDate)
+                .assignedDate(quizDate)
                 .build();
     }
+
+    private QuizQuestion createQuiz(Long id, String category, QuizType type) {
+        return new QuizQuestion(id, type, category, "테스트 문제 " + id,
+                "선택지1", "선택지2", "선택지3", "선택지4", LocalDateTime.of(2024, 1, 1, 9, 0));
+    }
 }
@@ -0,0 +1,101 @@
+package com.freedom.quiz.domain.service;
+
+import com.freedom.quiz.domain.entity.QuizType;
+import com.freedom.quiz.domain.model.AssignedQuiz;
+import com.freedom.quiz.domain.model.QuizQuestion;
+import com.freedom.quiz.infra.UserQuizBulkWriter;
+import com.freedom.quiz.infra.UserQuizRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PreGenerateDailyQuizServiceTest {
+
+    @Mock
+    private UserQuizRepository userQuizRepository;
+
+    @Mock
+    private UserQuizBulkWriter userQuizBulkWriter;
+
+    @Mock
+    private CreateDailyQuizService createDailyQuizService;
+
+    @InjectMocks
+    private PreGenerateDailyQuizService preGenerateDailyQuizService;
+
+    @Test
+    @DisplayName("사전 배정 - 이미 배정된 사용자는 제외하고 한 번에 INSERT")
+    void preGenerate_SkipAlreadyAssigned_SingleBatchInsert() {
+        // given
+        LocalDate quizDate = LocalDate.of(2024, 1, 4); // 목요일
+        LocalDate assignedDate = quizDate.minusDays(1);
+        List<Long> userIds = List.of(1L, 2L, 3L);
+
+        // 2번 사용자는 이미 배정됨
+        when(userQuizRepository.findUserIdsByUserIdInAndQuizDate(userIds, quizDate))
+                .thenReturn(List.of(2L));
+
+        // 1번 사용자는 이번 주 7, 3번 퀴즈 출제 이력 있음
+        when(userQuizRepository.findAssignedQuizzesByUserIdInAndDateRange(eq(userIds), any(), any()))
+                .thenReturn(List.of(new AssignedQuiz(1L, 7L), new AssignedQuiz(1L, 3L)));
+
+        when(createDailyQuizService.selectQuizzes(eq(quizDate), aryEq(new long[]{3L, 7L})))
+                .thenReturn(List.of(createQuiz(10L, "news"), createQuiz(11L, "quiz")));
+        when(createDailyQuizService.selectQuizzes(eq(quizDate), aryEq(new long[0])))
+                .thenReturn(List.of(createQuiz(12L, "quiz")));
+
+        // when
+        int assignedUsers = preGenerateDailyQuizService.preGenerate(userIds, quizDate, assignedDate);
+
+        // then
+        assertThat(assignedUsers).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AssignedQuiz>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(userQuizBulkWriter, times(1)).insertIgnoreAll(eq(quizDate), eq(assignedDate), rowsCaptor.capture());
+        assertThat(rowsCaptor.getValue()).containsExactly(
+                new AssignedQuiz(1L, 10L),
+                new AssignedQuiz(1L, 11L),
+                new AssignedQuiz(3L, 12L)
+        );
+    }
+
+    @Test
+    @DisplayName("사전 배정 - 모두 배정 완료된 청크는 INSERT 하지 않음")
+    void preGenerate_AllAssigned_NoInsert() {
+        // given
+        LocalDate quizDate = LocalDate.of(2024, 1, 4);
+        List<Long> userIds = List.of(1L);
+
+        when(userQuizRepository.findUserIdsByUserIdInAndQuizDate(userIds, quizDate))
+                .thenReturn(List.of(1L));
+        when(userQuizRepository.findAssignedQuizzesByUserIdInAndDateRange(eq(userIds), any(), any()))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        int assignedUsers = preGenerateDailyQuizService.preGenerate(userIds, quizDate, quizDate.minusDays(1));
+
+        // then
+        assertThat(assignedUsers).isZero();
+        verifyNoInteractions(createDailyQuizService, userQuizBulkWriter);
+    }
+
+    private QuizQuestion createQuiz(Long id, String category) {
+        return new QuizQuestion(id, QuizType.MCQ, category, "테스트 문제 " + id,
+                "선택지1", "선택지2", "선택지3", "선택지4", LocalDateTime.of(2024, 1, 1, 9, 0));
+    }
+}
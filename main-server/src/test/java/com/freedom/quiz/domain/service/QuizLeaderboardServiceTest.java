@@ -0,0 +1,80 @@
+package com.freedom.quiz.domain.service;
+
+import com.freedom.quiz.domain.model.UserCorrectCount;
+import com.freedom.quiz.infra.QuizHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuizLeaderboardServiceTest {
+
+    @Mock
+    private QuizHistoryRepository quizHistoryRepository;
+
+    @InjectMocks
+    private QuizLeaderboardService quizLeaderboardService;
+
+    @Test
+    @DisplayName("리더보드 재구성 - 집계 조회 중 들어온 정답은 교체 후에도 유지")
+    void rebuild_ReplaysIncrementsRecordedDuringQuery() {
+        // given
+        when(quizHistoryRepository.countFirstCorrectByUserBetween(any(), any())).thenAnswer(invocation -> {
+            // 조회가 진행되는 동안 다른 요청의 최초 정답이 커밋됨
+            quizLeaderboardService.recordFirstCorrect(1L, LocalDateTime.now());
+            quizLeaderboardService.recordFirstCorrect(2L, LocalDateTime.now());
+            return List.of(new UserCorrectCount(1L, 3L));
+        });
+
+        // when
+        quizLeaderboardService.rebuild();
+
+        // then
+        assertThat(quizLeaderboardService.rankOf(1L).correctCount()).isEqualTo(4);
+        assertThat(quizLeaderboardService.rankOf(2L).correctCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리더보드 재구성 - 조회 구간은 재구성 시작 시각까지로 제한")
+    void rebuild_QueriesUpToCutoff() {
+        // given
+        LocalDateTime before = LocalDateTime.now();
+        when(quizHistoryRepository.countFirstCorrectByUserBetween(any(), any())).thenReturn(List.of());
+
+        // when
+        quizLeaderboardService.rebuild();
+
+        // then
+        ArgumentCaptor<LocalDateTime> endCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(quizHistoryRepository).countFirstCorrectByUserBetween(any(), endCaptor.capture());
+        assertThat(endCaptor.getValue()).isAfterOrEqualTo(before).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("리더보드 재구성 - 실패해도 이후 정답은 그대로 반영")
+    void rebuild_Failure_KeepsRecording() {
+        // given
+        when(quizHistoryRepository.countFirstCorrectByUserBetween(any(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // when
+        quizLeaderboardService.rebuild();
+        quizLeaderboardService.recordFirstCorrect(1L, LocalDateTime.now());
+
+        // then
+        assertThat(quizLeaderboardService.rankOf(1L).correctCount()).isEqualTo(1);
+        assertThat(quizLeaderboardService.rankOf(1L).rank()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,92 @@
+package com.freedom.quiz.domain.service;
+
+import com.freedom.quiz.domain.entity.QuizType;
+import com.freedom.quiz.domain.model.QuizStatsDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuizStatsAggregatorTest {
+
+    private final QuizStatsAggregator aggregator = new QuizStatsAggregator();
+
+    @Test
+    @DisplayName("통계 집계 - 제출 수, 최초 정답 수, MCQ 선택지 분포")
+    void record_AccumulatesCounters() {
+        // when
+        aggregator.record(1L, QuizType.MCQ, "2", true, true);
+        aggregator.record(1L, QuizType.MCQ, "3", true, false);
+        aggregator.record(1L, QuizType.MCQ, "2", false, true);
+        aggregator.record(2L, QuizType.OX, "true", true, true);
+
+        // then
+        List<QuizStatsDelta> drained = aggregator.drain();
+        assertThat(drained).hasSize(2);
+
+        QuizStatsDelta mcq = drained.stream().filter(d -> d.getQuizId() == 1L).findFirst().orElseThrow();
+        assertThat(mcq.getAttempts()).isEqualTo(3);
+        assertThat(mcq.getFirstAttempts()).isEqualTo(2);
+        assertThat(mcq.getFirstTryCorrect()).isEqualTo(1);
+        assertThat(mcq.mcqOptionCount(2)).isEqualTo(2);
+        assertThat(mcq.mcqOptionCount(3)).isEqualTo(1);
+
+        QuizStatsDelta ox = drained.stream().filter(d -> d.getQuizId() == 2L).findFirst().orElseThrow();
+        assertThat(ox.getFirstTryCorrect()).isEqualTo(1);
+        assertThat(ox.mcqOptionCount(1)).isZero();
+
+        // 꺼낸 뒤에는 비어 있음
+        assertThat(aggregator.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("통계 집계 - flush 실패 증분은 되돌려 다음 flush 에 합산")
+    void restore_MergesWithNewDeltas() {
+        // given
+        aggregator.record(1L, QuizType.OX, "false", true, false);
+        List<QuizStatsDelta> failed = aggregator.drain();
+        aggregator.record(1L, QuizType.OX, "true", true, true);
+
+        // when
+        aggregator.restore(failed);
+
+        // then
+        List<QuizStatsDelta> drained = aggregator.drain();
+        assertThat(drained).hasSize(1);
+        assertThat(drained.get(0).getAttempts()).isEqualTo(2);
+        assertThat(drained.get(0).getFirstTryCorrect()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("통계 집계 - 기록 중 동시 수거해도 유실 없음")
+    void concurrentRecordAndDrain_NoLostUpdates() throws Exception {
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new java.util.ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    aggregator.record((long) (i % 10), QuizType.MCQ, "1", false, false);
+                }
+                return null;
+            }));
+        }
+
+        long total = 0;
+        start.countDown();
+        while (!futures.stream().allMatch(Future::isDone)) {
+            total += aggregator.drain().stream().mapToLong(QuizStatsDelta::getAttempts).sum();
+        }
+        for (Future<?> f : futures) f.get(10, TimeUnit.SECONDS);
+        total += aggregator.drain().stream().mapToLong(QuizStatsDelta::getAttempts).sum();
+        pool.shutdown();
+
+        assertThat(total).isEqualTo((long) threads * perThread);
+    }
+}
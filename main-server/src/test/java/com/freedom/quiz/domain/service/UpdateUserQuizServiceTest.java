@@ -1,21 +1,20 @@
 package com.freedom.quiz.domain.service;
 
 import com.freedom.common.exception.custom.UserQuizNotFoundException;
-import com.freedom.quiz.domain.entity.UserQuiz;
 import com.freedom.quiz.infra.UserQuizRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDate;
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,71 +27,70 @@ class UpdateUserQuizServiceTest {
     private UpdateUserQuizService updateUserQuizService;
 
     @Test
-    @DisplayName("정답 업데이트 - 성공 (정답)")
-    void updateAnswer_Success_Correct() {
+    @DisplayName("정답 업데이트 - 최초 시도 (정답)")
+    void updateAnswer_FirstAttempt_Correct() {
         // given
         Long userQuizId = 1L;
+        Long userId = 1L;
         String userAnswer = "1";
         boolean isCorrect = true;
-        
-        UserQuiz existingUserQuiz = UserQuiz.builder()
-                .id(userQuizId)
-                .userId(1L)
-                .quizDate(LocalDate.of(2024, 1, 1))
-                .build();
-        
-        when(userQuizRepository.findById(userQuizId))
-                .thenReturn(Optional.of(existingUserQuiz));
-        
-        when(userQuizRepository.save(any(UserQuiz.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        when(userQuizRepository.updateFirstAnswer(eq(userQuizId), eq(userId), eq(userAnswer), eq(isCorrect), any(LocalDateTime.class)))
+                .thenReturn(1);
 
         // when
-        updateUserQuizService.updateAnswer(userQuizId, userAnswer, isCorrect);
+        boolean isFirstAttempt = updateUserQuizService.updateAnswer(userQuizId, userId, userAnswer, isCorrect);
 
         // then
-        ArgumentCaptor<UserQuiz> userQuizCaptor = ArgumentCaptor.forClass(UserQuiz.class);
-        verify(userQuizRepository).save(userQuizCaptor.capture());
-        
-        UserQuiz savedUserQuiz = userQuizCaptor.getValue();
-        assertThat(savedUserQuiz.getUserAnswer()).isEqualTo(userAnswer);
-        assertThat(savedUserQuiz.getIsCorrect()).isEqualTo(isCorrect);
-        assertThat(savedUserQuiz.getId()).isEqualTo(userQuizId);
-        assertThat(savedUserQuiz.getUserId()).isEqualTo(1L);
+        assertThat(isFirstAttempt).isTrue();
+        verify(userQuizRepository, never()).updateAnswer(anyLong(), anyLong(), anyString(), anyBoolean(), any());
+        verify(userQuizRepository, never()).findById(anyLong());
     }
 
     @Test
-    @DisplayName("정답 업데이트 - 성공 (오답)")
-    void updateAnswer_Success_Incorrect() {
+    @DisplayName("정답 업데이트 - 재시도 (오답 후 재제출)")
+    void updateAnswer_Retry_Incorrect() {
         // given
         Long userQuizId = 2L;
+        Long userId = 2L;
         String userAnswer = "3";
         boolean isCorrect = false;
-        
-        UserQuiz existingUserQuiz = UserQuiz.builder()
-                .id(userQuizId)
-                .userId(2L)
-                .quizDate(LocalDate.of(2024, 1, 2))
-                .build();
-        
-        when(userQuizRepository.findById(userQuizId))
-                .thenReturn(Optional.of(existingUserQuiz));
-        
-        when(userQuizRepository.save(any(UserQuiz.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // 이미 답안이 있어 최초 답안 UPDATE 는 영향 행 수 0
+        when(userQuizRepository.updateFirstAnswer(eq(userQuizId), eq(userId), eq(userAnswer), eq(isCorrect), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(userQuizRepository.updateAnswer(eq(userQuizId), eq(userId), eq(userAnswer), eq(isCorrect), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // when
+        boolean isFirstAttempt = updateUserQuizService.updateAnswer(userQuizId, userId, userAnswer, isCorrect);
+
+        // then
+        assertThat(isFirstAttempt).isFalse();
+        verify(userQuizRepository, times(1))
+                .updateAnswer(eq(userQuizId), eq(userId), eq(userAnswer), eq(false), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("정답 업데이트 - 동시 제출 시 먼저 반영된 요청만 최초 시도")
+    void updateAnswer_ConcurrentSubmit_OnlyOneFirstAttempt() {
+        // given
+        Long userQuizId = 5L;
+        Long userId = 5L;
+
+        // 첫 요청만 user_answer IS NULL 조건을 통과
+        when(userQuizRepository.updateFirstAnswer(eq(userQuizId), eq(userId), eq("1"), eq(true), any(LocalDateTime.class)))
+                .thenReturn(1, 0);
+        when(userQuizRepository.updateAnswer(eq(userQuizId), eq(userId), eq("1"), eq(true), any(LocalDateTime.class)))
+                .thenReturn(1);
 
         // when
-        updateUserQuizService.updateAnswer(userQuizId, userAnswer, isCorrect);
+        boolean first = updateUserQuizService.updateAnswer(userQuizId, userId, "1", true);
+        boolean second = updateUserQuizService.updateAnswer(userQuizId, userId, "1", true);
 
         // then
-        ArgumentCaptor<UserQuiz> userQuizCaptor = ArgumentCaptor.forClass(UserQuiz.class);
-        verify(userQuizRepository).save(userQuizCaptor.capture());
-        
-        UserQuiz savedUserQuiz = userQuizCaptor.getValue();
-        assertThat(savedUserQuiz.getUserAnswer()).isEqualTo(userAnswer);
-        assertThat(savedUserQuiz.getIsCorrect()).isEqualTo(isCorrect);
-        assertThat(savedUserQuiz.getId()).isEqualTo(userQuizId);
-        assertThat(savedUserQuiz.getUserId()).isEqualTo(2L);
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
     }
 
     @Test
@@ -100,56 +98,30 @@ class UpdateUserQuizServiceTest {
     void updateAnswer_UserQuizNotFound() {
         // given
         Long userQuizId = 999L;
-        String userAnswer = "1";
-        boolean isCorrect = true;
-        
-        when(userQuizRepository.findById(userQuizId))
-                .thenReturn(Optional.empty());
+        Long userId = 1L;
+
+        when(userQuizRepository.updateAnswer(eq(userQuizId), eq(userId), anyString(), anyBoolean(), any(LocalDateTime.class)))
+                .thenReturn(0);
 
         // when & then
-        assertThatThrownBy(() -> updateUserQuizService.updateAnswer(userQuizId, userAnswer, isCorrect))
+        assertThatThrownBy(() -> updateUserQuizService.updateAnswer(userQuizId, userId, "1", true))
                 .isInstanceOf(UserQuizNotFoundException.class);
-        
-        verify(userQuizRepository, never()).save(any(UserQuiz.class));
     }
 
     @Test
-    @DisplayName("정답 업데이트 - 기존 답안을 새로운 답안으로 덮어쓰기")
-    void updateAnswer_OverwriteExistingAnswer() {
+    @DisplayName("정답 업데이트 - 다른 사용자의 퀴즈는 반영되지 않음")
+    void updateAnswer_OtherUsersQuiz() {
         // given
         Long userQuizId = 3L;
-        String oldAnswer = "2";
-        String newAnswer = "4";
-        boolean oldIsCorrect = false;
-        boolean newIsCorrect = true;
-        
-        UserQuiz existingUserQuiz = UserQuiz.builder()
-                .id(userQuizId)
-                .userId(3L)
-                .userAnswer(oldAnswer)
-                .isCorrect(oldIsCorrect)
-                .quizDate(LocalDate.of(2024, 1, 3))
-                .build();
-        
-        when(userQuizRepository.findById(userQuizId))
-                .thenReturn(Optional.of(existingUserQuiz));
-        
-        when(userQuizRepository.save(any(UserQuiz.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        Long otherUserId = 99L;
 
-        // when
-        updateUserQuizService.updateAnswer(userQuizId, newAnswer, newIsCorrect);
+        // user_id 조건 불일치로 영향 행 수 0
+        when(userQuizRepository.updateAnswer(eq(userQuizId), eq(otherUserId), anyString(), anyBoolean(), any(LocalDateTime.class)))
+                .thenReturn(0);
 
-        // then
-        ArgumentCaptor<UserQuiz> userQuizCaptor = ArgumentCaptor.forClass(UserQuiz.class);
-        verify(userQuizRepository).save(userQuizCaptor.capture());
-        
-        UserQuiz savedUserQuiz = userQuizCaptor.getValue();
-        assertThat(savedUserQuiz.getUserAnswer()).isEqualTo(newAnswer);
-        assertThat(savedUserQuiz.getIsCorrect()).isEqualTo(newIsCorrect);
-        // 기존 답안이 새로운 답안으로 완전히 교체되었는지 확인
-        assertThat(savedUserQuiz.getUserAnswer()).isNotEqualTo(oldAnswer);
-        assertThat(savedUserQuiz.getIsCorrect()).isNotEqualTo(oldIsCorrect);
+        // when & then
+        assertThatThrownBy(() -> updateUserQuizService.updateAnswer(userQuizId, otherUserId, "4", true))
+                .isInstanceOf(UserQuizNotFoundException.class);
     }
 
     @Test
@@ -157,30 +129,13 @@ class UpdateUserQuizServiceTest {
     void updateAnswer_NullAnswer() {
         // given
         Long userQuizId = 4L;
-        String userAnswer = null;
-        boolean isCorrect = false;
-        
-        UserQuiz existingUserQuiz = UserQuiz.builder()
-                .id(userQuizId)
-                .userId(4L)
-                .quizDate(LocalDate.of(2024, 1, 4))
-                .build();
-        
-        when(userQuizRepository.findById(userQuizId))
-                .thenReturn(Optional.of(existingUserQuiz));
-        
-        when(userQuizRepository.save(any(UserQuiz.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        Long userId = 4L;
 
-        // when
-        updateUserQuizService.updateAnswer(userQuizId, userAnswer, isCorrect);
+        when(userQuizRepository.updateAnswer(eq(userQuizId), eq(userId), isNull(), eq(false), any(LocalDateTime.class)))
+                .thenReturn(1);
 
-        // then
-        ArgumentCaptor<UserQuiz> userQuizCaptor = ArgumentCaptor.forClass(UserQuiz.class);
-        verify(userQuizRepository).save(userQuizCaptor.capture());
-        
-        UserQuiz savedUserQuiz = userQuizCaptor.getValue();
-        assertThat(savedUserQuiz.getUserAnswer()).isNull();
-        assertThat(savedUserQuiz.getIsCorrect()).isEqualTo(isCorrect);
+        // when & then
+        assertThatCode(() -> updateUserQuizService.updateAnswer(userQuizId, userId, null, false))
+                .doesNotThrowAnyException();
     }
 }
@@ -0,0 +1,78 @@
+package com.freedom.saving.application.query;
+
+import com.freedom.saving.application.query.dto.SavingProductListItem;
+import com.freedom.saving.domain.model.SavingProductSnapshot;
+import com.freedom.saving.infra.persistence.SavingProductSnapshotJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SavingProductSearchService 단위 테스트")
+class SavingProductSearchServiceTest {
+
+    @Mock
+    private SavingProductSnapshotJpaRepository productRepo;
+
+    @InjectMocks
+    private SavingProductSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        given(productRepo.findMaxLatestId()).willReturn(2L);
+        given(productRepo.countByIsLatestTrue()).willReturn(2L);
+        List<SavingProductSnapshot> products = List.of(
+                snapshot(1L, "자유적금", "국민은행", 3L),
+                snapshot(2L, "정기예금", "신한은행", 7L));
+        given(productRepo.findAllLatestOrderBySubscriberCountDesc()).willReturn(products);
+    }
+
+    @Test
+    @DisplayName("한 번 적재한 색인으로 DB 조회 없이 검색한다")
+    void search_LoadedOnce() {
+        // when
+        List<SavingProductListItem> first = searchService.search("ㅈㅇ", 20);      // 자유적금 = ㅈㅇㅈㄱ
+        List<SavingProductListItem> second = searchService.search("신한", 20);
+        List<SavingProductListItem> both = searchService.search("ㅈㄱ", 20);       // 정기예금 = ㅈㄱㅇㄱ 도 포함
+
+        // then
+        assertThat(first).extracting(SavingProductListItem::getProductSnapshotId).containsExactly(1L);
+        assertThat(second).extracting(SavingProductListItem::getProductName).containsExactly("정기예금");
+        assertThat(both).extracting(SavingProductListItem::getProductSnapshotId).containsExactly(2L, 1L); // 가입자 수 내림차순
+        verify(productRepo, times(1)).findAllLatestOrderBySubscriberCountDesc();
+    }
+
+    @Test
+    @DisplayName("최신 스냅샷 MAX(id) 가 바뀌면 색인을 다시 만든다")
+    void refreshIfChanged_RebuildsOnNewCatalog() {
+        // given
+        searchService.search("적금", 20);
+        searchService.refreshIfChanged(); // 변경 없음
+        given(productRepo.findMaxLatestId()).willReturn(5L);
+
+        // when
+        searchService.refreshIfChanged();
+
+        // then
+        verify(productRepo, times(2)).findAllLatestOrderBySubscriberCountDesc();
+    }
+
+    private SavingProductSnapshot snapshot(Long id, String productName, String bankName, Long subscriberCount) {
+        SavingProductSnapshot snapshot = mock(SavingProductSnapshot.class);
+        given(snapshot.getId()).willReturn(id);
+        given(snapshot.getFinPrdtNm()).willReturn(productName);
+        given(snapshot.getKorCoNm()).willReturn(bankName);
+        given(snapshot.getSubscriberCount()).willReturn(subscriberCount);
+        return snapshot;
+    }
+}
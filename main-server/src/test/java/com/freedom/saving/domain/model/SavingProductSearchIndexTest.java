@@ -0,0 +1,49 @@
+package com.freedom.saving.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SavingProductSearchIndex 단위 테스트")
+class SavingProductSearchIndexTest {
+
+    private final SavingProductSearchIndex index = SavingProductSearchIndex.build(List.of(
+            new SavingProductSearchDocument(1L, "KB 내맘대로적금", "국민은행", 10),
+            new SavingProductSearchDocument(2L, "신한 쏠편한 적금", "신한은행", 50),
+            new SavingProductSearchDocument(3L, "국민 행복 예금", "하나은행", 5),
+            new SavingProductSearchDocument(4L, "청년도약계좌", "국민은행", 1)));
+
+    @Test
+    @DisplayName("부분 문자열로 찾고 동점은 가입자 수 순으로 정렬한다 (공백·대소문자 무시)")
+    void search_Substring() {
+        assertThat(index.search("적금", 10)).containsExactly(2L, 1L);
+        assertThat(index.search("내맘 대로", 10)).containsExactly(1L);
+        assertThat(index.search("kb", 10)).containsExactly(1L);
+        assertThat(index.search("금적", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성 질의로 찾는다")
+    void search_Choseong() {
+        assertThat(index.search("ㅈㄱ", 10)).containsExactly(2L, 1L);
+        assertThat(index.search("ㅊㄴ", 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("상품명 일치가 은행명 일치보다 앞서고, 모든 단어가 일치해야 한다")
+    void search_NameOverBankAndAllWords() {
+        assertThat(index.search("국민", 10)).containsExactly(3L, 1L, 4L);
+        assertThat(index.search("국민 적금", 10)).containsExactly(1L);
+        assertThat(index.search("국민", 2)).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("빈 질의나 없는 단어는 빈 결과")
+    void search_Empty() {
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search("주택청약", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+package com.freedom.scrap.application;
+
+import com.freedom.scrap.api.response.ScrapSliceResponse;
+import com.freedom.scrap.application.dto.NewsScrapDto;
+import com.freedom.scrap.domain.model.NewsScrapRow;
+import com.freedom.scrap.domain.service.FindNewsScrapService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsScrapFacade 키셋 조회 단위 테스트")
+class NewsScrapFacadeTest {
+
+    @Mock
+    private FindNewsScrapService findNewsScrapService;
+
+    @InjectMocks
+    private NewsScrapFacade newsScrapFacade;
+
+    @Test
+    @DisplayName("size + 1 건이 조회되면 마지막 노출 행을 다음 커서로 반환한다")
+    void getNewsScrapSlice_HasNext() {
+        // given
+        NewsScrapRow first = row(30L, LocalDate.of(2025, 9, 10), LocalDateTime.of(2025, 9, 10, 12, 0), 300L);
+        NewsScrapRow second = row(20L, LocalDate.of(2025, 9, 10), LocalDateTime.of(2025, 9, 10, 9, 0), 200L);
+        NewsScrapRow extra = row(10L, LocalDate.of(2025, 9, 9), LocalDateTime.of(2025, 9, 9, 8, 0), 100L);
+        given(findNewsScrapService.findNewsScrapSlice(1L, null, null, null, 3))
+                .willReturn(List.of(first, second, extra));
+
+        // when
+        ScrapSliceResponse<NewsScrapDto> response = newsScrapFacade.getNewsScrapSlice(1L, null, null, null, 2);
+
+        // then
+        assertThat(response.content()).extracting(NewsScrapDto::getNewsArticleId).containsExactly(300L, 200L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursorScrappedDate()).isEqualTo(LocalDate.of(2025, 9, 10));
+        assertThat(response.nextCursorCreatedAt()).isEqualTo(LocalDateTime.of(2025, 9, 10, 9, 0));
+        assertThat(response.nextCursorId()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 다음 커서 없이 반환한다")
+    void getNewsScrapSlice_LastPage() {
+        // given
+        LocalDate cursorDate = LocalDate.of(2025, 9, 10);
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2025, 9, 10, 9, 0);
+        NewsScrapRow only = row(10L, LocalDate.of(2025, 9, 9), LocalDateTime.of(2025, 9, 9, 8, 0), 100L);
+        given(findNewsScrapService.findNewsScrapSlice(1L, cursorDate, cursorCreatedAt, 20L, 3))
+                .willReturn(List.of(only));
+
+        // when
+        ScrapSliceResponse<NewsScrapDto> response = newsScrapFacade.getNewsScrapSlice(1L, cursorDate, cursorCreatedAt, 20L, 2);
+
+        // then
+        assertThat(response.content()).hasSize(1);
+        assertThat(response.content().get(0).getScrappedDate()).isEqualTo("2025.09.09");
+        assertThat(response.content().get(0).isScraped()).isTrue();
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursorId()).isNull();
+    }
+
+    private NewsScrapRow row(Long id, LocalDate scrappedDate, LocalDateTime createdAt, Long newsArticleId) {
+        return new NewsScrapRow(id, scrappedDate, createdAt, newsArticleId,
+                "제목" + newsArticleId, "요약", null, LocalDateTime.of(2025, 9, 1, 10, 0));
+    }
+}
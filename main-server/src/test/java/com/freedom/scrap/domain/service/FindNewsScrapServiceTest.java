@@ -0,0 +1,55 @@
+package com.freedom.scrap.domain.service;
+
+import com.freedom.scrap.infra.NewsScrapRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindNewsScrapService 단위 테스트")
+class FindNewsScrapServiceTest {
+
+    @Mock
+    private NewsScrapRepository newsScrapRepository;
+
+    @InjectMocks
+    private FindNewsScrapService findNewsScrapService;
+
+    @Test
+    @DisplayName("커서가 없으면 커서 조건 없는 첫 페이지 쿼리로 조회한다")
+    void findNewsScrapSlice_FirstPage_NoCursorPredicate() {
+        // when
+        findNewsScrapService.findNewsScrapSlice(1L, LocalDate.of(2025, 9, 1), null, null, 21);
+
+        // then
+        verify(newsScrapRepository).findFirstRows(1L, PageRequest.of(0, 21));
+        verify(newsScrapRepository, never()).findRowsAfterCursor(anyLong(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 세 값이 모두 있으면 커서 다음 행부터 조회한다")
+    void findNewsScrapSlice_WithCursor_ContinuesAfterCursor() {
+        // given
+        LocalDate cursorDate = LocalDate.of(2025, 9, 1);
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2025, 9, 1, 10, 0);
+
+        // when
+        findNewsScrapService.findNewsScrapSlice(1L, cursorDate, cursorCreatedAt, 20L, 21);
+
+        // then
+        verify(newsScrapRepository).findRowsAfterCursor(1L, cursorDate, cursorCreatedAt, 20L, PageRequest.of(0, 21));
+        verify(newsScrapRepository, never()).findFirstRows(anyLong(), any());
+    }
+}
@@ -0,0 +1,91 @@
+package com.freedom.scrap.domain.service;
+
+import com.freedom.scrap.domain.event.NewsScrapToggledEvent;
+import com.freedom.scrap.infra.NewsScrapRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsScrapStateCache 단위 테스트")
+class NewsScrapStateCacheTest {
+
+    @Mock
+    private NewsScrapRepository newsScrapRepository;
+
+    private NewsScrapStateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NewsScrapStateCache(newsScrapRepository, 2, 60_000L);
+    }
+
+    @Test
+    @DisplayName("사용자별 스크랩 ID 를 한 번 적재한 뒤 상세/목록 판별에 재사용한다")
+    void isScrappedAndFilter_LoadedOnce() {
+        // given
+        given(newsScrapRepository.findNewsArticleIdsByUserId(1L)).willReturn(List.of(30L, 10L, 20L));
+
+        // when & then
+        assertThat(cache.isScrapped(1L, 20L)).isTrue();
+        assertThat(cache.isScrapped(1L, 25L)).isFalse();
+        assertThat(cache.filterScrapped(1L, List.of(5L, 10L, 30L))).containsExactlyInAnyOrder(10L, 30L);
+        verify(newsScrapRepository, times(1)).findNewsArticleIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("토글 이벤트로 적재된 사용자의 스크랩 ID 를 추가/제거한다")
+    void onNewsScrapToggled_UpdatesLoadedUser() {
+        // given
+        given(newsScrapRepository.findNewsArticleIdsByUserId(1L)).willReturn(List.of(10L, 30L));
+        cache.isScrapped(1L, 10L);
+
+        // when
+        cache.onNewsScrapToggled(new NewsScrapToggledEvent(1L, 20L, true));
+        cache.onNewsScrapToggled(new NewsScrapToggledEvent(1L, 10L, false));
+
+        // then
+        assertThat(cache.filterScrapped(1L, List.of(10L, 20L, 30L))).containsExactlyInAnyOrder(20L, 30L);
+        verify(newsScrapRepository, times(1)).findNewsArticleIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 사용자의 토글은 무시하고 다음 접근 시 DB 에서 적재한다")
+    void onNewsScrapToggled_NotLoaded_Ignored() {
+        // given
+        cache.onNewsScrapToggled(new NewsScrapToggledEvent(2L, 20L, true));
+        given(newsScrapRepository.findNewsArticleIdsByUserId(2L)).willReturn(List.of(20L));
+
+        // when & then
+        assertThat(cache.isScrapped(2L, 20L)).isTrue();
+        verify(newsScrapRepository, times(1)).findNewsArticleIdsByUserId(2L);
+    }
+
+    @Test
+    @DisplayName("DB 적재 중 들어온 토글은 적재 결과에 다시 적용해 오래된 ID 로 덮어쓰지 않는다")
+    void onNewsScrapToggled_DuringLoad_Reapplied() {
+        // given: 조회 결과에는 적재 중 커밋된 토글이 반영되지 않음
+        given(newsScrapRepository.findNewsArticleIdsByUserId(1L)).willAnswer(invocation -> {
+            cache.onNewsScrapToggled(new NewsScrapToggledEvent(1L, 20L, true));
+            cache.onNewsScrapToggled(new NewsScrapToggledEvent(1L, 10L, false));
+            return List.of(10L, 30L);
+        });
+
+        // when
+        boolean scrapped = cache.isScrapped(1L, 20L);
+
+        // then
+        assertThat(scrapped).isTrue();
+        assertThat(cache.filterScrapped(1L, List.of(10L, 20L, 30L))).containsExactlyInAnyOrder(20L, 30L);
+        verify(newsScrapRepository, times(1)).findNewsArticleIdsByUserId(1L);
+    }
+}
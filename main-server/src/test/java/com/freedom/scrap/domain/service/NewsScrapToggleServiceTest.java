@@ -0,0 +1,84 @@
+package com.freedom.scrap.domain.service;
+
+import com.freedom.scrap.domain.entity.ScrapHistory;
+import com.freedom.scrap.domain.event.NewsScrapToggledEvent;
+import com.freedom.scrap.domain.event.ScrapAddedEvent;
+import com.freedom.scrap.infra.NewsScrapRepository;
+import com.freedom.scrap.infra.ScrapHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsScrapToggleService 단위 테스트")
+class NewsScrapToggleServiceTest {
+
+    @Mock
+    private NewsScrapRepository newsScrapRepository;
+
+    @Mock
+    private ScrapHistoryRepository scrapHistoryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private NewsScrapToggleService newsScrapToggleService;
+
+    @Test
+    @DisplayName("스크랩돼 있으면 조건부 DELETE 한 번으로 해제한다")
+    void toggle_Unscrap() {
+        // given
+        given(newsScrapRepository.deleteByUserIdAndNewsArticleId(1L, 10L)).willReturn(1);
+
+        // when
+        boolean scrapped = newsScrapToggleService.toggleNewsScrap(1L, 10L);
+
+        // then
+        assertThat(scrapped).isFalse();
+        verify(newsScrapRepository, never()).insertIgnore(anyLong(), anyLong(), any(), any());
+        verify(eventPublisher).publishEvent(new NewsScrapToggledEvent(1L, 10L, false));
+        verifyNoInteractions(scrapHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("최초 스크랩이면 등록 후 ScrapAddedEvent 를 발행한다")
+    void toggle_FirstScrap() {
+        // given
+        given(newsScrapRepository.deleteByUserIdAndNewsArticleId(1L, 10L)).willReturn(0);
+        given(scrapHistoryRepository.insertIgnore(eq(1L), eq(10L), eq("NEWS"), any())).willReturn(1);
+
+        // when
+        boolean scrapped = newsScrapToggleService.toggleNewsScrap(1L, 10L);
+
+        // then
+        assertThat(scrapped).isTrue();
+        verify(newsScrapRepository).insertIgnore(eq(1L), eq(10L), any(), any());
+        verify(eventPublisher).publishEvent(new NewsScrapToggledEvent(1L, 10L, true));
+        verify(eventPublisher).publishEvent(any(ScrapAddedEvent.class));
+    }
+
+    @Test
+    @DisplayName("해제 후 재스크랩이면 이력이 이미 있어 ScrapAddedEvent 를 발행하지 않는다")
+    void toggle_Rescrap_NoAddedEvent() {
+        // given
+        given(newsScrapRepository.deleteByUserIdAndNewsArticleId(1L, 10L)).willReturn(0);
+        given(scrapHistoryRepository.insertIgnore(eq(1L), eq(10L), eq(ScrapHistory.ScrapType.NEWS.name()), any())).willReturn(0);
+
+        // when
+        boolean scrapped = newsScrapToggleService.toggleNewsScrap(1L, 10L);
+
+        // then
+        assertThat(scrapped).isTrue();
+        verify(eventPublisher, never()).publishEvent(any(ScrapAddedEvent.class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.freedom.term.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TermMatcher 단위 테스트")
+class TermMatcherTest {
+
+    @Test
+    @DisplayName("본문 한 번 탐색으로 용어와 별칭 위치를 모두 찾는다")
+    void findAll_TermsAndAliases() {
+        TermMatcher matcher = TermMatcher.build(List.of(
+                new TermKeyword("기준금리", 1L, "기준금리"),
+                new TermKeyword("예금", 2L, "예금"),
+                new TermKeyword("정책금리", 1L, "기준금리")));
+
+        List<TermSpan> spans = matcher.findAll("한국은행이 정책금리를 동결해 예금 금리도 유지된다");
+
+        assertThat(spans).containsExactly(
+                new TermSpan(6, 10, 1L, "기준금리"),
+                new TermSpan(16, 18, 2L, "예금"));
+    }
+
+    @Test
+    @DisplayName("겹치는 후보는 가장 왼쪽, 그중 가장 긴 용어만 남긴다")
+    void findAll_LeftmostLongest() {
+        TermMatcher matcher = TermMatcher.build(List.of(
+                new TermKeyword("금리", 1L, "금리"),
+                new TermKeyword("기준금리", 2L, "기준금리"),
+                new TermKeyword("금리인상", 3L, "금리인상")));
+
+        List<TermSpan> spans = matcher.findAll("기준금리인상");
+
+        assertThat(spans).containsExactly(new TermSpan(0, 4, 2L, "기준금리"));
+    }
+
+    @Test
+    @DisplayName("영문 키워드는 대소문자를 구분하지 않고 단어 중간에서는 매칭하지 않는다")
+    void findAll_AsciiWordBoundary() {
+        TermMatcher matcher = TermMatcher.build(List.of(new TermKeyword("ETF", 1L, "상장지수펀드")));
+
+        List<TermSpan> spans = matcher.findAll("etf 와 NETFLIX, ETF에 투자");
+
+        assertThat(spans).containsExactly(
+                new TermSpan(0, 3, 1L, "상장지수펀드"),
+                new TermSpan(15, 18, 1L, "상장지수펀드"));
+    }
+
+    @Test
+    @DisplayName("실패 링크를 따라 접미사 위치의 용어도 찾는다")
+    void findAll_SuffixViaFailureLink() {
+        TermMatcher matcher = TermMatcher.build(List.of(
+                new TermKeyword("채권금리", 1L, "채권금리"),
+                new TermKeyword("권리", 2L, "권리")));
+
+        List<TermSpan> spans = matcher.findAll("채권리스크");
+
+        assertThat(spans).containsExactly(new TermSpan(1, 3, 2L, "권리"));
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드와 중복 키워드는 제외한다")
+    void build_SkipsShortAndDuplicate() {
+        TermMatcher matcher = TermMatcher.build(List.of(
+                new TermKeyword("금", 1L, "금"),
+                new TermKeyword("예금", 2L, "예금"),
+                new TermKeyword("예금", 3L, "저축")));
+
+        assertThat(matcher.size()).isEqualTo(1);
+        assertThat(matcher.findAll("예금")).containsExactly(new TermSpan(0, 2, 2L, "예금"));
+        assertThat(matcher.findAll(null)).isEmpty();
+    }
+}
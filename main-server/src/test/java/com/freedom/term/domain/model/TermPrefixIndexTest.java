@@ -0,0 +1,50 @@
+package com.freedom.term.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TermPrefixIndex 단위 테스트")
+class TermPrefixIndexTest {
+
+    private final TermPrefixIndex index = TermPrefixIndex.build(List.of(
+            new TermKeyword("기준금리", 1L, "기준금리"),
+            new TermKeyword("기준 환율", 2L, "기준환율"),
+            new TermKeyword("금리", 3L, "금리"),
+            new TermKeyword("정책금리", 1L, "기준금리"),
+            new TermKeyword("ETF", 4L, "ETF")));
+
+    @Test
+    @DisplayName("접두사로 시작하는 용어를 키 사전순으로 찾는다 (공백 무시)")
+    void search_Prefix() {
+        assertThat(index.search("기준", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("기준 환", 10)).containsExactly(2L);
+        assertThat(index.search("금", 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("초성 질의는 초성 키에서 찾는다")
+    void search_Choseong() {
+        assertThat(index.search("ㄱㅈ", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("ㅈㅊㄱ", 10)).containsExactly(1L);
+        assertThat(index.search("기ㅈㅎ", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("영문은 대소문자를 구분하지 않고, 같은 용어는 한 번만 반환한다")
+    void search_CaseInsensitiveAndDistinct() {
+        assertThat(index.search("et", 10)).containsExactly(4L);
+        assertThat(index.search("ㄱ", 10)).containsExactly(3L, 1L, 2L);
+        assertThat(index.search("ㄱ", 2)).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("빈 질의나 없는 접두사는 빈 결과")
+    void search_Empty() {
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search("환율", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package com.freedom.term.domain.service;
+
+import com.freedom.term.domain.FinancialTermRepository;
+import com.freedom.term.domain.TermAliasRepository;
+import com.freedom.term.domain.model.TermEntry;
+import com.freedom.term.domain.model.TermKeyword;
+import com.freedom.term.domain.model.TermSpan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TermDictionary 단위 테스트")
+class TermDictionaryTest {
+
+    @Mock
+    private FinancialTermRepository termRepository;
+
+    @Mock
+    private TermAliasRepository aliasRepository;
+
+    @InjectMocks
+    private TermDictionary termDictionary;
+
+    private static final TermEntry BASE_RATE = new TermEntry(1L, "기준금리", "중앙은행이 정하는 정책 금리");
+    private static final TermEntry ETF = new TermEntry(2L, "ETF", "상장지수펀드");
+    private static final LocalDateTime LOADED_AT = LocalDateTime.of(2025, 9, 1, 9, 0);
+
+    @BeforeEach
+    void setUp() {
+        given(termRepository.count()).willReturn(2L);
+        given(termRepository.findMaxId()).willReturn(2L);
+        given(termRepository.findLastUpdatedAt()).willReturn(LOADED_AT);
+        given(aliasRepository.count()).willReturn(1L);
+        given(aliasRepository.findMaxId()).willReturn(1L);
+        given(aliasRepository.findLastUpdatedAt()).willReturn(LOADED_AT);
+        given(termRepository.findAllEntries()).willReturn(List.of(BASE_RATE, ETF));
+        given(aliasRepository.findAllKeywords()).willReturn(List.of(new TermKeyword("정책금리", 1L, "기준금리")));
+    }
+
+    @Test
+    @DisplayName("용어명과 별칭을 한 번 적재한 뒤 DB 없이 조회한다")
+    void find_ByTermOrAlias_LoadedOnce() {
+        // when & then
+        assertThat(termDictionary.find("기준금리")).contains(BASE_RATE);
+        assertThat(termDictionary.find("정책 금리")).contains(BASE_RATE);
+        assertThat(termDictionary.find("etf")).contains(ETF);
+        assertThat(termDictionary.find("환율")).isEmpty();
+        verify(termRepository, times(1)).findAllEntries();
+        verify(aliasRepository, times(1)).findAllKeywords();
+    }
+
+    @Test
+    @DisplayName("초성 접두사로 용어를 자동완성하고 본문 용어 위치를 찾는다")
+    void suggestAndAnnotate() {
+        // when & then
+        assertThat(termDictionary.suggest("ㄱㅈ", 10)).containsExactly(BASE_RATE);
+        assertThat(termDictionary.suggest("정책", 10)).containsExactly(BASE_RATE);
+        assertThat(termDictionary.annotate("정책금리 인하"))
+                .containsExactly(new TermSpan(0, 4, 1L, "기준금리"));
+    }
+
+    @Test
+    @DisplayName("MAX(id)/COUNT 가 바뀌면 다시 적재하고 버전을 올린다")
+    void refreshIfChanged_ReloadsOnSignatureChange() {
+        // given
+        long before = termDictionary.version();
+        termDictionary.refreshIfChanged(); // 변경 없음
+        given(aliasRepository.count()).willReturn(2L);
+
+        // when
+        termDictionary.refreshIfChanged();
+
+        // then
+        assertThat(termDictionary.version()).isEqualTo(before + 1);
+        verify(termRepository, times(2)).findAllEntries();
+    }
+
+    @Test
+    @DisplayName("건수와 MAX(id) 가 같아도 용어명이 수정되면 다시 적재한다")
+    void refreshIfChanged_ReloadsOnRename() {
+        // given
+        assertThat(termDictionary.find("ETF")).contains(ETF);
+        TermEntry renamed = new TermEntry(2L, "상장지수펀드", "상장지수펀드");
+        given(termRepository.findLastUpdatedAt()).willReturn(LOADED_AT.plusMinutes(1));
+        given(termRepository.findAllEntries()).willReturn(List.of(BASE_RATE, renamed));
+
+        // when
+        termDictionary.refreshIfChanged();
+
+        // then
+        assertThat(termDictionary.find("상장지수펀드")).contains(renamed);
+        assertThat(termDictionary.find("ETF")).isEmpty();
+    }
+}
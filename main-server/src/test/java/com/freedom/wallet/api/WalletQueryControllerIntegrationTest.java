@@ -0,0 +1,144 @@
+package com.freedom.wallet.api;
+
+import com.freedom.auth.domain.User;
+import com.freedom.auth.domain.UserRole;
+import com.freedom.auth.domain.UserStatus;
+import com.freedom.auth.infra.UserJpaRepository;
+import com.freedom.common.security.JwtProvider;
+import com.freedom.common.test.TestContainerConfig;
+import com.freedom.wallet.api.response.WalletTransactionResponse;
+import com.freedom.wallet.api.response.WalletTransactionSliceResponse;
+import com.freedom.wallet.domain.TransactionReasonCode;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.util.UriBuilder;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WalletQueryController 거래 이력 키셋 페이지 통합 테스트")
+class WalletQueryControllerIntegrationTest extends TestContainerConfig {
+
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2025, 9, 1, 10, 0, 0);
+
+    @Autowired private WebTestClient webTestClient;
+    @Autowired private UserJpaRepository userJpaRepository;
+    @Autowired private JwtProvider jwtProvider;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long walletId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().email("wallet@example.com").password("test12345@").role(UserRole.USER).status(UserStatus.ACTIVE).build();
+        userId = userJpaRepository.save(user).getId();
+        jdbcTemplate.update("INSERT INTO user_wallet (user_id, balance, version, created_at, updated_at) VALUES (?, 0, 0, NOW(), NOW())", userId);
+        walletId = jdbcTemplate.queryForObject("SELECT id FROM user_wallet WHERE user_id = ?", Long.class, userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM wallet_transaction WHERE wallet_id = ?", walletId);
+        jdbcTemplate.update("DELETE FROM user_wallet WHERE id = ?", walletId);
+        userJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 created_at 이 페이지 경계에 걸쳐도 중복/누락 없이 최신순으로 이어진다")
+    void getTransactions_SameTimestamp_NoDuplicatesNoGaps() {
+        // given - 12건은 같은 시각, 나머지는 앞뒤 시각
+        List<Long> expected = new ArrayList<>();
+        expected.add(insert("LATER", TransactionReasonCode.SAVING_INTEREST, SAME_TIME.plusMinutes(1)));
+        List<Long> sameTime = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            sameTime.add(insert("SAME_" + i, i % 2 == 0 ? TransactionReasonCode.SAVING_INTEREST : TransactionReasonCode.SAVING_AUTO_DEBIT, SAME_TIME));
+        }
+        expected.addAll(sameTime.reversed());
+        expected.add(insert("EARLIER_1", TransactionReasonCode.SAVING_AUTO_DEBIT, SAME_TIME.minusMinutes(1)));
+        expected.add(insert("EARLIER_2", TransactionReasonCode.SAVING_INTEREST, SAME_TIME.minusMinutes(2)));
+
+        // when
+        List<Long> actual = fetchAll(null, 5);
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(new HashSet<>(actual)).hasSize(expected.size());
+    }
+
+    @Test
+    @DisplayName("거래 사유 필터도 같은 커서 규칙으로 중복/누락 없이 이어진다")
+    void getTransactions_ReasonFilter_NoDuplicatesNoGaps() {
+        // given
+        List<Long> interestIds = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            long id = insert("MIX_" + i, i % 3 == 0 ? TransactionReasonCode.SAVING_AUTO_DEBIT : TransactionReasonCode.SAVING_INTEREST, SAME_TIME);
+            if (i % 3 != 0) {
+                interestIds.add(id);
+            }
+        }
+
+        // when
+        List<Long> actual = fetchAll(TransactionReasonCode.SAVING_INTEREST, 2);
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(interestIds.reversed());
+    }
+
+    private List<Long> fetchAll(TransactionReasonCode reasonCode, int size) {
+        List<Long> ids = new ArrayList<>();
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        for (int guard = 0; guard < 100; guard++) {
+            LocalDateTime createdAt = cursorCreatedAt;
+            Long id = cursorId;
+            WalletTransactionSliceResponse page = webTestClient.get()
+                    .uri(b -> uri(b, reasonCode, createdAt, id, size))
+                    .header("Authorization", "Bearer " + jwtProvider.createAccessToken(userId))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(WalletTransactionSliceResponse.class)
+                    .returnResult()
+                    .getResponseBody();
+
+            assertThat(page).isNotNull();
+            assertThat(page.content().size()).isLessThanOrEqualTo(size);
+            page.content().stream().map(WalletTransactionResponse::id).forEach(ids::add);
+            if (!page.hasNext()) {
+                return ids;
+            }
+            cursorCreatedAt = page.nextCursorCreatedAt();
+            cursorId = page.nextCursorId();
+        }
+        throw new AssertionError("페이지가 끝나지 않습니다.");
+    }
+
+    private URI uri(UriBuilder builder, TransactionReasonCode reasonCode, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        builder.path("/api/wallet/transactions").queryParam("size", size);
+        if (reasonCode != null) {
+            builder.queryParam("reasonCode", reasonCode);
+        }
+        if (cursorCreatedAt != null) {
+            builder.queryParam("cursorCreatedAt", cursorCreatedAt).queryParam("cursorId", cursorId);
+        }
+        return builder.build();
+    }
+
+    private long insert(String requestId, TransactionReasonCode reasonCode, LocalDateTime createdAt) {
+        String direction = reasonCode == TransactionReasonCode.SAVING_AUTO_DEBIT ? "WITHDRAW" : "DEPOSIT";
+        jdbcTemplate.update("INSERT INTO wallet_transaction (wallet_id, request_id, direction, reason_code, amount, balance_after, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, 1, 0, ?, ?)",
+                walletId, "KEYSET_" + userId + "_" + requestId, direction, reasonCode.name(),
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+        return jdbcTemplate.queryForObject("SELECT id FROM wallet_transaction WHERE request_id = ?", Long.class,
+                "KEYSET_" + userId + "_" + requestId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.freedom.wallet.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RewardCreditScheduler 단위 테스트")
+class RewardCreditSchedulerTest {
+
+    @Mock
+    private RewardCreditService rewardCreditService;
+
+    @Mock
+    private WalletConcurrencyStrategy concurrencyStrategy;
+
+    @InjectMocks
+    private RewardCreditScheduler rewardCreditScheduler;
+
+    @Test
+    @DisplayName("한 사용자 반영이 실패해도 나머지 사용자는 계속 반영한다")
+    void foldPendingCredits_ContinuesAfterFailure() {
+        // given
+        ReflectionTestUtils.setField(rewardCreditScheduler, "batchSize", 100);
+        given(concurrencyStrategy.executeWithRetry(eq("REWARD_FOLD"), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        given(rewardCreditService.findPendingUserIds(100)).willReturn(List.of(1L, 2L, 3L));
+        given(rewardCreditService.foldPendingCredits(2L)).willThrow(new IllegalStateException("lock timeout"));
+
+        // when
+        rewardCreditScheduler.foldPendingCredits();
+
+        // then
+        verify(rewardCreditService).foldPendingCredits(1L);
+        verify(rewardCreditService).foldPendingCredits(3L);
+    }
+}
@@ -0,0 +1,163 @@
+package com.freedom.wallet.application;
+
+import com.freedom.common.exception.custom.DuplicateWalletRequestException;
+import com.freedom.wallet.domain.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RewardCreditService 단위 테스트")
+class RewardCreditServiceTest {
+
+    @Mock
+    private WalletPendingCreditRepository pendingCreditRepository;
+
+    @Mock
+    private UserWalletRepository walletRepository;
+
+    @Mock
+    private WalletTransactionRepository transactionRepository;
+
+    @Mock
+    private WalletConcurrencyStrategy concurrencyStrategy;
+
+    @InjectMocks
+    private RewardCreditService rewardCreditService;
+
+    @Test
+    @DisplayName("보상 수령은 지갑 락 없이 대기 적립만 INSERT 한다")
+    void appendReward_InsertsPendingCreditOnly() {
+        // when
+        rewardCreditService.appendReward(1L, "QUEST_REWARD_10", TransactionReasonCode.QUEST_REWARD,
+                BigDecimal.valueOf(500), "퀘스트 보상", "USER_QUEST", 10L);
+
+        // then
+        ArgumentCaptor<WalletPendingCredit> captor = ArgumentCaptor.forClass(WalletPendingCredit.class);
+        verify(pendingCreditRepository).save(captor.capture());
+        assertThat(captor.getValue().getRequestId()).isEqualTo("QUEST_REWARD_10");
+        assertThat(captor.getValue().getAmount()).isEqualByComparingTo("500");
+        verifyNoInteractions(walletRepository, transactionRepository);
+    }
+
+    @Test
+    @DisplayName("같은 request_id 로 다시 수령하면 DuplicateWalletRequestException")
+    void appendReward_Duplicate() {
+        // given
+        given(pendingCreditRepository.save(any(WalletPendingCredit.class))).willThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLIntegrityConstraintViolationException("Duplicate entry", "23000", 1062)));
+
+        // when & then
+        assertThatThrownBy(() -> rewardCreditService.appendReward(1L, "QUEST_REWARD_10", TransactionReasonCode.QUEST_REWARD,
+                BigDecimal.valueOf(500), "퀘스트 보상", "USER_QUEST", 10L))
+                .isInstanceOf(DuplicateWalletRequestException.class);
+    }
+
+    @Test
+    @DisplayName("대기 적립이 없으면 지갑 락 없이 0건 반영")
+    void foldPendingCredits_NoPending_NoLock() {
+        // given
+        given(pendingCreditRepository.existsByUserId(1L)).willReturn(false);
+
+        // when
+        int folded = rewardCreditService.foldPendingCredits(1L);
+
+        // then
+        assertThat(folded).isZero();
+        verifyNoInteractions(walletRepository, transactionRepository);
+    }
+
+    @Test
+    @DisplayName("대기 적립을 지갑에 합산하고 같은 request_id 로 이력을 남긴 뒤 삭제한다")
+    void foldPendingCredits_AppliesAndDeletes() {
+        // given
+        UserWallet wallet = UserWallet.create(1L);
+        List<WalletPendingCredit> credits = credits();
+        given(pendingCreditRepository.existsByUserId(1L)).willReturn(true);
+        given(concurrencyStrategy.isOptimistic()).willReturn(false);
+        given(walletRepository.findByUserIdForUpdate(1L)).willReturn(Optional.of(wallet));
+        given(pendingCreditRepository.findByUserIdForUpdate(1L)).willReturn(credits);
+
+        // when
+        int folded = rewardCreditService.foldPendingCredits(1L);
+
+        // then
+        assertThat(folded).isEqualTo(2);
+        assertThat(wallet.getBalance()).isEqualByComparingTo("1500");
+        ArgumentCaptor<WalletTransaction> captor = ArgumentCaptor.forClass(WalletTransaction.class);
+        verify(transactionRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(WalletTransaction::getRequestId)
+                .containsExactly("QUEST_REWARD_10", "ACHIEVEMENT_REWARD_3");
+        assertThat(captor.getAllValues().get(1).getBalanceAfter()).isEqualByComparingTo("1500");
+        verify(pendingCreditRepository).deleteAll(credits);
+    }
+
+    @Test
+    @DisplayName("낙관적 모드는 락 없이 조회하고 지갑 UPDATE 를 먼저 flush 한 뒤 대기 적립을 지우고 이력을 남긴다")
+    void foldPendingCredits_Optimistic_FlushesWalletFirst() {
+        // given
+        UserWallet wallet = UserWallet.create(1L);
+        List<WalletPendingCredit> credits = credits();
+        given(pendingCreditRepository.existsByUserId(1L)).willReturn(true);
+        given(concurrencyStrategy.isOptimistic()).willReturn(true);
+        given(walletRepository.findByUserId(1L)).willReturn(Optional.of(wallet));
+        given(pendingCreditRepository.findByUserId(1L)).willReturn(credits);
+        given(pendingCreditRepository.deleteByIds(anyList())).willReturn(2);
+
+        // when
+        int folded = rewardCreditService.foldPendingCredits(1L);
+
+        // then
+        assertThat(folded).isEqualTo(2);
+        assertThat(wallet.getBalance()).isEqualByComparingTo("1500");
+        InOrder inOrder = inOrder(walletRepository, pendingCreditRepository, transactionRepository);
+        inOrder.verify(walletRepository).saveAndFlush(wallet);
+        inOrder.verify(pendingCreditRepository).deleteByIds(anyList());
+        inOrder.verify(transactionRepository, times(2)).save(any(WalletTransaction.class));
+        verify(walletRepository, never()).findByUserIdForUpdate(anyLong());
+        verify(pendingCreditRepository, never()).findByUserIdForUpdate(anyLong());
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서 다른 트랜잭션이 대기 적립을 먼저 반영했다면 이력 없이 충돌로 롤백한다")
+    void foldPendingCredits_Optimistic_AlreadyFolded_Conflict() {
+        // given
+        given(pendingCreditRepository.existsByUserId(1L)).willReturn(true);
+        given(concurrencyStrategy.isOptimistic()).willReturn(true);
+        given(walletRepository.findByUserId(1L)).willReturn(Optional.of(UserWallet.create(1L)));
+        given(pendingCreditRepository.findByUserId(1L)).willReturn(credits());
+        given(pendingCreditRepository.deleteByIds(anyList())).willReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> rewardCreditService.foldPendingCredits(1L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private List<WalletPendingCredit> credits() {
+        return List.of(
+                WalletPendingCredit.create(1L, "QUEST_REWARD_10", TransactionReasonCode.QUEST_REWARD,
+                        BigDecimal.valueOf(500), "퀘스트 보상", "USER_QUEST", 10L),
+                WalletPendingCredit.create(1L, "ACHIEVEMENT_REWARD_3", TransactionReasonCode.ACHIEVEMENT_REWARD,
+                        BigDecimal.valueOf(1_000), "업적 보상", "USER_ACHIEVEMENT", 3L));
+    }
+}
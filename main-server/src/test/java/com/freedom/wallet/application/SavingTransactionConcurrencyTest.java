@@ -0,0 +1,177 @@
+package com.freedom.wallet.application;
+
+import com.freedom.common.exception.custom.DuplicateWalletRequestException;
+import com.freedom.common.exception.custom.InsufficientBalanceException;
+import com.freedom.common.test.TestContainerConfig;
+import com.freedom.wallet.domain.UserWallet;
+import com.freedom.wallet.domain.WalletTransaction;
+import com.freedom.wallet.domain.UserWalletRepository;
+import com.freedom.wallet.infra.WalletTransactionJpaAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("SavingTransactionService 동시성 스트레스 테스트")
+class SavingTransactionConcurrencyTest extends TestContainerConfig {
+
+    @Autowired private SavingTransactionService savingTransactionService;
+    @Autowired private UserWalletRepository walletRepository;
+    @Autowired private WalletTransactionJpaAdapter transactionJpaAdapter;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private static final long USER_ID_BASE = 900_000L;
+    private static final int THREADS = 16;
+    private static final int RUNS    = 400;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("같은 지갑에 동시 출금 - 잔액을 초과해 출금되지 않는다")
+    void concurrentWithdraw_NoDoubleSpend() throws Exception {
+        long userId = createWallet(0, 10_000L);
+        BigDecimal amount = BigDecimal.valueOf(1_000);
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+        runConcurrently(50, i -> {
+            try {
+                savingTransactionService.processSavingAutoDebit(userId, "STRESS_NDS_" + i, amount, 1L);
+                success.incrementAndGet();
+            } catch (InsufficientBalanceException e) {
+                insufficient.incrementAndGet();
+            }
+        });
+
+        assertThat(success.get()).isEqualTo(10);
+        assertThat(insufficient.get()).isEqualTo(40);
+        assertThat(balanceOf(userId)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(ledgerCount(userId)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("같은 requestId 동시 요청 - 한 번만 반영된다")
+    void concurrentSameRequestId_AppliedOnce() throws Exception {
+        long userId = createWallet(1, 100_000L);
+        BigDecimal amount = BigDecimal.valueOf(5_000);
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        runConcurrently(20, i -> {
+            try {
+                savingTransactionService.processSavingManualPayment(userId, "STRESS_DUP", amount, 1L);
+                success.incrementAndGet();
+            } catch (DuplicateWalletRequestException e) {
+                duplicated.incrementAndGet();
+            }
+        });
+
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(duplicated.get()).isEqualTo(19);
+        assertThat(balanceOf(userId)).isEqualByComparingTo(BigDecimal.valueOf(95_000));
+        assertThat(ledgerCount(userId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기존 경로(조회 5회) vs 단일 락 조회 + 선 INSERT — 처리량 비교")
+    void compareThroughput() throws Exception {
+        long legacyUser = createWallet(2, 0L);
+        long streamlinedUser = createWallet(3, 0L);
+        BigDecimal amount = BigDecimal.ONE;
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        long legacyNanos = runConcurrently(RUNS, i -> tx.executeWithoutResult(s ->
+                legacyDeposit(legacyUser, "STRESS_LEGACY_" + i, amount)));
+        long streamlinedNanos = runConcurrently(RUNS, i ->
+                savingTransactionService.processSavingCancel(streamlinedUser, "STRESS_NEW_" + i, amount, 1L));
+
+        assertThat(balanceOf(legacyUser)).isEqualByComparingTo(BigDecimal.valueOf(RUNS));
+        assertThat(balanceOf(streamlinedUser)).isEqualByComparingTo(BigDecimal.valueOf(RUNS));
+
+        double legacyTps = RUNS / (legacyNanos / 1_000_000_000.0);
+        double streamlinedTps = RUNS / (streamlinedNanos / 1_000_000_000.0);
+        log.info("🐢 Legacy     : {} tx/s (n={}, threads={})", fmt2(legacyTps), RUNS, THREADS);
+        log.info("⚡ Streamlined: {} tx/s (n={}, threads={})", fmt2(streamlinedTps), RUNS, THREADS);
+        log.info("🚀 Result: 처리량 {}% 변화 (Legacy→Streamlined)", fmt2(((streamlinedTps - legacyTps) / legacyTps) * 100.0));
+    }
+
+    // 변경 전 경로: 멱등성 조회 → 지갑 조회 → id 기준 락 조회 → 지갑 저장 → 이력 저장
+    private void legacyDeposit(long userId, String requestId, BigDecimal amount) {
+        if (transactionJpaAdapter.findByRequestId(requestId).isPresent()) {
+            throw new IllegalArgumentException("이미 처리된 요청입니다. requestId: " + requestId);
+        }
+        UserWallet userWallet = walletRepository.findByUserId(userId).orElseThrow();
+        UserWallet wallet = transactionJpaAdapter.findWalletByIdWithLock(userWallet.getId()).orElseThrow();
+        wallet.deposit(amount);
+        walletRepository.save(wallet);
+        transactionJpaAdapter.save(WalletTransaction.createSavingInterest(wallet, requestId, amount, 1L));
+    }
+
+    private long runConcurrently(int tasks, IntConsumer task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            int idx = i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                task.accept(idx);
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+        return elapsed;
+    }
+
+    private long createWallet(int offset, long balance) {
+        long userId = USER_ID_BASE + offset;
+        jdbcTemplate.update("INSERT INTO user_wallet (user_id, balance, version, created_at, updated_at) VALUES (?, ?, 0, NOW(), NOW())",
+                userId, balance);
+        return userId;
+    }
+
+    private BigDecimal balanceOf(long userId) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM user_wallet WHERE user_id = ?", BigDecimal.class, userId);
+    }
+
+    private long ledgerCount(long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM wallet_transaction t JOIN user_wallet w ON t.wallet_id = w.id WHERE w.user_id = ?",
+                Long.class, userId);
+    }
+
+    private void cleanUp() {
+        jdbcTemplate.update("DELETE t FROM wallet_transaction t JOIN user_wallet w ON t.wallet_id = w.id WHERE w.user_id >= ?", USER_ID_BASE);
+        jdbcTemplate.update("DELETE FROM user_wallet WHERE user_id >= ?", USER_ID_BASE);
+    }
+
+    private static String fmt2(double v) { return String.format(Locale.ROOT, "%.2f", v); }
+
+    @FunctionalInterface
+    private interface IntConsumer {
+        void accept(int i) throws Exception;
+    }
+}
@@ -0,0 +1,73 @@
+package com.freedom.wallet.application;
+
+import com.freedom.common.exception.custom.DuplicateWalletRequestException;
+import com.freedom.wallet.domain.UserWallet;
+import com.freedom.wallet.domain.UserWalletRepository;
+import com.freedom.wallet.domain.WalletTransaction;
+import com.freedom.wallet.domain.WalletTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SavingTransactionService 단위 테스트")
+class SavingTransactionServiceTest {
+
+    @Mock
+    private UserWalletRepository walletRepository;
+
+    @Mock
+    private WalletTransactionRepository transactionRepository;
+
+    @InjectMocks
+    private SavingTransactionService savingTransactionService;
+
+    @BeforeEach
+    void setUp() {
+        given(walletRepository.findByUserIdForUpdate(1L)).willReturn(Optional.of(UserWallet.create(1L)));
+    }
+
+    @Test
+    @DisplayName("request_id 유니크 키 중복이면 DuplicateWalletRequestException 으로 변환한다")
+    void appendLedger_DuplicateKey() {
+        // given
+        given(transactionRepository.save(any(WalletTransaction.class))).willThrow(violation(
+                new SQLIntegrityConstraintViolationException(
+                        "Duplicate entry 'REQ_1' for key 'uk_wallet_transaction_request_id'", "23000", 1062)));
+
+        // when & then
+        assertThatThrownBy(() -> savingTransactionService.processSavingCancel(1L, "REQ_1", BigDecimal.TEN, 1L))
+                .isInstanceOf(DuplicateWalletRequestException.class);
+    }
+
+    @Test
+    @DisplayName("FK 위반 등 다른 무결성 위반은 중복 요청으로 바꾸지 않고 그대로 던진다")
+    void appendLedger_OtherViolation_Rethrown() {
+        // given
+        given(transactionRepository.save(any(WalletTransaction.class))).willThrow(violation(
+                new SQLIntegrityConstraintViolationException(
+                        "Cannot add or update a child row: a foreign key constraint fails", "23000", 1452)));
+
+        // when & then
+        assertThatThrownBy(() -> savingTransactionService.processSavingCancel(1L, "REQ_2", BigDecimal.TEN, 1L))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .isNotInstanceOf(DuplicateWalletRequestException.class);
+    }
+
+    private DataIntegrityViolationException violation(SQLIntegrityConstraintViolationException cause) {
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+}
@@ -0,0 +1,102 @@
+package com.freedom.wallet.application;
+
+import com.freedom.wallet.domain.UserWallet;
+import com.freedom.wallet.domain.UserWalletRepository;
+import com.freedom.wallet.domain.WalletConcurrencyMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WalletConcurrencyStrategy 단위 테스트")
+class WalletConcurrencyStrategyTest {
+
+    @Mock
+    private UserWalletRepository walletRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WalletRetryMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new WalletRetryMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("낙관적 모드는 @Version 충돌 시 재시도하고 재시도 수를 Micrometer 카운터에 남긴다")
+    void executeWithRetry_Optimistic_RetriesConflicts() {
+        // given
+        WalletConcurrencyStrategy strategy = strategy(WalletConcurrencyMode.OPTIMISTIC, 3);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        int result = strategy.executeWithRetry("INTEREST", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("version conflict");
+            }
+            return 7;
+        });
+
+        // then
+        assertThat(result).isEqualTo(7);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("wallet.optimistic.calls").tag("operation", "INTEREST").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("wallet.optimistic.retries").tag("operation", "INTEREST").counter().count()).isEqualTo(2.0);
+        assertThat(metrics.retryRate("INTEREST")).isEqualTo(2.0);
+        assertThat(metrics.exhausted("INTEREST")).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘기면 충돌 예외를 그대로 던지고 한도 초과를 집계한다")
+    void executeWithRetry_Optimistic_Exhausted() {
+        // given
+        WalletConcurrencyStrategy strategy = strategy(WalletConcurrencyMode.OPTIMISTIC, 2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> strategy.executeWithRetry("REWARD_FOLD", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("version conflict");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(metrics.exhausted("REWARD_FOLD")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비관적 모드는 재시도하지 않고 FOR UPDATE 로 지갑을 조회한다")
+    void pessimistic_NoRetryAndLocks() {
+        // given
+        WalletConcurrencyStrategy strategy = strategy(WalletConcurrencyMode.PESSIMISTIC, 3);
+        given(walletRepository.findByUserIdForUpdate(1L)).willReturn(Optional.of(UserWallet.create(1L)));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        strategy.loadForBalanceChange(1L);
+
+        // then
+        assertThatThrownBy(() -> strategy.executeWithRetry("INTEREST", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("version conflict");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+        verify(walletRepository, never()).findByUserId(anyLong());
+    }
+
+    private WalletConcurrencyStrategy strategy(WalletConcurrencyMode mode, int maxAttempts) {
+        return new WalletConcurrencyStrategy(walletRepository, metrics, mode, maxAttempts, 0L, 0L);
+    }
+}
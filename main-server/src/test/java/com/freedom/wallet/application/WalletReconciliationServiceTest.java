@@ -0,0 +1,174 @@
+package com.freedom.wallet.application;
+
+import com.freedom.wallet.application.WalletReconciliationService.DriftType;
+import com.freedom.wallet.application.WalletReconciliationService.ReconciliationReport;
+import com.freedom.wallet.domain.WalletBalanceCheckpoint;
+import com.freedom.wallet.domain.WalletBalanceCheckpointRepository;
+import com.freedom.wallet.domain.WalletBalanceMismatch;
+import com.freedom.wallet.infra.WalletLedgerCursorReader;
+import com.freedom.wallet.infra.WalletLedgerCursorReader.LedgerRowHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WalletReconciliationService 단위 테스트")
+class WalletReconciliationServiceTest {
+
+    @Mock
+    private WalletBalanceCheckpointRepository checkpointRepository;
+
+    @Mock
+    private WalletLedgerCursorReader ledgerCursorReader;
+
+    @InjectMocks
+    private WalletReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reconciliationService, "rescanWindow", 100L);
+    }
+
+    @Test
+    @DisplayName("워터마크 아래를 다시 읽어 늦게 커밋된 원장은 반영하고 이미 반영된 원장은 건너뛴다")
+    void reconcile_RescanWindow_AppliesLateCommittedRowsOnce() {
+        // given - 지갑 1 은 id 150 까지 반영, 지갑 2 는 id 140 이 직전 검증 때 미커밋이라 체크포인트 없음
+        WalletBalanceCheckpoint wallet1 = checkpoint(1L, 150L, 1_000);
+        given(checkpointRepository.findHighWatermark()).willReturn(150L);
+        given(ledgerCursorReader.findMaxTransactionId()).willReturn(160L);
+        givenLedger(
+                new Object[]{140L, 2L, 300, 300},
+                new Object[]{150L, 1L, 500, 1_000},   // 이미 반영된 원장
+                new Object[]{155L, 1L, -200, 800},
+                new Object[]{160L, 2L, 100, 400});
+        given(checkpointRepository.findAllByWalletIdIn(anyCollection())).willReturn(List.of(wallet1));
+        given(checkpointRepository.findWalletBalanceMismatches()).willReturn(List.of());
+
+        // when
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        // then
+        assertThat(report.afterTransactionId()).isEqualTo(50L);
+        assertThat(report.hasDrift()).isFalse();
+        assertThat(wallet1.getLastTransactionId()).isEqualTo(155L);
+        assertThat(wallet1.getLedgerBalance()).isEqualByComparingTo("800");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WalletBalanceCheckpoint>> saved = ArgumentCaptor.forClass(List.class);
+        verify(checkpointRepository).saveAll(saved.capture());
+        WalletBalanceCheckpoint wallet2 = saved.getValue().stream()
+                .filter(c -> c.getWalletId().equals(2L)).findFirst().orElseThrow();
+        assertThat(wallet2.getLastTransactionId()).isEqualTo(160L);
+        assertThat(wallet2.getLedgerBalance()).isEqualByComparingTo("400");
+    }
+
+    @Test
+    @DisplayName("원장 합계와 balance_after 가 다르면 BALANCE_AFTER drift 로 보고한다")
+    void reconcile_BalanceAfterDrift() {
+        // given
+        given(checkpointRepository.findHighWatermark()).willReturn(0L);
+        given(ledgerCursorReader.findMaxTransactionId()).willReturn(2L);
+        givenLedger(
+                new Object[]{1L, 1L, 500, 500},
+                new Object[]{2L, 1L, 100, 700});
+        given(checkpointRepository.findAllByWalletIdIn(anyCollection())).willReturn(List.of());
+        given(checkpointRepository.findWalletBalanceMismatches()).willReturn(List.of());
+
+        // when
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        // then
+        assertThat(report.drifts()).singleElement().satisfies(d -> {
+            assertThat(d.type()).isEqualTo(DriftType.BALANCE_AFTER);
+            assertThat(d.ledgerBalance()).isEqualByComparingTo("600");
+            assertThat(d.recordedBalance()).isEqualByComparingTo("700");
+            assertThat(d.drift()).isEqualByComparingTo("100");
+        });
+    }
+
+    @Test
+    @DisplayName("원장 도입 전에 쌓인 잔액은 첫 원장에서 시작 잔액으로 잡아 drift 로 보고하지 않는다")
+    void reconcile_OpeningBalance_NotReportedAsDrift() {
+        // given - 원장 없이 1,000 이 쌓여 있던 지갑에 첫 원장 +500 → 1,500
+        given(checkpointRepository.findHighWatermark()).willReturn(0L);
+        given(ledgerCursorReader.findMaxTransactionId()).willReturn(2L);
+        givenLedger(
+                new Object[]{1L, 1L, 500, 1_500},
+                new Object[]{2L, 1L, -200, 1_300});
+        given(checkpointRepository.findAllByWalletIdIn(anyCollection())).willReturn(List.of());
+        given(checkpointRepository.findWalletBalanceMismatches()).willReturn(List.of());
+
+        // when
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        // then
+        assertThat(report.hasDrift()).isFalse();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WalletBalanceCheckpoint>> saved = ArgumentCaptor.forClass(List.class);
+        verify(checkpointRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).singleElement().satisfies(c -> {
+            assertThat(c.getLastTransactionId()).isEqualTo(2L);
+            assertThat(c.getLedgerBalance()).isEqualByComparingTo("1300");
+        });
+    }
+
+    @Test
+    @DisplayName("새 원장이 없어도 user_wallet.balance 가 원장 합계와 다르면 WALLET_BALANCE drift 로 보고한다")
+    void reconcile_WalletBalanceDrift() {
+        // given
+        given(checkpointRepository.findHighWatermark()).willReturn(500L);
+        given(ledgerCursorReader.findMaxTransactionId()).willReturn(500L);
+        given(checkpointRepository.findWalletBalanceMismatches()).willReturn(List.of(
+                new WalletBalanceMismatch(7L, 480L, new BigDecimal("1000"), new BigDecimal("1500"))));
+
+        // when
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        // then
+        assertThat(report.drifts()).singleElement().satisfies(d -> {
+            assertThat(d.type()).isEqualTo(DriftType.WALLET_BALANCE);
+            assertThat(d.walletId()).isEqualTo(7L);
+            assertThat(d.drift()).isEqualByComparingTo("500");
+        });
+    }
+
+    /**
+     * @param rows {transactionId, walletId, signedAmount, balanceAfter}
+     */
+    private void givenLedger(Object[]... rows) {
+        willAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            long upToId = invocation.getArgument(1);
+            LedgerRowHandler handler = invocation.getArgument(2);
+            for (Object[] row : rows) {
+                long id = (Long) row[0];
+                if (id > afterId && id <= upToId) {
+                    handler.handle(id, (Long) row[1],
+                            BigDecimal.valueOf((Integer) row[2]), BigDecimal.valueOf((Integer) row[3]));
+                }
+            }
+            return null;
+        }).given(ledgerCursorReader).stream(anyLong(), anyLong(), any());
+    }
+
+    private WalletBalanceCheckpoint checkpoint(Long walletId, long lastTransactionId, long ledgerBalance) {
+        WalletBalanceCheckpoint checkpoint = WalletBalanceCheckpoint.initial(walletId, BigDecimal.ZERO);
+        checkpoint.advance(lastTransactionId, BigDecimal.valueOf(ledgerBalance), BigDecimal.valueOf(ledgerBalance));
+        return checkpoint;
+    }
+}
@@ -0,0 +1,49 @@
+package com.freedom.wallet.application;
+
+import com.freedom.wallet.domain.UserWallet;
+import com.freedom.wallet.domain.UserWalletRepository;
+import com.freedom.wallet.domain.WalletPendingCreditRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WalletService 단위 테스트")
+class WalletServiceTest {
+
+    @Mock
+    private UserWalletRepository walletRepository;
+
+    @Mock
+    private WalletPendingCreditRepository pendingCreditRepository;
+
+    @InjectMocks
+    private WalletService walletService;
+
+    @Test
+    @DisplayName("잔액 조회는 아직 반영되지 않은 보상 적립을 더해 수령 직후에도 바로 보여준다")
+    void getBalance_IncludesPendingCredits() {
+        // given
+        UserWallet wallet = UserWallet.create(1L);
+        wallet.deposit(BigDecimal.valueOf(1_000));
+        given(walletRepository.findByUserId(1L)).willReturn(Optional.of(wallet));
+        given(pendingCreditRepository.sumAmountByUserId(1L)).willReturn(BigDecimal.valueOf(500));
+
+        // when
+        BigDecimal balance = walletService.getBalance(1L);
+
+        // then
+        assertThat(balance).isEqualByComparingTo("1500");
+        assertThat(walletService.hasEnoughBalance(1L, BigDecimal.valueOf(1_500))).isTrue();
+        assertThat(walletService.hasEnoughBalance(1L, BigDecimal.valueOf(1_501))).isFalse();
+    }
+}
@@ -1,57 +1,57 @@
 -- 테스트용 사용자 데이터 (20명의 사용자)
 INSERT INTO users (
-    id, email, password, role, status, character_name, character_created, attendance, created_at, updated_at
+    id, email, password, role, status, character_name, character_created, last_attendance_date, created_at, updated_at
 ) VALUES
-(1, 'test@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕1', true, false, NOW(), NOW()),
-(2, 'test2@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕2', true, false, NOW(), NOW()),
-(3, 'test3@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕3', true, false, NOW(), NOW()),
-(4, 'test4@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕4', true, false, NOW(), NOW()),
-(5, 'test5@xexample.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕5', true, false, NOW(), NOW()),
-(6, 'test6@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕6', true, false, NOW(), NOW()),
-(7, 'test7@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕7', true, false, NOW(), NOW()),
-(8, 'test8@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕8', true, false, NOW(), NOW()),
-(9, 'test9@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕9', true, false, NOW(), NOW()),
-(10, 'test10@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕10', true, false, NOW(), NOW()),
-(11, 'test11@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕11', true, false, NOW(), NOW()),
-(12, 'test12@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕12', true, false, NOW(), NOW()),
-(13, 'test13@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕13', true, false, NOW(), NOW()),
-(14, 'test14@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕14', true, false, NOW(), NOW()),
-(15, 'test15@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕15', true, false, NOW(), NOW()),
-(16, 'test16@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕16', true, false, NOW(), NOW()),
-(17, 'test17@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕17', true, false, NOW(), NOW()),
-(18, 'test18@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕18', true, false, NOW(), NOW()),
-(19, 'test19@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕19', true, false, NOW(), NOW()),
-(20, 'test20@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕20', true, false, NOW(), NOW()),
-(21, 'test21@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕21', true, false, NOW(), NOW()),
-(22, 'test22@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕22', true, false, NOW(), NOW()),
-(23, 'test23@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕23', true, false, NOW(), NOW()),
-(24, 'test24@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕24', true, false, NOW(), NOW()),
-(25, 'test25@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕25', true, false, NOW(), NOW()),
-(26, 'test26@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕26', true, false, NOW(), NOW()),
-(27, 'test27@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕27', true, false, NOW(), NOW()),
-(28, 'test28@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕28', true, false, NOW(), NOW()),
-(29, 'test29@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕29', true, false, NOW(), NOW()),
-(30, 'test30@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕30', true, false, NOW(), NOW()),
-(31, 'test31@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕31', true, false, NOW(), NOW()),
-(32, 'test32@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕32', true, false, NOW(), NOW()),
-(33, 'test33@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕33', true, false, NOW(), NOW()),
-(34, 'test34@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕34', true, false, NOW(), NOW()),
-(35, 'test35@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕35', true, false, NOW(), NOW()),
-(36, 'test36@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕36', true, false, NOW(), NOW()),
-(37, 'test37@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕37', true, false, NOW(), NOW()),
-(38, 'test38@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕38', true, false, NOW(), NOW()),
-(39, 'test39@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕39', true, false, NOW(), NOW()),
-(40, 'test40@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕40', true, false, NOW(), NOW()),
-(41, 'test41@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕41', true, false, NOW(), NOW()),
-(42, 'test42@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕42', true, false, NOW(), NOW()),
-(43, 'test43@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕43', true, false, NOW(), NOW()),
-(44, 'test44@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕44', true, false, NOW(), NOW()),
-(45, 'test45@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕45', true, false, NOW(), NOW()),
-(46, 'test46@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕46', true, false, NOW(), NOW()),
-(47, 'test47@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕47', true, false, NOW(), NOW()),
-(48, 'test48@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕48', true, false, NOW(), NOW()),
-(49, 'test49@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕49', true, false, NOW(), NOW()),
-(50, 'test50@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕50', true, false, NOW(), NOW());
+(1, 'test@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕1', true, NULL, NOW(), NOW()),
+(2, 'test2@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕2', true, NULL, NOW(), NOW()),
+(3, 'test3@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕3', true, NULL, NOW(), NOW()),
+(4, 'test4@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕4', true, NULL, NOW(), NOW()),
+(5, 'test5@xexample.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕5', true, NULL, NOW(), NOW()),
+(6, 'test6@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕6', true, NULL, NOW(), NOW()),
+(7, 'test7@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕7', true, NULL, NOW(), NOW()),
+(8, 'test8@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕8', true, NULL, NOW(), NOW()),
+(9, 'test9@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕9', true, NULL, NOW(), NOW()),
+(10, 'test10@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕10', true, NULL, NOW(), NOW()),
+(11, 'test11@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕11', true, NULL, NOW(), NOW()),
+(12, 'test12@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕12', true, NULL, NOW(), NOW()),
+(13, 'test13@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕13', true, NULL, NOW(), NOW()),
+(14, 'test14@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕14', true, NULL, NOW(), NOW()),
+(15, 'test15@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕15', true, NULL, NOW(), NOW()),
+(16, 'test16@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕16', true, NULL, NOW(), NOW()),
+(17, 'test17@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕17', true, NULL, NOW(), NOW()),
+(18, 'test18@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕18', true, NULL, NOW(), NOW()),
+(19, 'test19@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕19', true, NULL, NOW(), NOW()),
+(20, 'test20@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕20', true, NULL, NOW(), NOW()),
+(21, 'test21@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕21', true, NULL, NOW(), NOW()),
+(22, 'test22@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕22', true, NULL, NOW(), NOW()),
+(23, 'test23@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕23', true, NULL, NOW(), NOW()),
+(24, 'test24@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕24', true, NULL, NOW(), NOW()),
+(25, 'test25@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕25', true, NULL, NOW(), NOW()),
+(26, 'test26@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕26', true, NULL, NOW(), NOW()),
+(27, 'test27@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕27', true, NULL, NOW(), NOW()),
+(28, 'test28@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕28', true, NULL, NOW(), NOW()),
+(29, 'test29@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕29', true, NULL, NOW(), NOW()),
+(30, 'test30@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕30', true, NULL, NOW(), NOW()),
+(31, 'test31@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕31', true, NULL, NOW(), NOW()),
+(32, 'test32@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕32', true, NULL, NOW(), NOW()),
+(33, 'test33@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕33', true, NULL, NOW(), NOW()),
+(34, 'test34@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕34', true, NULL, NOW(), NOW()),
+(35, 'test35@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕35', true, NULL, NOW(), NOW()),
+(36, 'test36@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕36', true, NULL, NOW(), NOW()),
+(37, 'test37@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕37', true, NULL, NOW(), NOW()),
+(38, 'test38@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕38', true, NULL, NOW(), NOW()),
+(39, 'test39@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕39', true, NULL, NOW(), NOW()),
+(40, 'test40@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕40', true, NULL, NOW(), NOW()),
+(41, 'test41@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕41', true, NULL, NOW(), NOW()),
+(42, 'test42@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕42', true, NULL, NOW(), NOW()),
+(43, 'test43@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕43', true, NULL, NOW(), NOW()),
+(44, 'test44@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕44', true, NULL, NOW(), NOW()),
+(45, 'test45@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕45', true, NULL, NOW(), NOW()),
+(46, 'test46@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕46', true, NULL, NOW(), NOW()),
+(47, 'test47@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕47', true, NULL, NOW(), NOW()),
+(48, 'test48@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕48', true, NULL, NOW(), NOW()),
+(49, 'test49@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕49', true, NULL, NOW(), NOW()),
+(50, 'test50@example.com', '$2a$10$N.zmdr9k7uOCQb376NoUnOmTOPSwz5WJQGYM/cR5lRhXRHGkDTcmK', 'USER', 'ACTIVE', '테스트왕50', true, NULL, NOW(), NOW());
 
 
 -- 지갑 생성 (각 사용자마다 다른 잔액)
@@ -147,58 +147,58 @@ INSERT INTO quiz (id, type, difficulty, category, question, explanation,
    '수수료만 확인', '과거 수익률만 확인', '위험도와 수익률 모두 확인', '브랜드만 확인', 3, NOW(), NOW());
 
 -- 사용자별 퀴즈 응답 기록 (각 사용자마다 여러 퀴즈 기록)
-INSERT INTO user_quiz (id, user_id, quiz_id, user_answer, is_correct, quiz_date, assigned_date, created_at, updated_at) VALUES
+INSERT INTO user_quiz (id, user_id, quiz_id, slot, user_answer, is_correct, quiz_date, assigned_date, created_at, updated_at) VALUES
 -- 사용자 1의 퀴즈 기록 (오늘)
-(1, 1, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(2, 1, 2, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(3, 1, 3, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
+(1, 1, 1, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(2, 1, 2, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(3, 1, 3, 2, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
 -- 사용자 2의 퀴즈 기록 (오늘)
-(4, 2, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(5, 2, 4, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(6, 2, 5, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(4, 2, 1, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(5, 2, 4, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(6, 2, 5, 2, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
 -- 사용자 3의 퀴즈 기록 (오늘)
-(7, 3, 2, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(8, 3, 3, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(7, 3, 2, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(8, 3, 3, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
 -- 사용자 4의 퀴즈 기록 (오늘)
-(9, 4, 1, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
-(10, 4, 4, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(11, 4, 5, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
+(9, 4, 1, 0, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
+(10, 4, 4, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(11, 4, 5, 2, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
 -- 사용자 5의 퀴즈 기록 (오늘)
-(12, 5, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(13, 5, 2, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(14, 5, 3, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(15, 5, 4, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(12, 5, 1, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(13, 5, 2, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(14, 5, 3, 2, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(15, 5, 4, 3, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
 -- 사용자 6의 퀴즈 기록 (오늘)
-(16, 6, 2, '4', false, CURDATE(), CURDATE(), NOW(), NOW()),
-(17, 6, 5, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(16, 6, 2, 0, '4', false, CURDATE(), CURDATE(), NOW(), NOW()),
+(17, 6, 5, 1, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
 -- 사용자 7의 퀴즈 기록 (오늘)
-(18, 7, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(18, 7, 1, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
 -- 사용자 8의 퀴즈 기록 (오늘)
-(19, 8, 3, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(20, 8, 4, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(21, 8, 5, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(19, 8, 3, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(20, 8, 4, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(21, 8, 5, 2, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
 -- 사용자 9의 퀴즈 기록 (오늘)
-(22, 9, 1, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
-(23, 9, 2, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(22, 9, 1, 0, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
+(23, 9, 2, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
 -- 사용자 10의 퀴즈 기록 (오늘)
-(24, 10, 4, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(25, 10, 5, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(24, 10, 4, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(25, 10, 5, 1, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
 -- 사용자 11-20의 퀴즈 기록 (다양한 정답/오답)
-(26, 11, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(27, 11, 2, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
-(28, 12, 3, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(29, 13, 4, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(30, 13, 5, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(31, 14, 1, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
-(32, 15, 2, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(33, 15, 3, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(34, 16, 4, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
-(35, 17, 5, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(36, 18, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(37, 18, 2, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(38, 19, 3, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
-(39, 20, 4, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
-(40, 20, 5, '3', true, CURDATE(), CURDATE(), NOW(), NOW());
+(26, 11, 1, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(27, 11, 2, 1, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
+(28, 12, 3, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(29, 13, 4, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(30, 13, 5, 1, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(31, 14, 1, 0, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
+(32, 15, 2, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(33, 15, 3, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(34, 16, 4, 0, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
+(35, 17, 5, 0, '3', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(36, 18, 1, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(37, 18, 2, 1, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(38, 19, 3, 0, '1', false, CURDATE(), CURDATE(), NOW(), NOW()),
+(39, 20, 4, 0, '2', true, CURDATE(), CURDATE(), NOW(), NOW()),
+(40, 20, 5, 1, '3', true, CURDATE(), CURDATE(), NOW(), NOW());
 
 -- 간단한 지갑 거래 이력 (성능 테스트용) - 정확한 구조로
 INSERT INTO wallet_transaction (id, wallet_id, request_id, direction, reason_code, amount, balance_after, description, created_at, updated_at) VALUES